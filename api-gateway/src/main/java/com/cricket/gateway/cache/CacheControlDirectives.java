@@ -0,0 +1,69 @@
+package com.cricket.gateway.cache;
+
+import java.time.Duration;
+import java.util.Locale;
+
+// The subset of Cache-Control the gateway cache acts on
+public class CacheControlDirectives {
+    
+    private final boolean noStore;
+    private final boolean noCache;
+    private final boolean privateResponse;
+    private final Duration maxAge;
+    
+    private CacheControlDirectives(boolean noStore, boolean noCache, boolean privateResponse, Duration maxAge) {
+        this.noStore = noStore;
+        this.noCache = noCache;
+        this.privateResponse = privateResponse;
+        this.maxAge = maxAge;
+    }
+    
+    public static CacheControlDirectives parse(String header) {
+        boolean noStore = false;
+        boolean noCache = false;
+        boolean privateResponse = false;
+        Duration maxAge = null;
+        Duration sharedMaxAge = null;
+        if (header != null) {
+            for (String directive : header.toLowerCase(Locale.ROOT).split(",")) {
+                String[] parts = directive.trim().split("=", 2);
+                String value = parts.length > 1 ? parts[1].trim().replace("\"", "") : null;
+                switch (parts[0]) {
+                    case "no-store" -> noStore = true;
+                    case "no-cache" -> noCache = true;
+                    case "private" -> privateResponse = true;
+                    case "max-age" -> maxAge = seconds(value);
+                    case "s-maxage" -> sharedMaxAge = seconds(value);
+                    default -> {
+                    }
+                }
+            }
+        }
+        // s-maxage applies to shared caches such as this one and overrides max-age
+        return new CacheControlDirectives(noStore, noCache, privateResponse, sharedMaxAge != null ? sharedMaxAge : maxAge);
+    }
+    
+    private static Duration seconds(String value) {
+        try {
+            return value != null ? Duration.ofSeconds(Math.max(0, Long.parseLong(value))) : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+    
+    public boolean isNoStore() {
+        return noStore;
+    }
+    
+    public boolean isNoCache() {
+        return noCache;
+    }
+    
+    public boolean isPrivate() {
+        return privateResponse;
+    }
+    
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.cricket.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+
+// An immutable 200 response body with the representation headers needed to replay it. Entries stay in the
+// cache past their freshness lifetime, until staleUntil, so they can be revalidated or served when the backend fails.
+public class CachedResponse {
+    
+    private static final List<String> STORED_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LANGUAGE, HttpHeaders.CONTENT_ENCODING,
+            HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL, HttpHeaders.VARY);
+    
+    private final HttpHeaders headers;
+    private final byte[] body;
+    private final long storedAtMillis;
+    private final long freshUntilMillis;
+    private final long staleUntilMillis;
+    
+    private CachedResponse(HttpHeaders headers, byte[] body, long storedAtMillis, long freshUntilMillis, long staleUntilMillis) {
+        this.headers = headers;
+        this.body = body;
+        this.storedAtMillis = storedAtMillis;
+        this.freshUntilMillis = freshUntilMillis;
+        this.staleUntilMillis = staleUntilMillis;
+    }
+    
+    public static CachedResponse of(HttpHeaders responseHeaders, byte[] body, long nowMillis,
+                                    long freshForMillis, long staleForMillis) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : STORED_HEADERS) {
+            List<String> values = responseHeaders.get(name);
+            if (values != null) {
+                headers.put(name, List.copyOf(values));
+            }
+        }
+        return new CachedResponse(HttpHeaders.readOnlyHttpHeaders(headers), body, nowMillis,
+                nowMillis + freshForMillis, nowMillis + freshForMillis + staleForMillis);
+    }
+    
+    // A 304 from the origin confirms the stored body; restart its freshness and stale windows
+    public CachedResponse revalidated(long nowMillis, long freshForMillis, long staleForMillis) {
+        return new CachedResponse(headers, body, nowMillis, nowMillis + freshForMillis, nowMillis + freshForMillis + staleForMillis);
+    }
+    
+    public boolean isFresh(long nowMillis) {
+        return nowMillis < freshUntilMillis;
+    }
+    
+    public boolean isUsable(long nowMillis) {
+        return nowMillis < staleUntilMillis;
+    }
+    
+    public String getEtag() {
+        return headers.getETag();
+    }
+    
+    public long getAgeSeconds(long nowMillis) {
+        return Math.max(0, (nowMillis - storedAtMillis) / 1000);
+    }
+    
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+    
+    public byte[] getBody() {
+        return body;
+    }
+    
+    public long getStaleUntilMillis() {
+        return staleUntilMillis;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.cricket.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.concurrent.TimeUnit;
+
+// Shared, byte-bounded store behind every route's ResponseCache filter. Each entry expires at its own
+// staleUntil, so the stale-if-error window is honoured per route without a global TTL.
+@Component
+public class ResponseCache {
+    
+    private static final int ENTRY_OVERHEAD_BYTES = 512;
+    
+    private final Cache<String, CachedResponse> entries;
+    
+    @Autowired
+    public ResponseCache(@Value("${gateway.response-cache.max-size:64MB}") DataSize maxSize, MeterRegistry meterRegistry) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.getBody().length + ENTRY_OVERHEAD_BYTES)
+                .expireAfter(new Expiry<String, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+                        return remainingNanos(response);
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return remainingNanos(response);
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "gateway-responses");
+    }
+    
+    private static long remainingNanos(CachedResponse response) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, response.getStaleUntilMillis() - System.currentTimeMillis()));
+    }
+    
+    // Responses vary by representation, so Accept and Accept-Encoding are part of the key
+    public static String key(String routeId, ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return routeId + ' ' + request.getURI().getRawPath()
+                + (request.getURI().getRawQuery() != null ? "?" + request.getURI().getRawQuery() : "")
+                + ' ' + String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT))
+                + ' ' + String.join(",", headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING));
+    }
+    
+    public CachedResponse get(String key) {
+        return entries.getIfPresent(key);
+    }
+    
+    public void put(String key, CachedResponse response) {
+        entries.put(key, response);
+    }
+    
+    // A successful write through a route makes everything cached for that route suspect
+    public void invalidateRoute(String routeId) {
+        String prefix = routeId + ' ';
+        entries.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,304 @@
+package com.cricket.gateway.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Per-route HTTP cache for GET responses, declared before CircuitBreaker in a route's filters:
+//   - fresh entries are answered at the gateway (304 when the client's If-None-Match matches)
+//   - stale entries with an ETag are revalidated upstream with If-None-Match; a 304 replays the stored body
+//   - when the backend answers 5xx, the call fails, or the CircuitBreaker falls back, a stale entry is served
+//     instead for up to staleIfError
+//   - successful non-GET requests through the route invalidate its entries, except those matching readOnlyPaths
+//     (lookups that are POSTs only to carry a large body, e.g. batch reads)
+// Freshness comes from the upstream Cache-Control (s-maxage/max-age), else the route's ttl; no-store and
+// private responses, requests with Authorization and bodies over maxEntrySize are never stored. Requests carrying
+// one of bypassHeaders or bypassCookies skip the lookup, as if sent with no-cache, and refresh the entry.
+@Component
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+    
+    static final String CACHE_STATUS_HEADER = "X-Cache";
+    
+    private final ResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+    
+    @Autowired
+    public ResponseCacheGatewayFilterFactory(ResponseCache responseCache, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    // Ordered ahead of NettyWriteResponseFilter, which otherwise writes the upstream body to the undecorated response
+    @Override
+    public GatewayFilter apply(Config config) {
+        List<PathPattern> readOnlyPaths = config.getReadOnlyPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "unknown";
+            
+            if (request.getMethod() != HttpMethod.GET) {
+                if (request.getMethod() == HttpMethod.HEAD || request.getMethod() == HttpMethod.OPTIONS
+                        || readOnlyPaths.stream().anyMatch(pattern -> pattern.matches(request.getPath().pathWithinApplication()))) {
+                    return chain.filter(exchange);
+                }
+                return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+                    HttpStatusCode status = exchange.getResponse().getStatusCode();
+                    if (status == null || status.is2xxSuccessful()) {
+                        responseCache.invalidateRoute(routeId);
+                    }
+                }));
+            }
+            if (request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+                return chain.filter(exchange);
+            }
+            
+            // Snapshot before mutating: the mutated request can share the original's header map
+            List<String> clientIfNoneMatch = List.copyOf(request.getHeaders().getIfNoneMatch());
+            String key = ResponseCache.key(routeId, request);
+            CachedResponse cached = responseCache.get(key);
+            long now = System.currentTimeMillis();
+            boolean clientNoCache = CacheControlDirectives.parse(request.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL)).isNoCache()
+                    || config.getBypassHeaders().stream().anyMatch(request.getHeaders()::containsKey)
+                    || config.getBypassCookies().stream().anyMatch(request.getCookies()::containsKey);
+            if (cached != null && cached.isFresh(now) && !clientNoCache) {
+                record(routeId, "hit");
+                return writeCached(exchange.getResponse(), clientIfNoneMatch, cached, "HIT", now);
+            }
+            
+            // Revalidate on the client's behalf unless it is already making its own conditional request
+            boolean revalidating = cached != null && cached.getEtag() != null && clientIfNoneMatch.isEmpty();
+            ServerHttpRequest upstreamRequest = revalidating
+                    ? request.mutate().header(HttpHeaders.IF_NONE_MATCH, cached.getEtag()).build()
+                    : request;
+            CachingResponse response = new CachingResponse(exchange.getResponse(), clientIfNoneMatch, routeId, key, cached, revalidating, config);
+            return chain.filter(exchange.mutate().request(upstreamRequest).response(response).build())
+                    .onErrorResume(ex -> {
+                        if (cached != null && cached.isUsable(System.currentTimeMillis()) && !exchange.getResponse().isCommitted()) {
+                            record(routeId, "stale");
+                            return writeCached(exchange.getResponse(), clientIfNoneMatch, cached, "STALE", System.currentTimeMillis());
+                        }
+                        return Mono.error(ex);
+                    });
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+    
+    private static Mono<Void> writeCached(ServerHttpResponse response, List<String> clientIfNoneMatch,
+                                          CachedResponse cached, String cacheStatus, long now) {
+        HttpHeaders headers = response.getHeaders();
+        headers.clear();
+        headers.putAll(cached.getHeaders());
+        headers.set(HttpHeaders.AGE, String.valueOf(cached.getAgeSeconds(now)));
+        headers.set(CACHE_STATUS_HEADER, cacheStatus);
+        if ("STALE".equals(cacheStatus)) {
+            headers.set(HttpHeaders.WARNING, "110 - \"Response is Stale\"");
+        }
+        String etag = cached.getEtag();
+        if (etag != null && clientIfNoneMatch.contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        headers.setContentLength(cached.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+    
+    private void record(String routeId, String result) {
+        meterRegistry.counter("gateway.response.cache.requests", "route", routeId, "result", result).increment();
+    }
+    
+    // Sees the status and body of whatever answers the request (upstream, or the CircuitBreaker fallback)
+    // before it is written, so it can store it, replace a 304 with the stored body, or swap a 5xx for stale content.
+    private class CachingResponse extends ServerHttpResponseDecorator {
+        
+        private final List<String> clientIfNoneMatch;
+        private final String routeId;
+        private final String key;
+        private final CachedResponse cached;
+        private final boolean revalidating;
+        private final Config config;
+        
+        CachingResponse(ServerHttpResponse delegate, List<String> clientIfNoneMatch, String routeId, String key,
+                        CachedResponse cached, boolean revalidating, Config config) {
+            super(delegate);
+            this.clientIfNoneMatch = clientIfNoneMatch;
+            this.routeId = routeId;
+            this.key = key;
+            this.cached = cached;
+            this.revalidating = revalidating;
+            this.config = config;
+        }
+        
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            Mono<Void> replacement = replacement();
+            if (replacement != null) {
+                return Flux.from(body).doOnNext(DataBufferUtils::release).then(replacement);
+            }
+            HttpStatusCode status = getStatusCode();
+            CacheControlDirectives directives = CacheControlDirectives.parse(getHeaders().getCacheControl());
+            getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+            record(routeId, "miss");
+            if (status == null || status.value() != HttpStatus.OK.value() || directives.isNoStore() || directives.isPrivate()) {
+                return super.writeWith(body);
+            }
+            return super.writeWith(capture(Flux.from(body), freshFor(directives)));
+        }
+        
+        @Override
+        public Mono<Void> setComplete() {
+            Mono<Void> replacement = replacement();
+            return replacement != null ? replacement : super.setComplete();
+        }
+        
+        private Mono<Void> replacement() {
+            HttpStatusCode status = getStatusCode();
+            long now = System.currentTimeMillis();
+            if (status == null || cached == null) {
+                return null;
+            }
+            if (revalidating && status.value() == HttpStatus.NOT_MODIFIED.value()) {
+                CacheControlDirectives directives = CacheControlDirectives.parse(getHeaders().getCacheControl());
+                CachedResponse refreshed = cached.revalidated(now, freshFor(directives).toMillis(), config.getStaleIfError().toMillis());
+                responseCache.put(key, refreshed);
+                record(routeId, "revalidated");
+                return writeCached(getDelegate(), clientIfNoneMatch, refreshed, "REVALIDATED", now);
+            }
+            if (status.is5xxServerError() && cached.isUsable(now)) {
+                record(routeId, "stale");
+                return writeCached(getDelegate(), clientIfNoneMatch, cached, "STALE", now);
+            }
+            return null;
+        }
+        
+        private Duration freshFor(CacheControlDirectives directives) {
+            if (directives.isNoCache()) {
+                return Duration.ZERO;
+            }
+            return directives.getMaxAge() != null ? directives.getMaxAge() : config.getTtl();
+        }
+        
+        // Streams the body through unchanged while copying it, and stores the copy once complete unless it
+        // outgrew maxEntrySize (large responses such as exports are then simply not cached)
+        private Flux<DataBuffer> capture(Flux<DataBuffer> body, Duration freshFor) {
+            long limit = config.getMaxEntrySize().toBytes();
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            boolean[] overflow = {false};
+            HttpHeaders headers = getHeaders();
+            return body.doOnNext(buffer -> {
+                if (overflow[0]) {
+                    return;
+                }
+                if (copy.size() + buffer.readableByteCount() > limit) {
+                    overflow[0] = true;
+                    copy.reset();
+                    return;
+                }
+                try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                    while (iterator.hasNext()) {
+                        ByteBuffer byteBuffer = iterator.next();
+                        byte[] bytes = new byte[byteBuffer.remaining()];
+                        byteBuffer.get(bytes);
+                        copy.write(bytes, 0, bytes.length);
+                    }
+                }
+            }).doOnComplete(() -> {
+                if (!overflow[0]) {
+                    responseCache.put(key, CachedResponse.of(headers, copy.toByteArray(), System.currentTimeMillis(),
+                            freshFor.toMillis(), config.getStaleIfError().toMillis()));
+                }
+            });
+        }
+    }
+    
+    public static class Config {
+        // Freshness when the upstream response carries no max-age
+        private Duration ttl = Duration.ofSeconds(5);
+        // How long past freshness an entry may still be served if the backend is failing
+        private Duration staleIfError = Duration.ofMinutes(5);
+        private DataSize maxEntrySize = DataSize.ofKilobytes(512);
+        // Non-GET paths that read without changing anything, so they leave the route's entries in place
+        private List<String> readOnlyPaths = new ArrayList<>();
+        // Requests that must see the backend's current state, e.g. those pinned to the primary after a write
+        private List<String> bypassHeaders = new ArrayList<>();
+        private List<String> bypassCookies = new ArrayList<>();
+        
+        public Duration getTtl() {
+            return ttl;
+        }
+        
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+        
+        public Duration getStaleIfError() {
+            return staleIfError;
+        }
+        
+        public void setStaleIfError(Duration staleIfError) {
+            this.staleIfError = staleIfError;
+        }
+        
+        public DataSize getMaxEntrySize() {
+            return maxEntrySize;
+        }
+        
+        public void setMaxEntrySize(DataSize maxEntrySize) {
+            this.maxEntrySize = maxEntrySize;
+        }
+        
+        public List<String> getReadOnlyPaths() {
+            return readOnlyPaths;
+        }
+        
+        public void setReadOnlyPaths(List<String> readOnlyPaths) {
+            this.readOnlyPaths = readOnlyPaths;
+        }
+        
+        public List<String> getBypassHeaders() {
+            return bypassHeaders;
+        }
+        
+        public void setBypassHeaders(List<String> bypassHeaders) {
+            this.bypassHeaders = bypassHeaders;
+        }
+        
+        public List<String> getBypassCookies() {
+            return bypassCookies;
+        }
+        
+        public void setBypassCookies(List<String> bypassCookies) {
+            this.bypassCookies = bypassCookies;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,271 @@
+package com.cricket.gateway.coalesce;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Single-flight for idempotent requests: while one GET/HEAD for a key is on its way upstream, identical requests
+// wait for it instead of making their own call, and are answered with a copy of its buffered response.
+//   - the key is route, method, path, query, the route's keyHeaders and any conditional headers
+//   - a waiter that is not answered within timeout, or whose leader fails, is cancelled, is rate limited (429) or
+//     returns a body over maxBodySize, makes its own upstream call
+//   - requests with Authorization or Cookie are never merged
+//   - at most gateway.request-coalescing.max-in-flight keys are tracked; beyond that requests pass straight through
+// Declare it after ResponseCache so that only cache misses are merged.
+@Component
+public class RequestCoalescingGatewayFilterFactory extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+    
+    static final String COALESCED_HEADER = "X-Coalesced";
+    
+    private static final List<String> CONDITIONAL_HEADERS = List.of(HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+    
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int maxInFlight;
+    
+    @Autowired
+    public RequestCoalescingGatewayFilterFactory(MeterRegistry meterRegistry,
+                                                 @Value("${gateway.request-coalescing.max-in-flight:10000}") int maxInFlight) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+        this.maxInFlight = maxInFlight;
+        Gauge.builder("gateway.request.coalescing.in.flight", flights, Map::size)
+                .description("Distinct upstream calls currently shared by waiting requests")
+                .register(meterRegistry);
+    }
+    
+    // Ordered ahead of NettyWriteResponseFilter so the leader's body passes through SharingResponse
+    @Override
+    public GatewayFilter apply(Config config) {
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            HttpMethod method = request.getMethod();
+            if ((method != HttpMethod.GET && method != HttpMethod.HEAD)
+                    || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+                    || request.getHeaders().containsKey(HttpHeaders.COOKIE)) {
+                return chain.filter(exchange);
+            }
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route != null ? route.getId() : "unknown";
+            String key = key(routeId, request, config);
+            
+            Flight existing = flights.get(key);
+            if (existing != null) {
+                return follow(exchange, chain, key, existing, routeId, config);
+            }
+            if (flights.size() >= maxInFlight) {
+                record(routeId, "bypassed");
+                return chain.filter(exchange);
+            }
+            Flight flight = new Flight();
+            existing = flights.putIfAbsent(key, flight);
+            if (existing != null) {
+                return follow(exchange, chain, key, existing, routeId, config);
+            }
+            
+            record(routeId, "leader");
+            SharingResponse response = new SharingResponse(exchange.getResponse(), key, flight, config.getMaxBodySize().toBytes());
+            // Whatever the outcome, the key is released; waiters not already answered fall back to their own call
+            return chain.filter(exchange.mutate().response(response).build())
+                    .doFinally(signal -> release(key, flight, null));
+        }, NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1);
+    }
+    
+    static String key(String routeId, ServerHttpRequest request, Config config) {
+        HttpHeaders headers = request.getHeaders();
+        StringBuilder key = new StringBuilder(routeId).append(' ').append(request.getMethod().name()).append(' ')
+                .append(request.getURI().getRawPath());
+        if (request.getURI().getRawQuery() != null) {
+            key.append('?').append(request.getURI().getRawQuery());
+        }
+        for (String name : config.getKeyHeaders()) {
+            key.append(' ').append(String.join(",", headers.getOrEmpty(name)));
+        }
+        for (String name : CONDITIONAL_HEADERS) {
+            key.append(' ').append(String.join(",", headers.getOrEmpty(name)));
+        }
+        return key.toString();
+    }
+    
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain, String key, Flight flight,
+                              String routeId, Config config) {
+        return flight.result.asMono()
+                .map(Optional::of)
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    record(routeId, "abandoned");
+                    return Optional.empty();
+                }))
+                .timeout(config.getTimeout(), Mono.fromSupplier(() -> {
+                    // A stuck leader should not keep collecting waiters; the next request starts a fresh call
+                    flights.remove(key, flight);
+                    record(routeId, "timeout");
+                    return Optional.empty();
+                }))
+                .flatMap(shared -> {
+                    if (shared.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+                    record(routeId, "coalesced");
+                    return write(exchange.getResponse(), shared.get());
+                });
+    }
+    
+    private void release(String key, Flight flight, SharedResponse response) {
+        flights.remove(key, flight);
+        if (response != null) {
+            flight.result.tryEmitValue(response);
+        } else {
+            flight.result.tryEmitEmpty();
+        }
+    }
+    
+    private static Mono<Void> write(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(HttpStatusCode.valueOf(shared.getStatus()));
+        HttpHeaders headers = response.getHeaders();
+        headers.putAll(shared.getHeaders());
+        headers.set(COALESCED_HEADER, "true");
+        if (shared.getBody().length == 0) {
+            return response.setComplete();
+        }
+        headers.setContentLength(shared.getBody().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.getBody())));
+    }
+    
+    private void record(String routeId, String result) {
+        meterRegistry.counter("gateway.request.coalescing.requests", "route", routeId, "result", result).increment();
+    }
+    
+    private static class Flight {
+        private final Sinks.One<SharedResponse> result = Sinks.one();
+    }
+    
+    // Streams the leader's response to its own client unchanged while buffering a copy for the waiters
+    private class SharingResponse extends ServerHttpResponseDecorator {
+        
+        private final String key;
+        private final Flight flight;
+        private final long maxBodySize;
+        
+        SharingResponse(ServerHttpResponse delegate, String key, Flight flight, long maxBodySize) {
+            super(delegate);
+            this.key = key;
+            this.flight = flight;
+            this.maxBodySize = maxBodySize;
+        }
+        
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (status() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                release(key, flight, null);
+                return super.writeWith(body);
+            }
+            // Status and headers are taken before writing: decorators further down may rewrite them (e.g. ResponseCache
+            // turning a revalidation 304 into the stored 200), and waiters must see what the leader's call returned
+            SharedResponse head = SharedResponse.of(status(), getHeaders(), new byte[0]);
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            boolean[] overflow = {false};
+            Flux<DataBuffer> shared = Flux.<DataBuffer>from(body).doOnNext(buffer -> {
+                if (overflow[0]) {
+                    return;
+                }
+                if (copy.size() + buffer.readableByteCount() > maxBodySize) {
+                    // Too large to hold for everyone; let the waiters go upstream now rather than at completion
+                    overflow[0] = true;
+                    copy.reset();
+                    release(key, flight, null);
+                    return;
+                }
+                try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+                    while (iterator.hasNext()) {
+                        ByteBuffer byteBuffer = iterator.next();
+                        byte[] bytes = new byte[byteBuffer.remaining()];
+                        byteBuffer.get(bytes);
+                        copy.write(bytes, 0, bytes.length);
+                    }
+                }
+            }).doOnComplete(() -> {
+                if (!overflow[0]) {
+                    release(key, flight, head.withBody(copy.toByteArray()));
+                }
+            });
+            return super.writeWith(shared);
+        }
+        
+        @Override
+        public Mono<Void> setComplete() {
+            // A 429 is about the leader's own quota (e.g. from RequestRateLimiter), so waiters make their own call
+            SharedResponse shared = status() != HttpStatus.TOO_MANY_REQUESTS.value()
+                    ? SharedResponse.of(status(), getHeaders(), new byte[0]) : null;
+            release(key, flight, shared);
+            return super.setComplete();
+        }
+        
+        private int status() {
+            HttpStatusCode status = getStatusCode();
+            return status != null ? status.value() : 200;
+        }
+    }
+    
+    public static class Config {
+        // Headers that select a different representation and so must match for two requests to share a response
+        private List<String> keyHeaders = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE);
+        // Longest a waiter holds on for the leader's response before calling upstream itself
+        private Duration timeout = Duration.ofSeconds(3);
+        private DataSize maxBodySize = DataSize.ofMegabytes(1);
+        
+        public List<String> getKeyHeaders() {
+            return keyHeaders;
+        }
+        
+        public void setKeyHeaders(List<String> keyHeaders) {
+            this.keyHeaders = keyHeaders;
+        }
+        
+        public Duration getTimeout() {
+            return timeout;
+        }
+        
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+        
+        public DataSize getMaxBodySize() {
+            return maxBodySize;
+        }
+        
+        public void setMaxBodySize(DataSize maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+    }
+}
\ No newline at end of file
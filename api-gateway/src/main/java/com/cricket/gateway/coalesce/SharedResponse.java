@@ -0,0 +1,51 @@
+package com.cricket.gateway.coalesce;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.Map;
+
+// A fully buffered upstream response handed to every request that waited on the same in-flight call.
+// Cookies, rate limit state and connection-level headers belong to the leader's exchange and are not shared.
+public class SharedResponse {
+    
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+            HttpHeaders.SET_COOKIE, HttpHeaders.CONNECTION, HttpHeaders.TRANSFER_ENCODING);
+    
+    private final int status;
+    private final HttpHeaders headers;
+    private final byte[] body;
+    
+    private SharedResponse(int status, HttpHeaders headers, byte[] body) {
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+    }
+    
+    public static SharedResponse of(int status, HttpHeaders responseHeaders, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        for (Map.Entry<String, List<String>> header : responseHeaders.entrySet()) {
+            String name = header.getKey();
+            if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase) && !name.regionMatches(true, 0, "RateLimit-", 0, 10)) {
+                headers.put(name, List.copyOf(header.getValue()));
+            }
+        }
+        return new SharedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body);
+    }
+    
+    public SharedResponse withBody(byte[] body) {
+        return new SharedResponse(status, headers, body);
+    }
+    
+    public int getStatus() {
+        return status;
+    }
+    
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+    
+    public byte[] getBody() {
+        return body;
+    }
+}
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.cricket.gateway.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -14,7 +15,8 @@ import static org.springframework.web.reactive.function.server.RequestPredicates
 
 @Component
 public class FallbackController {
-
+    
+    @Bean
     public RouterFunction<ServerResponse> routes() {
         return RouterFunctions
                 .route(GET("/fallback/players"), this::playersFallback)
@@ -22,25 +24,25 @@ public class FallbackController {
                 .andRoute(GET("/fallback/matches"), this::matchesFallback)
                 .andRoute(GET("/fallback/statistics"), this::statisticsFallback);
     }
-
+    
     public Mono<ServerResponse> playersFallback(ServerRequest request) {
         return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(BodyInserters.fromValue("{\"message\":\"Player service is currently unavailable. Please try again later.\"}"));
     }
-
+    
     public Mono<ServerResponse> teamsFallback(ServerRequest request) {
         return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(BodyInserters.fromValue("{\"message\":\"Team service is currently unavailable. Please try again later.\"}"));
     }
-
+    
     public Mono<ServerResponse> matchesFallback(ServerRequest request) {
         return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .contentType(MediaType.APPLICATION_JSON)
                 .body(BodyInserters.fromValue("{\"message\":\"Match service is currently unavailable. Please try again later.\"}"));
     }
-
+    
     public Mono<ServerResponse> statisticsFallback(ServerRequest request) {
         return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .contentType(MediaType.APPLICATION_JSON)
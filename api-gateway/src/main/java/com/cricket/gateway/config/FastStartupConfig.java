@@ -0,0 +1,19 @@
+package com.cricket.gateway.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// With the fast-startup profile beans are created lazily. Route locators stay eager so routes, their predicates
+// and filters are built before the gateway reports ready rather than on the first proxied request.
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+    
+    @Bean
+    static LazyInitializationExcludeFilter eagerRouteLocators() {
+        return LazyInitializationExcludeFilter.forBeanTypes(RouteLocator.class);
+    }
+}
\ No newline at end of file
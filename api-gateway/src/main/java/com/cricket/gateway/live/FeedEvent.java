@@ -0,0 +1,55 @@
+package com.cricket.gateway.live;
+
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.nio.charset.StandardCharsets;
+
+// An event from match-service's live feed, re-framed once on arrival so every client following the match through
+// this gateway is written the same bytes
+class FeedEvent {
+    
+    enum Type {
+        DELIVERY,
+        SCORE,
+        HEARTBEAT
+    }
+    
+    static final FeedEvent HEARTBEAT = new FeedEvent(Type.HEARTBEAT, 0, ":\n\n");
+    
+    private final Type type;
+    private final long id;
+    private final byte[] frame;
+    
+    private FeedEvent(Type type, long id, String frame) {
+        this.type = type;
+        this.id = id;
+        this.frame = frame.getBytes(StandardCharsets.UTF_8);
+    }
+    
+    // null for events this gateway does not relay
+    static FeedEvent from(ServerSentEvent<String> event) {
+        if (event.event() == null || event.id() == null || event.data() == null) {
+            return event.comment() != null ? HEARTBEAT : null;
+        }
+        Type type;
+        try {
+            type = Type.valueOf(event.event().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+        long id = Long.parseLong(event.id());
+        return new FeedEvent(type, id, "id:" + id + "\nevent:" + event.event() + "\ndata:" + event.data() + "\n\n");
+    }
+    
+    Type getType() {
+        return type;
+    }
+    
+    long getId() {
+        return id;
+    }
+    
+    byte[] getFrame() {
+        return frame;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.cricket.gateway.live;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import reactor.core.publisher.FluxSink;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One client following a match. Events are queued as they arrive from upstream and emitted only as fast as the
+// client's connection asks for them (Netty stops requesting while the socket is not writable). The queue is
+// bounded: a client that falls too far behind has its queued deliveries dropped and is sent the next score
+// instead, so a slow consumer costs a fixed amount of memory and never holds up the feed.
+class FeedSubscriber {
+    
+    private final FluxSink<DataBuffer> sink;
+    private final int capacity;
+    private final DataBufferFactory bufferFactory;
+    private final ArrayDeque<FeedEvent> queue = new ArrayDeque<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    // While set, deliveries are dropped until a score newer than anything already sent can be emitted
+    private boolean resync;
+    private FeedEvent pendingScore;
+    private long lastSentId = -1;
+    
+    FeedSubscriber(FluxSink<DataBuffer> sink, int capacity, DataBufferFactory bufferFactory) {
+        this.sink = sink;
+        this.capacity = capacity;
+        this.bufferFactory = bufferFactory;
+    }
+    
+    // Queues an event and returns the number of deliveries this client had to skip for it. latestScore is the
+    // feed's current score, used as the catch-up event when the queue overflows on a delivery.
+    int offer(FeedEvent event, FeedEvent latestScore) {
+        int dropped = 0;
+        synchronized (this) {
+            if (event.getType() == FeedEvent.Type.HEARTBEAT) {
+                if (resync || !queue.isEmpty()) {
+                    return 0;
+                }
+                queue.add(event);
+            } else if (resync) {
+                if (event.getType() == FeedEvent.Type.SCORE) {
+                    pendingScore = event;
+                } else {
+                    dropped = 1;
+                }
+            } else if (queue.size() < capacity) {
+                queue.add(event);
+            } else {
+                for (FeedEvent queued : queue) {
+                    if (queued.getType() == FeedEvent.Type.DELIVERY) {
+                        dropped++;
+                    }
+                }
+                queue.clear();
+                resync = true;
+                if (event.getType() == FeedEvent.Type.SCORE) {
+                    pendingScore = event;
+                } else {
+                    pendingScore = latestScore;
+                    dropped++;
+                }
+            }
+        }
+        drain();
+        return dropped;
+    }
+    
+    void complete() {
+        sink.complete();
+    }
+    
+    // Emits queued events while the client has outstanding demand; called on every offer and request. Only one
+    // thread drains at a time, and a call made meanwhile makes it loop once more.
+    void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (sink.requestedFromDownstream() > 0 && !sink.isCancelled()) {
+                FeedEvent event = next();
+                if (event == null) {
+                    break;
+                }
+                sink.next(bufferFactory.wrap(event.getFrame()));
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+    
+    private synchronized FeedEvent next() {
+        FeedEvent event;
+        if (resync) {
+            // A score no newer than what the client has seen would not cover the dropped deliveries
+            if (pendingScore == null || pendingScore.getId() <= lastSentId) {
+                return null;
+            }
+            event = pendingScore;
+            resync = false;
+            pendingScore = null;
+        } else {
+            event = queue.poll();
+        }
+        if (event != null && event.getType() != FeedEvent.Type.HEARTBEAT) {
+            lastSentId = event.getId();
+        }
+        return event;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.cricket.gateway.live;
+
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class LiveFeedConfig {
+    
+    // Resolves http://match-service through the discovery client, like the lb:// routes
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+}
\ No newline at end of file
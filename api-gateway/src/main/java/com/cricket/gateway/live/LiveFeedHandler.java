@@ -0,0 +1,75 @@
+package com.cricket.gateway.live;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+// GET /api/matches/{id}/live is answered here rather than proxied by the match-service route: router functions are
+// matched before gateway routes, and the route's CircuitBreaker would cut a long-lived stream off at its time limit.
+@Component
+public class LiveFeedHandler {
+    
+    private final LiveFeedRelay liveFeedRelay;
+    
+    @Autowired
+    public LiveFeedHandler(LiveFeedRelay liveFeedRelay) {
+        this.liveFeedRelay = liveFeedRelay;
+    }
+    
+    @Bean
+    public RouterFunction<ServerResponse> liveFeedRoutes() {
+        return RouterFunctions.route(GET("/api/matches/{id}/live"), this::followMatch);
+    }
+    
+    public Mono<ServerResponse> followMatch(ServerRequest request) {
+        Long matchId;
+        try {
+            matchId = Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException ex) {
+            return ServerResponse.notFound().build();
+        }
+        Long lastEventId = lastEventId(request);
+        return liveFeedRelay.follow(matchId, lastEventId, request.exchange().getResponse().bufferFactory())
+                .flatMap(stream -> ServerResponse.ok()
+                        .contentType(MediaType.TEXT_EVENT_STREAM)
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                        // Stops the nginx ingress from buffering the stream
+                        .header("X-Accel-Buffering", "no")
+                        .body(BodyInserters.fromDataBuffers(stream)))
+                .switchIfEmpty(Mono.defer(this::unavailable))
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> ServerResponse.notFound().build())
+                .onErrorResume(TimeoutException.class, ex -> unavailable());
+    }
+    
+    private Mono<ServerResponse> unavailable() {
+        return ServerResponse.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+    }
+    
+    private static Long lastEventId(ServerRequest request) {
+        String header = request.headers().firstHeader("Last-Event-ID");
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(header.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.cricket.gateway.live;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fans match-service's live score feeds out to clients. Each match followed through this instance has one upstream
+// connection, opened by its first client and closed when its last client leaves, so match-service sees a handful of
+// connections per gateway replica however many clients there are. The upstream is resumed with Last-Event-ID when
+// it drops or match-service ends it, and closed for good once match-service no longer knows the match.
+@Component
+public class LiveFeedRelay {
+    
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    
+    private final Map<Long, MatchFeed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final WebClient webClient;
+    private final int replaySize;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final Duration connectTimeout;
+    private final Counter coalesced;
+    private final Counter reconnects;
+    private final Counter rejected;
+    
+    @Autowired
+    public LiveFeedRelay(@LoadBalanced WebClient.Builder webClientBuilder,
+                         @Value("${gateway.live.upstream-url:http://match-service}") String upstreamUrl,
+                         @Value("${gateway.live.replay-size:1024}") int replaySize,
+                         @Value("${gateway.live.subscriber-buffer:256}") int subscriberBuffer,
+                         @Value("${gateway.live.max-subscribers:50000}") int maxSubscribers,
+                         @Value("${gateway.live.connect-timeout:5s}") Duration connectTimeout,
+                         MeterRegistry meterRegistry) {
+        this.webClient = webClientBuilder.baseUrl(upstreamUrl).build();
+        this.replaySize = replaySize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+        this.connectTimeout = connectTimeout;
+        this.coalesced = Counter.builder("gateway.live.events.coalesced")
+                .description("Deliveries skipped for slow live clients, who were sent the next score instead")
+                .register(meterRegistry);
+        this.reconnects = Counter.builder("gateway.live.upstream.reconnects")
+                .description("Live feed connections to match-service re-established after ending or failing")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("gateway.live.subscribers.rejected")
+                .description("Live feed requests refused because max-subscribers was reached")
+                .register(meterRegistry);
+        Gauge.builder("gateway.live.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Clients following a live feed through this instance")
+                .register(meterRegistry);
+        Gauge.builder("gateway.live.feeds", feeds, Map::size)
+                .description("Upstream live feed connections to match-service")
+                .register(meterRegistry);
+    }
+    
+    // The client's event stream, once the match's feed is live. Empty if this instance is at max-subscribers; errors
+    // with WebClientResponseException.NotFound for an unknown match, or TimeoutException if match-service did not
+    // answer within the connect timeout.
+    public Mono<Flux<DataBuffer>> follow(Long matchId, Long lastEventId, DataBufferFactory bufferFactory) {
+        if (subscriberCount.get() >= maxSubscribers) {
+            rejected.increment();
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            MatchFeed feed = feedFor(matchId);
+            return feed.ready()
+                    .timeout(connectTimeout)
+                    .doOnError(TimeoutException.class, ex -> {
+                        if (feed.closeIfIdle()) {
+                            stopFeed(feed);
+                        }
+                    })
+                    .then(Mono.fromSupplier(() -> stream(matchId, feed, lastEventId, bufferFactory)));
+        });
+    }
+    
+    private Flux<DataBuffer> stream(Long matchId, MatchFeed initialFeed, Long lastEventId, DataBufferFactory bufferFactory) {
+        return Flux.create(sink -> {
+            FeedSubscriber subscriber = new FeedSubscriber(sink, subscriberBuffer, bufferFactory);
+            MatchFeed feed = initialFeed;
+            // The feed may have shut down since it was looked up, if its last client left in the meantime
+            while (!feed.subscribe(subscriber, lastEventId)) {
+                feeds.remove(matchId, feed);
+                feed = feedFor(matchId);
+            }
+            MatchFeed joined = feed;
+            subscriberCount.incrementAndGet();
+            sink.onRequest(n -> subscriber.drain());
+            sink.onDispose(() -> {
+                subscriberCount.decrementAndGet();
+                if (joined.unsubscribe(subscriber)) {
+                    stopFeed(joined);
+                }
+            });
+        });
+    }
+    
+    private MatchFeed feedFor(Long matchId) {
+        MatchFeed feed = feeds.get(matchId);
+        if (feed != null) {
+            return feed;
+        }
+        MatchFeed created = new MatchFeed(matchId, replaySize);
+        MatchFeed existing = feeds.putIfAbsent(matchId, created);
+        if (existing != null) {
+            return existing;
+        }
+        connect(created);
+        return created;
+    }
+    
+    private void connect(MatchFeed feed) {
+        Long matchId = feed.getMatchId();
+        Flux<ServerSentEvent<String>> upstream = Flux.defer(() -> webClient.get()
+                .uri("/api/matches/{id}/live", matchId)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    Long lastEventId = feed.lastEventId();
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", String.valueOf(lastEventId));
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(SSE_TYPE));
+        Disposable subscription = upstream
+                // match-service ends feeds after its subscriber timeout; pick up where we left off
+                .repeatWhen(completed -> completed.delayElements(Duration.ofMillis(200)).doOnNext(ignored -> reconnects.increment()))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofMillis(500))
+                        .maxBackoff(Duration.ofSeconds(10))
+                        .transientErrors(true)
+                        .filter(ex -> !(ex instanceof WebClientResponseException.NotFound))
+                        .doBeforeRetry(signal -> reconnects.increment()))
+                .subscribe(event -> publish(feed, event), ex -> {
+                    // The match is gone: end every client's stream
+                    feeds.remove(matchId, feed);
+                    feed.close(ex);
+                });
+        feed.setUpstream(subscription);
+    }
+    
+    private void publish(MatchFeed feed, ServerSentEvent<String> event) {
+        FeedEvent feedEvent = FeedEvent.from(event);
+        if (feedEvent != null) {
+            int dropped = feed.publish(feedEvent);
+            if (dropped > 0) {
+                coalesced.increment(dropped);
+            }
+        }
+    }
+    
+    private void stopFeed(MatchFeed feed) {
+        feeds.remove(feed.getMatchId(), feed);
+        feed.stopUpstream();
+    }
+}
\ No newline at end of file
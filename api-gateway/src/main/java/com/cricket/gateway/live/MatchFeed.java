@@ -0,0 +1,133 @@
+package com.cricket.gateway.live;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// One match's live feed in this gateway instance: a single upstream connection to match-service, shared by every
+// client following the match here. The latest score and recent deliveries are kept for Last-Event-ID resume, as in
+// match-service, so clients reconnecting to this instance are served without reaching the origin. Upstream events,
+// new clients and departures are serialized on the feed, so a client gets every event exactly once.
+class MatchFeed {
+    
+    private final Long matchId;
+    private final FeedEvent[] recent;
+    // Concurrent only so that a client leaving from inside a publish (same thread, lock held) cannot break the loop
+    private final Set<FeedSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Sinks.Empty<Void> ready = Sinks.empty();
+    private FeedEvent latestScore;
+    // Sequence numbers of the oldest and newest deliveries held in recent
+    private long firstRecent = 1;
+    private long lastDelivery;
+    private boolean closed;
+    private Disposable upstream;
+    
+    MatchFeed(Long matchId, int replaySize) {
+        this.matchId = matchId;
+        this.recent = new FeedEvent[replaySize];
+    }
+    
+    // Completes once the first upstream event has arrived, or errors if the upstream request failed outright
+    Mono<Void> ready() {
+        return ready.asMono();
+    }
+    
+    // Returns the number of deliveries skipped for clients that could not keep up
+    synchronized int publish(FeedEvent event) {
+        if (closed) {
+            return 0;
+        }
+        if (event.getType() == FeedEvent.Type.SCORE) {
+            latestScore = event;
+            if (event.getId() > lastDelivery) {
+                // First score, or the origin could not resume us: deliveries continue after this score
+                lastDelivery = event.getId();
+                firstRecent = lastDelivery + 1;
+            }
+        } else if (event.getType() == FeedEvent.Type.DELIVERY) {
+            long sequence = event.getId();
+            if (sequence != lastDelivery + 1) {
+                firstRecent = sequence;
+            }
+            recent[(int) (sequence % recent.length)] = event;
+            lastDelivery = sequence;
+            firstRecent = Math.max(firstRecent, sequence - recent.length + 1);
+        }
+        int dropped = 0;
+        for (FeedSubscriber subscriber : subscribers) {
+            dropped += subscriber.offer(event, latestScore);
+        }
+        ready.tryEmitEmpty();
+        return dropped;
+    }
+    
+    // Returns false if the feed has already shut down
+    synchronized boolean subscribe(FeedSubscriber subscriber, Long lastEventId) {
+        if (closed) {
+            return false;
+        }
+        if (latestScore != null) {
+            long from;
+            if (lastEventId != null && lastEventId <= lastDelivery && lastEventId + 1 >= firstRecent) {
+                from = lastEventId;
+            } else {
+                subscriber.offer(latestScore, latestScore);
+                from = Math.max(latestScore.getId(), firstRecent - 1);
+            }
+            for (long sequence = from + 1; sequence <= lastDelivery; sequence++) {
+                subscriber.offer(recent[(int) (sequence % recent.length)], latestScore);
+            }
+        }
+        subscribers.add(subscriber);
+        return true;
+    }
+    
+    // Returns true if this was the last client, in which case the feed has shut down and the caller stops upstream
+    synchronized boolean unsubscribe(FeedSubscriber subscriber) {
+        subscribers.remove(subscriber);
+        return closeIfIdle();
+    }
+    
+    synchronized boolean closeIfIdle() {
+        if (closed || !subscribers.isEmpty()) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+    
+    // Ends every client's stream, e.g. because the match was deleted
+    synchronized void close(Throwable cause) {
+        closed = true;
+        ready.tryEmitError(cause);
+        for (FeedSubscriber subscriber : subscribers) {
+            subscriber.complete();
+        }
+        subscribers.clear();
+    }
+    
+    // The id to resume from when the upstream connection has to be re-established
+    synchronized Long lastEventId() {
+        return latestScore != null ? lastDelivery : null;
+    }
+    
+    synchronized void setUpstream(Disposable upstream) {
+        this.upstream = upstream;
+        if (closed) {
+            upstream.dispose();
+        }
+    }
+    
+    synchronized void stopUpstream() {
+        if (upstream != null) {
+            upstream.dispose();
+        }
+    }
+    
+    Long getMatchId() {
+        return matchId;
+    }
+}
\ No newline at end of file
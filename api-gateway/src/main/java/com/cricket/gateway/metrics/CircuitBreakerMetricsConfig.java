@@ -0,0 +1,41 @@
+package com.cricket.gateway.metrics;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.cloud.circuitbreaker.resilience4j.ReactiveResilience4JCircuitBreakerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// resilience4j.circuitbreaker.state only shows the current state at scrape time; a breaker that opens and closes
+// between scrapes is invisible there, so every transition is also counted.
+@Configuration
+public class CircuitBreakerMetricsConfig {
+    
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakerMetricsConfig.class);
+    
+    @Bean
+    public SmartInitializingSingleton circuitBreakerTransitionMetrics(ReactiveResilience4JCircuitBreakerFactory circuitBreakerFactory,
+                                                                      MeterRegistry meterRegistry) {
+        return () -> {
+            CircuitBreakerRegistry registry = circuitBreakerFactory.getCircuitBreakerRegistry();
+            registry.getAllCircuitBreakers().forEach(circuitBreaker -> bind(circuitBreaker, meterRegistry));
+            registry.getEventPublisher().onEntryAdded(event -> bind(event.getAddedEntry(), meterRegistry));
+        };
+    }
+    
+    private static void bind(CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            log.warn("Circuit breaker {} moved from {} to {}", circuitBreaker.getName(),
+                    transition.getFromState(), transition.getToState());
+            meterRegistry.counter("gateway.circuitbreaker.transitions",
+                    "name", circuitBreaker.getName(),
+                    "from", transition.getFromState().name(),
+                    "to", transition.getToState().name()).increment();
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.cricket.gateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+// Records gateway.overhead: the time a routed request spends in the gateway other than waiting on the upstream
+// (filters, rate limiting, caching, load balancer lookup and relaying the body). Requests answered without an
+// upstream call, such as cache hits, are tagged upstream=false and count entirely as overhead.
+@Component
+public class GatewayOverheadFilter implements GlobalFilter, Ordered {
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Autowired
+    public GatewayOverheadFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+    
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> {
+            long total = System.nanoTime() - start;
+            Long upstream = exchange.getAttribute(UpstreamTimingFilter.UPSTREAM_NANOS_ATTR);
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            Timer.builder("gateway.overhead")
+                    .description("Gateway time per request excluding the upstream call")
+                    .tag("routeId", route != null ? route.getId() : "unknown")
+                    .tag("upstream", String.valueOf(upstream != null))
+                    .register(meterRegistry)
+                    .record(Math.max(0, total - (upstream != null ? upstream : 0)), TimeUnit.NANOSECONDS);
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.cricket.gateway.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+// Times the proxied call itself: it wraps NettyRoutingFilter, which completes once the upstream response headers
+// have arrived, so gateway.upstream.requests is connect + send + backend processing (time to first byte).
+// The duration is left on the exchange for GatewayOverheadFilter.
+@Component
+public class UpstreamTimingFilter implements GlobalFilter, Ordered {
+    
+    static final String UPSTREAM_NANOS_ATTR = UpstreamTimingFilter.class.getName() + ".upstreamNanos";
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Autowired
+    public UpstreamTimingFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+    
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        String scheme = requestUrl != null ? requestUrl.getScheme() : null;
+        if (!"http".equals(scheme) && !"https".equals(scheme)) {
+            return chain.filter(exchange);
+        }
+        long start = System.nanoTime();
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> record(exchange, start, outcome(exchange.getResponse().getStatusCode())))
+                .doOnError(ex -> record(exchange, start, "ERROR"))
+                .doOnCancel(() -> record(exchange, start, "CANCELLED"));
+    }
+    
+    private void record(ServerWebExchange exchange, long start, String outcome) {
+        long elapsed = System.nanoTime() - start;
+        exchange.getAttributes().put(UPSTREAM_NANOS_ATTR, elapsed);
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        Timer.builder("gateway.upstream.requests")
+                .description("Time from sending a request upstream to receiving its response headers")
+                .tag("routeId", route != null ? route.getId() : "unknown")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+    
+    static String outcome(HttpStatusCode status) {
+        if (status == null) {
+            return "UNKNOWN";
+        }
+        if (status.is2xxSuccessful() || status.is3xxRedirection()) {
+            return "SUCCESS";
+        }
+        return status.is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.cricket.gateway.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+// Identifies the client a rate limit applies to: the configured key header when the request carries one, else the
+// client address. Behind trustedProxies proxies (e.g. the nginx ingress) the address is read from X-Forwarded-For,
+// counting entries from the right so that values a client adds itself are ignored.
+@Component
+public class ClientKeyResolver implements KeyResolver {
+    
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    
+    private final String clientKeyHeader;
+    private final int trustedProxies;
+    
+    public ClientKeyResolver(@Value("${gateway.rate-limit.client-key-header:}") String clientKeyHeader,
+                             @Value("${gateway.rate-limit.trusted-proxies:0}") int trustedProxies) {
+        this.clientKeyHeader = clientKeyHeader;
+        this.trustedProxies = trustedProxies;
+    }
+    
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (StringUtils.hasText(clientKeyHeader)) {
+            String key = request.getHeaders().getFirst(clientKeyHeader);
+            if (StringUtils.hasText(key)) {
+                return Mono.just("key:" + key.trim());
+            }
+        }
+        return Mono.just("ip:" + clientAddress(request));
+    }
+    
+    private String clientAddress(ServerHttpRequest request) {
+        if (trustedProxies > 0) {
+            List<String> hops = new ArrayList<>();
+            for (String value : request.getHeaders().getOrEmpty(FORWARDED_FOR)) {
+                for (String hop : value.split(",")) {
+                    if (!hop.isBlank()) {
+                        hops.add(hop.trim());
+                    }
+                }
+            }
+            if (!hops.isEmpty()) {
+                return hops.get(Math.max(0, hops.size() - trustedProxies));
+            }
+        }
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return "unknown";
+        }
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+    }
+}
\ No newline at end of file
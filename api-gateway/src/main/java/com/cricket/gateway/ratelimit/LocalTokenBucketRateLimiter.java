@@ -0,0 +1,195 @@
+package com.cricket.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.event.FilterArgsEvent;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// In-process RateLimiter for the RequestRateLimiter filter, configured per route with local-rate-limiter.* args:
+//   - replenishRate/burstCapacity: quota for each client key (see ClientKeyResolver)
+//   - routeReplenishRate/routeBurstCapacity: optional quota shared by all clients of the route
+// Buckets live in this gateway instance only, so with N replicas a client can get up to N times the quota.
+// A client bucket unused for gateway.rate-limit.idle-timeout has refilled and is dropped.
+@Component
+public class LocalTokenBucketRateLimiter extends AbstractRateLimiter<LocalTokenBucketRateLimiter.Config> {
+    
+    public static final String CONFIGURATION_PROPERTY_NAME = "local-rate-limiter";
+    
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+    
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    
+    private final Cache<String, TokenBucket> clientBuckets;
+    private final Map<String, TokenBucket> routeBuckets = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Config defaultConfig = new Config();
+    
+    @Autowired
+    public LocalTokenBucketRateLimiter(ConfigurationService configurationService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${gateway.rate-limit.max-buckets:100000}") long maxBuckets,
+                                       @Value("${gateway.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+        this.meterRegistry = meterRegistry;
+        long idleNanos = idleTimeout.toNanos();
+        // A bucket that is still refilling is kept at least until it is full, so dropping it never hands out extra tokens
+        this.clientBuckets = Caffeine.newBuilder()
+                .maximumSize(maxBuckets)
+                .expireAfter(new Expiry<String, TokenBucket>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenBucket bucket, long currentTime) {
+                        return idleNanos;
+                    }
+                    
+                    @Override
+                    public long expireAfterUpdate(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+                        return Math.max(idleNanos, bucket.nanosUntilFull(currentTime));
+                    }
+                    
+                    @Override
+                    public long expireAfterRead(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+                        return Math.max(idleNanos, bucket.nanosUntilFull(currentTime));
+                    }
+                })
+                .build();
+        Gauge.builder("gateway.rate.limit.buckets", clientBuckets, Cache::estimatedSize)
+                .description("Client token buckets currently held")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void onApplicationEvent(FilterArgsEvent event) {
+        super.onApplicationEvent(event);
+        Config config = getConfig().get(event.getRouteId());
+        if (config != null) {
+            config.validate(event.getRouteId());
+        }
+    }
+    
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        return Mono.just(isAllowed(routeId, id, System.nanoTime()));
+    }
+    
+    Response isAllowed(String routeId, String id, long now) {
+        Config config = getConfig().getOrDefault(routeId, defaultConfig);
+        long interval = config.intervalNanos(config.getReplenishRate());
+        TokenBucket clientBucket = clientBuckets.get(routeId + ' ' + id, key -> new TokenBucket(now));
+        TokenBucket.Decision decision = clientBucket.tryConsume(config.getRequestedTokens(), interval, config.getBurstCapacity(), now);
+        long limit = config.getBurstCapacity();
+        
+        if (decision.isAllowed() && config.getRouteReplenishRate() > 0) {
+            long routeInterval = config.intervalNanos(config.getRouteReplenishRate());
+            TokenBucket routeBucket = routeBuckets.computeIfAbsent(routeId, key -> new TokenBucket(now));
+            TokenBucket.Decision routeDecision = routeBucket.tryConsume(config.getRequestedTokens(), routeInterval,
+                    config.getRouteBurstCapacity(), now);
+            if (!routeDecision.isAllowed()) {
+                // The client did not get through, so it keeps its tokens
+                clientBucket.refund(config.getRequestedTokens(), interval);
+                decision = routeDecision;
+                limit = config.getRouteBurstCapacity();
+            }
+        }
+        
+        meterRegistry.counter("gateway.rate.limit.requests", "route", routeId,
+                "result", decision.isAllowed() ? "allowed" : "denied").increment();
+        return new Response(decision.isAllowed(), headers(limit, decision));
+    }
+    
+    private static Map<String, String> headers(long limit, TokenBucket.Decision decision) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(LIMIT_HEADER, String.valueOf(limit));
+        headers.put(REMAINING_HEADER, String.valueOf(Math.max(0, decision.getRemaining())));
+        headers.put(RESET_HEADER, String.valueOf(toSeconds(decision.getResetNanos())));
+        if (!decision.isAllowed()) {
+            headers.put(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, toSeconds(decision.getRetryAfterNanos()))));
+        }
+        return headers;
+    }
+    
+    private static long toSeconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+    
+    public static class Config {
+        // Tokens added per second to each client's bucket, and the most it can hold (the allowed burst)
+        private int replenishRate = 10;
+        private int burstCapacity = 20;
+        private int requestedTokens = 1;
+        // Quota across all clients of the route; 0 disables it
+        private int routeReplenishRate = 0;
+        private int routeBurstCapacity = 0;
+        
+        void validate(String routeId) {
+            if (replenishRate <= 0 || burstCapacity < requestedTokens || requestedTokens <= 0) {
+                throw new IllegalArgumentException("Route " + routeId + ": " + CONFIGURATION_PROPERTY_NAME
+                        + " needs replenishRate > 0 and burstCapacity >= requestedTokens > 0");
+            }
+            if (routeReplenishRate > 0 && routeBurstCapacity < requestedTokens) {
+                throw new IllegalArgumentException("Route " + routeId + ": " + CONFIGURATION_PROPERTY_NAME
+                        + ".routeBurstCapacity must be at least requestedTokens");
+            }
+        }
+        
+        long intervalNanos(int ratePerSecond) {
+            return Math.max(1, NANOS_PER_SECOND / ratePerSecond);
+        }
+        
+        public int getReplenishRate() {
+            return replenishRate;
+        }
+        
+        public void setReplenishRate(int replenishRate) {
+            this.replenishRate = replenishRate;
+        }
+        
+        public int getBurstCapacity() {
+            return burstCapacity;
+        }
+        
+        public void setBurstCapacity(int burstCapacity) {
+            this.burstCapacity = burstCapacity;
+        }
+        
+        public int getRequestedTokens() {
+            return requestedTokens;
+        }
+        
+        public void setRequestedTokens(int requestedTokens) {
+            this.requestedTokens = requestedTokens;
+        }
+        
+        public int getRouteReplenishRate() {
+            return routeReplenishRate;
+        }
+        
+        public void setRouteReplenishRate(int routeReplenishRate) {
+            this.routeReplenishRate = routeReplenishRate;
+        }
+        
+        public int getRouteBurstCapacity() {
+            return routeBurstCapacity;
+        }
+        
+        public void setRouteBurstCapacity(int routeBurstCapacity) {
+            this.routeBurstCapacity = routeBurstCapacity;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.cricket.gateway.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket kept as a single "theoretical arrival time" (GCRA): the instant at which the bucket would be full
+// again. Taking tokens pushes it forward by one interval per token, so a decision is one compare-and-set on a long
+// and concurrent requests never block an event-loop thread.
+class TokenBucket {
+    
+    private final AtomicLong fullAt;
+    
+    TokenBucket(long nowNanos) {
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+    
+    Decision tryConsume(long tokens, long intervalNanos, long capacity, long nowNanos) {
+        long limitNanos = capacity * intervalNanos;
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, nowNanos);
+            long next = base + tokens * intervalNanos;
+            long ahead = next - nowNanos;
+            if (ahead > limitNanos) {
+                return new Decision(false, (limitNanos - (base - nowNanos)) / intervalNanos, base - nowNanos, ahead - limitNanos);
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return new Decision(true, (limitNanos - ahead) / intervalNanos, ahead, 0);
+            }
+        }
+    }
+    
+    void refund(long tokens, long intervalNanos) {
+        fullAt.addAndGet(-tokens * intervalNanos);
+    }
+    
+    long nanosUntilFull(long nowNanos) {
+        return Math.max(0, fullAt.get() - nowNanos);
+    }
+    
+    static class Decision {
+        
+        private final boolean allowed;
+        private final long remaining;
+        private final long resetNanos;
+        private final long retryAfterNanos;
+        
+        Decision(boolean allowed, long remaining, long resetNanos, long retryAfterNanos) {
+            this.allowed = allowed;
+            this.remaining = remaining;
+            this.resetNanos = resetNanos;
+            this.retryAfterNanos = retryAfterNanos;
+        }
+        
+        boolean isAllowed() {
+            return allowed;
+        }
+        
+        long getRemaining() {
+            return remaining;
+        }
+        
+        long getResetNanos() {
+            return resetNanos;
+        }
+        
+        long getRetryAfterNanos() {
+            return retryAfterNanos;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.cricket.gateway.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheControlDirectivesTest {
+
+    @Test
+    void parse_ShouldReadDirectivesCaseInsensitively() {
+        // When
+        CacheControlDirectives directives = CacheControlDirectives.parse("No-Cache, PRIVATE, max-age=\"30\"");
+
+        // Then
+        assertTrue(directives.isNoCache());
+        assertTrue(directives.isPrivate());
+        assertFalse(directives.isNoStore());
+        assertEquals(Duration.ofSeconds(30), directives.getMaxAge());
+    }
+
+    @Test
+    void parse_ShouldPreferSharedMaxAge() {
+        assertEquals(Duration.ofSeconds(5), CacheControlDirectives.parse("s-maxage=5, max-age=60").getMaxAge());
+        assertEquals(Duration.ofSeconds(5), CacheControlDirectives.parse("max-age=60, s-maxage=5").getMaxAge());
+    }
+
+    @Test
+    void parse_ShouldIgnoreUnusableMaxAge() {
+        assertNull(CacheControlDirectives.parse("max-age=soon").getMaxAge());
+        assertNull(CacheControlDirectives.parse("max-age").getMaxAge());
+        assertEquals(Duration.ZERO, CacheControlDirectives.parse("max-age=-1").getMaxAge());
+    }
+
+    @Test
+    void parse_ShouldReturnNoDirectives_WhenHeaderIsMissing() {
+        // When
+        CacheControlDirectives directives = CacheControlDirectives.parse(null);
+
+        // Then
+        assertFalse(directives.isNoStore());
+        assertFalse(directives.isNoCache());
+        assertFalse(directives.isPrivate());
+        assertNull(directives.getMaxAge());
+        assertTrue(CacheControlDirectives.parse("public, no-store").isNoStore());
+    }
+}
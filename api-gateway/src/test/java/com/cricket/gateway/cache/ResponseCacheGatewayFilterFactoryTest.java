@@ -0,0 +1,339 @@
+package com.cricket.gateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+    private static final Route ROUTE = Route.async()
+            .id("player-service")
+            .uri(URI.create("lb://player-service"))
+            .predicate(exchange -> true)
+            .build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCacheGatewayFilterFactory.Config config = new ResponseCacheGatewayFilterFactory.Config();
+    private final Upstream upstream = new Upstream();
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        config.setReadOnlyPaths(List.of("/api/players/batch"));
+        config.setBypassHeaders(List.of("X-Primary-Until"));
+        config.setBypassCookies(List.of("player-primary-until"));
+        filter = new ResponseCacheGatewayFilterFactory(new ResponseCache(DataSize.ofMegabytes(1), meterRegistry), meterRegistry)
+                .apply(config);
+    }
+
+    @Test
+    void filter_ShouldServeFreshEntryFromCache() {
+        // Given
+        upstream.answer(ok("\"v1\"", "max-age=60", "[1]"));
+
+        // When
+        MockServerWebExchange miss = send(MockServerHttpRequest.get("/api/players"));
+        MockServerWebExchange hit = send(MockServerHttpRequest.get("/api/players"));
+        MockServerWebExchange conditional = send(MockServerHttpRequest.get("/api/players").ifNoneMatch("\"v1\""));
+
+        // Then
+        assertEquals("MISS", cacheStatus(miss));
+        assertEquals("[1]", body(miss));
+        assertEquals("HIT", cacheStatus(hit));
+        assertEquals(HttpStatus.OK, hit.getResponse().getStatusCode());
+        assertEquals("[1]", body(hit));
+        assertEquals("\"v1\"", hit.getResponse().getHeaders().getETag());
+        assertEquals("0", hit.getResponse().getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+        assertEquals(1, upstream.requests.size());
+        assertEquals(2.0, count("hit"));
+    }
+
+    @Test
+    void filter_ShouldReplayStoredBody_WhenRevalidationReturnsNotModified() {
+        // Given
+        upstream.answer(ok("\"v1\"", "max-age=0", "[1]"));
+        upstream.answer(status(HttpStatus.NOT_MODIFIED, "max-age=60"));
+        send(MockServerHttpRequest.get("/api/players"));
+
+        // When
+        MockServerWebExchange revalidated = send(MockServerHttpRequest.get("/api/players"));
+        MockServerWebExchange hit = send(MockServerHttpRequest.get("/api/players"));
+
+        // Then
+        assertEquals("\"v1\"", upstream.requests.get(1).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(HttpStatus.OK, revalidated.getResponse().getStatusCode());
+        assertEquals("REVALIDATED", cacheStatus(revalidated));
+        assertEquals("[1]", body(revalidated));
+        // The 304's max-age restarted the entry's freshness
+        assertEquals("HIT", cacheStatus(hit));
+        assertEquals(2, upstream.requests.size());
+    }
+
+    @Test
+    void filter_ShouldPassNotModifiedThrough_WhenClientRevalidatesItself() {
+        // Given
+        upstream.answer(ok("\"v1\"", "max-age=0", "[1]"));
+        upstream.answer(status(HttpStatus.NOT_MODIFIED, "max-age=60"));
+        send(MockServerHttpRequest.get("/api/players"));
+
+        // When
+        MockServerWebExchange conditional = send(MockServerHttpRequest.get("/api/players").ifNoneMatch("\"v1\""));
+
+        // Then the client's own condition went upstream and its answer is passed back as is
+        assertEquals("\"v1\"", upstream.requests.get(1).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(HttpStatus.NOT_MODIFIED, conditional.getResponse().getStatusCode());
+        assertNull(cacheStatus(conditional));
+    }
+
+    @Test
+    void filter_ShouldServeStaleEntry_WhenUpstreamAnswers5xx() {
+        // Given
+        upstream.answer(ok("\"v1\"", "max-age=0", "[1]"));
+        upstream.answer(status(HttpStatus.BAD_GATEWAY, null));
+        send(MockServerHttpRequest.get("/api/players"));
+
+        // When
+        MockServerWebExchange stale = send(MockServerHttpRequest.get("/api/players"));
+
+        // Then
+        assertEquals(HttpStatus.OK, stale.getResponse().getStatusCode());
+        assertEquals("STALE", cacheStatus(stale));
+        assertNotNull(stale.getResponse().getHeaders().getFirst(HttpHeaders.WARNING));
+        assertEquals("[1]", body(stale));
+        assertEquals(1.0, count("stale"));
+    }
+
+    @Test
+    void filter_ShouldServeStaleEntry_WhenCircuitBreakerFallsBack() {
+        // Given the fallback route writes its 503 through the same response
+        upstream.answer(ok("\"v1\"", "max-age=0", "[1]"));
+        upstream.answer(exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            return write(response, "{\"message\":\"Player service is currently unavailable.\"}");
+        });
+        send(MockServerHttpRequest.get("/api/players"));
+
+        // When
+        MockServerWebExchange stale = send(MockServerHttpRequest.get("/api/players"));
+
+        // Then
+        assertEquals(HttpStatus.OK, stale.getResponse().getStatusCode());
+        assertEquals("STALE", cacheStatus(stale));
+        assertEquals("[1]", body(stale));
+    }
+
+    @Test
+    void filter_ShouldServeStaleEntry_WhenUpstreamCallFails() {
+        // Given
+        upstream.answer(ok("\"v1\"", "max-age=0", "[1]"));
+        upstream.answer(exchange -> Mono.error(new IllegalStateException("connection refused")));
+        upstream.answer(exchange -> Mono.error(new IllegalStateException("connection refused")));
+        send(MockServerHttpRequest.get("/api/players"));
+
+        // When
+        MockServerWebExchange stale = send(MockServerHttpRequest.get("/api/players"));
+        MockServerWebExchange uncached = MockServerWebExchange.from(MockServerHttpRequest.get("/api/teams"));
+        uncached.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, ROUTE);
+
+        // Then
+        assertEquals("STALE", cacheStatus(stale));
+        assertEquals("[1]", body(stale));
+        assertThrows(IllegalStateException.class, () -> filter.filter(uncached, upstream).block(WAIT));
+    }
+
+    @Test
+    void filter_ShouldNotStoreResponses_ThatMustNotBeShared() {
+        // Given
+        upstream.answer(ok("\"v1\"", "no-store", "[1]"));
+        upstream.answer(ok("\"v1\"", "private, max-age=60", "[1]"));
+        upstream.answer(ok("\"v1\"", "max-age=60", "[1]"));
+        upstream.answer(ok("\"v1\"", "max-age=60", "[1]"));
+
+        // When
+        send(MockServerHttpRequest.get("/api/players"));
+        send(MockServerHttpRequest.get("/api/players"));
+        send(MockServerHttpRequest.get("/api/players").header(HttpHeaders.AUTHORIZATION, "Bearer a"));
+        MockServerWebExchange authorized = send(MockServerHttpRequest.get("/api/players").header(HttpHeaders.AUTHORIZATION, "Bearer a"));
+
+        // Then
+        assertEquals(4, upstream.requests.size());
+        assertNull(cacheStatus(authorized));
+    }
+
+    @Test
+    void filter_ShouldNotStoreBody_LargerThanMaxEntrySize() {
+        // Given
+        config.setMaxEntrySize(DataSize.ofBytes(2));
+        upstream.answer(ok("\"v1\"", "max-age=60", "[1]"));
+        upstream.answer(ok("\"v1\"", "max-age=60", "[1]"));
+
+        // When
+        MockServerWebExchange first = send(MockServerHttpRequest.get("/api/players"));
+        MockServerWebExchange second = send(MockServerHttpRequest.get("/api/players"));
+
+        // Then
+        assertEquals("[1]", body(first));
+        assertEquals("MISS", cacheStatus(second));
+        assertEquals(2, upstream.requests.size());
+    }
+
+    @Test
+    void filter_ShouldInvalidateRoute_WhenWriteSucceeds() {
+        // Given
+        upstream.answer(ok("\"v1\"", "max-age=60", "[1]"));
+        upstream.answer(status(HttpStatus.BAD_REQUEST, null));
+        upstream.answer(status(HttpStatus.CREATED, null));
+        upstream.answer(ok("\"v2\"", "max-age=60", "[1,2]"));
+        send(MockServerHttpRequest.get("/api/players"));
+
+        // When
+        send(MockServerHttpRequest.post("/api/players"));
+        MockServerWebExchange afterFailedWrite = send(MockServerHttpRequest.get("/api/players"));
+        send(MockServerHttpRequest.post("/api/players"));
+        MockServerWebExchange afterWrite = send(MockServerHttpRequest.get("/api/players"));
+
+        // Then
+        assertEquals("HIT", cacheStatus(afterFailedWrite));
+        assertEquals("MISS", cacheStatus(afterWrite));
+        assertEquals("[1,2]", body(afterWrite));
+    }
+
+    @Test
+    void filter_ShouldKeepEntries_WhenPostIsReadOnly() {
+        // Given
+        upstream.answer(ok("\"v1\"", "max-age=60", "[1]"));
+        upstream.answer(ok(null, null, "[1]"));
+        send(MockServerHttpRequest.get("/api/players"));
+
+        // When
+        send(MockServerHttpRequest.post("/api/players/batch"));
+        MockServerWebExchange afterBatch = send(MockServerHttpRequest.get("/api/players"));
+
+        // Then
+        assertEquals("HIT", cacheStatus(afterBatch));
+        assertEquals(2, upstream.requests.size());
+    }
+
+    @Test
+    void filter_ShouldSkipLookupAndRefreshEntry_WhenBypassHeaderOrCookieIsSent() {
+        // Given
+        upstream.answer(ok("\"v1\"", "max-age=60", "[1]"));
+        upstream.answer(ok("\"v2\"", "max-age=60", "[1,2]"));
+        upstream.answer(ok("\"v3\"", "max-age=60", "[1,2,3]"));
+        send(MockServerHttpRequest.get("/api/players"));
+
+        // When
+        MockServerWebExchange pinned = send(MockServerHttpRequest.get("/api/players").header("X-Primary-Until", "1"));
+        MockServerWebExchange afterPinned = send(MockServerHttpRequest.get("/api/players"));
+        MockServerWebExchange cookie = send(MockServerHttpRequest.get("/api/players")
+                .cookie(new HttpCookie("player-primary-until", "1")));
+
+        // Then
+        assertEquals("MISS", cacheStatus(pinned));
+        assertEquals("[1,2]", body(pinned));
+        // The pinned request revalidated the stored entry rather than sending the client's own condition
+        assertEquals("\"v1\"", upstream.requests.get(1).getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("HIT", cacheStatus(afterPinned));
+        assertEquals("[1,2]", body(afterPinned));
+        assertEquals("MISS", cacheStatus(cookie));
+        assertEquals("[1,2,3]", body(cookie));
+    }
+
+    private MockServerWebExchange send(MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, ROUTE);
+        filter.filter(exchange, upstream).block(WAIT);
+        return exchange;
+    }
+
+    private static String cacheStatus(MockServerWebExchange exchange) {
+        return exchange.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER);
+    }
+
+    private static String body(MockServerWebExchange exchange) {
+        return exchange.getResponse().getBodyAsString().block(WAIT);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("gateway.response.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static Function<ServerWebExchange, Mono<Void>> ok(String etag, String cacheControl, String body) {
+        return exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if (etag != null) {
+                response.getHeaders().setETag(etag);
+            }
+            if (cacheControl != null) {
+                response.getHeaders().setCacheControl(cacheControl);
+            }
+            return write(response, body);
+        };
+    }
+
+    private static Function<ServerWebExchange, Mono<Void>> status(HttpStatus status, String cacheControl) {
+        return exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(status);
+            if (cacheControl != null) {
+                response.getHeaders().setCacheControl(cacheControl);
+            }
+            return response.setComplete();
+        };
+    }
+
+    private static Mono<Void> write(ServerHttpResponse response, String body) {
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    // Stands in for the rest of the chain, answering each request with the next scripted response
+    private static class Upstream implements GatewayFilterChain {
+
+        private final List<ServerHttpRequest> requests = new ArrayList<>();
+        private final Queue<Function<ServerWebExchange, Mono<Void>>> answers = new ArrayDeque<>();
+
+        void answer(Function<ServerWebExchange, Mono<Void>> answer) {
+            answers.add(answer);
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange) {
+            requests.add(exchange.getRequest());
+            Function<ServerWebExchange, Mono<Void>> answer = answers.poll();
+            assertNotNull(answer, "unexpected upstream request " + exchange.getRequest().getURI());
+            return answer.apply(exchange);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.cricket.gateway.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCacheTest {
+
+    private final ResponseCache responseCache = new ResponseCache(DataSize.ofMegabytes(1), new SimpleMeterRegistry());
+
+    @Test
+    void key_ShouldVaryByQueryAndRepresentation() {
+        // Given
+        String plain = ResponseCache.key("player-service", MockServerHttpRequest.get("/api/players?page=0").build());
+
+        // Then
+        assertNotEquals(plain, ResponseCache.key("player-service", MockServerHttpRequest.get("/api/players?page=1").build()));
+        assertNotEquals(plain, ResponseCache.key("player-service", MockServerHttpRequest.get("/api/players?page=0")
+                .header(HttpHeaders.ACCEPT, "application/cbor").build()));
+        assertNotEquals(plain, ResponseCache.key("player-service", MockServerHttpRequest.get("/api/players?page=0")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip").build()));
+        assertNotEquals(plain, ResponseCache.key("team-service", MockServerHttpRequest.get("/api/players?page=0").build()));
+        assertEquals(plain, ResponseCache.key("player-service", MockServerHttpRequest.get("/api/players?page=0").build()));
+    }
+
+    @Test
+    void invalidateRoute_ShouldRemoveOnlyThatRoutesEntries() {
+        // Given
+        long now = System.currentTimeMillis();
+        responseCache.put("player-service /api/players", entry(now));
+        responseCache.put("player-service-v2 /api/players", entry(now));
+
+        // When
+        responseCache.invalidateRoute("player-service");
+
+        // Then
+        assertNull(responseCache.get("player-service /api/players"));
+        assertNotNull(responseCache.get("player-service-v2 /api/players"));
+    }
+
+    @Test
+    void get_ShouldDropEntry_WhenPastStaleWindow() {
+        // Given
+        responseCache.put("player-service /api/players", entry(System.currentTimeMillis() - 60_000));
+
+        // When / Then
+        assertNull(responseCache.get("player-service /api/players"));
+    }
+
+    @Test
+    void cachedResponse_ShouldKeepOnlyRepresentationHeaders() {
+        // Given
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        headers.set(HttpHeaders.SET_COOKIE, "session=1");
+        headers.set(HttpHeaders.CONTENT_TYPE, "application/json");
+
+        // When
+        CachedResponse response = CachedResponse.of(headers, new byte[0], 0, 1000, 1000);
+
+        // Then
+        assertEquals("\"v1\"", response.getEtag());
+        assertEquals("application/json", response.getHeaders().getFirst(HttpHeaders.CONTENT_TYPE));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.SET_COOKIE));
+        assertTrue(response.isFresh(999));
+        assertFalse(response.isFresh(1000));
+        assertTrue(response.isUsable(1999));
+        assertFalse(response.isUsable(2000));
+        assertEquals(2, response.getAgeSeconds(2500));
+    }
+
+    private static CachedResponse entry(long storedAtMillis) {
+        return CachedResponse.of(new HttpHeaders(), "[]".getBytes(StandardCharsets.UTF_8), storedAtMillis, 1000, 1000);
+    }
+}
@@ -0,0 +1,261 @@
+package com.cricket.gateway.coalesce;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestCoalescingGatewayFilterFactoryTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescingGatewayFilterFactory.Config config = new RequestCoalescingGatewayFilterFactory.Config();
+    private final Upstream upstream = new Upstream();
+
+    @Test
+    void filter_ShouldAnswerWaiterWithLeadersResponse() {
+        // Given
+        GatewayFilter filter = filter(10);
+        MockServerWebExchange leader = exchange("/api/players?page=0");
+        MockServerWebExchange waiter = exchange("/api/players?page=0");
+
+        // When
+        CompletableFuture<Void> leading = filter.filter(leader, upstream).toFuture();
+        CompletableFuture<Void> waiting = filter.filter(waiter, upstream).toFuture();
+        upstream.release();
+        leading.join();
+        waiting.join();
+
+        // Then
+        assertEquals(1, upstream.calls.get());
+        assertEquals("players", body(leader));
+        assertNull(leader.getResponse().getHeaders().getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER));
+        assertEquals(HttpStatus.OK, waiter.getResponse().getStatusCode());
+        assertEquals("players", body(waiter));
+        assertEquals("true", waiter.getResponse().getHeaders().getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER));
+        assertEquals("v1", waiter.getResponse().getHeaders().getFirst("X-Upstream"));
+        assertEquals(1.0, count("coalesced"));
+    }
+
+    @Test
+    void filter_ShouldNotShareAcrossDifferentKeys() {
+        // Given
+        GatewayFilter filter = filter(10);
+
+        // When
+        CompletableFuture<Void> first = filter.filter(exchange("/api/players?page=0"), upstream).toFuture();
+        CompletableFuture<Void> second = filter.filter(exchange("/api/players?page=1"), upstream).toFuture();
+        upstream.release();
+        first.join();
+        second.join();
+
+        // Then
+        assertEquals(2, upstream.calls.get());
+    }
+
+    @Test
+    void filter_ShouldCallUpstream_WhenWaiterTimesOut() {
+        // Given
+        config.setTimeout(Duration.ofMillis(100));
+        GatewayFilter filter = filter(10);
+        MockServerWebExchange waiter = exchange("/api/players");
+        filter.filter(exchange("/api/players"), upstream).subscribe();
+
+        // When
+        filter.filter(waiter, upstream).block(WAIT);
+
+        // Then
+        assertEquals(2, upstream.calls.get());
+        assertEquals("players", body(waiter));
+        assertNull(waiter.getResponse().getHeaders().getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER));
+        assertEquals(1.0, count("timeout"));
+
+        // And the stuck leader no longer collects waiters
+        filter.filter(exchange("/api/players"), upstream).block(WAIT);
+        assertEquals(3, upstream.calls.get());
+    }
+
+    @Test
+    void filter_ShouldSendWaiterUpstream_WhenLeaderFails() {
+        // Given
+        upstream.failFirstCall = true;
+        GatewayFilter filter = filter(10);
+        MockServerWebExchange waiter = exchange("/api/players");
+        CompletableFuture<Void> leading = filter.filter(exchange("/api/players"), upstream).toFuture();
+        CompletableFuture<Void> waiting = filter.filter(waiter, upstream).toFuture();
+
+        // When
+        upstream.release();
+
+        // Then
+        assertTrue(leading.isCompletedExceptionally());
+        waiting.join();
+        assertEquals(2, upstream.calls.get());
+        assertEquals("players", body(waiter));
+        assertEquals(1.0, count("abandoned"));
+    }
+
+    @Test
+    void filter_ShouldSendWaiterUpstream_WhenLeaderIsCancelled() {
+        // Given
+        GatewayFilter filter = filter(10);
+        MockServerWebExchange waiter = exchange("/api/players");
+        Disposable leading = filter.filter(exchange("/api/players"), upstream).subscribe();
+        CompletableFuture<Void> waiting = filter.filter(waiter, upstream).toFuture();
+
+        // When
+        leading.dispose();
+
+        // Then
+        waiting.join();
+        assertEquals(2, upstream.calls.get());
+        assertEquals("players", body(waiter));
+    }
+
+    @Test
+    void filter_ShouldSendWaiterUpstream_WhenLeaderBodyExceedsMaxBodySize() {
+        // Given
+        config.setMaxBodySize(DataSize.ofBytes(4));
+        GatewayFilter filter = filter(10);
+        MockServerWebExchange leader = exchange("/api/players");
+        MockServerWebExchange waiter = exchange("/api/players");
+        CompletableFuture<Void> leading = filter.filter(leader, upstream).toFuture();
+        CompletableFuture<Void> waiting = filter.filter(waiter, upstream).toFuture();
+
+        // When
+        upstream.release();
+        leading.join();
+        waiting.join();
+
+        // Then
+        assertEquals(2, upstream.calls.get());
+        assertEquals("players", body(leader));
+        assertEquals("players", body(waiter));
+        assertNull(waiter.getResponse().getHeaders().getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER));
+    }
+
+    @Test
+    void filter_ShouldNotShareRateLimitedLeader() {
+        // Given
+        upstream.firstStatus = HttpStatus.TOO_MANY_REQUESTS;
+        GatewayFilter filter = filter(10);
+        MockServerWebExchange leader = exchange("/api/players");
+        MockServerWebExchange waiter = exchange("/api/players");
+        CompletableFuture<Void> leading = filter.filter(leader, upstream).toFuture();
+        CompletableFuture<Void> waiting = filter.filter(waiter, upstream).toFuture();
+
+        // When
+        upstream.release();
+        leading.join();
+        waiting.join();
+
+        // Then
+        assertEquals(2, upstream.calls.get());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, leader.getResponse().getStatusCode());
+        assertEquals(HttpStatus.OK, waiter.getResponse().getStatusCode());
+    }
+
+    @Test
+    void filter_ShouldBypass_WhenRequestCarriesCredentials() {
+        // Given
+        GatewayFilter filter = filter(10);
+
+        // When
+        CompletableFuture<Void> first = filter.filter(exchange("/api/players", HttpHeaders.AUTHORIZATION, "Bearer a"), upstream).toFuture();
+        filter.filter(exchange("/api/players", HttpHeaders.AUTHORIZATION, "Bearer a"), upstream).block(WAIT);
+        filter.filter(exchange("/api/players", HttpHeaders.COOKIE, "session=1"), upstream).block(WAIT);
+
+        // Then
+        assertEquals(3, upstream.calls.get());
+        assertFalse(first.isDone());
+        upstream.release();
+        first.join();
+    }
+
+    @Test
+    void filter_ShouldBypass_WhenMaxInFlightIsReached() {
+        // Given
+        GatewayFilter filter = filter(1);
+        CompletableFuture<Void> leading = filter.filter(exchange("/api/players?page=0"), upstream).toFuture();
+
+        // When
+        MockServerWebExchange other = exchange("/api/players?page=1");
+        filter.filter(other, upstream).block(WAIT);
+
+        // Then
+        assertEquals(2, upstream.calls.get());
+        assertEquals("players", body(other));
+        assertEquals(1.0, count("bypassed"));
+        upstream.release();
+        leading.join();
+    }
+
+    private GatewayFilter filter(int maxInFlight) {
+        return new RequestCoalescingGatewayFilterFactory(meterRegistry, maxInFlight).apply(config);
+    }
+
+    private static MockServerWebExchange exchange(String uri, String... headers) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get(uri);
+        for (int i = 0; i < headers.length; i += 2) {
+            request.header(headers[i], headers[i + 1]);
+        }
+        return MockServerWebExchange.from(request);
+    }
+
+    private static String body(MockServerWebExchange exchange) {
+        return exchange.getResponse().getBodyAsString().block(WAIT);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("gateway.request.coalescing.requests").tag("result", result).counter().count();
+    }
+
+    // Stands in for the rest of the chain. The first call is held until release(); later calls answer at once.
+    private static class Upstream implements GatewayFilterChain {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final Sinks.Empty<Void> gate = Sinks.empty();
+        private HttpStatus firstStatus = HttpStatus.OK;
+        private boolean failFirstCall;
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange) {
+            if (calls.incrementAndGet() > 1) {
+                return respond(exchange.getResponse(), HttpStatus.OK);
+            }
+            if (failFirstCall) {
+                return gate.asMono().then(Mono.error(new IllegalStateException("connection reset")));
+            }
+            return gate.asMono().then(Mono.defer(() -> respond(exchange.getResponse(), firstStatus)));
+        }
+
+        void release() {
+            gate.tryEmitEmpty();
+        }
+
+        private static Mono<Void> respond(ServerHttpResponse response, HttpStatus status) {
+            response.setStatusCode(status);
+            response.getHeaders().set("X-Upstream", "v1");
+            byte[] body = "players".getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.cricket.gateway.live;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// LiveFeedRelay against a scripted match-service: each upstream request is answered by the next queued response
+class LiveFeedRelayTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MatchService matchService = new MatchService();
+    private final LiveFeedRelay relay = new LiveFeedRelay(WebClient.builder().exchangeFunction(matchService),
+            "http://match-service", 16, 16, 100, Duration.ofSeconds(2), meterRegistry);
+
+    @Test
+    void follow_ShouldShareOneUpstreamConnectionAcrossClients() {
+        // Given
+        Stream stream = matchService.stream();
+        CompletableFuture<Flux<DataBuffer>> first = relay.follow(1L, null, DefaultDataBufferFactory.sharedInstance).toFuture();
+        stream.send("score", 5);
+
+        // When
+        Client one = new Client(first.join());
+        Client two = new Client(follow(1L, null));
+        stream.send("delivery", 6);
+
+        // Then
+        await(() -> one.events.size() == 2 && two.events.size() == 2);
+        assertEquals(List.of("score:5", "delivery:6"), one.events);
+        assertEquals(List.of("score:5", "delivery:6"), two.events);
+        assertEquals(1, matchService.requests.size());
+        assertEquals(2.0, meterRegistry.get("gateway.live.subscribers").gauge().value());
+    }
+
+    @Test
+    void follow_ShouldResumeClientFromLastEventId() {
+        // Given
+        Stream stream = matchService.stream();
+        CompletableFuture<Flux<DataBuffer>> first = relay.follow(1L, null, DefaultDataBufferFactory.sharedInstance).toFuture();
+        stream.send("score", 5);
+        Client holder = new Client(first.join());
+        stream.send("delivery", 6);
+        stream.send("delivery", 7);
+        await(() -> holder.events.size() == 3);
+
+        // When
+        Client resumed = new Client(follow(1L, 6L));
+
+        // Then
+        await(() -> resumed.events.size() == 1);
+        assertEquals(List.of("delivery:7"), resumed.events);
+    }
+
+    @Test
+    void follow_ShouldStopUpstream_WhenLastClientLeaves() {
+        // Given
+        Stream stream = matchService.stream();
+        CompletableFuture<Flux<DataBuffer>> first = relay.follow(1L, null, DefaultDataBufferFactory.sharedInstance).toFuture();
+        stream.send("score", 5);
+        Client one = new Client(first.join());
+        Client two = new Client(follow(1L, null));
+
+        // When
+        one.subscription.dispose();
+
+        // Then
+        assertFalse(stream.cancelled.get());
+        assertEquals(1.0, meterRegistry.get("gateway.live.feeds").gauge().value());
+
+        // When
+        two.subscription.dispose();
+
+        // Then
+        await(stream.cancelled::get);
+        assertEquals(0.0, meterRegistry.get("gateway.live.feeds").gauge().value());
+        assertEquals(0.0, meterRegistry.get("gateway.live.subscribers").gauge().value());
+
+        // And the next client opens a new connection
+        Stream next = matchService.stream();
+        CompletableFuture<Flux<DataBuffer>> again = relay.follow(1L, null, DefaultDataBufferFactory.sharedInstance).toFuture();
+        next.send("score", 9);
+        Client three = new Client(again.join());
+        await(() -> three.events.size() == 1);
+        assertEquals(List.of("score:9"), three.events);
+        assertEquals(2, matchService.requests.size());
+    }
+
+    @Test
+    void follow_ShouldReconnectWithLastEventIdAndCloseClients_WhenMatchIsGone() {
+        // Given
+        Stream stream = matchService.stream();
+        matchService.notFound();
+        CompletableFuture<Flux<DataBuffer>> first = relay.follow(1L, null, DefaultDataBufferFactory.sharedInstance).toFuture();
+        stream.send("score", 5);
+        Client one = new Client(first.join());
+        Client two = new Client(follow(1L, null));
+
+        // When match-service ends the feed and no longer knows the match on reconnect
+        stream.end();
+
+        // Then
+        await(() -> one.completed.get() && two.completed.get());
+        assertEquals(2, matchService.requests.size());
+        assertEquals("5", matchService.requests.get(1).headers().getFirst("Last-Event-ID"));
+        assertEquals(1.0, meterRegistry.get("gateway.live.upstream.reconnects").counter().count());
+        assertEquals(0.0, meterRegistry.get("gateway.live.feeds").gauge().value());
+    }
+
+    @Test
+    void follow_ShouldFail_WhenMatchIsUnknown() {
+        // Given
+        matchService.notFound();
+
+        // When / Then
+        Mono<Flux<DataBuffer>> follow = relay.follow(1L, null, DefaultDataBufferFactory.sharedInstance);
+        assertThrows(WebClientResponseException.NotFound.class, () -> follow.block(WAIT));
+        assertEquals(0.0, meterRegistry.get("gateway.live.feeds").gauge().value());
+    }
+
+    @Test
+    void follow_ShouldRefuseClients_WhenMaxSubscribersReached() {
+        // Given
+        LiveFeedRelay full = new LiveFeedRelay(WebClient.builder().exchangeFunction(matchService),
+                "http://match-service", 16, 16, 0, Duration.ofSeconds(2), new SimpleMeterRegistry());
+
+        // When / Then
+        assertNull(full.follow(1L, null, DefaultDataBufferFactory.sharedInstance).block(WAIT));
+        assertTrue(matchService.requests.isEmpty());
+    }
+
+    private Flux<DataBuffer> follow(Long matchId, Long lastEventId) {
+        return relay.follow(matchId, lastEventId, DefaultDataBufferFactory.sharedInstance).block(WAIT);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + WAIT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not met within " + WAIT);
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                fail(ex);
+            }
+        }
+    }
+
+    private static class MatchService implements ExchangeFunction {
+
+        private final List<ClientRequest> requests = new CopyOnWriteArrayList<>();
+        private final Queue<Mono<ClientResponse>> responses = new ArrayDeque<>();
+
+        Stream stream() {
+            Stream stream = new Stream();
+            Flux<DataBuffer> body = stream.events.asFlux()
+                    .<DataBuffer>map(frame -> DefaultDataBufferFactory.sharedInstance.wrap(frame.getBytes(StandardCharsets.UTF_8)))
+                    .doOnCancel(() -> stream.cancelled.set(true));
+            enqueue(Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                    .body(body)
+                    .build()));
+            return stream;
+        }
+
+        void notFound() {
+            enqueue(Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+        }
+
+        private synchronized void enqueue(Mono<ClientResponse> response) {
+            responses.add(response);
+        }
+
+        @Override
+        public synchronized Mono<ClientResponse> exchange(ClientRequest request) {
+            requests.add(request);
+            Mono<ClientResponse> response = responses.poll();
+            return response != null ? response : Mono.never();
+        }
+    }
+
+    // One upstream response body, written by the test
+    private static class Stream {
+
+        private final Sinks.Many<String> events = Sinks.many().unicast().onBackpressureBuffer();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        void send(String event, long id) {
+            events.tryEmitNext("id:" + id + "\nevent:" + event + "\ndata:{}\n\n");
+        }
+
+        void end() {
+            events.tryEmitComplete();
+        }
+    }
+
+    // A client reading its stream as fast as it arrives, recording events as "<event>:<id>"
+    private static class Client {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final Disposable subscription;
+
+        Client(Flux<DataBuffer> stream) {
+            subscription = stream.subscribe(buffer -> {
+                String[] lines = buffer.toString(StandardCharsets.UTF_8).split("\n");
+                events.add(lines[1].substring("event:".length()) + ":" + lines[0].substring("id:".length()));
+            }, ex -> completed.set(true), () -> completed.set(true));
+        }
+    }
+}
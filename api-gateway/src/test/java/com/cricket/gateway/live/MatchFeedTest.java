@@ -0,0 +1,231 @@
+package com.cricket.gateway.live;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// MatchFeed's replay and fan-out, with FeedSubscribers whose demand the test controls
+class MatchFeedTest {
+
+    @Test
+    void subscribe_ShouldResumeAfterLastEventId_WhenInsideReplayWindow() {
+        // Given
+        MatchFeed feed = new MatchFeed(1L, 4);
+        feed.publish(score(10));
+        for (long sequence = 11; sequence <= 14; sequence++) {
+            feed.publish(delivery(sequence));
+            feed.publish(score(sequence));
+        }
+
+        // When
+        Client client = new Client(16, Long.MAX_VALUE);
+        assertTrue(feed.subscribe(client.subscriber, 12L));
+
+        // Then
+        assertEquals(List.of("delivery:13", "delivery:14"), client.events);
+    }
+
+    @Test
+    void subscribe_ShouldSendScoreAndReplayTail_WhenLastEventIdIsOutsideReplayWindow() {
+        // Given
+        MatchFeed feed = new MatchFeed(1L, 4);
+        feed.publish(score(10));
+        for (long sequence = 11; sequence <= 16; sequence++) {
+            feed.publish(delivery(sequence));
+            if (sequence == 14) {
+                feed.publish(score(sequence));
+            }
+        }
+
+        // When
+        Client resumed = new Client(16, Long.MAX_VALUE);
+        feed.subscribe(resumed.subscriber, 11L);
+        Client fresh = new Client(16, Long.MAX_VALUE);
+        feed.subscribe(fresh.subscriber, null);
+
+        // Then
+        assertEquals(List.of("score:14", "delivery:15", "delivery:16"), resumed.events);
+        assertEquals(resumed.events, fresh.events);
+        assertEquals(16L, feed.lastEventId());
+    }
+
+    @Test
+    void publish_ShouldDeliverToEverySubscriber() {
+        // Given
+        MatchFeed feed = new MatchFeed(1L, 4);
+        feed.publish(score(10));
+        Client first = new Client(16, Long.MAX_VALUE);
+        Client second = new Client(16, Long.MAX_VALUE);
+        feed.subscribe(first.subscriber, 10L);
+        feed.subscribe(second.subscriber, 10L);
+
+        // When
+        feed.publish(delivery(11));
+
+        // Then
+        assertEquals(List.of("delivery:11"), first.events);
+        assertEquals(List.of("delivery:11"), second.events);
+    }
+
+    @Test
+    void publish_ShouldDropDeliveriesForSlowSubscriberUntilANewerScore() {
+        // Given
+        MatchFeed feed = new MatchFeed(1L, 16);
+        feed.publish(score(10));
+        Client slow = new Client(1, 1);
+        feed.subscribe(slow.subscriber, null);
+
+        // When
+        int queued = feed.publish(delivery(11));
+        int overflowed = feed.publish(delivery(12));
+        slow.request(10);
+
+        // Then the feed's score is no newer than what was sent, so the client waits for the next one
+        assertEquals(0, queued);
+        assertEquals(2, overflowed);
+        assertEquals(List.of("score:10"), slow.events);
+
+        // When
+        assertEquals(1, feed.publish(delivery(13)));
+        feed.publish(score(13));
+        feed.publish(delivery(14));
+
+        // Then
+        assertEquals(List.of("score:10", "score:13", "delivery:14"), slow.events);
+    }
+
+    @Test
+    void publish_ShouldSendQueuedScore_WhenSlowSubscriberCatchesUp() {
+        // Given
+        MatchFeed feed = new MatchFeed(1L, 16);
+        feed.publish(score(10));
+        Client slow = new Client(2, 0);
+        feed.subscribe(slow.subscriber, null);
+
+        // When
+        feed.publish(delivery(11));
+        feed.publish(delivery(12));
+        feed.publish(score(12));
+        slow.request(10);
+
+        // Then
+        assertEquals(List.of("score:12"), slow.events);
+    }
+
+    @Test
+    void unsubscribe_ShouldCloseFeed_WhenLastSubscriberLeaves() {
+        // Given
+        MatchFeed feed = new MatchFeed(1L, 4);
+        Disposable upstream = mock(Disposable.class);
+        feed.setUpstream(upstream);
+        Client first = new Client(16, Long.MAX_VALUE);
+        Client second = new Client(16, Long.MAX_VALUE);
+        feed.subscribe(first.subscriber, null);
+        feed.subscribe(second.subscriber, null);
+
+        // When / Then
+        assertFalse(feed.unsubscribe(first.subscriber));
+        assertTrue(feed.unsubscribe(second.subscriber));
+        assertFalse(feed.subscribe(new Client(16, Long.MAX_VALUE).subscriber, null));
+        assertEquals(0, feed.publish(score(10)));
+        feed.stopUpstream();
+        verify(upstream).dispose();
+    }
+
+    @Test
+    void setUpstream_ShouldDisposeConnection_WhenFeedAlreadyClosed() {
+        // Given
+        MatchFeed feed = new MatchFeed(1L, 4);
+        assertTrue(feed.closeIfIdle());
+        Disposable upstream = mock(Disposable.class);
+
+        // When
+        feed.setUpstream(upstream);
+
+        // Then
+        verify(upstream).dispose();
+    }
+
+    @Test
+    void close_ShouldCompleteSubscribersAndRefuseNewOnes() {
+        // Given
+        MatchFeed feed = new MatchFeed(1L, 4);
+        feed.publish(score(10));
+        Client client = new Client(16, Long.MAX_VALUE);
+        feed.subscribe(client.subscriber, null);
+
+        // When
+        feed.close(new IllegalStateException("match deleted"));
+
+        // Then
+        assertTrue(client.completed);
+        assertFalse(feed.subscribe(new Client(16, Long.MAX_VALUE).subscriber, null));
+    }
+
+    private static FeedEvent score(long id) {
+        return event("score", id);
+    }
+
+    private static FeedEvent delivery(long id) {
+        return event("delivery", id);
+    }
+
+    private static FeedEvent event(String type, long id) {
+        return FeedEvent.from(ServerSentEvent.builder("{}").event(type).id(String.valueOf(id)).build());
+    }
+
+    // A client connection that requests events only as the test asks, recording them as "<event>:<id>"
+    private static class Client extends BaseSubscriber<DataBuffer> {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final long initialDemand;
+        private FeedSubscriber subscriber;
+        private volatile boolean completed;
+
+        Client(int capacity, long initialDemand) {
+            this.initialDemand = initialDemand;
+            Flux.<DataBuffer>create(sink -> {
+                subscriber = new FeedSubscriber(sink, capacity, DefaultDataBufferFactory.sharedInstance);
+                sink.onRequest(n -> subscriber.drain());
+            }).subscribe(this);
+        }
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            if (initialDemand > 0) {
+                request(initialDemand);
+            }
+        }
+
+        @Override
+        protected void hookOnNext(DataBuffer buffer) {
+            String id = null;
+            String event = null;
+            for (String line : buffer.toString(StandardCharsets.UTF_8).split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    event = line.substring(6);
+                }
+            }
+            events.add(event + ":" + id);
+        }
+
+        @Override
+        protected void hookOnComplete() {
+            completed = true;
+        }
+    }
+}
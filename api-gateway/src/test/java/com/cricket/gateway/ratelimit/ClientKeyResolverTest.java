@@ -0,0 +1,100 @@
+package com.cricket.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientKeyResolverTest {
+
+    private static final InetSocketAddress PROXY = new InetSocketAddress("10.0.0.9", 41234);
+
+    @Test
+    void resolve_ShouldUseRemoteAddress_WhenNoProxyIsTrusted() {
+        // Given
+        ClientKeyResolver resolver = new ClientKeyResolver("", 0);
+
+        // When
+        String key = resolve(resolver, MockServerHttpRequest.get("/api/players")
+                .remoteAddress(PROXY)
+                .header("X-Forwarded-For", "203.0.113.7"));
+
+        // Then
+        assertEquals("ip:10.0.0.9", key);
+    }
+
+    @Test
+    void resolve_ShouldSkipTrustedProxiesFromTheRight() {
+        // Given
+        ClientKeyResolver oneProxy = new ClientKeyResolver("", 1);
+        ClientKeyResolver twoProxies = new ClientKeyResolver("", 2);
+
+        // When
+        String behindOne = resolve(oneProxy, MockServerHttpRequest.get("/api/players")
+                .remoteAddress(PROXY)
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.7"));
+        String behindTwo = resolve(twoProxies, MockServerHttpRequest.get("/api/players")
+                .remoteAddress(PROXY)
+                .header("X-Forwarded-For", "198.51.100.1, 203.0.113.7")
+                .header("X-Forwarded-For", "10.0.0.5"));
+
+        // Then the entry the client wrote itself is ignored
+        assertEquals("ip:203.0.113.7", behindOne);
+        assertEquals("ip:203.0.113.7", behindTwo);
+    }
+
+    @Test
+    void resolve_ShouldUseFirstHop_WhenFewerHopsThanTrustedProxies() {
+        // Given
+        ClientKeyResolver resolver = new ClientKeyResolver("", 3);
+
+        // When
+        String key = resolve(resolver, MockServerHttpRequest.get("/api/players")
+                .remoteAddress(PROXY)
+                .header("X-Forwarded-For", " , 203.0.113.7"));
+
+        // Then
+        assertEquals("ip:203.0.113.7", key);
+    }
+
+    @Test
+    void resolve_ShouldFallBackToRemoteAddress_WhenForwardedForIsMissing() {
+        // Given
+        ClientKeyResolver resolver = new ClientKeyResolver("", 1);
+
+        // When
+        String key = resolve(resolver, MockServerHttpRequest.get("/api/players").remoteAddress(PROXY));
+        String unknown = resolve(resolver, MockServerHttpRequest.get("/api/players"));
+
+        // Then
+        assertEquals("ip:10.0.0.9", key);
+        assertEquals("ip:unknown", unknown);
+    }
+
+    @Test
+    void resolve_ShouldPreferClientKeyHeader() {
+        // Given
+        ClientKeyResolver resolver = new ClientKeyResolver("X-Api-Key", 1);
+
+        // When
+        String key = resolve(resolver, MockServerHttpRequest.get("/api/players")
+                .remoteAddress(PROXY)
+                .header("X-Api-Key", " team-a ")
+                .header("X-Forwarded-For", "203.0.113.7"));
+        String blank = resolve(resolver, MockServerHttpRequest.get("/api/players")
+                .remoteAddress(PROXY)
+                .header("X-Api-Key", " ")
+                .header("X-Forwarded-For", "203.0.113.7"));
+
+        // Then
+        assertEquals("key:team-a", key);
+        assertEquals("ip:203.0.113.7", blank);
+    }
+
+    private static String resolve(ClientKeyResolver resolver, MockServerHttpRequest.BaseBuilder<?> request) {
+        return resolver.resolve(MockServerWebExchange.from(request)).block();
+    }
+}
@@ -0,0 +1,118 @@
+package com.cricket.gateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter.Response;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.http.HttpHeaders;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+// Decisions are taken at explicit instants, so the expected headers follow from the quota alone
+class LocalTokenBucketRateLimiterTest {
+
+    private static final String ROUTE = "player-service";
+    private static final long START = TimeUnit.HOURS.toNanos(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LocalTokenBucketRateLimiter limiter = new LocalTokenBucketRateLimiter(mock(ConfigurationService.class),
+            meterRegistry, 1000, Duration.ofMinutes(10));
+
+    @Test
+    void isAllowed_ShouldReportQuotaHeaders() {
+        // Given
+        configure(10, 20, 0, 0);
+
+        // When
+        Response first = limiter.isAllowed(ROUTE, "ip:a", START);
+        for (int i = 0; i < 18; i++) {
+            limiter.isAllowed(ROUTE, "ip:a", START);
+        }
+        Response last = limiter.isAllowed(ROUTE, "ip:a", START);
+
+        // Then
+        assertTrue(first.isAllowed());
+        assertEquals("20", first.getHeaders().get(LocalTokenBucketRateLimiter.LIMIT_HEADER));
+        assertEquals("19", first.getHeaders().get(LocalTokenBucketRateLimiter.REMAINING_HEADER));
+        assertEquals("1", first.getHeaders().get(LocalTokenBucketRateLimiter.RESET_HEADER));
+        assertFalse(first.getHeaders().containsKey(HttpHeaders.RETRY_AFTER));
+        assertTrue(last.isAllowed());
+        assertEquals("0", last.getHeaders().get(LocalTokenBucketRateLimiter.REMAINING_HEADER));
+        assertEquals("2", last.getHeaders().get(LocalTokenBucketRateLimiter.RESET_HEADER));
+    }
+
+    @Test
+    void isAllowed_ShouldDenyWithRetryAfter_WhenBucketIsEmpty() {
+        // Given
+        LocalTokenBucketRateLimiter.Config config = configure(1, 5, 0, 0);
+        config.setRequestedTokens(5);
+        limiter.isAllowed(ROUTE, "ip:a", START);
+
+        // When
+        Response denied = limiter.isAllowed(ROUTE, "ip:a", START);
+        Response almost = limiter.isAllowed(ROUTE, "ip:a", START + TimeUnit.MILLISECONDS.toNanos(4500));
+        Response other = limiter.isAllowed(ROUTE, "ip:b", START);
+
+        // Then
+        assertFalse(denied.isAllowed());
+        assertEquals("0", denied.getHeaders().get(LocalTokenBucketRateLimiter.REMAINING_HEADER));
+        assertEquals("5", denied.getHeaders().get(LocalTokenBucketRateLimiter.RESET_HEADER));
+        assertEquals("5", denied.getHeaders().get(HttpHeaders.RETRY_AFTER));
+        // Retry-After is rounded up and never 0
+        assertFalse(almost.isAllowed());
+        assertEquals("1", almost.getHeaders().get(HttpHeaders.RETRY_AFTER));
+        assertTrue(other.isAllowed());
+        assertEquals(2.0, meterRegistry.get("gateway.rate.limit.requests").tag("result", "denied").counter().count());
+    }
+
+    @Test
+    void isAllowed_ShouldRefundClient_WhenRouteQuotaDenies() {
+        // Given each client may send one request a second, the route two a second across clients
+        configure(1, 1, 2, 1);
+        long halfSecond = TimeUnit.MILLISECONDS.toNanos(500);
+
+        // When
+        Response a = limiter.isAllowed(ROUTE, "ip:a", START);
+        Response b = limiter.isAllowed(ROUTE, "ip:b", START);
+        Response bRetry = limiter.isAllowed(ROUTE, "ip:b", START + halfSecond);
+
+        // Then
+        assertTrue(a.isAllowed());
+        assertFalse(b.isAllowed());
+        assertEquals("1", b.getHeaders().get(LocalTokenBucketRateLimiter.LIMIT_HEADER));
+        assertEquals("0", b.getHeaders().get(LocalTokenBucketRateLimiter.REMAINING_HEADER));
+        assertEquals("1", b.getHeaders().get(HttpHeaders.RETRY_AFTER));
+        // b's own bucket was not charged for the denied request, so it gets through once the route refills
+        assertTrue(bRetry.isAllowed());
+    }
+
+    @Test
+    void validate_ShouldRejectInconsistentQuota() {
+        // Given
+        LocalTokenBucketRateLimiter.Config config = new LocalTokenBucketRateLimiter.Config();
+        config.setBurstCapacity(1);
+        config.setRequestedTokens(2);
+        LocalTokenBucketRateLimiter.Config route = new LocalTokenBucketRateLimiter.Config();
+        route.setRouteReplenishRate(5);
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> config.validate(ROUTE));
+        assertThrows(IllegalArgumentException.class, () -> route.validate(ROUTE));
+        assertDoesNotThrow(() -> new LocalTokenBucketRateLimiter.Config().validate(ROUTE));
+    }
+
+    private LocalTokenBucketRateLimiter.Config configure(int replenishRate, int burstCapacity,
+                                                         int routeReplenishRate, int routeBurstCapacity) {
+        LocalTokenBucketRateLimiter.Config config = new LocalTokenBucketRateLimiter.Config();
+        config.setReplenishRate(replenishRate);
+        config.setBurstCapacity(burstCapacity);
+        config.setRouteReplenishRate(routeReplenishRate);
+        config.setRouteBurstCapacity(routeBurstCapacity);
+        limiter.getConfig().put(ROUTE, config);
+        return config;
+    }
+}
@@ -0,0 +1,100 @@
+package com.cricket.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void tryConsume_ShouldAllowBurstThenDeny() {
+        // Given
+        TokenBucket bucket = new TokenBucket(0);
+
+        // When
+        TokenBucket.Decision first = bucket.tryConsume(1, INTERVAL, 3, 0);
+        bucket.tryConsume(1, INTERVAL, 3, 0);
+        TokenBucket.Decision last = bucket.tryConsume(1, INTERVAL, 3, 0);
+        TokenBucket.Decision denied = bucket.tryConsume(1, INTERVAL, 3, 0);
+
+        // Then
+        assertTrue(first.isAllowed());
+        assertEquals(2, first.getRemaining());
+        assertEquals(INTERVAL, first.getResetNanos());
+        assertTrue(last.isAllowed());
+        assertEquals(0, last.getRemaining());
+        assertEquals(3 * INTERVAL, last.getResetNanos());
+        assertFalse(denied.isAllowed());
+        assertEquals(0, denied.getRemaining());
+        assertEquals(3 * INTERVAL, denied.getResetNanos());
+        assertEquals(INTERVAL, denied.getRetryAfterNanos());
+    }
+
+    @Test
+    void tryConsume_ShouldRefillOneTokenPerInterval() {
+        // Given
+        TokenBucket bucket = new TokenBucket(0);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryConsume(1, INTERVAL, 3, 0);
+        }
+
+        // When
+        TokenBucket.Decision early = bucket.tryConsume(1, INTERVAL, 3, INTERVAL / 2);
+        TokenBucket.Decision refilled = bucket.tryConsume(1, INTERVAL, 3, INTERVAL);
+
+        // Then
+        assertFalse(early.isAllowed());
+        assertEquals(INTERVAL / 2, early.getRetryAfterNanos());
+        assertTrue(refilled.isAllowed());
+        assertEquals(0, refilled.getRemaining());
+        assertEquals(0, bucket.tryConsume(1, INTERVAL, 3, 10 * INTERVAL).getRetryAfterNanos());
+    }
+
+    @Test
+    void tryConsume_ShouldNotBankTokensBeyondCapacity() {
+        // Given
+        TokenBucket bucket = new TokenBucket(0);
+
+        // When
+        TokenBucket.Decision decision = bucket.tryConsume(1, INTERVAL, 3, 100 * INTERVAL);
+
+        // Then
+        assertEquals(2, decision.getRemaining());
+        assertEquals(INTERVAL, bucket.nanosUntilFull(100 * INTERVAL));
+        assertEquals(0, bucket.nanosUntilFull(102 * INTERVAL));
+    }
+
+    @Test
+    void tryConsume_ShouldDenyRequestForMoreTokensThanAvailable() {
+        // Given
+        TokenBucket bucket = new TokenBucket(0);
+        bucket.tryConsume(2, INTERVAL, 3, 0);
+
+        // When
+        TokenBucket.Decision decision = bucket.tryConsume(2, INTERVAL, 3, 0);
+
+        // Then
+        assertFalse(decision.isAllowed());
+        assertEquals(1, decision.getRemaining());
+        assertEquals(INTERVAL, decision.getRetryAfterNanos());
+        assertEquals(2 * INTERVAL, bucket.nanosUntilFull(0));
+    }
+
+    @Test
+    void refund_ShouldReturnTakenTokens() {
+        // Given
+        TokenBucket bucket = new TokenBucket(0);
+        bucket.tryConsume(3, INTERVAL, 3, 0);
+
+        // When
+        bucket.refund(3, INTERVAL);
+
+        // Then
+        assertEquals(0, bucket.nanosUntilFull(0));
+        assertEquals(2, bucket.tryConsume(1, INTERVAL, 3, 0).getRemaining());
+    }
+}
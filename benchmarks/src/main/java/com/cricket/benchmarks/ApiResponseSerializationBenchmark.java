@@ -0,0 +1,59 @@
+package com.cricket.benchmarks;
+
+import com.cricket.common.dto.ApiResponse;
+import com.cricket.player.dto.PlayerDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Serializes the paged list response body the way the MVC message converter does for GET /api/players
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+    
+    @Param({"20", "100"})
+    private int pageSize;
+    
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<PlayerDTO>> response;
+    
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot's JacksonAutoConfiguration applies to the application's ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        List<PlayerDTO> players = BenchmarkPlayers.generate(pageSize);
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setId((long) i + 1);
+        }
+        response = ApiResponse.success(new PageImpl<>(players, PageRequest.of(0, pageSize), 10_000));
+    }
+    
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.cricket.benchmarks;
+
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.engine.InningsScorecard;
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.ExtraType;
+import com.cricket.match.model.MatchFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic ball-by-ball feed of a complete Test match: four all-out innings with a realistic mix of dot
+// balls, boundaries, extras and dismissals, and the striker rotating on odd runs
+public final class BenchmarkDeliveries {
+    
+    private BenchmarkDeliveries() {}
+    
+    public static BallEvent[] testMatch() {
+        Random random = new Random(42);
+        List<BallEvent> deliveries = new ArrayList<>();
+        long sequence = 0;
+        for (int innings = 1; innings <= MatchFormat.TEST.getMaxInnings(); innings++) {
+            long firstBatter = innings * 100L;
+            long striker = firstBatter;
+            long nonStriker = firstBatter + 1;
+            long nextBatter = firstBatter + 2;
+            int legalBalls = 0;
+            int wickets = 0;
+            while (wickets < InningsScorecard.MAX_WICKETS) {
+                long bowler = innings * 1000L + (legalBalls / 6) % 5;
+                int roll = random.nextInt(100);
+                BallEvent ball = new BallEvent().set(++sequence, innings, striker, nonStriker, bowler, 0);
+                if (roll < 3) {
+                    ball.extra(ExtraType.WIDE, 1);
+                } else if (roll < 5) {
+                    ball.setRuns(random.nextInt(3));
+                    ball.extra(ExtraType.NO_BALL, 1);
+                } else if (roll < 7) {
+                    ball.extra(ExtraType.LEG_BYE, 1);
+                } else if (roll < 9) {
+                    ball.wicket(roll == 7 ? DismissalType.CAUGHT : DismissalType.BOWLED, striker);
+                } else if (roll < 10) {
+                    ball.setRuns(1);
+                    ball.wicket(DismissalType.RUN_OUT, nonStriker);
+                } else if (roll < 20) {
+                    ball.setRuns(4);
+                    ball.setBoundary(true);
+                } else if (roll < 23) {
+                    ball.setRuns(6);
+                    ball.setBoundary(true);
+                } else if (roll < 60) {
+                    ball.setRuns(1 + random.nextInt(3));
+                }
+                deliveries.add(ball);
+                
+                if (ball.getExtraType().isLegalDelivery()) {
+                    legalBalls++;
+                }
+                if (ball.getDismissal() != DismissalType.NONE) {
+                    wickets++;
+                    if (ball.getDismissedId() == striker) {
+                        striker = nextBatter++;
+                    } else {
+                        nonStriker = nextBatter++;
+                    }
+                } else if ((ball.getRuns() + (ball.getExtraType() == ExtraType.LEG_BYE ? 1 : 0)) % 2 == 1) {
+                    long swap = striker;
+                    striker = nonStriker;
+                    nonStriker = swap;
+                }
+            }
+        }
+        return deliveries.toArray(new BallEvent[0]);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.cricket.benchmarks;
+
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.model.BattingStyle;
+import com.cricket.player.model.BowlingStyle;
+import com.cricket.player.model.PlayingRole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic synthetic roster so runs on different machines and commits measure the same data
+public final class BenchmarkPlayers {
+    
+    static final String[] COUNTRIES = {
+            "India", "Australia", "England", "New Zealand", "South Africa", "Pakistan", "Sri Lanka", "West Indies"
+    };
+    
+    private static final String[] SYLLABLES = {
+            "ra", "vi", "ka", "sh", "ma", "ne", "jo", "ro", "ti", "la", "de", "su", "an", "kh", "pa", "wi", "li", "am"
+    };
+    
+    private BenchmarkPlayers() {}
+    
+    public static List<PlayerDTO> generate(int count) {
+        Random random = new Random(42);
+        List<PlayerDTO> players = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            PlayerDTO player = new PlayerDTO();
+            player.setFirstName(name(random));
+            player.setLastName(name(random));
+            player.setCountry(COUNTRIES[random.nextInt(COUNTRIES.length)]);
+            player.setDateOfBirth(LocalDate.of(1975 + random.nextInt(30), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            player.setPlayingRole(PlayingRole.values()[random.nextInt(PlayingRole.values().length)]);
+            player.setBattingStyle(BattingStyle.values()[random.nextInt(BattingStyle.values().length)]);
+            player.setBowlingStyle(BowlingStyle.values()[random.nextInt(BowlingStyle.values().length)]);
+            player.setJerseyNumber(1 + random.nextInt(99));
+            player.setIsActive(random.nextInt(10) != 0);
+            players.add(player);
+        }
+        return players;
+    }
+    
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.cricket.benchmarks;
+
+import com.cricket.common.dto.ApiResponse;
+import com.cricket.player.dto.PlayerDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Encodes and decodes the GET /api/players page in each format player-service negotiates, with mappers set up as
+// BinaryEncodingConfig does. Payload sizes are printed once per trial, next to the JSON size.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryEncodingBenchmark {
+    
+    @Param({"json", "cbor", "smile"})
+    private String format;
+    
+    @Param({"20", "100"})
+    private int pageSize;
+    
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<PlayerDTO>> response;
+    private byte[] payload;
+    
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = mapper(format);
+        List<PlayerDTO> players = BenchmarkPlayers.generate(pageSize);
+        for (int i = 0; i < players.size(); i++) {
+            players.get(i).setId((long) i + 1);
+        }
+        response = ApiResponse.success(new PageImpl<>(players, PageRequest.of(0, pageSize), 10_000));
+        payload = objectMapper.writeValueAsBytes(response);
+        int jsonSize = mapper("json").writeValueAsBytes(response).length;
+        System.out.printf("%n%s payload for %d players: %d bytes (%.0f%% of JSON)%n",
+                format, pageSize, payload.length, 100.0 * payload.length / jsonSize);
+    }
+    
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+    
+    // What a client (or a service calling player-service) pays to read the response back
+    @Benchmark
+    public JsonNode deserializePage() throws IOException {
+        return objectMapper.readTree(payload);
+    }
+    
+    private static ObjectMapper mapper(String format) {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
\ No newline at end of file
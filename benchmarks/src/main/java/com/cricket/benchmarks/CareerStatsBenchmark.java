@@ -0,0 +1,90 @@
+package com.cricket.benchmarks;
+
+import com.cricket.statistics.store.BattingColumns;
+import com.cricket.statistics.store.BattingTotals;
+import com.cricket.statistics.store.PlayerDimension;
+import com.cricket.statistics.store.PlayerGroups;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Career batting aggregation over the statistics-service column store: a filtered leaderboard scan grouping every
+// matching player, and a single player's career, both over inningsRows rows with a date range filter applied
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CareerStatsBenchmark {
+    
+    private static final int PLAYERS = 20_000;
+    private static final int FIRST_DAY = 14_000;
+    private static final int DAYS = 8_000;
+    
+    @Param({"1000000", "5000000"})
+    private int inningsRows;
+    
+    @Param({"0"})
+    private int parallelism;
+    
+    private ForkJoinPool pool;
+    private BattingColumns batting;
+    private PlayerDimension dimension;
+    private int leafRows;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        leafRows = Math.max(65_536, inningsRows / (pool.getParallelism() * 2) + 1);
+        dimension = new PlayerDimension();
+        for (long playerId = 1; playerId <= PLAYERS; playerId++) {
+            dimension.update(playerId, BenchmarkPlayers.COUNTRIES[(int) (playerId % BenchmarkPlayers.COUNTRIES.length)],
+                    playerId % 3 == 0 ? "BOWLER" : "BATSMAN", playerId % 3 == 0 ? "RIGHT_ARM_FAST" : null);
+        }
+        batting = new BattingColumns();
+        Random random = new Random(42);
+        for (int row = 0; row < inningsRows; row++) {
+            int runs = random.nextInt(10) == 0 ? 50 + random.nextInt(100) : random.nextInt(50);
+            batting.append(random.nextInt(PLAYERS), FIRST_DAY + random.nextInt(DAYS), runs, runs + random.nextInt(40),
+                    runs / 15, runs / 40, random.nextInt(7) == 0);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+    
+    @Benchmark
+    public BattingTotals countryLeaderboard() {
+        PlayerGroups groups = dimension.select("India", "BATSMAN", null);
+        return pool.invoke(batting.scan(groups, FIRST_DAY + DAYS / 4, FIRST_DAY + DAYS, leafRows));
+    }
+    
+    @Benchmark
+    public BattingTotals allPlayers() {
+        PlayerGroups groups = dimension.select(null, null, null);
+        return pool.invoke(batting.scan(groups, Integer.MIN_VALUE, Integer.MAX_VALUE, leafRows));
+    }
+    
+    @Benchmark
+    public BattingTotals playerCareer() {
+        PlayerGroups groups = dimension.selectOne(4_242L);
+        return pool.invoke(batting.scan(groups, Integer.MIN_VALUE, Integer.MAX_VALUE, leafRows));
+    }
+}
\ No newline at end of file
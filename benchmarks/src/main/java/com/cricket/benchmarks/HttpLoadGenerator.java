@@ -0,0 +1,141 @@
+package com.cricket.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Closed-loop HTTP load against the PlayerController read endpoints: `concurrency` clients each issue a request,
+// wait for the response and immediately send the next, for the given duration. Used by
+// scripts/thread-mode-load-test.sh to compare player-service on platform threads and on virtual threads.
+//
+// Usage: HttpLoadGenerator <base-url> <label> <concurrency> <duration-seconds> <player-count> [result-file]
+public final class HttpLoadGenerator {
+    
+    private static final String[] SEARCH_TERMS = {"ra", "vi", "sha", "kal", "ne"};
+    
+    private HttpLoadGenerator() {}
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("Usage: HttpLoadGenerator <base-url> <label> <concurrency> <duration-seconds> <player-count> [result-file]");
+            System.exit(2);
+        }
+        String baseUrl = args[0];
+        String label = args[1];
+        int concurrency = Integer.parseInt(args[2]);
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(args[3]));
+        int playerCount = Integer.parseInt(args[4]);
+        
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(4))
+                .build();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        long deadline = System.nanoTime() + durationNanos;
+        
+        List<Future<long[]>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(clients.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + nextPath(playerCount)))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET()
+                            .build();
+                    long start = System.nanoTime();
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else if (status >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException ex) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - start;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+        
+        long[] all = new long[0];
+        for (Future<long[]> worker : workers) {
+            long[] latencies = worker.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+        }
+        clients.shutdown();
+        Arrays.sort(all);
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("label", label);
+        result.put("concurrency", concurrency);
+        result.put("requests", all.length);
+        result.put("errors", errors.get());
+        result.put("rejected", rejected.get());
+        result.put("throughputPerSec", Math.round(all.length / (durationNanos / 1e9)));
+        result.put("p50Ms", percentileMs(all, 0.50));
+        result.put("p95Ms", percentileMs(all, 0.95));
+        result.put("p99Ms", percentileMs(all, 0.99));
+        result.put("maxMs", all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+        
+        String json = new ObjectMapper().writeValueAsString(result);
+        System.out.println(json);
+        if (args.length > 5) {
+            Files.writeString(Path.of(args[5]), json + System.lineSeparator(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        System.exit(0);
+    }
+    
+    // Mix of the read endpoints: by id, paged list, filtered list and name search
+    private static String nextPath(int playerCount) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (random.nextInt(4)) {
+            case 0:
+                return "/api/players/" + (1 + random.nextInt(playerCount));
+            case 1:
+                return "/api/players?page=" + random.nextInt(50) + "&size=20";
+            case 2:
+                String country = BenchmarkPlayers.COUNTRIES[random.nextInt(BenchmarkPlayers.COUNTRIES.length)];
+                return "/api/players?country=" + country.replace(" ", "%20") + "&isActive=true&size=20";
+            default:
+                return "/api/players/search?name=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)] + "&limit=20";
+        }
+    }
+    
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return Math.round(sorted[Math.max(index, 0)] / 1e4) / 100.0;
+    }
+}
\ No newline at end of file
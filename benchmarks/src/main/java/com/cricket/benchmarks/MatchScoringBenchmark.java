@@ -0,0 +1,98 @@
+package com.cricket.benchmarks;
+
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.engine.MatchScorer;
+import com.cricket.match.engine.MatchSnapshot;
+import com.cricket.match.model.MatchFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Live scoring ingest in deliveries per second. Each op applies one delivery; matches are fed round-robin, each
+// replaying a full Test match and starting over from a reset. Run with -prof gc to confirm ingest allocates
+// nothing per op; the ingestWithReaders group shows ingest throughput with scorecards being read concurrently.
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchScoringBenchmark {
+    
+    @Param({"1", "100"})
+    private int matchCount;
+    
+    private BallEvent[] deliveries;
+    private MatchScorer[] scorers;
+    private int[] positions;
+    private int nextMatch;
+    
+    @Setup
+    public void setUp() {
+        deliveries = BenchmarkDeliveries.testMatch();
+        scorers = new MatchScorer[matchCount];
+        positions = new int[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            scorers[i] = new MatchScorer(MatchFormat.TEST);
+        }
+    }
+    
+    @Benchmark
+    @Group("ingest")
+    public boolean ingest() {
+        return applyNext();
+    }
+    
+    @Benchmark
+    @Group("ingestWithReaders")
+    @GroupThreads(1)
+    public boolean ingestWhileRead() {
+        return applyNext();
+    }
+    
+    @Benchmark
+    @Group("ingestWithReaders")
+    @GroupThreads(2)
+    public long readScorecard(ReaderState reader) {
+        MatchScorer scorer = scorers[reader.nextMatch(scorers.length)];
+        scorer.snapshot(reader.snapshot);
+        return reader.snapshot.getLastSequence();
+    }
+    
+    private boolean applyNext() {
+        int match = nextMatch;
+        nextMatch = match + 1 == matchCount ? 0 : match + 1;
+        int position = positions[match];
+        if (position == deliveries.length) {
+            scorers[match].reset();
+            position = 0;
+        }
+        positions[match] = position + 1;
+        return scorers[match].apply(deliveries[position]);
+    }
+    
+    @State(Scope.Thread)
+    public static class ReaderState {
+        
+        private final MatchSnapshot snapshot = new MatchSnapshot(MatchFormat.TEST);
+        private int next;
+        
+        int nextMatch(int matchCount) {
+            int match = next;
+            next = match + 1 >= matchCount ? 0 : match + 1;
+            return match;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.cricket.benchmarks;
+
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.model.Player;
+import com.cricket.player.service.PlayerMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerMapperBenchmark {
+    
+    private PlayerDTO playerDTO;
+    private Player player;
+    private Player target;
+    
+    @Setup
+    public void setUp() {
+        playerDTO = BenchmarkPlayers.generate(1).get(0);
+        player = PlayerMapper.convertToEntity(playerDTO);
+        player.setId(1L);
+        target = new Player();
+    }
+    
+    @Benchmark
+    public PlayerDTO convertToDTO() {
+        return PlayerMapper.convertToDTO(player);
+    }
+    
+    @Benchmark
+    public Player convertToEntity() {
+        return PlayerMapper.convertToEntity(playerDTO);
+    }
+    
+    @Benchmark
+    public Player updatePlayerFields() {
+        PlayerMapper.updatePlayerFields(target, playerDTO);
+        return target;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.cricket.benchmarks;
+
+import com.cricket.player.model.Player;
+import com.cricket.player.model.PlayingRole;
+import com.cricket.player.repository.PlayerRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Each query runs in a read-only transaction, as it does when called from PlayerService
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlayerRepositoryBenchmark {
+    
+    @Param({"1000", "10000"})
+    private int playerCount;
+    
+    private ConfigurableApplicationContext context;
+    private PlayerRepository playerRepository;
+    private TransactionTemplate readOnly;
+    
+    @Setup
+    public void setUp() {
+        context = PlayerServiceContext.start(playerCount);
+        playerRepository = context.getBean(PlayerRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Page<Player> findPlayersWithFilters() {
+        return readOnly.execute(status -> playerRepository.findPlayersWithFilters(
+                "India", PlayingRole.BATSMAN, true, PageRequest.of(0, 20)));
+    }
+    
+    @Benchmark
+    public List<Player> findByNameContaining() {
+        return readOnly.execute(status -> playerRepository.findByNameContaining("rav"));
+    }
+    
+    @Benchmark
+    public Long countByCountry() {
+        return readOnly.execute(status -> playerRepository.countByCountry("India"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.cricket.benchmarks;
+
+import com.cricket.player.PlayerServiceApplication;
+import com.cricket.player.dto.BulkImportResult;
+import com.cricket.player.dto.BulkImportRow;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.service.PlayerBulkImportService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Boots player-service without the web server or discovery client against a private H2 database and
+// seeds it through the bulk import path, so repository benchmarks run on the production mappings and settings.
+public final class PlayerServiceContext {
+    
+    private PlayerServiceContext() {}
+    
+    public static ConfigurableApplicationContext start(int playerCount) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(PlayerServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                // Passed as arguments rather than default properties so they override application.yml
+                .run("--eureka.client.enabled=false",
+                        "--spring.cloud.discovery.enabled=false",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmarks-" + playerCount,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--player.outbox.relay.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.cricket=WARN");
+        
+        List<PlayerDTO> players = BenchmarkPlayers.generate(playerCount);
+        BulkImportResult result = context.getBean(PlayerBulkImportService.class).importPlayers(
+                IntStream.range(0, players.size())
+                        .mapToObj(index -> BulkImportRow.of(index, players.get(index)))
+                        .iterator());
+        if (result.getFailed() > 0) {
+            context.close();
+            throw new IllegalStateException("Seeding failed for " + result.getFailed() + " of " + playerCount + " players");
+        }
+        return context;
+    }
+}
\ No newline at end of file
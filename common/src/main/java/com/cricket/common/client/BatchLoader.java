@@ -0,0 +1,111 @@
+package com.cricket.common.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Collects single-key lookups made within a short window into one call of a batch function, e.g. many
+// player lookups into one GET /api/players?ids=... Keys requested more than once in a window share one
+// future. A batch goes out as soon as it holds maxBatchSize keys, otherwise when the window closes.
+// Keys the batch function leaves out of its result complete with null; if it throws, every future in the
+// batch completes exceptionally. The batch function runs on the scheduler's thread, or on the caller's
+// thread for a batch filled by that caller.
+public class BatchLoader<K, V> {
+    
+    private final Function<List<K>, Map<K, V>> batchFunction;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    
+    public BatchLoader(Function<List<K>, Map<K, V>> batchFunction, Duration window, int maxBatchSize,
+                       ScheduledExecutorService scheduler) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+        this.batchFunction = batchFunction;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+    }
+    
+    public CompletableFuture<V> load(K key) {
+        Map<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        synchronized (lock) {
+            future = enqueue(key);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+    
+    // Results keyed as requested; keys with no value map to null
+    public CompletableFuture<Map<K, V>> loadMany(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        for (K key : keys) {
+            futures.computeIfAbsent(key, this::load);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<K, V> results = new LinkedHashMap<>();
+            futures.forEach((key, future) -> results.put(key, future.join()));
+            return results;
+        });
+    }
+    
+    // Starts the window with the first key of a new batch. Called with lock held.
+    private CompletableFuture<V> enqueue(K key) {
+        CompletableFuture<V> existing = pending.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (pending.isEmpty()) {
+            Map<K, CompletableFuture<V>> batch = pending;
+            scheduler.schedule(() -> flush(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        CompletableFuture<V> future = new CompletableFuture<>();
+        pending.put(key, future);
+        return future;
+    }
+    
+    // A full batch is dispatched early, so the timer only fires the batch it was started for if it is still pending
+    private void flush(Map<K, CompletableFuture<V>> batch) {
+        synchronized (lock) {
+            if (pending != batch || batch.isEmpty()) {
+                return;
+            }
+            takePending();
+        }
+        dispatch(batch);
+    }
+    
+    private Map<K, CompletableFuture<V>> takePending() {
+        Map<K, CompletableFuture<V>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+    
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        Map<K, V> results;
+        try {
+            results = batchFunction.apply(new ArrayList<>(batch.keySet()));
+        } catch (RuntimeException ex) {
+            batch.values().forEach(future -> future.completeExceptionally(ex));
+            return;
+        }
+        batch.forEach((key, future) -> future.complete(results != null ? results.get(key) : null));
+    }
+}
\ No newline at end of file
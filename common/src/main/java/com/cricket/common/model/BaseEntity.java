@@ -6,8 +6,9 @@ import java.time.LocalDateTime;
 @MappedSuperclass
 public abstract class BaseEntity {
     
+    // Pooled sequence allocation (one <entity>_seq per table) lets Hibernate batch inserts; IDENTITY cannot.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
     
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -16,15 +17,36 @@ public abstract class BaseEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Optimistic lock: Hibernate adds "AND version = ?" to entity updates, and bulk UPDATE statements bump it explicitly
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+    
+    @Transient
+    private final boolean jvmClockTimestamps;
+    
+    protected BaseEntity() {
+        this(true);
+    }
+    
+    // Entities whose writers stamp createdAt and updatedAt themselves pass false to skip the JVM-clock callbacks
+    protected BaseEntity(boolean jvmClockTimestamps) {
+        this.jvmClockTimestamps = jvmClockTimestamps;
+    }
+    
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        if (jvmClockTimestamps) {
+            createdAt = LocalDateTime.now();
+            updatedAt = LocalDateTime.now();
+        }
     }
     
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        if (jvmClockTimestamps) {
+            updatedAt = LocalDateTime.now();
+        }
     }
     
     // Getters and Setters
@@ -51,4 +73,12 @@ public abstract class BaseEntity {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.cricket.common.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchLoaderTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<List<Long>> calls = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void load_ShouldCombineLookupsWithinWindowIntoOneCall() throws Exception {
+        BatchLoader<Long, String> loader = new BatchLoader<>(recording(ids -> ids.stream()
+                .filter(id -> id != 9L)
+                .collect(Collectors.toMap(Function.identity(), id -> "player-" + id))),
+                Duration.ofMillis(50), 100, scheduler);
+
+        CompletableFuture<String> first = loader.load(1L);
+        CompletableFuture<String> second = loader.load(2L);
+        CompletableFuture<String> repeat = loader.load(1L);
+        CompletableFuture<String> missing = loader.load(9L);
+
+        assertEquals("player-1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("player-2", second.get(1, TimeUnit.SECONDS));
+        assertSame(first, repeat);
+        assertNull(missing.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1L, 2L, 9L)), calls);
+    }
+
+    @Test
+    void load_ShouldDispatchFullBatchWithoutWaitingForWindow() throws Exception {
+        BatchLoader<Long, String> loader = new BatchLoader<>(recording(ids -> ids.stream()
+                .collect(Collectors.toMap(Function.identity(), String::valueOf))),
+                Duration.ofMinutes(1), 2, scheduler);
+
+        Map<Long, String> result = loader.loadMany(List.of(1L, 2L)).get(1, TimeUnit.SECONDS);
+
+        assertEquals(Map.of(1L, "1", 2L, "2"), result);
+        assertEquals(List.of(List.of(1L, 2L)), calls);
+    }
+
+    @Test
+    void load_ShouldFailEveryLookupInBatch_WhenBatchFunctionThrows() {
+        BatchLoader<Long, String> loader = new BatchLoader<>(recording(ids -> {
+            throw new IllegalStateException("player-service unavailable");
+        }), Duration.ofMillis(10), 100, scheduler);
+
+        CompletableFuture<String> first = loader.load(1L);
+        CompletableFuture<String> second = loader.load(2L);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, calls.size());
+    }
+
+    private Function<List<Long>, Map<Long, String>> recording(Function<List<Long>, Map<Long, String>> batchFunction) {
+        return ids -> {
+            calls.add(List.copyOf(ids));
+            return batchFunction.apply(ids);
+        };
+    }
+}
@@ -21,4 +21,33 @@ INSERT INTO players (first_name, last_name, date_of_birth, country, playing_role
 ('Kane', 'Williamson', '1990-08-08', 'New Zealand', 'BATSMAN', 'RIGHT_HANDED', 'RIGHT_ARM_MEDIUM', 22, true, NOW(), NOW()),
 ('Joe', 'Root', '1990-12-30', 'England', 'BATSMAN', 'RIGHT_HANDED', 'RIGHT_ARM_SPIN', 66, true, NOW(), NOW()),
 ('Steve', 'Smith', '1989-06-02', 'Australia', 'BATSMAN', 'RIGHT_HANDED', 'LEG_SPIN', 49, true, NOW(), NOW());
-*/
\ No newline at end of file
+*/
+
+-- Player ids are allocated from the pooled sequence players_seq (Hibernate's <table>_seq, increment 50) so that
+-- inserts can be JDBC-batched. Databases created while ids were IDENTITY-generated must move the sequence past
+-- the existing rows once before deploying:
+/*
+CREATE SEQUENCE IF NOT EXISTS players_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('players_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM players));
+ALTER TABLE players ALTER COLUMN id DROP IDENTITY IF EXISTS;
+*/
+
+-- Optimistic locking column added to every entity table; existing databases need it backfilled before deploying:
+/*
+ALTER TABLE players ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+*/
+
+-- Change feed keyset index (ddl-auto=update adds it; schemas managed by hand need it created). Rows loaded outside
+-- the application may lack updated_at and would never appear in the feed:
+/*
+CREATE INDEX IF NOT EXISTS idx_players_updated_at_id ON players (updated_at, id);
+UPDATE players SET updated_at = created_at WHERE updated_at IS NULL;
+*/
+
+-- Trigram index backing name search when player-service runs with player.search.backend=postgres
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+-- Run once the players table exists (Hibernate creates it on first start):
+/*
+CREATE INDEX IF NOT EXISTS idx_players_name_trgm ON players
+    USING gin (LOWER(first_name || ' ' || last_name) gin_trgm_ops);
+*/
@@ -0,0 +1,14 @@
+package com.cricket.match;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+
+@SpringBootApplication(scanBasePackages = {"com.cricket.match", "com.cricket.common"})
+@EnableDiscoveryClient
+public class MatchServiceApplication {
+    
+    public static void main(String[] args) {
+        SpringApplication.run(MatchServiceApplication.class, args);
+    }
+}
\ No newline at end of file
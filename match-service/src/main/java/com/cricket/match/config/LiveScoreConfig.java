@@ -0,0 +1,25 @@
+package com.cricket.match.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableScheduling
+public class LiveScoreConfig {
+    
+    // Writes to live feeds. Each subscriber has at most one drain task queued, so the queue is bounded by the
+    // number of subscribers; a write to a client that stopped reading blocks one thread for at most the Tomcat
+    // connection timeout.
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService liveScoreSender(@Value("${match.live.sender-threads:8}") int threads) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("live-sender-");
+        threadFactory.setDaemon(true);
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.cricket.match.controller;
+
+import com.cricket.common.dto.ApiResponse;
+import com.cricket.common.exception.ResourceNotFoundException;
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.dto.CreateMatchRequest;
+import com.cricket.match.dto.IngestResult;
+import com.cricket.match.dto.MatchSummaryDTO;
+import com.cricket.match.dto.ScorecardDTO;
+import com.cricket.match.service.MatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/matches")
+@Tag(name = "Match Scoring", description = "APIs for matches and live ball-by-ball scoring")
+public class MatchController {
+    
+    private final MatchService matchService;
+    
+    @Autowired
+    public MatchController(MatchService matchService) {
+        this.matchService = matchService;
+    }
+    
+    @PostMapping
+    @Operation(summary = "Create a match", description = "Create a match ready to receive deliveries")
+    public ResponseEntity<ApiResponse<MatchSummaryDTO>> createMatch(@Valid @RequestBody CreateMatchRequest request) {
+        MatchSummaryDTO match = matchService.createMatch(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Match created successfully", match));
+    }
+    
+    @GetMapping
+    @Operation(summary = "Get all matches", description = "Retrieve every match with its innings totals")
+    public ResponseEntity<ApiResponse<List<MatchSummaryDTO>>> getAllMatches() {
+        return ResponseEntity.ok(ApiResponse.success(matchService.getAllMatches()));
+    }
+    
+    @GetMapping("/{id}")
+    @Operation(summary = "Get match by ID", description = "Retrieve a match with its innings totals")
+    public ResponseEntity<ApiResponse<MatchSummaryDTO>> getMatch(
+            @Parameter(description = "Match ID") @PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success(matchService.getMatch(id)));
+    }
+    
+    @PostMapping("/{id}/deliveries")
+    @Operation(summary = "Record deliveries", description = "Apply ball events in sequence order; already applied sequence numbers are skipped")
+    public ResponseEntity<ApiResponse<IngestResult>> recordDeliveries(
+            @Parameter(description = "Match ID") @PathVariable Long id,
+            @RequestBody List<BallEvent> balls) {
+        IngestResult result = matchService.recordDeliveries(id, balls);
+        return ResponseEntity.ok(ApiResponse.success("Deliveries recorded", result));
+    }
+    
+    @GetMapping("/{id}/innings/{innings}/scorecard")
+    @Operation(summary = "Get innings scorecard", description = "Batting and bowling figures, partnerships and fall of wickets of one innings")
+    public ResponseEntity<ApiResponse<ScorecardDTO>> getScorecard(
+            @Parameter(description = "Match ID") @PathVariable Long id,
+            @Parameter(description = "Innings number, from 1") @PathVariable int innings) {
+        return ResponseEntity.ok(ApiResponse.success(matchService.getScorecard(id, innings)));
+    }
+    
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Follow a match live", description = "Server-sent events: the match score, then a delivery event per ball and a score event after each batch. Reconnect with Last-Event-ID to resume")
+    public ResponseEntity<SseEmitter> followMatch(
+            @Parameter(description = "Match ID") @PathVariable Long id,
+            @Parameter(description = "Id of the last event received, sent by EventSource on reconnect") @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter;
+        try {
+            emitter = matchService.followMatch(id, lastEventId);
+        } catch (ResourceNotFoundException ex) {
+            // EventSource only accepts text/event-stream, so the JSON error body could not be written; the status is enough
+            return ResponseEntity.notFound().build();
+        }
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+    
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a match", description = "Drop a match and its scorecards")
+    public ResponseEntity<ApiResponse<Void>> deleteMatch(
+            @Parameter(description = "Match ID") @PathVariable Long id) {
+        matchService.deleteMatch(id);
+        return ResponseEntity.ok(ApiResponse.success("Match deleted successfully", null));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.cricket.match.dto;
+
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.ExtraType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+// One delivery as reported by the scorer's feed. sequence numbers the deliveries of a match from 1 so redelivered
+// events are ignored and gaps are rejected. extraRuns is the whole extra, e.g. 1 for a wide, 5 for a wide that
+// ran away for four. The engine only reads primitives and enum constants from it, so one instance can be reused.
+public class BallEvent {
+    
+    @Positive(message = "Sequence must be positive")
+    private long sequence;
+    
+    @Min(value = 1, message = "Innings must be at least 1")
+    @Max(value = 4, message = "Innings must be at most 4")
+    private int innings;
+    
+    @Positive(message = "Striker id is required")
+    private long strikerId;
+    
+    @Positive(message = "Non-striker id is required")
+    private long nonStrikerId;
+    
+    @Positive(message = "Bowler id is required")
+    private long bowlerId;
+    
+    @Min(value = 0, message = "Runs cannot be negative")
+    @Max(value = 7, message = "Runs cannot exceed 7")
+    private int runs;
+    
+    private boolean boundary;
+    
+    @NotNull(message = "Extra type is required")
+    private ExtraType extraType = ExtraType.NONE;
+    
+    @Min(value = 0, message = "Extra runs cannot be negative")
+    private int extraRuns;
+    
+    @NotNull(message = "Dismissal type is required")
+    private DismissalType dismissal = DismissalType.NONE;
+    
+    private long dismissedId;
+    
+    // Constructors
+    public BallEvent() {}
+    
+    public BallEvent set(long sequence, int innings, long strikerId, long nonStrikerId, long bowlerId, int runs) {
+        this.sequence = sequence;
+        this.innings = innings;
+        this.strikerId = strikerId;
+        this.nonStrikerId = nonStrikerId;
+        this.bowlerId = bowlerId;
+        this.runs = runs;
+        this.boundary = runs == 4 || runs == 6;
+        this.extraType = ExtraType.NONE;
+        this.extraRuns = 0;
+        this.dismissal = DismissalType.NONE;
+        this.dismissedId = 0;
+        return this;
+    }
+    
+    public BallEvent extra(ExtraType extraType, int extraRuns) {
+        this.extraType = extraType;
+        this.extraRuns = extraRuns;
+        return this;
+    }
+    
+    public BallEvent wicket(DismissalType dismissal, long dismissedId) {
+        this.dismissal = dismissal;
+        this.dismissedId = dismissedId;
+        return this;
+    }
+    
+    // Getters and Setters
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    
+    public int getInnings() {
+        return innings;
+    }
+    
+    public void setInnings(int innings) {
+        this.innings = innings;
+    }
+    
+    public long getStrikerId() {
+        return strikerId;
+    }
+    
+    public void setStrikerId(long strikerId) {
+        this.strikerId = strikerId;
+    }
+    
+    public long getNonStrikerId() {
+        return nonStrikerId;
+    }
+    
+    public void setNonStrikerId(long nonStrikerId) {
+        this.nonStrikerId = nonStrikerId;
+    }
+    
+    public long getBowlerId() {
+        return bowlerId;
+    }
+    
+    public void setBowlerId(long bowlerId) {
+        this.bowlerId = bowlerId;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public boolean isBoundary() {
+        return boundary;
+    }
+    
+    public void setBoundary(boolean boundary) {
+        this.boundary = boundary;
+    }
+    
+    public ExtraType getExtraType() {
+        return extraType;
+    }
+    
+    public void setExtraType(ExtraType extraType) {
+        this.extraType = extraType;
+    }
+    
+    public int getExtraRuns() {
+        return extraRuns;
+    }
+    
+    public void setExtraRuns(int extraRuns) {
+        this.extraRuns = extraRuns;
+    }
+    
+    public DismissalType getDismissal() {
+        return dismissal;
+    }
+    
+    public void setDismissal(DismissalType dismissal) {
+        this.dismissal = dismissal;
+    }
+    
+    public long getDismissedId() {
+        return dismissedId;
+    }
+    
+    public void setDismissedId(long dismissedId) {
+        this.dismissedId = dismissedId;
+    }
+}
\ No newline at end of file
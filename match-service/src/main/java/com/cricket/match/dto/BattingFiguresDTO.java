@@ -0,0 +1,82 @@
+package com.cricket.match.dto;
+
+import com.cricket.match.model.DismissalType;
+
+public class BattingFiguresDTO {
+    private long playerId;
+    private int runs;
+    private int balls;
+    private int fours;
+    private int sixes;
+    private double strikeRate;
+    private DismissalType dismissal;
+    private Long bowlerId;
+    
+    // Constructors
+    public BattingFiguresDTO() {}
+    
+    // Getters and Setters
+    public long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getBalls() {
+        return balls;
+    }
+    
+    public void setBalls(int balls) {
+        this.balls = balls;
+    }
+    
+    public int getFours() {
+        return fours;
+    }
+    
+    public void setFours(int fours) {
+        this.fours = fours;
+    }
+    
+    public int getSixes() {
+        return sixes;
+    }
+    
+    public void setSixes(int sixes) {
+        this.sixes = sixes;
+    }
+    
+    public double getStrikeRate() {
+        return strikeRate;
+    }
+    
+    public void setStrikeRate(double strikeRate) {
+        this.strikeRate = strikeRate;
+    }
+    
+    public DismissalType getDismissal() {
+        return dismissal;
+    }
+    
+    public void setDismissal(DismissalType dismissal) {
+        this.dismissal = dismissal;
+    }
+    
+    public Long getBowlerId() {
+        return bowlerId;
+    }
+    
+    public void setBowlerId(Long bowlerId) {
+        this.bowlerId = bowlerId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.cricket.match.dto;
+
+public class BowlingFiguresDTO {
+    private long playerId;
+    private String overs;
+    private int maidens;
+    private int runs;
+    private int wickets;
+    private double economy;
+    private int wides;
+    private int noBalls;
+    
+    // Constructors
+    public BowlingFiguresDTO() {}
+    
+    // Getters and Setters
+    public long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public String getOvers() {
+        return overs;
+    }
+    
+    public void setOvers(String overs) {
+        this.overs = overs;
+    }
+    
+    public int getMaidens() {
+        return maidens;
+    }
+    
+    public void setMaidens(int maidens) {
+        this.maidens = maidens;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getWickets() {
+        return wickets;
+    }
+    
+    public void setWickets(int wickets) {
+        this.wickets = wickets;
+    }
+    
+    public double getEconomy() {
+        return economy;
+    }
+    
+    public void setEconomy(double economy) {
+        this.economy = economy;
+    }
+    
+    public int getWides() {
+        return wides;
+    }
+    
+    public void setWides(int wides) {
+        this.wides = wides;
+    }
+    
+    public int getNoBalls() {
+        return noBalls;
+    }
+    
+    public void setNoBalls(int noBalls) {
+        this.noBalls = noBalls;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.cricket.match.dto;
+
+import com.cricket.match.model.MatchFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public class CreateMatchRequest {
+    
+    @NotBlank(message = "Home team is required")
+    @Size(max = 100, message = "Home team must be at most 100 characters")
+    private String homeTeam;
+    
+    @NotBlank(message = "Away team is required")
+    @Size(max = 100, message = "Away team must be at most 100 characters")
+    private String awayTeam;
+    
+    @Size(max = 100, message = "Venue must be at most 100 characters")
+    private String venue;
+    
+    @NotNull(message = "Format is required")
+    private MatchFormat format;
+    
+    // Constructors
+    public CreateMatchRequest() {}
+    
+    // Getters and Setters
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+    
+    public void setHomeTeam(String homeTeam) {
+        this.homeTeam = homeTeam;
+    }
+    
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+    
+    public void setAwayTeam(String awayTeam) {
+        this.awayTeam = awayTeam;
+    }
+    
+    public String getVenue() {
+        return venue;
+    }
+    
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+    
+    public MatchFormat getFormat() {
+        return format;
+    }
+    
+    public void setFormat(MatchFormat format) {
+        this.format = format;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.cricket.match.dto;
+
+public class ExtrasDTO {
+    private int total;
+    private int wides;
+    private int noBalls;
+    private int byes;
+    private int legByes;
+    private int penalties;
+    
+    // Constructors
+    public ExtrasDTO() {}
+    
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public int getWides() {
+        return wides;
+    }
+    
+    public void setWides(int wides) {
+        this.wides = wides;
+    }
+    
+    public int getNoBalls() {
+        return noBalls;
+    }
+    
+    public void setNoBalls(int noBalls) {
+        this.noBalls = noBalls;
+    }
+    
+    public int getByes() {
+        return byes;
+    }
+    
+    public void setByes(int byes) {
+        this.byes = byes;
+    }
+    
+    public int getLegByes() {
+        return legByes;
+    }
+    
+    public void setLegByes(int legByes) {
+        this.legByes = legByes;
+    }
+    
+    public int getPenalties() {
+        return penalties;
+    }
+    
+    public void setPenalties(int penalties) {
+        this.penalties = penalties;
+    }
+}
\ No newline at end of file
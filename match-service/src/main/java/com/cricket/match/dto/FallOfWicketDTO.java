@@ -0,0 +1,51 @@
+package com.cricket.match.dto;
+
+public class FallOfWicketDTO {
+    private int wicket;
+    private int runs;
+    private String overs;
+    private long playerId;
+    
+    // Constructors
+    public FallOfWicketDTO() {}
+    
+    public FallOfWicketDTO(int wicket, int runs, String overs, long playerId) {
+        this.wicket = wicket;
+        this.runs = runs;
+        this.overs = overs;
+        this.playerId = playerId;
+    }
+    
+    // Getters and Setters
+    public int getWicket() {
+        return wicket;
+    }
+    
+    public void setWicket(int wicket) {
+        this.wicket = wicket;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public String getOvers() {
+        return overs;
+    }
+    
+    public void setOvers(String overs) {
+        this.overs = overs;
+    }
+    
+    public long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(long playerId) {
+        this.playerId = playerId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.cricket.match.dto;
+
+// Outcome of a batch of deliveries: redelivered sequence numbers are counted as duplicates, not errors
+public class IngestResult {
+    private int accepted;
+    private int duplicates;
+    private long lastSequence;
+    
+    // Constructors
+    public IngestResult() {}
+    
+    public IngestResult(int accepted, int duplicates, long lastSequence) {
+        this.accepted = accepted;
+        this.duplicates = duplicates;
+        this.lastSequence = lastSequence;
+    }
+    
+    // Getters and Setters
+    public int getAccepted() {
+        return accepted;
+    }
+    
+    public void setAccepted(int accepted) {
+        this.accepted = accepted;
+    }
+    
+    public int getDuplicates() {
+        return duplicates;
+    }
+    
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+    
+    public long getLastSequence() {
+        return lastSequence;
+    }
+    
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+}
\ No newline at end of file
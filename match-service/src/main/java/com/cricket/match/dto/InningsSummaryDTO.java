@@ -0,0 +1,61 @@
+package com.cricket.match.dto;
+
+public class InningsSummaryDTO {
+    private int innings;
+    private int runs;
+    private int wickets;
+    private String overs;
+    private boolean complete;
+    
+    // Constructors
+    public InningsSummaryDTO() {}
+    
+    public InningsSummaryDTO(int innings, int runs, int wickets, String overs, boolean complete) {
+        this.innings = innings;
+        this.runs = runs;
+        this.wickets = wickets;
+        this.overs = overs;
+        this.complete = complete;
+    }
+    
+    // Getters and Setters
+    public int getInnings() {
+        return innings;
+    }
+    
+    public void setInnings(int innings) {
+        this.innings = innings;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getWickets() {
+        return wickets;
+    }
+    
+    public void setWickets(int wickets) {
+        this.wickets = wickets;
+    }
+    
+    public String getOvers() {
+        return overs;
+    }
+    
+    public void setOvers(String overs) {
+        this.overs = overs;
+    }
+    
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.cricket.match.dto;
+
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.ExtraType;
+
+// A delivery as pushed to live subscribers, with the innings score after it
+public class LiveDeliveryDTO {
+    private Long matchId;
+    private long sequence;
+    private int innings;
+    private long strikerId;
+    private long nonStrikerId;
+    private long bowlerId;
+    private int runs;
+    private boolean boundary;
+    private ExtraType extraType;
+    private int extraRuns;
+    private DismissalType dismissal;
+    private long dismissedId;
+    private int inningsRuns;
+    private int inningsWickets;
+    private String overs;
+    
+    // Constructors
+    public LiveDeliveryDTO() {}
+    
+    // Getters and Setters
+    public Long getMatchId() {
+        return matchId;
+    }
+    
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    
+    public int getInnings() {
+        return innings;
+    }
+    
+    public void setInnings(int innings) {
+        this.innings = innings;
+    }
+    
+    public long getStrikerId() {
+        return strikerId;
+    }
+    
+    public void setStrikerId(long strikerId) {
+        this.strikerId = strikerId;
+    }
+    
+    public long getNonStrikerId() {
+        return nonStrikerId;
+    }
+    
+    public void setNonStrikerId(long nonStrikerId) {
+        this.nonStrikerId = nonStrikerId;
+    }
+    
+    public long getBowlerId() {
+        return bowlerId;
+    }
+    
+    public void setBowlerId(long bowlerId) {
+        this.bowlerId = bowlerId;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public boolean isBoundary() {
+        return boundary;
+    }
+    
+    public void setBoundary(boolean boundary) {
+        this.boundary = boundary;
+    }
+    
+    public ExtraType getExtraType() {
+        return extraType;
+    }
+    
+    public void setExtraType(ExtraType extraType) {
+        this.extraType = extraType;
+    }
+    
+    public int getExtraRuns() {
+        return extraRuns;
+    }
+    
+    public void setExtraRuns(int extraRuns) {
+        this.extraRuns = extraRuns;
+    }
+    
+    public DismissalType getDismissal() {
+        return dismissal;
+    }
+    
+    public void setDismissal(DismissalType dismissal) {
+        this.dismissal = dismissal;
+    }
+    
+    public long getDismissedId() {
+        return dismissedId;
+    }
+    
+    public void setDismissedId(long dismissedId) {
+        this.dismissedId = dismissedId;
+    }
+    
+    public int getInningsRuns() {
+        return inningsRuns;
+    }
+    
+    public void setInningsRuns(int inningsRuns) {
+        this.inningsRuns = inningsRuns;
+    }
+    
+    public int getInningsWickets() {
+        return inningsWickets;
+    }
+    
+    public void setInningsWickets(int inningsWickets) {
+        this.inningsWickets = inningsWickets;
+    }
+    
+    public String getOvers() {
+        return overs;
+    }
+    
+    public void setOvers(String overs) {
+        this.overs = overs;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.cricket.match.dto;
+
+import com.cricket.match.model.MatchFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class MatchSummaryDTO {
+    private Long id;
+    private String homeTeam;
+    private String awayTeam;
+    private String venue;
+    private MatchFormat format;
+    private LocalDateTime createdAt;
+    private int currentInnings;
+    private long lastSequence;
+    private List<InningsSummaryDTO> innings;
+    
+    // Constructors
+    public MatchSummaryDTO() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+    
+    public void setHomeTeam(String homeTeam) {
+        this.homeTeam = homeTeam;
+    }
+    
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+    
+    public void setAwayTeam(String awayTeam) {
+        this.awayTeam = awayTeam;
+    }
+    
+    public String getVenue() {
+        return venue;
+    }
+    
+    public void setVenue(String venue) {
+        this.venue = venue;
+    }
+    
+    public MatchFormat getFormat() {
+        return format;
+    }
+    
+    public void setFormat(MatchFormat format) {
+        this.format = format;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public int getCurrentInnings() {
+        return currentInnings;
+    }
+    
+    public void setCurrentInnings(int currentInnings) {
+        this.currentInnings = currentInnings;
+    }
+    
+    public long getLastSequence() {
+        return lastSequence;
+    }
+    
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+    
+    public List<InningsSummaryDTO> getInnings() {
+        return innings;
+    }
+    
+    public void setInnings(List<InningsSummaryDTO> innings) {
+        this.innings = innings;
+    }
+}
\ No newline at end of file
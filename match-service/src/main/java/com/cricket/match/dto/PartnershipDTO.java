@@ -0,0 +1,62 @@
+package com.cricket.match.dto;
+
+public class PartnershipDTO {
+    private int wicket;
+    private long firstPlayerId;
+    private long secondPlayerId;
+    private int runs;
+    private int balls;
+    private boolean unbroken;
+    
+    // Constructors
+    public PartnershipDTO() {}
+    
+    // Getters and Setters
+    public int getWicket() {
+        return wicket;
+    }
+    
+    public void setWicket(int wicket) {
+        this.wicket = wicket;
+    }
+    
+    public long getFirstPlayerId() {
+        return firstPlayerId;
+    }
+    
+    public void setFirstPlayerId(long firstPlayerId) {
+        this.firstPlayerId = firstPlayerId;
+    }
+    
+    public long getSecondPlayerId() {
+        return secondPlayerId;
+    }
+    
+    public void setSecondPlayerId(long secondPlayerId) {
+        this.secondPlayerId = secondPlayerId;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getBalls() {
+        return balls;
+    }
+    
+    public void setBalls(int balls) {
+        this.balls = balls;
+    }
+    
+    public boolean isUnbroken() {
+        return unbroken;
+    }
+    
+    public void setUnbroken(boolean unbroken) {
+        this.unbroken = unbroken;
+    }
+}
\ No newline at end of file
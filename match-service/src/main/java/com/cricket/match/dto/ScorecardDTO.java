@@ -0,0 +1,128 @@
+package com.cricket.match.dto;
+
+import java.util.List;
+
+// Full scorecard of one innings, built from a MatchSnapshot
+public class ScorecardDTO {
+    private Long matchId;
+    private int innings;
+    private int runs;
+    private int wickets;
+    private String overs;
+    private double runRate;
+    private boolean complete;
+    private long lastSequence;
+    private ExtrasDTO extras;
+    private List<BattingFiguresDTO> batting;
+    private List<BowlingFiguresDTO> bowling;
+    private List<PartnershipDTO> partnerships;
+    private List<FallOfWicketDTO> fallOfWickets;
+    
+    // Constructors
+    public ScorecardDTO() {}
+    
+    // Getters and Setters
+    public Long getMatchId() {
+        return matchId;
+    }
+    
+    public void setMatchId(Long matchId) {
+        this.matchId = matchId;
+    }
+    
+    public int getInnings() {
+        return innings;
+    }
+    
+    public void setInnings(int innings) {
+        this.innings = innings;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getWickets() {
+        return wickets;
+    }
+    
+    public void setWickets(int wickets) {
+        this.wickets = wickets;
+    }
+    
+    public String getOvers() {
+        return overs;
+    }
+    
+    public void setOvers(String overs) {
+        this.overs = overs;
+    }
+    
+    public double getRunRate() {
+        return runRate;
+    }
+    
+    public void setRunRate(double runRate) {
+        this.runRate = runRate;
+    }
+    
+    public boolean isComplete() {
+        return complete;
+    }
+    
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+    
+    public long getLastSequence() {
+        return lastSequence;
+    }
+    
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+    
+    public ExtrasDTO getExtras() {
+        return extras;
+    }
+    
+    public void setExtras(ExtrasDTO extras) {
+        this.extras = extras;
+    }
+    
+    public List<BattingFiguresDTO> getBatting() {
+        return batting;
+    }
+    
+    public void setBatting(List<BattingFiguresDTO> batting) {
+        this.batting = batting;
+    }
+    
+    public List<BowlingFiguresDTO> getBowling() {
+        return bowling;
+    }
+    
+    public void setBowling(List<BowlingFiguresDTO> bowling) {
+        this.bowling = bowling;
+    }
+    
+    public List<PartnershipDTO> getPartnerships() {
+        return partnerships;
+    }
+    
+    public void setPartnerships(List<PartnershipDTO> partnerships) {
+        this.partnerships = partnerships;
+    }
+    
+    public List<FallOfWicketDTO> getFallOfWickets() {
+        return fallOfWickets;
+    }
+    
+    public void setFallOfWickets(List<FallOfWicketDTO> fallOfWickets) {
+        this.fallOfWickets = fallOfWickets;
+    }
+}
\ No newline at end of file
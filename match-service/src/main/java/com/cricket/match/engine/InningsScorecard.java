@@ -0,0 +1,564 @@
+package com.cricket.match.engine;
+
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.ExtraType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+// Scorecard of one innings kept in fixed-size primitive arrays: batters and bowlers are slots in order of
+// appearance, so applying a delivery is a handful of array updates and never allocates. Not thread-safe on its
+// own; MatchScorer serializes writers and gives readers consistent copies.
+public class InningsScorecard {
+    
+    public static final int MAX_BATTERS = 11;
+    public static final int MAX_BOWLERS = 11;
+    public static final int MAX_WICKETS = 10;
+    private static final int BALLS_PER_OVER = 6;
+    private static final int NO_SLOT = -1;
+    private static final DismissalType[] DISMISSALS = DismissalType.values();
+    
+    private final int ballsPerInnings;
+    
+    private int runs;
+    private int wickets;
+    private int legalBalls;
+    private int wides;
+    private int noBalls;
+    private int byes;
+    private int legByes;
+    private int penalties;
+    
+    private int batterCount;
+    private final long[] batterIds = new long[MAX_BATTERS];
+    private final int[] batterRuns = new int[MAX_BATTERS];
+    private final int[] batterBalls = new int[MAX_BATTERS];
+    private final int[] batterFours = new int[MAX_BATTERS];
+    private final int[] batterSixes = new int[MAX_BATTERS];
+    // DismissalType ordinal; 0 (NONE) while not out
+    private final int[] batterDismissals = new int[MAX_BATTERS];
+    private final long[] batterDismissedBy = new long[MAX_BATTERS];
+    
+    private int bowlerCount;
+    private final long[] bowlerIds = new long[MAX_BOWLERS];
+    private final int[] bowlerBalls = new int[MAX_BOWLERS];
+    private final int[] bowlerRuns = new int[MAX_BOWLERS];
+    private final int[] bowlerWickets = new int[MAX_BOWLERS];
+    private final int[] bowlerMaidens = new int[MAX_BOWLERS];
+    private final int[] bowlerWides = new int[MAX_BOWLERS];
+    private final int[] bowlerNoBalls = new int[MAX_BOWLERS];
+    
+    // The over in progress, for maidens: legal balls and runs conceded by its bowler so far
+    private int overBowlerSlot = NO_SLOT;
+    private int overBalls;
+    private int overRuns;
+    
+    // Partnership i is between the batters at the crease after wicket i; the last one is open until a wicket falls
+    private int partnershipCount;
+    private boolean partnershipOpen;
+    private final long[] partnershipFirstIds = new long[MAX_WICKETS + 1];
+    private final long[] partnershipSecondIds = new long[MAX_WICKETS + 1];
+    private final int[] partnershipRuns = new int[MAX_WICKETS + 1];
+    private final int[] partnershipBalls = new int[MAX_WICKETS + 1];
+    
+    private final int[] fallOfWicketRuns = new int[MAX_WICKETS];
+    private final int[] fallOfWicketBalls = new int[MAX_WICKETS];
+    private final long[] fallOfWicketBatterIds = new long[MAX_WICKETS];
+    
+    public InningsScorecard(int ballsPerInnings) {
+        this.ballsPerInnings = ballsPerInnings;
+    }
+    
+    public boolean isComplete() {
+        return wickets == MAX_WICKETS || (ballsPerInnings > 0 && legalBalls == ballsPerInnings);
+    }
+    
+    // Checks a delivery against this innings without changing it; returns why it cannot be applied, or null.
+    // Only constant messages are returned so accepted deliveries cost no allocation.
+    String rejectReason(BallEvent ball) {
+        if (isComplete()) {
+            return "Innings is already complete";
+        }
+        long strikerId = ball.getStrikerId();
+        long nonStrikerId = ball.getNonStrikerId();
+        if (strikerId == nonStrikerId) {
+            return "Striker and non-striker must be different players";
+        }
+        int strikerSlot = slotOf(batterIds, batterCount, strikerId);
+        int nonStrikerSlot = slotOf(batterIds, batterCount, nonStrikerId);
+        int newBatters = (strikerSlot == NO_SLOT ? 1 : 0) + (nonStrikerSlot == NO_SLOT ? 1 : 0);
+        if (batterCount + newBatters > MAX_BATTERS) {
+            return "No more than 11 players can bat in an innings";
+        }
+        if ((strikerSlot != NO_SLOT && batterDismissals[strikerSlot] != 0)
+                || (nonStrikerSlot != NO_SLOT && batterDismissals[nonStrikerSlot] != 0)) {
+            return "A dismissed batter cannot return to the crease";
+        }
+        if (bowlerCount == MAX_BOWLERS && slotOf(bowlerIds, bowlerCount, ball.getBowlerId()) == NO_SLOT) {
+            return "No more than 11 players can bowl in an innings";
+        }
+        
+        ExtraType extraType = ball.getExtraType();
+        int extraRuns = ball.getExtraRuns();
+        if (extraType == ExtraType.NONE ? extraRuns != 0 : extraRuns < 1) {
+            return "Extra runs must be 0 without an extra and at least 1 with one";
+        }
+        if ((extraType == ExtraType.WIDE || extraType == ExtraType.BYE || extraType == ExtraType.LEG_BYE) && ball.getRuns() != 0) {
+            return "No runs can be scored off the bat from a wide, bye or leg bye";
+        }
+        if (ball.isBoundary() && ball.getRuns() != 4 && ball.getRuns() != 6) {
+            return "A boundary must be worth 4 or 6 runs";
+        }
+        
+        DismissalType dismissal = ball.getDismissal();
+        if (dismissal != DismissalType.NONE) {
+            long dismissedId = ball.getDismissedId();
+            if (dismissedId != strikerId && dismissedId != nonStrikerId) {
+                return "The dismissed batter must be at the crease";
+            }
+            if (dismissal.isCreditedToBowler() && dismissedId != strikerId) {
+                return "Only the striker can be dismissed this way";
+            }
+            if ((extraType == ExtraType.NO_BALL && dismissal.isCreditedToBowler())
+                    || (extraType == ExtraType.WIDE && !dismissal.isPossibleOffWide())) {
+                return "This dismissal is not possible off this delivery";
+            }
+        }
+        return null;
+    }
+    
+    // Applies a delivery that passed rejectReason
+    void apply(BallEvent ball) {
+        int strikerSlot = batterSlot(ball.getStrikerId());
+        int nonStrikerSlot = batterSlot(ball.getNonStrikerId());
+        int bowlerSlot = bowlerSlot(ball.getBowlerId());
+        ExtraType extraType = ball.getExtraType();
+        int batRuns = ball.getRuns();
+        int extraRuns = ball.getExtraRuns();
+        int totalRuns = batRuns + extraRuns;
+        boolean legal = extraType.isLegalDelivery();
+        
+        runs += totalRuns;
+        switch (extraType) {
+            case WIDE -> wides += extraRuns;
+            case NO_BALL -> noBalls += extraRuns;
+            case BYE -> byes += extraRuns;
+            case LEG_BYE -> legByes += extraRuns;
+            case PENALTY -> penalties += extraRuns;
+            default -> {
+            }
+        }
+        
+        batterRuns[strikerSlot] += batRuns;
+        if (extraType != ExtraType.WIDE) {
+            batterBalls[strikerSlot]++;
+        }
+        if (ball.isBoundary()) {
+            if (batRuns == 4) {
+                batterFours[strikerSlot]++;
+            } else {
+                batterSixes[strikerSlot]++;
+            }
+        }
+        
+        int conceded = batRuns + (extraType.isChargedToBowler() ? extraRuns : 0);
+        bowlerRuns[bowlerSlot] += conceded;
+        if (extraType == ExtraType.WIDE) {
+            bowlerWides[bowlerSlot]++;
+        } else if (extraType == ExtraType.NO_BALL) {
+            bowlerNoBalls[bowlerSlot]++;
+        }
+        // A change of bowler starts a new over; one taken over mid-over cannot earn a maiden for either bowler
+        if (overBowlerSlot != bowlerSlot) {
+            overBowlerSlot = bowlerSlot;
+            overBalls = 0;
+            overRuns = 0;
+        }
+        overRuns += conceded;
+        
+        if (!partnershipOpen || !isPartnership(partnershipCount - 1, ball.getStrikerId(), ball.getNonStrikerId())) {
+            openPartnership(ball.getStrikerId(), ball.getNonStrikerId());
+        }
+        int partnership = partnershipCount - 1;
+        partnershipRuns[partnership] += totalRuns;
+        
+        if (legal) {
+            legalBalls++;
+            bowlerBalls[bowlerSlot]++;
+            partnershipBalls[partnership]++;
+            if (++overBalls == BALLS_PER_OVER) {
+                if (overRuns == 0) {
+                    bowlerMaidens[bowlerSlot]++;
+                }
+                overBowlerSlot = NO_SLOT;
+            }
+        }
+        
+        DismissalType dismissal = ball.getDismissal();
+        if (dismissal != DismissalType.NONE) {
+            int dismissedSlot = ball.getDismissedId() == ball.getStrikerId() ? strikerSlot : nonStrikerSlot;
+            batterDismissals[dismissedSlot] = dismissal.ordinal();
+            if (dismissal.isCreditedToBowler()) {
+                batterDismissedBy[dismissedSlot] = ball.getBowlerId();
+                bowlerWickets[bowlerSlot]++;
+            }
+            fallOfWicketRuns[wickets] = runs;
+            fallOfWicketBalls[wickets] = legalBalls;
+            fallOfWicketBatterIds[wickets] = ball.getDismissedId();
+            wickets++;
+            partnershipOpen = false;
+        }
+    }
+    
+    private int batterSlot(long playerId) {
+        int slot = slotOf(batterIds, batterCount, playerId);
+        if (slot == NO_SLOT) {
+            slot = batterCount++;
+            batterIds[slot] = playerId;
+        }
+        return slot;
+    }
+    
+    private int bowlerSlot(long playerId) {
+        int slot = slotOf(bowlerIds, bowlerCount, playerId);
+        if (slot == NO_SLOT) {
+            slot = bowlerCount++;
+            bowlerIds[slot] = playerId;
+        }
+        return slot;
+    }
+    
+    private static int slotOf(long[] ids, int count, long playerId) {
+        for (int i = 0; i < count; i++) {
+            if (ids[i] == playerId) {
+                return i;
+            }
+        }
+        return NO_SLOT;
+    }
+    
+    private boolean isPartnership(int index, long firstId, long secondId) {
+        return (partnershipFirstIds[index] == firstId && partnershipSecondIds[index] == secondId)
+                || (partnershipFirstIds[index] == secondId && partnershipSecondIds[index] == firstId);
+    }
+    
+    // A new pair after a wicket, or after a retirement changed the pair without one
+    private void openPartnership(long firstId, long secondId) {
+        if (partnershipCount == partnershipFirstIds.length) {
+            partnershipCount--;
+        }
+        int index = partnershipCount++;
+        partnershipFirstIds[index] = firstId;
+        partnershipSecondIds[index] = secondId;
+        partnershipRuns[index] = 0;
+        partnershipBalls[index] = 0;
+        partnershipOpen = true;
+    }
+    
+    // Copies every field, including unused slots, so a racing copy made by a seqlock reader can never index
+    // outside the arrays; MatchScorer discards copies that overlapped a write.
+    void copyTo(InningsScorecard target) {
+        target.runs = runs;
+        target.wickets = wickets;
+        target.legalBalls = legalBalls;
+        target.wides = wides;
+        target.noBalls = noBalls;
+        target.byes = byes;
+        target.legByes = legByes;
+        target.penalties = penalties;
+        target.batterCount = batterCount;
+        System.arraycopy(batterIds, 0, target.batterIds, 0, MAX_BATTERS);
+        System.arraycopy(batterRuns, 0, target.batterRuns, 0, MAX_BATTERS);
+        System.arraycopy(batterBalls, 0, target.batterBalls, 0, MAX_BATTERS);
+        System.arraycopy(batterFours, 0, target.batterFours, 0, MAX_BATTERS);
+        System.arraycopy(batterSixes, 0, target.batterSixes, 0, MAX_BATTERS);
+        System.arraycopy(batterDismissals, 0, target.batterDismissals, 0, MAX_BATTERS);
+        System.arraycopy(batterDismissedBy, 0, target.batterDismissedBy, 0, MAX_BATTERS);
+        target.bowlerCount = bowlerCount;
+        System.arraycopy(bowlerIds, 0, target.bowlerIds, 0, MAX_BOWLERS);
+        System.arraycopy(bowlerBalls, 0, target.bowlerBalls, 0, MAX_BOWLERS);
+        System.arraycopy(bowlerRuns, 0, target.bowlerRuns, 0, MAX_BOWLERS);
+        System.arraycopy(bowlerWickets, 0, target.bowlerWickets, 0, MAX_BOWLERS);
+        System.arraycopy(bowlerMaidens, 0, target.bowlerMaidens, 0, MAX_BOWLERS);
+        System.arraycopy(bowlerWides, 0, target.bowlerWides, 0, MAX_BOWLERS);
+        System.arraycopy(bowlerNoBalls, 0, target.bowlerNoBalls, 0, MAX_BOWLERS);
+        target.overBowlerSlot = overBowlerSlot;
+        target.overBalls = overBalls;
+        target.overRuns = overRuns;
+        target.partnershipCount = partnershipCount;
+        target.partnershipOpen = partnershipOpen;
+        System.arraycopy(partnershipFirstIds, 0, target.partnershipFirstIds, 0, MAX_WICKETS + 1);
+        System.arraycopy(partnershipSecondIds, 0, target.partnershipSecondIds, 0, MAX_WICKETS + 1);
+        System.arraycopy(partnershipRuns, 0, target.partnershipRuns, 0, MAX_WICKETS + 1);
+        System.arraycopy(partnershipBalls, 0, target.partnershipBalls, 0, MAX_WICKETS + 1);
+        System.arraycopy(fallOfWicketRuns, 0, target.fallOfWicketRuns, 0, MAX_WICKETS);
+        System.arraycopy(fallOfWicketBalls, 0, target.fallOfWicketBalls, 0, MAX_WICKETS);
+        System.arraycopy(fallOfWicketBatterIds, 0, target.fallOfWicketBatterIds, 0, MAX_WICKETS);
+    }
+    
+    // Writes the used slots only; readFrom restores them into a cleared scorecard
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(runs);
+        out.writeInt(wickets);
+        out.writeInt(legalBalls);
+        out.writeInt(wides);
+        out.writeInt(noBalls);
+        out.writeInt(byes);
+        out.writeInt(legByes);
+        out.writeInt(penalties);
+        out.writeByte(batterCount);
+        for (int i = 0; i < batterCount; i++) {
+            out.writeLong(batterIds[i]);
+            out.writeInt(batterRuns[i]);
+            out.writeInt(batterBalls[i]);
+            out.writeInt(batterFours[i]);
+            out.writeInt(batterSixes[i]);
+            out.writeByte(batterDismissals[i]);
+            out.writeLong(batterDismissedBy[i]);
+        }
+        out.writeByte(bowlerCount);
+        for (int i = 0; i < bowlerCount; i++) {
+            out.writeLong(bowlerIds[i]);
+            out.writeInt(bowlerBalls[i]);
+            out.writeInt(bowlerRuns[i]);
+            out.writeInt(bowlerWickets[i]);
+            out.writeInt(bowlerMaidens[i]);
+            out.writeInt(bowlerWides[i]);
+            out.writeInt(bowlerNoBalls[i]);
+        }
+        out.writeByte(overBowlerSlot);
+        out.writeInt(overBalls);
+        out.writeInt(overRuns);
+        out.writeByte(partnershipCount);
+        out.writeBoolean(partnershipOpen);
+        for (int i = 0; i < partnershipCount; i++) {
+            out.writeLong(partnershipFirstIds[i]);
+            out.writeLong(partnershipSecondIds[i]);
+            out.writeInt(partnershipRuns[i]);
+            out.writeInt(partnershipBalls[i]);
+        }
+        for (int i = 0; i < wickets; i++) {
+            out.writeInt(fallOfWicketRuns[i]);
+            out.writeInt(fallOfWicketBalls[i]);
+            out.writeLong(fallOfWicketBatterIds[i]);
+        }
+    }
+    
+    void readFrom(DataInput in) throws IOException {
+        clear();
+        runs = in.readInt();
+        wickets = checkCount(in.readInt(), MAX_WICKETS);
+        legalBalls = in.readInt();
+        wides = in.readInt();
+        noBalls = in.readInt();
+        byes = in.readInt();
+        legByes = in.readInt();
+        penalties = in.readInt();
+        batterCount = checkCount(in.readByte(), MAX_BATTERS);
+        for (int i = 0; i < batterCount; i++) {
+            batterIds[i] = in.readLong();
+            batterRuns[i] = in.readInt();
+            batterBalls[i] = in.readInt();
+            batterFours[i] = in.readInt();
+            batterSixes[i] = in.readInt();
+            batterDismissals[i] = checkCount(in.readByte(), DISMISSALS.length - 1);
+            batterDismissedBy[i] = in.readLong();
+        }
+        bowlerCount = checkCount(in.readByte(), MAX_BOWLERS);
+        for (int i = 0; i < bowlerCount; i++) {
+            bowlerIds[i] = in.readLong();
+            bowlerBalls[i] = in.readInt();
+            bowlerRuns[i] = in.readInt();
+            bowlerWickets[i] = in.readInt();
+            bowlerMaidens[i] = in.readInt();
+            bowlerWides[i] = in.readInt();
+            bowlerNoBalls[i] = in.readInt();
+        }
+        overBowlerSlot = in.readByte();
+        if (overBowlerSlot != NO_SLOT) {
+            checkCount(overBowlerSlot, bowlerCount - 1);
+        }
+        overBalls = in.readInt();
+        overRuns = in.readInt();
+        partnershipCount = checkCount(in.readByte(), MAX_WICKETS + 1);
+        partnershipOpen = in.readBoolean();
+        for (int i = 0; i < partnershipCount; i++) {
+            partnershipFirstIds[i] = in.readLong();
+            partnershipSecondIds[i] = in.readLong();
+            partnershipRuns[i] = in.readInt();
+            partnershipBalls[i] = in.readInt();
+        }
+        for (int i = 0; i < wickets; i++) {
+            fallOfWicketRuns[i] = in.readInt();
+            fallOfWicketBalls[i] = in.readInt();
+            fallOfWicketBatterIds[i] = in.readLong();
+        }
+    }
+    
+    private static int checkCount(int count, int max) throws IOException {
+        if (count < 0 || count > max) {
+            throw new IOException("Scorecard count " + count + " is out of range");
+        }
+        return count;
+    }
+    
+    void clear() {
+        runs = wickets = legalBalls = 0;
+        wides = noBalls = byes = legByes = penalties = 0;
+        batterCount = bowlerCount = partnershipCount = 0;
+        partnershipOpen = false;
+        overBowlerSlot = NO_SLOT;
+        overBalls = overRuns = 0;
+        Arrays.fill(batterRuns, 0);
+        Arrays.fill(batterBalls, 0);
+        Arrays.fill(batterFours, 0);
+        Arrays.fill(batterSixes, 0);
+        Arrays.fill(batterDismissals, 0);
+        Arrays.fill(batterDismissedBy, 0);
+        Arrays.fill(bowlerBalls, 0);
+        Arrays.fill(bowlerRuns, 0);
+        Arrays.fill(bowlerWickets, 0);
+        Arrays.fill(bowlerMaidens, 0);
+        Arrays.fill(bowlerWides, 0);
+        Arrays.fill(bowlerNoBalls, 0);
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public int getWickets() {
+        return wickets;
+    }
+    
+    public int getLegalBalls() {
+        return legalBalls;
+    }
+    
+    public int getWides() {
+        return wides;
+    }
+    
+    public int getNoBalls() {
+        return noBalls;
+    }
+    
+    public int getByes() {
+        return byes;
+    }
+    
+    public int getLegByes() {
+        return legByes;
+    }
+    
+    public int getPenalties() {
+        return penalties;
+    }
+    
+    public int getExtras() {
+        return wides + noBalls + byes + legByes + penalties;
+    }
+    
+    public int getBatterCount() {
+        return batterCount;
+    }
+    
+    public long getBatterId(int slot) {
+        return batterIds[slot];
+    }
+    
+    public int getBatterRuns(int slot) {
+        return batterRuns[slot];
+    }
+    
+    public int getBatterBalls(int slot) {
+        return batterBalls[slot];
+    }
+    
+    public int getBatterFours(int slot) {
+        return batterFours[slot];
+    }
+    
+    public int getBatterSixes(int slot) {
+        return batterSixes[slot];
+    }
+    
+    public DismissalType getBatterDismissal(int slot) {
+        return DISMISSALS[batterDismissals[slot]];
+    }
+    
+    public long getBatterDismissedBy(int slot) {
+        return batterDismissedBy[slot];
+    }
+    
+    public int getBowlerCount() {
+        return bowlerCount;
+    }
+    
+    public long getBowlerId(int slot) {
+        return bowlerIds[slot];
+    }
+    
+    public int getBowlerBalls(int slot) {
+        return bowlerBalls[slot];
+    }
+    
+    public int getBowlerRuns(int slot) {
+        return bowlerRuns[slot];
+    }
+    
+    public int getBowlerWickets(int slot) {
+        return bowlerWickets[slot];
+    }
+    
+    public int getBowlerMaidens(int slot) {
+        return bowlerMaidens[slot];
+    }
+    
+    public int getBowlerWides(int slot) {
+        return bowlerWides[slot];
+    }
+    
+    public int getBowlerNoBalls(int slot) {
+        return bowlerNoBalls[slot];
+    }
+    
+    public int getPartnershipCount() {
+        return partnershipCount;
+    }
+    
+    public boolean isPartnershipOpen() {
+        return partnershipOpen;
+    }
+    
+    public long getPartnershipFirstId(int index) {
+        return partnershipFirstIds[index];
+    }
+    
+    public long getPartnershipSecondId(int index) {
+        return partnershipSecondIds[index];
+    }
+    
+    public int getPartnershipRuns(int index) {
+        return partnershipRuns[index];
+    }
+    
+    public int getPartnershipBalls(int index) {
+        return partnershipBalls[index];
+    }
+    
+    public int getFallOfWicketRuns(int wicket) {
+        return fallOfWicketRuns[wicket];
+    }
+    
+    public int getFallOfWicketBalls(int wicket) {
+        return fallOfWicketBalls[wicket];
+    }
+    
+    public long getFallOfWicketBatterId(int wicket) {
+        return fallOfWicketBatterIds[wicket];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.cricket.match.engine;
+
+import com.cricket.common.exception.CricketBusinessException;
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.model.MatchFormat;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Live scoring state of one match. Deliveries are applied in sequence order by one writer at a time; readers take
+// copies under a sequence lock (the version is odd while a delivery is being applied, and a copy is only kept if
+// the version did not move while it was taken), so scorecard reads never block or slow down ingest.
+public class MatchScorer {
+    
+    private static final VarHandle VERSION;
+    
+    static {
+        try {
+            VERSION = MethodHandles.lookup().findVarHandle(MatchScorer.class, "version", long.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+    
+    private final MatchFormat format;
+    private final InningsScorecard[] innings;
+    private volatile long version;
+    private long lastSequence;
+    private int currentInnings;
+    
+    public MatchScorer(MatchFormat format) {
+        this.format = format;
+        this.innings = newInnings(format);
+    }
+    
+    // Applies one delivery. Returns false for a redelivered sequence number, which is ignored; accepted deliveries
+    // do not allocate.
+    public synchronized boolean apply(BallEvent ball) {
+        long sequence = ball.getSequence();
+        if (sequence <= lastSequence) {
+            return false;
+        }
+        if (sequence != lastSequence + 1) {
+            throw new CricketBusinessException("Delivery " + sequence + " received before " + (lastSequence + 1),
+                    "SEQUENCE_GAP");
+        }
+        int inningsNumber = ball.getInnings();
+        if (inningsNumber < currentInnings || inningsNumber > currentInnings + 1 || inningsNumber > format.getMaxInnings()) {
+            throw new CricketBusinessException("Innings " + inningsNumber + " cannot follow innings " + currentInnings,
+                    "INVALID_INNINGS");
+        }
+        InningsScorecard scorecard = innings[inningsNumber - 1];
+        String rejectReason = scorecard.rejectReason(ball);
+        if (rejectReason != null) {
+            throw new CricketBusinessException(rejectReason + " (delivery " + sequence + ")", "INVALID_DELIVERY");
+        }
+        
+        long v = version;
+        VERSION.setOpaque(this, v + 1);
+        VarHandle.storeStoreFence();
+        scorecard.apply(ball);
+        lastSequence = sequence;
+        currentInnings = inningsNumber;
+        VERSION.setRelease(this, v + 2);
+        return true;
+    }
+    
+    // Copies the whole match into target, retrying while a delivery is being applied
+    public void snapshot(MatchSnapshot target) {
+        while (true) {
+            long v = (long) VERSION.getAcquire(this);
+            if ((v & 1) == 0) {
+                for (int i = 0; i < innings.length; i++) {
+                    innings[i].copyTo(target.innings[i]);
+                }
+                target.lastSequence = lastSequence;
+                target.currentInnings = currentInnings;
+                VarHandle.acquireFence();
+                if (version == v) {
+                    return;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+    
+    public long getLastSequence() {
+        while (true) {
+            long v = (long) VERSION.getAcquire(this);
+            long sequence = lastSequence;
+            VarHandle.acquireFence();
+            if ((v & 1) == 0 && version == v) {
+                return sequence;
+            }
+            Thread.onSpinWait();
+        }
+    }
+    
+    // Runs, wickets and legal balls of one innings, read under the writer lock so they include the last applied
+    // delivery; lets the live feed attach the score to each ball without copying the whole match
+    public synchronized void inningsTotals(int inningsNumber, int[] totals) {
+        InningsScorecard scorecard = innings[inningsNumber - 1];
+        totals[0] = scorecard.getRuns();
+        totals[1] = scorecard.getWickets();
+        totals[2] = scorecard.getLegalBalls();
+    }
+    
+    public MatchSnapshot snapshot() {
+        MatchSnapshot snapshot = new MatchSnapshot(format);
+        snapshot(snapshot);
+        return snapshot;
+    }
+    
+    // Back to the state before the first delivery, reusing the scorecards
+    public synchronized void reset() {
+        long v = version;
+        VERSION.setOpaque(this, v + 1);
+        VarHandle.storeStoreFence();
+        for (InningsScorecard scorecard : innings) {
+            scorecard.clear();
+        }
+        lastSequence = 0;
+        currentInnings = 0;
+        VERSION.setRelease(this, v + 2);
+    }
+    
+    // Replaces the scoring state with a snapshot, e.g. one loaded at startup
+    public synchronized void restore(MatchSnapshot source) {
+        long v = version;
+        VERSION.setOpaque(this, v + 1);
+        VarHandle.storeStoreFence();
+        for (int i = 0; i < innings.length; i++) {
+            source.innings[i].copyTo(innings[i]);
+        }
+        lastSequence = source.lastSequence;
+        currentInnings = source.currentInnings;
+        VERSION.setRelease(this, v + 2);
+    }
+    
+    public MatchFormat getFormat() {
+        return format;
+    }
+    
+    static InningsScorecard[] newInnings(MatchFormat format) {
+        InningsScorecard[] innings = new InningsScorecard[format.getMaxInnings()];
+        for (int i = 0; i < innings.length; i++) {
+            innings[i] = new InningsScorecard(format.getBallsPerInnings());
+        }
+        return innings;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.cricket.match.engine;
+
+import com.cricket.match.model.MatchFormat;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// A consistent copy of a match's scoring state taken by MatchScorer.snapshot; safe to read from any thread
+public class MatchSnapshot {
+    
+    final InningsScorecard[] innings;
+    long lastSequence;
+    int currentInnings;
+    
+    public MatchSnapshot(MatchFormat format) {
+        this.innings = MatchScorer.newInnings(format);
+    }
+    
+    // 1-based, as in BallEvent
+    public InningsScorecard getInnings(int inningsNumber) {
+        return innings[inningsNumber - 1];
+    }
+    
+    public int getInningsCount() {
+        return innings.length;
+    }
+    
+    public long getLastSequence() {
+        return lastSequence;
+    }
+    
+    public int getCurrentInnings() {
+        return currentInnings;
+    }
+    
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(lastSequence);
+        out.writeByte(currentInnings);
+        for (InningsScorecard scorecard : innings) {
+            scorecard.writeTo(out);
+        }
+    }
+    
+    public void readFrom(DataInput in) throws IOException {
+        lastSequence = in.readLong();
+        currentInnings = in.readByte();
+        if (currentInnings < 0 || currentInnings > innings.length) {
+            throw new IOException("Innings " + currentInnings + " is out of range");
+        }
+        for (InningsScorecard scorecard : innings) {
+            scorecard.readFrom(in);
+        }
+    }
+}
\ No newline at end of file
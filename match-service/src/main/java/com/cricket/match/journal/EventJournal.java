@@ -0,0 +1,513 @@
+package com.cricket.match.journal;
+
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.ExtraType;
+import com.cricket.match.model.Match;
+import com.cricket.match.model.MatchFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Durable append-only log of match events in memory-mapped segment files. Each record is its length, a CRC32C of
+// its body and the body: a type byte and fixed-width fields, so a delivery takes 66 bytes and appending one is a
+// few stores into the mapping. Appends return the journal position after the record; awaitDurable blocks until a
+// background flusher has forced the pages up to it. The flusher syncs everything appended while the previous sync
+// ran, so concurrent writers share one fsync (group commit). Segments roll when full and are deleted once a
+// snapshot covers them. At startup recover replays the records after the latest snapshot and cuts off a record
+// left half-written by a crash.
+@Component
+public class EventJournal {
+    
+    private static final Logger log = LoggerFactory.getLogger(EventJournal.class);
+    
+    private static final int HEADER_BYTES = 8;
+    private static final byte MATCH_CREATED = 1;
+    private static final byte DELIVERY = 2;
+    private static final byte MATCH_DELETED = 3;
+    private static final int DELIVERY_LENGTH = 58;
+    private static final int MATCH_DELETED_LENGTH = 9;
+    private static final ExtraType[] EXTRA_TYPES = ExtraType.values();
+    private static final DismissalType[] DISMISSALS = DismissalType.values();
+    private static final MatchFormat[] FORMATS = MatchFormat.values();
+    private static final byte[] ZEROS = new byte[8192];
+    
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    // Signalled when there is something to sync, and when a sync has finished
+    private final Condition pending = lock.newCondition();
+    private final Condition synced = lock.newCondition();
+    // Segment files by base position
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    private final CRC32C crc = new CRC32C();
+    private final Timer syncTimer;
+    private final DistributionSummary syncRecords;
+    private JournalSegment current;
+    private long position;
+    private long syncedPosition;
+    private long appendedRecords;
+    private long syncedRecords;
+    private Throwable failure;
+    private boolean closing;
+    private Thread flusher;
+    
+    @Autowired
+    public EventJournal(@Value("${match.journal.directory:data/match-journal}") String directory,
+                        @Value("${match.journal.segment-size:64MB}") DataSize segmentSize,
+                        MeterRegistry meterRegistry) {
+        this.directory = Paths.get(directory);
+        this.segmentSize = Math.toIntExact(segmentSize.toBytes());
+        this.syncTimer = Timer.builder("match.journal.sync")
+                .description("Time taken to force appended journal records to disk")
+                .register(meterRegistry);
+        this.syncRecords = DistributionSummary.builder("match.journal.sync.records")
+                .description("Journal records made durable by one sync")
+                .register(meterRegistry);
+        try {
+            Files.createDirectories(this.directory);
+            try (Stream<Path> files = Files.list(this.directory)) {
+                files.forEach(file -> {
+                    long base = JournalSegment.parseBase(file.getFileName().toString());
+                    if (base >= 0) {
+                        segments.put(base, file);
+                    }
+                });
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open event journal in " + this.directory, ex);
+        }
+    }
+    
+    // Replays every record from position from (0, or that of the latest snapshot) and opens the journal for appends
+    // after the last intact record. Returns the number of records replayed.
+    public long recover(long from, JournalVisitor visitor) {
+        lock.lock();
+        try {
+            if (current != null) {
+                throw new IllegalStateException("Event journal is already open");
+            }
+            Map.Entry<Long, Path> first = segments.floorEntry(from);
+            if (first == null && !segments.isEmpty()) {
+                throw new IllegalStateException("Event journal starts at " + segments.firstKey() + ", after position " + from);
+            }
+            long records = 0;
+            position = from;
+            if (first != null) {
+                BallEvent ball = new BallEvent();
+                Iterator<Map.Entry<Long, Path>> it = segments.tailMap(first.getKey(), true).entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<Long, Path> entry = it.next();
+                    boolean last = !it.hasNext();
+                    if (entry.getKey() > position) {
+                        throw new IllegalStateException("Event journal has no records between " + position + " and " + entry.getKey());
+                    }
+                    JournalSegment segment = JournalSegment.open(entry.getValue(), entry.getKey());
+                    int offset = (int) (position - segment.getBase());
+                    int end = offset;
+                    while ((end = readRecord(segment.getBuffer(), end, visitor, ball)) > offset) {
+                        offset = end;
+                        records++;
+                    }
+                    position = segment.getBase() + offset;
+                    if (end < 0) {
+                        if (!last) {
+                            segment.close();
+                            throw new IllegalStateException("Event journal segment " + segment.getPath() + " is corrupt at offset " + offset);
+                        }
+                        // A record torn by a crash: it was never acknowledged, so drop it and append over it
+                        log.warn("Truncating event journal segment {} at offset {}", segment.getPath(), offset);
+                        zero(segment.getBuffer(), offset);
+                    }
+                    if (last) {
+                        current = segment;
+                    } else {
+                        segment.close();
+                    }
+                }
+            }
+            if (current == null) {
+                current = JournalSegment.create(directory, position, segmentSize);
+                segments.put(position, current.getPath());
+                syncDirectory();
+            }
+            syncedPosition = position;
+            flusher = new Thread(this::flushLoop, "journal-flusher");
+            flusher.setDaemon(true);
+            flusher.start();
+            return records;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not recover event journal in " + directory, ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public long appendMatchCreated(Match match) {
+        byte[] homeTeam = match.getHomeTeam().getBytes(StandardCharsets.UTF_8);
+        byte[] awayTeam = match.getAwayTeam().getBytes(StandardCharsets.UTF_8);
+        byte[] venue = match.getVenue() != null ? match.getVenue().getBytes(StandardCharsets.UTF_8) : null;
+        int length = 1 + 8 + 1 + 8 + 4 + 2 + homeTeam.length + 2 + awayTeam.length + 2 + (venue != null ? venue.length : 0);
+        lock.lock();
+        try {
+            MappedByteBuffer buffer = begin(length);
+            int start = buffer.position();
+            buffer.put(MATCH_CREATED);
+            buffer.putLong(match.getId());
+            buffer.put((byte) match.getFormat().ordinal());
+            buffer.putLong(match.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(match.getCreatedAt().getNano());
+            putString(buffer, homeTeam);
+            putString(buffer, awayTeam);
+            putString(buffer, venue);
+            return finish(buffer, start, length);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Allocation-free, as it runs for every applied delivery
+    public long appendDelivery(long matchId, BallEvent ball) {
+        lock.lock();
+        try {
+            MappedByteBuffer buffer = begin(DELIVERY_LENGTH);
+            int start = buffer.position();
+            buffer.put(DELIVERY);
+            buffer.putLong(matchId);
+            buffer.putLong(ball.getSequence());
+            buffer.put((byte) ball.getInnings());
+            buffer.putLong(ball.getStrikerId());
+            buffer.putLong(ball.getNonStrikerId());
+            buffer.putLong(ball.getBowlerId());
+            buffer.put((byte) ball.getRuns());
+            buffer.put((byte) (ball.isBoundary() ? 1 : 0));
+            buffer.put((byte) ball.getExtraType().ordinal());
+            buffer.putInt(ball.getExtraRuns());
+            buffer.put((byte) ball.getDismissal().ordinal());
+            buffer.putLong(ball.getDismissedId());
+            return finish(buffer, start, DELIVERY_LENGTH);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public long appendMatchDeleted(long matchId) {
+        lock.lock();
+        try {
+            MappedByteBuffer buffer = begin(MATCH_DELETED_LENGTH);
+            int start = buffer.position();
+            buffer.put(MATCH_DELETED);
+            buffer.putLong(matchId);
+            return finish(buffer, start, MATCH_DELETED_LENGTH);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Blocks until every record up to the given position is on disk
+    public void awaitDurable(long target) {
+        lock.lock();
+        try {
+            while (syncedPosition < target) {
+                checkHealthy();
+                synced.await();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the event journal", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // The position after the last appended record
+    public long position() {
+        lock.lock();
+        try {
+            return position;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Deletes segments holding only records before the given position; the segment being written is always kept
+    public void deleteSegmentsBefore(long before) {
+        lock.lock();
+        try {
+            Iterator<Map.Entry<Long, Path>> it = segments.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Long, Path> entry = it.next();
+                Long next = segments.higherKey(entry.getKey());
+                if (next == null || next > before) {
+                    break;
+                }
+                try {
+                    Files.deleteIfExists(entry.getValue());
+                    it.remove();
+                } catch (IOException ex) {
+                    log.warn("Could not delete event journal segment {}: {}", entry.getValue(), ex.getMessage());
+                    break;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @PreDestroy
+    public void close() {
+        Thread thread;
+        lock.lock();
+        try {
+            closing = true;
+            pending.signal();
+            thread = flusher;
+        } finally {
+            lock.unlock();
+        }
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        lock.lock();
+        try {
+            if (current != null) {
+                current.close();
+                current = null;
+            }
+        } catch (IOException ex) {
+            log.warn("Could not close event journal segment: {}", ex.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Positions the current segment's buffer at the start of a new record's body, rolling to a new segment first if
+    // the record does not fit. Called with the lock held.
+    private MappedByteBuffer begin(int length) {
+        checkHealthy();
+        int offset = (int) (position - current.getBase());
+        if (offset + HEADER_BYTES + length > current.getCapacity()) {
+            roll();
+            offset = 0;
+        }
+        MappedByteBuffer buffer = current.getBuffer();
+        buffer.position(offset + HEADER_BYTES);
+        return buffer;
+    }
+    
+    // Checksums the body, then writes the header; the length goes last, so a record is never visible before its
+    // body is complete
+    private long finish(MappedByteBuffer buffer, int start, int length) {
+        buffer.position(start).limit(start + length);
+        crc.reset();
+        crc.update(buffer);
+        buffer.limit(buffer.capacity());
+        buffer.putInt(start - HEADER_BYTES + 4, (int) crc.getValue());
+        buffer.putInt(start - HEADER_BYTES, length);
+        position += HEADER_BYTES + length;
+        appendedRecords++;
+        pending.signal();
+        return position;
+    }
+    
+    private void roll() {
+        JournalSegment full = current;
+        try {
+            full.force(0, (int) (position - full.getBase()));
+            full.close();
+            current = JournalSegment.create(directory, position, segmentSize);
+            segments.put(position, current.getPath());
+            syncDirectory();
+        } catch (IOException | RuntimeException ex) {
+            fail(ex);
+            throw new IllegalStateException("Could not roll event journal segment", ex);
+        }
+    }
+    
+    private void flushLoop() {
+        while (true) {
+            JournalSegment segment;
+            long from;
+            long to;
+            long records;
+            lock.lock();
+            try {
+                while (syncedPosition == position && !closing && failure == null) {
+                    pending.awaitUninterruptibly();
+                }
+                if (failure != null || syncedPosition == position) {
+                    return;
+                }
+                segment = current;
+                // Earlier segments were forced in full when they rolled
+                from = Math.max(syncedPosition, segment.getBase());
+                to = position;
+                records = appendedRecords - syncedRecords;
+            } finally {
+                lock.unlock();
+            }
+            long started = System.nanoTime();
+            try {
+                segment.force((int) (from - segment.getBase()), (int) (to - from));
+            } catch (RuntimeException ex) {
+                log.error("Event journal sync failed", ex);
+                lock.lock();
+                try {
+                    fail(ex);
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            syncTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            syncRecords.record(records);
+            lock.lock();
+            try {
+                syncedPosition = to;
+                syncedRecords += records;
+                synced.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+    
+    // Called with the lock held. Once a write or sync has failed nothing more is accepted: scorecards may be ahead
+    // of the journal, and the instance has to be restarted to rebuild them from what is on disk.
+    private void fail(Throwable cause) {
+        if (failure == null) {
+            failure = cause;
+        }
+        synced.signalAll();
+    }
+    
+    private void checkHealthy() {
+        if (failure != null) {
+            throw new IllegalStateException("Event journal is unavailable after a failed write", failure);
+        }
+        if (current == null) {
+            throw new IllegalStateException("Event journal is not open");
+        }
+    }
+    
+    // Visits the record at offset and returns the offset after it; returns offset itself at the end of the records,
+    // or -1 if the record is torn or corrupt
+    private int readRecord(MappedByteBuffer buffer, int offset, JournalVisitor visitor, BallEvent ball) {
+        if (offset + HEADER_BYTES > buffer.capacity()) {
+            return offset;
+        }
+        int length = buffer.getInt(offset);
+        if (length == 0) {
+            return offset;
+        }
+        int start = offset + HEADER_BYTES;
+        if (length < 0 || start + length > buffer.capacity()) {
+            return -1;
+        }
+        buffer.position(start).limit(start + length);
+        crc.reset();
+        crc.update(buffer);
+        buffer.limit(buffer.capacity());
+        if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+            return -1;
+        }
+        buffer.position(start);
+        byte type = buffer.get();
+        switch (type) {
+            case MATCH_CREATED -> {
+                long matchId = buffer.getLong();
+                MatchFormat format = FORMATS[buffer.get()];
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+                String homeTeam = getString(buffer);
+                String awayTeam = getString(buffer);
+                String venue = getString(buffer);
+                visitor.matchCreated(matchId, homeTeam, awayTeam, venue, format, createdAt);
+            }
+            case DELIVERY -> {
+                long matchId = buffer.getLong();
+                ball.set(buffer.getLong(), buffer.get(), buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.get());
+                ball.setBoundary(buffer.get() != 0);
+                ball.extra(EXTRA_TYPES[buffer.get()], buffer.getInt());
+                ball.wicket(DISMISSALS[buffer.get()], buffer.getLong());
+                visitor.delivery(matchId, ball);
+            }
+            case MATCH_DELETED -> visitor.matchDeleted(buffer.getLong());
+            default -> throw new IllegalStateException("Unknown event journal record type " + type + " at offset " + offset);
+        }
+        return start + length;
+    }
+    
+    private static void putString(MappedByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) value.length);
+            buffer.put(value);
+        }
+    }
+    
+    private static String getString(MappedByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private static void zero(MappedByteBuffer buffer, int from) {
+        for (int offset = from; offset < buffer.capacity(); offset += ZEROS.length) {
+            buffer.put(offset, ZEROS, 0, Math.min(ZEROS.length, buffer.capacity() - offset));
+        }
+        buffer.force(from, buffer.capacity() - from);
+    }
+    
+    // Makes a newly created segment file's directory entry durable
+    private void syncDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.cricket.match.journal;
+
+import com.cricket.match.model.Match;
+
+import java.util.List;
+
+// Every match as of a journal position, as loaded from a snapshot; replay continues from position
+public class JournalCheckpoint {
+    
+    private final long position;
+    private final long lastMatchId;
+    private final List<Match> matches;
+    
+    public JournalCheckpoint(long position, long lastMatchId, List<Match> matches) {
+        this.position = position;
+        this.lastMatchId = lastMatchId;
+        this.matches = matches;
+    }
+    
+    public long getPosition() {
+        return position;
+    }
+    
+    public long getLastMatchId() {
+        return lastMatchId;
+    }
+    
+    public List<Match> getMatches() {
+        return matches;
+    }
+}
\ No newline at end of file
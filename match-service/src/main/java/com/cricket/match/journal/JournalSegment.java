@@ -0,0 +1,87 @@
+package com.cricket.match.journal;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// One file of the event journal, preallocated and mapped whole. base is the journal position of its first byte, and
+// its name, so positions keep counting across segments. Unused space is zero, which reads as the end of the records.
+final class JournalSegment {
+    
+    private final Path path;
+    private final long base;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    
+    private JournalSegment(Path path, long base, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.base = base;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+    
+    static JournalSegment create(Path directory, long base, int size) throws IOException {
+        Path path = directory.resolve(fileName(base));
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(size);
+        }
+        return open(path, base);
+    }
+    
+    static JournalSegment open(Path path, long base) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            return new JournalSegment(path, base, channel, buffer);
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+    
+    static String fileName(long base) {
+        return String.format("%020d.log", base);
+    }
+    
+    // The base position encoded in a segment file name, or -1 if it is not one
+    static long parseBase(String fileName) {
+        if (fileName.length() != 24 || !fileName.endsWith(".log")) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(fileName.substring(0, 20));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+    
+    // Writes dirty pages in the range to disk; the mapping stays valid after close, so a flush racing a roll is safe
+    void force(int offset, int length) {
+        if (length > 0) {
+            buffer.force(offset, length);
+        }
+    }
+    
+    void close() throws IOException {
+        channel.close();
+    }
+    
+    Path getPath() {
+        return path;
+    }
+    
+    long getBase() {
+        return base;
+    }
+    
+    MappedByteBuffer getBuffer() {
+        return buffer;
+    }
+    
+    int getCapacity() {
+        return buffer.capacity();
+    }
+}
\ No newline at end of file
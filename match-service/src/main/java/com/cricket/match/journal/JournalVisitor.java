@@ -0,0 +1,17 @@
+package com.cricket.match.journal;
+
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.model.MatchFormat;
+
+import java.time.LocalDateTime;
+
+// Receives journal records in the order they were appended while EventJournal.recover replays them. The BallEvent
+// passed to delivery is reused for every record.
+public interface JournalVisitor {
+    
+    void matchCreated(long matchId, String homeTeam, String awayTeam, String venue, MatchFormat format, LocalDateTime createdAt);
+    
+    void delivery(long matchId, BallEvent ball);
+    
+    void matchDeleted(long matchId);
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+package com.cricket.match.journal;
+
+import com.cricket.match.engine.MatchSnapshot;
+import com.cricket.match.model.Match;
+import com.cricket.match.model.MatchFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+// Snapshots of every match's scoring state, written next to the event journal so that startup replays only the
+// records after the latest one. A snapshot is written to a temporary file, synced and renamed into place, and ends
+// with a CRC32C of its contents. The two latest are kept: if the newest cannot be read, the one before it is used,
+// so journal segments are only deleted once both snapshots cover them.
+@Component
+public class SnapshotStore {
+    
+    private static final Logger log = LoggerFactory.getLogger(SnapshotStore.class);
+    
+    private static final int MAGIC = 0x4D534E50;
+    private static final int FORMAT_VERSION = 1;
+    private static final int RETAINED = 2;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final MatchFormat[] FORMATS = MatchFormat.values();
+    
+    private final Path directory;
+    
+    @Autowired
+    public SnapshotStore(@Value("${match.journal.directory:data/match-journal}") String directory) {
+        this.directory = Paths.get(directory);
+    }
+    
+    // Writes a snapshot of the given matches, taken after the journal reached position, and returns the position
+    // from which journal records must be kept
+    public long write(long position, long lastMatchId, Collection<Match> matches) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(fileName(position));
+        Path temp = directory.resolve(fileName(position) + ".tmp");
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            CRC32C checksum = new CRC32C();
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file, 65536), checksum));
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(position);
+            out.writeLong(lastMatchId);
+            out.writeInt(matches.size());
+            for (Match match : matches) {
+                out.writeLong(match.getId());
+                out.writeUTF(match.getHomeTeam());
+                out.writeUTF(match.getAwayTeam());
+                out.writeBoolean(match.getVenue() != null);
+                if (match.getVenue() != null) {
+                    out.writeUTF(match.getVenue());
+                }
+                out.writeByte(match.getFormat().ordinal());
+                out.writeLong(match.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(match.getCreatedAt().getNano());
+                match.getScorer().snapshot().writeTo(out);
+            }
+            out.writeInt((int) checksum.getValue());
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        
+        List<Long> positions = listPositions();
+        for (int i = RETAINED; i < positions.size(); i++) {
+            Files.deleteIfExists(directory.resolve(fileName(positions.get(i))));
+        }
+        return positions.get(Math.min(RETAINED, positions.size()) - 1);
+    }
+    
+    // The newest readable snapshot, or null if there is none
+    public JournalCheckpoint loadLatest() {
+        List<Long> positions;
+        try {
+            if (!Files.isDirectory(directory)) {
+                return null;
+            }
+            positions = listPositions();
+        } catch (IOException ex) {
+            log.warn("Could not list match snapshots in {}: {}", directory, ex.getMessage());
+            return null;
+        }
+        for (Long position : positions) {
+            Path file = directory.resolve(fileName(position));
+            try {
+                return read(file);
+            } catch (IOException ex) {
+                log.warn("Skipping unreadable match snapshot {}: {}", file, ex.getMessage());
+            }
+        }
+        return null;
+    }
+    
+    private JournalCheckpoint read(Path file) throws IOException {
+        try (InputStream stream = Files.newInputStream(file)) {
+            CRC32C checksum = new CRC32C();
+            DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(stream, 65536), checksum));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a match snapshot");
+            }
+            long position = in.readLong();
+            long lastMatchId = in.readLong();
+            int count = in.readInt();
+            List<Match> matches = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                String homeTeam = in.readUTF();
+                String awayTeam = in.readUTF();
+                String venue = in.readBoolean() ? in.readUTF() : null;
+                int format = in.readByte();
+                if (format < 0 || format >= FORMATS.length) {
+                    throw new IOException("Unknown match format " + format);
+                }
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                Match match = new Match(id, homeTeam, awayTeam, venue, FORMATS[format], createdAt);
+                MatchSnapshot state = new MatchSnapshot(match.getFormat());
+                state.readFrom(in);
+                match.getScorer().restore(state);
+                matches.add(match);
+            }
+            int expected = (int) checksum.getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("Checksum mismatch");
+            }
+            return new JournalCheckpoint(position, lastMatchId, matches);
+        }
+    }
+    
+    // Positions of the snapshots on disk, newest first
+    private List<Long> listPositions() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(PREFIX) && name.endsWith(SUFFIX))
+                    .map(name -> name.substring(PREFIX.length(), name.length() - SUFFIX.length()))
+                    .filter(position -> position.chars().allMatch(Character::isDigit))
+                    .map(Long::valueOf)
+                    .sorted(Comparator.reverseOrder())
+                    .collect(Collectors.toList());
+        }
+    }
+    
+    private static String fileName(long position) {
+        return PREFIX + String.format("%020d", position) + SUFFIX;
+    }
+    
+    private void syncDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.cricket.match.live;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+// One server-sent event. The frame is built once when the event is published and shared by every subscriber it is
+// queued for, so fan-out costs a write per subscriber but no per-subscriber serialization.
+public class LiveEvent {
+    
+    public enum Type {
+        DELIVERY,
+        SCORE,
+        HEARTBEAT
+    }
+    
+    private static final MediaType TEXT_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+    
+    // An SSE comment line: ignored by EventSource, but keeps idle proxies from closing the connection and
+    // surfaces clients that have gone away
+    static final LiveEvent HEARTBEAT = new LiveEvent(Type.HEARTBEAT, 0, ":\n\n");
+    
+    private final Type type;
+    private final long id;
+    private final Set<DataWithMediaType> frame;
+    
+    private LiveEvent(Type type, long id, String frame) {
+        this.type = type;
+        this.id = id;
+        this.frame = Set.of(new DataWithMediaType(frame, TEXT_UTF8));
+    }
+    
+    // The id is the match's delivery sequence, which is what a reconnecting EventSource sends back as Last-Event-ID
+    static LiveEvent of(Type type, long id, String json) {
+        return new LiveEvent(type, id, "id:" + id + "\nevent:" + type.name().toLowerCase() + "\ndata:" + json + "\n\n");
+    }
+    
+    public Type getType() {
+        return type;
+    }
+    
+    public long getId() {
+        return id;
+    }
+    
+    Set<DataWithMediaType> getFrame() {
+        return frame;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.cricket.match.live;
+
+import com.cricket.match.dto.LiveDeliveryDTO;
+import com.cricket.match.dto.MatchSummaryDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Server-sent event fan-out of live scores, one topic per match. A topic is opened by the first subscriber to a
+// match, so ingest for matches nobody follows does no extra work. Feeds hold no request thread: writes happen on
+// the liveScoreSender pool, one subscriber at a time.
+@Component
+public class LiveScoreHub {
+    
+    private final Map<Long, MatchTopic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ObjectMapper objectMapper;
+    private final ExecutorService sender;
+    private final int replaySize;
+    private final int subscriberBuffer;
+    private final int maxSubscribers;
+    private final long subscriberTimeoutMillis;
+    private final Counter deliveriesPublished;
+    private final Counter scoresPublished;
+    private final Counter coalesced;
+    private final Counter rejected;
+    
+    @Autowired
+    public LiveScoreHub(ObjectMapper objectMapper,
+                        @Qualifier("liveScoreSender") ExecutorService sender,
+                        @Value("${match.live.replay-size:1024}") int replaySize,
+                        @Value("${match.live.subscriber-buffer:256}") int subscriberBuffer,
+                        @Value("${match.live.max-subscribers:2000}") int maxSubscribers,
+                        @Value("${match.live.subscriber-timeout:PT30M}") Duration subscriberTimeout,
+                        MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.sender = sender;
+        this.replaySize = replaySize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberTimeoutMillis = subscriberTimeout.toMillis();
+        this.deliveriesPublished = Counter.builder("match.live.events.published")
+                .description("Events published to live feeds")
+                .tag("type", "delivery")
+                .register(meterRegistry);
+        this.scoresPublished = Counter.builder("match.live.events.published")
+                .description("Events published to live feeds")
+                .tag("type", "score")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("match.live.events.coalesced")
+                .description("Deliveries skipped for slow subscribers, who were sent the next score instead")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("match.live.subscribers.rejected")
+                .description("Live feed requests refused because max-subscribers was reached")
+                .register(meterRegistry);
+        Gauge.builder("match.live.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open live feed connections")
+                .register(meterRegistry);
+    }
+    
+    public MatchTopic findTopic(Long matchId) {
+        return topics.get(matchId);
+    }
+    
+    // current must be taken while no deliveries can be published for the match, so the topic starts in step
+    public MatchTopic openTopic(Long matchId, MatchSummaryDTO current) {
+        return topics.computeIfAbsent(matchId,
+                id -> new MatchTopic(id, replaySize, LiveEvent.of(LiveEvent.Type.SCORE, current.getLastSequence(), toJson(current))));
+    }
+    
+    public void publishDelivery(MatchTopic topic, LiveDeliveryDTO delivery) {
+        publish(topic, LiveEvent.of(LiveEvent.Type.DELIVERY, delivery.getSequence(), toJson(delivery)));
+        deliveriesPublished.increment();
+    }
+    
+    public void publishScore(MatchTopic topic, MatchSummaryDTO score) {
+        publish(topic, LiveEvent.of(LiveEvent.Type.SCORE, score.getLastSequence(), toJson(score)));
+        scoresPublished.increment();
+    }
+    
+    // Returns null when this instance already holds max-subscribers feeds
+    public SseEmitter subscribe(MatchTopic topic, Long lastEventId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            rejected.increment();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(subscriberTimeoutMillis);
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, subscriberBuffer, sender, closed -> {
+            topic.unsubscribe(closed);
+            subscriberCount.decrementAndGet();
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+        emitter.onTimeout(() -> {
+            subscriber.close();
+            emitter.complete();
+        });
+        topic.subscribe(subscriber, lastEventId);
+        return emitter;
+    }
+    
+    public void closeTopic(Long matchId) {
+        MatchTopic topic = topics.remove(matchId);
+        if (topic != null) {
+            topic.close();
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${match.live.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (MatchTopic topic : topics.values()) {
+            topic.heartbeat();
+        }
+    }
+    
+    private void publish(MatchTopic topic, LiveEvent event) {
+        int dropped = topic.publish(event);
+        if (dropped > 0) {
+            coalesced.increment(dropped);
+        }
+    }
+    
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize live event", ex);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.cricket.match.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// One live feed connection. Events are queued by the publishing thread and written by a sender pool thread, with
+// at most one drain per subscriber running at a time. The queue is bounded: a client that reads too slowly to keep
+// up has its queued deliveries dropped and is sent the next match score instead, so a slow consumer costs a fixed
+// amount of memory and never holds up ingest or the other subscribers.
+class LiveSubscriber {
+    
+    // Events written per turn on a sender thread before yielding to other subscribers
+    private static final int MAX_SENDS_PER_DRAIN = 32;
+    
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor sender;
+    private final Consumer<LiveSubscriber> onClosed;
+    private final ArrayDeque<LiveEvent> queue = new ArrayDeque<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    // While set, deliveries are dropped until a score newer than anything already sent can be written
+    private boolean resync;
+    private LiveEvent pendingScore;
+    // Only touched by the draining thread
+    private long lastSentId = -1;
+    
+    LiveSubscriber(SseEmitter emitter, int capacity, Executor sender, Consumer<LiveSubscriber> onClosed) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.sender = sender;
+        this.onClosed = onClosed;
+    }
+    
+    // Queues an event and returns the number of deliveries this subscriber had to drop for it. latestScore is
+    // the topic's current score, used as the catch-up event when the queue overflows on a delivery.
+    int offer(LiveEvent event, LiveEvent latestScore) {
+        int dropped = 0;
+        synchronized (this) {
+            if (closed.get()) {
+                return 0;
+            }
+            if (event.getType() == LiveEvent.Type.HEARTBEAT) {
+                if (resync || !queue.isEmpty()) {
+                    return 0;
+                }
+                queue.add(event);
+            } else if (resync) {
+                if (event.getType() == LiveEvent.Type.SCORE) {
+                    pendingScore = event;
+                } else {
+                    dropped = 1;
+                }
+            } else if (queue.size() < capacity) {
+                queue.add(event);
+            } else {
+                for (LiveEvent queued : queue) {
+                    if (queued.getType() == LiveEvent.Type.DELIVERY) {
+                        dropped++;
+                    }
+                }
+                queue.clear();
+                resync = true;
+                if (event.getType() == LiveEvent.Type.SCORE) {
+                    pendingScore = event;
+                } else {
+                    pendingScore = latestScore;
+                    dropped++;
+                }
+            }
+        }
+        schedule();
+        return dropped;
+    }
+    
+    // Ends the feed from the server side, e.g. when the match is deleted
+    void complete() {
+        if (markClosed()) {
+            emitter.complete();
+        }
+    }
+    
+    // The connection is gone (completed, timed out or failed)
+    void close() {
+        markClosed();
+    }
+    
+    boolean isClosed() {
+        return closed.get();
+    }
+    
+    private boolean markClosed() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        synchronized (this) {
+            queue.clear();
+            pendingScore = null;
+        }
+        onClosed.accept(this);
+        return true;
+    }
+    
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                // Sender pool shutting down
+                scheduled.set(false);
+            }
+        }
+    }
+    
+    private void drain() {
+        try {
+            LiveEvent event;
+            int sent = 0;
+            while (sent < MAX_SENDS_PER_DRAIN && !closed.get() && (event = next()) != null) {
+                emitter.send(event.getFrame());
+                if (event.getType() != LiveEvent.Type.HEARTBEAT) {
+                    lastSentId = event.getId();
+                }
+                sent++;
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client disconnected or the response was already completed
+            close();
+        } finally {
+            scheduled.set(false);
+        }
+        if (!closed.get() && hasPending()) {
+            schedule();
+        }
+    }
+    
+    private synchronized LiveEvent next() {
+        if (resync) {
+            // A score no newer than what the client has seen would not cover the dropped deliveries
+            if (pendingScore != null && pendingScore.getId() > lastSentId) {
+                LiveEvent score = pendingScore;
+                resync = false;
+                pendingScore = null;
+                return score;
+            }
+            return null;
+        }
+        return queue.poll();
+    }
+    
+    private synchronized boolean hasPending() {
+        if (resync) {
+            return pendingScore != null && pendingScore.getId() > lastSentId;
+        }
+        return !queue.isEmpty();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.cricket.match.live;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Live feed of one match: the latest score, a ring of the most recent deliveries for Last-Event-ID resume, and the
+// current subscribers. Publishing and subscribing are serialized on the topic, so a new subscriber gets every event
+// exactly once, either in its backlog or live.
+public class MatchTopic {
+    
+    private final Long matchId;
+    private final LiveEvent[] recent;
+    private final Set<LiveSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private LiveEvent latestScore;
+    // Sequence numbers of the oldest and newest deliveries held in recent
+    private long firstRecent;
+    private long lastDelivery;
+    
+    MatchTopic(Long matchId, int replaySize, LiveEvent initialScore) {
+        this.matchId = matchId;
+        this.recent = new LiveEvent[replaySize];
+        this.latestScore = initialScore;
+        this.lastDelivery = initialScore.getId();
+        this.firstRecent = lastDelivery + 1;
+    }
+    
+    // Returns the number of deliveries dropped for subscribers that could not keep up
+    synchronized int publish(LiveEvent event) {
+        if (event.getType() == LiveEvent.Type.SCORE) {
+            latestScore = event;
+        } else {
+            long sequence = event.getId();
+            if (sequence != lastDelivery + 1) {
+                // Not contiguous with what is held (the scorer was reset): replay can only start from here
+                firstRecent = sequence;
+            }
+            recent[(int) (sequence % recent.length)] = event;
+            lastDelivery = sequence;
+            firstRecent = Math.max(firstRecent, sequence - recent.length + 1);
+        }
+        int dropped = 0;
+        for (LiveSubscriber subscriber : subscribers) {
+            dropped += subscriber.offer(event, latestScore);
+        }
+        return dropped;
+    }
+    
+    // A subscriber resuming within the replay window gets the deliveries after lastEventId. Anyone else (new, too
+    // far behind, or holding an id from before a restart) starts from the latest score.
+    synchronized void subscribe(LiveSubscriber subscriber, Long lastEventId) {
+        long from;
+        if (lastEventId != null && lastEventId <= lastDelivery && lastEventId + 1 >= firstRecent) {
+            from = lastEventId;
+        } else {
+            subscriber.offer(latestScore, latestScore);
+            from = Math.max(latestScore.getId(), firstRecent - 1);
+        }
+        for (long sequence = from + 1; sequence <= lastDelivery; sequence++) {
+            subscriber.offer(recent[(int) (sequence % recent.length)], latestScore);
+        }
+        subscribers.add(subscriber);
+        if (subscriber.isClosed()) {
+            // Disconnected while the backlog was queued, before it could be unsubscribed
+            subscribers.remove(subscriber);
+        }
+    }
+    
+    void unsubscribe(LiveSubscriber subscriber) {
+        subscribers.remove(subscriber);
+    }
+    
+    void heartbeat() {
+        for (LiveSubscriber subscriber : subscribers) {
+            subscriber.offer(LiveEvent.HEARTBEAT, null);
+        }
+    }
+    
+    synchronized void close() {
+        for (LiveSubscriber subscriber : subscribers) {
+            subscriber.complete();
+        }
+    }
+    
+    public Long getMatchId() {
+        return matchId;
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+}
\ No newline at end of file
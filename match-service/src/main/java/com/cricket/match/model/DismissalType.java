@@ -0,0 +1,29 @@
+package com.cricket.match.model;
+
+public enum DismissalType {
+    NONE(false, true),
+    BOWLED(true, false),
+    CAUGHT(true, false),
+    LBW(true, false),
+    STUMPED(true, true),
+    HIT_WICKET(true, true),
+    RUN_OUT(false, true),
+    OBSTRUCTING_THE_FIELD(false, true);
+    
+    private final boolean creditedToBowler;
+    private final boolean possibleOffWide;
+    
+    DismissalType(boolean creditedToBowler, boolean possibleOffWide) {
+        this.creditedToBowler = creditedToBowler;
+        this.possibleOffWide = possibleOffWide;
+    }
+    
+    // Bowler's wickets can only fall to the striker and never off a no-ball
+    public boolean isCreditedToBowler() {
+        return creditedToBowler;
+    }
+    
+    public boolean isPossibleOffWide() {
+        return possibleOffWide;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.cricket.match.model;
+
+public enum ExtraType {
+    NONE,
+    WIDE,
+    NO_BALL,
+    BYE,
+    LEG_BYE,
+    PENALTY;
+    
+    // Wides and no-balls are re-bowled and charged to the bowler
+    public boolean isLegalDelivery() {
+        return this != WIDE && this != NO_BALL;
+    }
+    
+    public boolean isChargedToBowler() {
+        return this == WIDE || this == NO_BALL;
+    }
+}
\ No newline at end of file
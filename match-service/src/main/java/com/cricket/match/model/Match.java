@@ -0,0 +1,59 @@
+package com.cricket.match.model;
+
+import com.cricket.match.engine.MatchScorer;
+
+import java.time.LocalDateTime;
+
+// A match and its live scorer. Matches are held in memory by MatchService for the lifetime of the instance.
+public class Match {
+    private final Long id;
+    private final String homeTeam;
+    private final String awayTeam;
+    private final String venue;
+    private final MatchFormat format;
+    private final LocalDateTime createdAt;
+    private final MatchScorer scorer;
+    
+    public Match(Long id, String homeTeam, String awayTeam, String venue, MatchFormat format) {
+        this(id, homeTeam, awayTeam, venue, format, LocalDateTime.now());
+    }
+    
+    // For matches restored from the event journal
+    public Match(Long id, String homeTeam, String awayTeam, String venue, MatchFormat format, LocalDateTime createdAt) {
+        this.id = id;
+        this.homeTeam = homeTeam;
+        this.awayTeam = awayTeam;
+        this.venue = venue;
+        this.format = format;
+        this.createdAt = createdAt;
+        this.scorer = new MatchScorer(format);
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String getHomeTeam() {
+        return homeTeam;
+    }
+    
+    public String getAwayTeam() {
+        return awayTeam;
+    }
+    
+    public String getVenue() {
+        return venue;
+    }
+    
+    public MatchFormat getFormat() {
+        return format;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public MatchScorer getScorer() {
+        return scorer;
+    }
+}
\ No newline at end of file
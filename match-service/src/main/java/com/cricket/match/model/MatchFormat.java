@@ -0,0 +1,24 @@
+package com.cricket.match.model;
+
+// Innings per match and legal deliveries per innings; TEST innings have no ball limit
+public enum MatchFormat {
+    T20(2, 120),
+    ODI(2, 300),
+    TEST(4, 0);
+    
+    private final int maxInnings;
+    private final int ballsPerInnings;
+    
+    MatchFormat(int maxInnings, int ballsPerInnings) {
+        this.maxInnings = maxInnings;
+        this.ballsPerInnings = ballsPerInnings;
+    }
+    
+    public int getMaxInnings() {
+        return maxInnings;
+    }
+    
+    public int getBallsPerInnings() {
+        return ballsPerInnings;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,263 @@
+package com.cricket.match.service;
+
+import com.cricket.common.exception.CricketBusinessException;
+import com.cricket.common.exception.ResourceNotFoundException;
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.dto.CreateMatchRequest;
+import com.cricket.match.dto.IngestResult;
+import com.cricket.match.dto.MatchSummaryDTO;
+import com.cricket.match.dto.ScorecardDTO;
+import com.cricket.match.engine.MatchScorer;
+import com.cricket.match.engine.MatchSnapshot;
+import com.cricket.match.journal.EventJournal;
+import com.cricket.match.journal.JournalCheckpoint;
+import com.cricket.match.journal.JournalVisitor;
+import com.cricket.match.journal.SnapshotStore;
+import com.cricket.match.live.LiveScoreHub;
+import com.cricket.match.live.MatchTopic;
+import com.cricket.match.model.Match;
+import com.cricket.match.model.MatchFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// Matches and their scorers live in memory. Deliveries for different matches are ingested in parallel; within a
+// match MatchScorer applies them in sequence order, and applied deliveries are pushed to the match's live feed.
+// Every change is also appended to the event journal and only acknowledged once it is on disk; at startup the
+// matches are restored from the latest snapshot and the journal records after it.
+@Service
+public class MatchService {
+    
+    private static final Logger log = LoggerFactory.getLogger(MatchService.class);
+    
+    private final Map<Long, Match> matches = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final Validator validator;
+    private final LiveScoreHub liveScoreHub;
+    private final EventJournal journal;
+    private final SnapshotStore snapshotStore;
+    private final Counter accepted;
+    private final Counter duplicates;
+    // Journal position covered by the latest snapshot; only touched by recover and the scheduled snapshot
+    private volatile long snapshotPosition;
+    
+    @Autowired
+    public MatchService(Validator validator, LiveScoreHub liveScoreHub, EventJournal journal, SnapshotStore snapshotStore,
+                        MeterRegistry meterRegistry) {
+        this.validator = validator;
+        this.liveScoreHub = liveScoreHub;
+        this.journal = journal;
+        this.snapshotStore = snapshotStore;
+        this.accepted = Counter.builder("match.deliveries.ingested")
+                .description("Deliveries applied to live scorecards")
+                .tag("result", "accepted")
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("match.deliveries.ingested")
+                .description("Deliveries applied to live scorecards")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        Gauge.builder("match.live", matches, Map::size)
+                .description("Matches held by this instance")
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    public void recover() {
+        long started = System.nanoTime();
+        JournalCheckpoint checkpoint = snapshotStore.loadLatest();
+        if (checkpoint != null) {
+            for (Match match : checkpoint.getMatches()) {
+                matches.put(match.getId(), match);
+            }
+            nextId.set(checkpoint.getLastMatchId());
+            snapshotPosition = checkpoint.getPosition();
+        }
+        long replayed = journal.recover(snapshotPosition, new JournalVisitor() {
+            @Override
+            public void matchCreated(long matchId, String homeTeam, String awayTeam, String venue, MatchFormat format,
+                                     LocalDateTime createdAt) {
+                // Matches created after the snapshot began may already be in it
+                matches.putIfAbsent(matchId, new Match(matchId, homeTeam, awayTeam, venue, format, createdAt));
+                nextId.accumulateAndGet(matchId, Math::max);
+            }
+            
+            @Override
+            public void delivery(long matchId, BallEvent ball) {
+                Match match = matches.get(matchId);
+                // Deliveries the snapshot already holds are skipped as duplicates
+                if (match != null) {
+                    match.getScorer().apply(ball);
+                }
+            }
+            
+            @Override
+            public void matchDeleted(long matchId) {
+                matches.remove(matchId);
+            }
+        });
+        log.info("Restored {} matches from snapshot at position {} and {} journal records in {} ms", matches.size(),
+                snapshotPosition, replayed, (System.nanoTime() - started) / 1_000_000);
+    }
+    
+    public MatchSummaryDTO createMatch(CreateMatchRequest request) {
+        Long id = nextId.incrementAndGet();
+        Match match = new Match(id, request.getHomeTeam(), request.getAwayTeam(), request.getVenue(), request.getFormat());
+        long position;
+        // Journaled under the match lock, so its creation is recorded before any of its deliveries
+        synchronized (match) {
+            matches.put(id, match);
+            position = journal.appendMatchCreated(match);
+        }
+        journal.awaitDurable(position);
+        return ScorecardMapper.toSummary(match, match.getScorer().snapshot());
+    }
+    
+    public List<MatchSummaryDTO> getAllMatches() {
+        return matches.values().stream()
+                .sorted(Comparator.comparing(Match::getId))
+                .map(match -> ScorecardMapper.toSummary(match, match.getScorer().snapshot()))
+                .collect(Collectors.toList());
+    }
+    
+    public MatchSummaryDTO getMatch(Long id) {
+        Match match = findMatch(id);
+        return ScorecardMapper.toSummary(match, match.getScorer().snapshot());
+    }
+    
+    public ScorecardDTO getScorecard(Long id, int innings) {
+        Match match = findMatch(id);
+        if (innings < 1 || innings > match.getFormat().getMaxInnings()) {
+            throw new CricketBusinessException("A " + match.getFormat() + " match has no innings " + innings, "INVALID_INNINGS");
+        }
+        MatchSnapshot snapshot = match.getScorer().snapshot();
+        return ScorecardMapper.toScorecard(id, innings, snapshot);
+    }
+    
+    // Deliveries are applied in order; if one is rejected, those before it stay applied and the feed can resend the
+    // whole batch, since already applied sequence numbers are skipped as duplicates. Each applied delivery is
+    // journaled, and the batch is acknowledged once the journal has synced it; live feed clients may see a delivery
+    // a moment before that.
+    public IngestResult recordDeliveries(Long id, List<BallEvent> balls) {
+        Match match = findMatch(id);
+        MatchScorer scorer = match.getScorer();
+        for (BallEvent ball : balls) {
+            Set<ConstraintViolation<BallEvent>> violations = validator.validate(ball);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<BallEvent> violation = violations.iterator().next();
+                throw new CricketBusinessException("Delivery " + ball.getSequence() + ": " + violation.getMessage(),
+                        "INVALID_DELIVERY");
+            }
+        }
+        int applied = 0;
+        int skipped = 0;
+        long position = 0;
+        IngestResult result;
+        // One batch at a time per match, so its live feed gets deliveries in sequence order, each followed by the
+        // score; batches for a match come from one feed, so this does not contend in practice
+        synchronized (match) {
+            MatchTopic topic = liveScoreHub.findTopic(id);
+            int[] totals = new int[3];
+            try {
+                for (BallEvent ball : balls) {
+                    if (scorer.apply(ball)) {
+                        applied++;
+                        position = journal.appendDelivery(id, ball);
+                        if (topic != null) {
+                            scorer.inningsTotals(ball.getInnings(), totals);
+                            liveScoreHub.publishDelivery(topic, ScorecardMapper.toLiveDelivery(id, ball, totals));
+                        }
+                    } else {
+                        skipped++;
+                    }
+                }
+            } finally {
+                accepted.increment(applied);
+                duplicates.increment(skipped);
+                if (topic != null && applied > 0) {
+                    liveScoreHub.publishScore(topic, ScorecardMapper.toSummary(match, scorer.snapshot()));
+                }
+            }
+            result = new IngestResult(applied, skipped, scorer.getLastSequence());
+        }
+        if (applied > 0) {
+            journal.awaitDurable(position);
+        }
+        return result;
+    }
+    
+    // Returns null when this instance cannot take more live subscribers
+    public SseEmitter followMatch(Long id, Long lastEventId) {
+        Match match = findMatch(id);
+        MatchTopic topic = liveScoreHub.findTopic(id);
+        if (topic == null) {
+            // Opened under the match lock so the starting score and the first published delivery line up
+            synchronized (match) {
+                if (matches.get(id) != match) {
+                    throw new ResourceNotFoundException("Match", "id", id);
+                }
+                topic = liveScoreHub.openTopic(id, ScorecardMapper.toSummary(match, match.getScorer().snapshot()));
+            }
+        }
+        return liveScoreHub.subscribe(topic, lastEventId);
+    }
+    
+    public void deleteMatch(Long id) {
+        Match match = findMatch(id);
+        long position;
+        synchronized (match) {
+            if (!matches.remove(id, match)) {
+                throw new ResourceNotFoundException("Match", "id", id);
+            }
+            liveScoreHub.closeTopic(id);
+            position = journal.appendMatchDeleted(id);
+        }
+        journal.awaitDurable(position);
+    }
+    
+    // Bounds replay time at startup. The position is read before the matches are copied, and every change is applied
+    // before it is journaled, so the snapshot holds at least every record before the position; records after it that
+    // it also holds are skipped on replay.
+    @Scheduled(fixedDelayString = "${match.journal.snapshot-interval:PT1M}")
+    public void snapshot() {
+        long position = journal.position();
+        if (position == snapshotPosition) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            long keepFrom = snapshotStore.write(position, nextId.get(), List.copyOf(matches.values()));
+            journal.deleteSegmentsBefore(keepFrom);
+            snapshotPosition = position;
+            log.debug("Wrote match snapshot at position {} in {} ms", position, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException ex) {
+            log.warn("Could not write match snapshot at position {}: {}", position, ex.getMessage());
+        }
+    }
+    
+    private Match findMatch(Long id) {
+        Match match = matches.get(id);
+        if (match == null) {
+            throw new ResourceNotFoundException("Match", "id", id);
+        }
+        return match;
+    }
+}
\ No newline at end of file
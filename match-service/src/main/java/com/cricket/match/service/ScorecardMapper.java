@@ -0,0 +1,154 @@
+package com.cricket.match.service;
+
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.dto.BattingFiguresDTO;
+import com.cricket.match.dto.BowlingFiguresDTO;
+import com.cricket.match.dto.ExtrasDTO;
+import com.cricket.match.dto.FallOfWicketDTO;
+import com.cricket.match.dto.InningsSummaryDTO;
+import com.cricket.match.dto.LiveDeliveryDTO;
+import com.cricket.match.dto.MatchSummaryDTO;
+import com.cricket.match.dto.PartnershipDTO;
+import com.cricket.match.dto.ScorecardDTO;
+import com.cricket.match.engine.InningsScorecard;
+import com.cricket.match.engine.MatchSnapshot;
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.Match;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ScorecardMapper {
+    
+    private ScorecardMapper() {}
+    
+    public static MatchSummaryDTO toSummary(Match match, MatchSnapshot snapshot) {
+        MatchSummaryDTO dto = new MatchSummaryDTO();
+        dto.setId(match.getId());
+        dto.setHomeTeam(match.getHomeTeam());
+        dto.setAwayTeam(match.getAwayTeam());
+        dto.setVenue(match.getVenue());
+        dto.setFormat(match.getFormat());
+        dto.setCreatedAt(match.getCreatedAt());
+        dto.setCurrentInnings(snapshot.getCurrentInnings());
+        dto.setLastSequence(snapshot.getLastSequence());
+        List<InningsSummaryDTO> innings = new ArrayList<>();
+        for (int number = 1; number <= snapshot.getCurrentInnings(); number++) {
+            InningsScorecard scorecard = snapshot.getInnings(number);
+            innings.add(new InningsSummaryDTO(number, scorecard.getRuns(), scorecard.getWickets(),
+                    overs(scorecard.getLegalBalls()), scorecard.isComplete()));
+        }
+        dto.setInnings(innings);
+        return dto;
+    }
+    
+    // totals as filled by MatchScorer.inningsTotals right after the ball was applied
+    public static LiveDeliveryDTO toLiveDelivery(Long matchId, BallEvent ball, int[] totals) {
+        LiveDeliveryDTO dto = new LiveDeliveryDTO();
+        dto.setMatchId(matchId);
+        dto.setSequence(ball.getSequence());
+        dto.setInnings(ball.getInnings());
+        dto.setStrikerId(ball.getStrikerId());
+        dto.setNonStrikerId(ball.getNonStrikerId());
+        dto.setBowlerId(ball.getBowlerId());
+        dto.setRuns(ball.getRuns());
+        dto.setBoundary(ball.isBoundary());
+        dto.setExtraType(ball.getExtraType());
+        dto.setExtraRuns(ball.getExtraRuns());
+        dto.setDismissal(ball.getDismissal());
+        dto.setDismissedId(ball.getDismissedId());
+        dto.setInningsRuns(totals[0]);
+        dto.setInningsWickets(totals[1]);
+        dto.setOvers(overs(totals[2]));
+        return dto;
+    }
+    
+    public static ScorecardDTO toScorecard(Long matchId, int inningsNumber, MatchSnapshot snapshot) {
+        InningsScorecard scorecard = snapshot.getInnings(inningsNumber);
+        ScorecardDTO dto = new ScorecardDTO();
+        dto.setMatchId(matchId);
+        dto.setInnings(inningsNumber);
+        dto.setRuns(scorecard.getRuns());
+        dto.setWickets(scorecard.getWickets());
+        dto.setOvers(overs(scorecard.getLegalBalls()));
+        dto.setRunRate(perOver(scorecard.getRuns(), scorecard.getLegalBalls()));
+        dto.setComplete(scorecard.isComplete());
+        dto.setLastSequence(snapshot.getLastSequence());
+        
+        ExtrasDTO extras = new ExtrasDTO();
+        extras.setTotal(scorecard.getExtras());
+        extras.setWides(scorecard.getWides());
+        extras.setNoBalls(scorecard.getNoBalls());
+        extras.setByes(scorecard.getByes());
+        extras.setLegByes(scorecard.getLegByes());
+        extras.setPenalties(scorecard.getPenalties());
+        dto.setExtras(extras);
+        
+        List<BattingFiguresDTO> batting = new ArrayList<>();
+        for (int slot = 0; slot < scorecard.getBatterCount(); slot++) {
+            BattingFiguresDTO figures = new BattingFiguresDTO();
+            figures.setPlayerId(scorecard.getBatterId(slot));
+            figures.setRuns(scorecard.getBatterRuns(slot));
+            figures.setBalls(scorecard.getBatterBalls(slot));
+            figures.setFours(scorecard.getBatterFours(slot));
+            figures.setSixes(scorecard.getBatterSixes(slot));
+            figures.setStrikeRate(scorecard.getBatterBalls(slot) == 0 ? 0.0
+                    : round(100.0 * scorecard.getBatterRuns(slot) / scorecard.getBatterBalls(slot)));
+            figures.setDismissal(scorecard.getBatterDismissal(slot));
+            if (scorecard.getBatterDismissal(slot).isCreditedToBowler()) {
+                figures.setBowlerId(scorecard.getBatterDismissedBy(slot));
+            }
+            batting.add(figures);
+        }
+        dto.setBatting(batting);
+        
+        List<BowlingFiguresDTO> bowling = new ArrayList<>();
+        for (int slot = 0; slot < scorecard.getBowlerCount(); slot++) {
+            BowlingFiguresDTO figures = new BowlingFiguresDTO();
+            figures.setPlayerId(scorecard.getBowlerId(slot));
+            figures.setOvers(overs(scorecard.getBowlerBalls(slot)));
+            figures.setMaidens(scorecard.getBowlerMaidens(slot));
+            figures.setRuns(scorecard.getBowlerRuns(slot));
+            figures.setWickets(scorecard.getBowlerWickets(slot));
+            figures.setEconomy(perOver(scorecard.getBowlerRuns(slot), scorecard.getBowlerBalls(slot)));
+            figures.setWides(scorecard.getBowlerWides(slot));
+            figures.setNoBalls(scorecard.getBowlerNoBalls(slot));
+            bowling.add(figures);
+        }
+        dto.setBowling(bowling);
+        
+        List<PartnershipDTO> partnerships = new ArrayList<>();
+        for (int index = 0; index < scorecard.getPartnershipCount(); index++) {
+            PartnershipDTO partnership = new PartnershipDTO();
+            partnership.setWicket(index + 1);
+            partnership.setFirstPlayerId(scorecard.getPartnershipFirstId(index));
+            partnership.setSecondPlayerId(scorecard.getPartnershipSecondId(index));
+            partnership.setRuns(scorecard.getPartnershipRuns(index));
+            partnership.setBalls(scorecard.getPartnershipBalls(index));
+            partnership.setUnbroken(index == scorecard.getPartnershipCount() - 1 && scorecard.isPartnershipOpen());
+            partnerships.add(partnership);
+        }
+        dto.setPartnerships(partnerships);
+        
+        List<FallOfWicketDTO> fallOfWickets = new ArrayList<>();
+        for (int wicket = 0; wicket < scorecard.getWickets(); wicket++) {
+            fallOfWickets.add(new FallOfWicketDTO(wicket + 1, scorecard.getFallOfWicketRuns(wicket),
+                    overs(scorecard.getFallOfWicketBalls(wicket)), scorecard.getFallOfWicketBatterId(wicket)));
+        }
+        dto.setFallOfWickets(fallOfWickets);
+        return dto;
+    }
+    
+    // Cricket notation: 47 legal balls is "7.5" overs
+    static String overs(int legalBalls) {
+        return (legalBalls / 6) + "." + (legalBalls % 6);
+    }
+    
+    private static double perOver(int runs, int legalBalls) {
+        return legalBalls == 0 ? 0.0 : round(runs * 6.0 / legalBalls);
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,233 @@
+package com.cricket.match.engine;
+
+import com.cricket.common.exception.CricketBusinessException;
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.ExtraType;
+import com.cricket.match.model.MatchFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchScorerTest {
+
+    private static final long OPENER = 1L;
+    private static final long PARTNER = 2L;
+    private static final long NUMBER_THREE = 3L;
+    private static final long BOWLER = 20L;
+    private static final long CHANGE_BOWLER = 21L;
+
+    private MatchScorer scorer;
+    private long sequence;
+
+    @BeforeEach
+    void setUp() {
+        scorer = new MatchScorer(MatchFormat.T20);
+        sequence = 0;
+    }
+
+    @Test
+    void apply_ShouldBuildBattingBowlingAndExtras() {
+        scorer.apply(ball(OPENER, PARTNER, BOWLER, 4));
+        scorer.apply(ball(OPENER, PARTNER, BOWLER, 1));
+        scorer.apply(ball(PARTNER, OPENER, BOWLER, 0).extra(ExtraType.WIDE, 1));
+        scorer.apply(ball(PARTNER, OPENER, BOWLER, 6));
+        scorer.apply(ball(PARTNER, OPENER, BOWLER, 0).extra(ExtraType.LEG_BYE, 2));
+        scorer.apply(ball(PARTNER, OPENER, BOWLER, 2).extra(ExtraType.NO_BALL, 1));
+
+        InningsScorecard innings = scorer.snapshot().getInnings(1);
+
+        assertEquals(17, innings.getRuns());
+        assertEquals(4, innings.getLegalBalls());
+        assertEquals(4, innings.getExtras());
+        assertEquals(1, innings.getWides());
+        assertEquals(1, innings.getNoBalls());
+        assertEquals(2, innings.getLegByes());
+
+        assertEquals(OPENER, innings.getBatterId(0));
+        assertEquals(5, innings.getBatterRuns(0));
+        assertEquals(2, innings.getBatterBalls(0));
+        assertEquals(1, innings.getBatterFours(0));
+        assertEquals(8, innings.getBatterRuns(1));
+        assertEquals(3, innings.getBatterBalls(1));
+        assertEquals(1, innings.getBatterSixes(1));
+
+        assertEquals(1, innings.getBowlerCount());
+        assertEquals(4, innings.getBowlerBalls(0));
+        assertEquals(15, innings.getBowlerRuns(0));
+        assertEquals(1, innings.getBowlerWides(0));
+        assertEquals(1, innings.getBowlerNoBalls(0));
+    }
+
+    @Test
+    void apply_ShouldCreditMaidenOnlyForScorelessOver() {
+        for (int i = 0; i < 6; i++) {
+            scorer.apply(ball(OPENER, PARTNER, BOWLER, 0));
+        }
+        for (int i = 0; i < 5; i++) {
+            scorer.apply(ball(PARTNER, OPENER, CHANGE_BOWLER, 0));
+        }
+        scorer.apply(ball(PARTNER, OPENER, CHANGE_BOWLER, 0).extra(ExtraType.BYE, 1));
+
+        InningsScorecard innings = scorer.snapshot().getInnings(1);
+
+        assertEquals(1, innings.getBowlerMaidens(0));
+        assertEquals(1, innings.getBowlerMaidens(1));
+        assertEquals(0, innings.getBowlerRuns(1));
+        assertEquals(1, innings.getRuns());
+    }
+
+    @Test
+    void apply_ShouldRecordFallOfWicketAndPartnerships() {
+        scorer.apply(ball(OPENER, PARTNER, BOWLER, 4));
+        scorer.apply(ball(OPENER, PARTNER, BOWLER, 2));
+        scorer.apply(ball(OPENER, PARTNER, BOWLER, 0).wicket(DismissalType.CAUGHT, OPENER));
+        scorer.apply(ball(NUMBER_THREE, PARTNER, BOWLER, 1).wicket(DismissalType.RUN_OUT, PARTNER));
+
+        InningsScorecard innings = scorer.snapshot().getInnings(1);
+
+        assertEquals(2, innings.getWickets());
+        assertEquals(6, innings.getFallOfWicketRuns(0));
+        assertEquals(3, innings.getFallOfWicketBalls(0));
+        assertEquals(OPENER, innings.getFallOfWicketBatterId(0));
+        assertEquals(7, innings.getFallOfWicketRuns(1));
+        assertEquals(PARTNER, innings.getFallOfWicketBatterId(1));
+
+        assertEquals(DismissalType.CAUGHT, innings.getBatterDismissal(0));
+        assertEquals(BOWLER, innings.getBatterDismissedBy(0));
+        assertEquals(DismissalType.RUN_OUT, innings.getBatterDismissal(1));
+        assertEquals(1, innings.getBowlerWickets(0));
+
+        assertEquals(2, innings.getPartnershipCount());
+        assertEquals(6, innings.getPartnershipRuns(0));
+        assertEquals(3, innings.getPartnershipBalls(0));
+        assertEquals(1, innings.getPartnershipRuns(1));
+        assertFalse(innings.isPartnershipOpen());
+    }
+
+    @Test
+    void apply_ShouldIgnoreRedeliveredSequenceAndRejectGaps() {
+        BallEvent first = ball(OPENER, PARTNER, BOWLER, 4);
+        assertTrue(scorer.apply(first));
+        assertFalse(scorer.apply(first));
+
+        BallEvent skipped = ball(OPENER, PARTNER, BOWLER, 1);
+        skipped.setSequence(5);
+        CricketBusinessException exception = assertThrows(CricketBusinessException.class, () -> scorer.apply(skipped));
+
+        assertEquals("SEQUENCE_GAP", exception.getErrorCode());
+        assertEquals(4, scorer.snapshot().getInnings(1).getRuns());
+        assertEquals(1, scorer.getLastSequence());
+    }
+
+    @Test
+    void apply_ShouldRejectImpossibleDeliveryWithoutChangingScore() {
+        scorer.apply(ball(OPENER, PARTNER, BOWLER, 1));
+        BallEvent caughtOffNoBall = ball(OPENER, PARTNER, BOWLER, 0)
+                .extra(ExtraType.NO_BALL, 1)
+                .wicket(DismissalType.CAUGHT, OPENER);
+
+        CricketBusinessException exception = assertThrows(CricketBusinessException.class, () -> scorer.apply(caughtOffNoBall));
+
+        assertEquals("INVALID_DELIVERY", exception.getErrorCode());
+        InningsScorecard innings = scorer.snapshot().getInnings(1);
+        assertEquals(1, innings.getRuns());
+        assertEquals(0, innings.getWickets());
+        assertEquals(1, scorer.getLastSequence());
+    }
+
+    @Test
+    void apply_ShouldNotAllocateOnceWarm() {
+        MatchScorer testScorer = new MatchScorer(MatchFormat.TEST);
+        BallEvent ball = new BallEvent();
+        playDeliveries(testScorer, ball, 50_000);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        playDeliveries(testScorer, ball, 200_000);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 4096, "Scoring 200000 deliveries allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void snapshot_ShouldNeverObserveHalfAppliedDelivery() throws Exception {
+        MatchScorer testScorer = new MatchScorer(MatchFormat.TEST);
+        AtomicReference<String> inconsistency = new AtomicReference<>();
+        AtomicReference<Throwable> writerFailure = new AtomicReference<>();
+        Thread writer = new Thread(() -> playDeliveries(testScorer, new BallEvent(), 300_000));
+        writer.setUncaughtExceptionHandler((thread, ex) -> writerFailure.set(ex));
+        writer.start();
+
+        MatchSnapshot snapshot = new MatchSnapshot(MatchFormat.TEST);
+        while (writer.isAlive() && inconsistency.get() == null) {
+            testScorer.snapshot(snapshot);
+            for (int number = 1; number <= snapshot.getInningsCount(); number++) {
+                InningsScorecard innings = snapshot.getInnings(number);
+                int batterRuns = 0;
+                for (int slot = 0; slot < innings.getBatterCount(); slot++) {
+                    batterRuns += innings.getBatterRuns(slot);
+                }
+                if (batterRuns + innings.getExtras() != innings.getRuns()) {
+                    inconsistency.set("innings " + number + ": " + batterRuns + " + " + innings.getExtras() + " != " + innings.getRuns());
+                }
+            }
+        }
+        writer.join();
+
+        assertNull(writerFailure.get());
+        assertNull(inconsistency.get());
+    }
+
+    private BallEvent ball(long strikerId, long nonStrikerId, long bowlerId, int runs) {
+        return new BallEvent().set(++sequence, 1, strikerId, nonStrikerId, bowlerId, runs);
+    }
+
+    // Plays whole four-innings matches into the scorer, reusing one event: a wicket every 37 deliveries,
+    // a wide every 11th and bowlers changing each over. Starts again from a reset once the match is over.
+    private static void playDeliveries(MatchScorer scorer, BallEvent ball, int count) {
+        scorer.reset();
+        long sequence = 0;
+        int innings = 1;
+        int wickets = 0;
+        long striker = 1;
+        long nonStriker = 2;
+        for (int i = 0; i < count; i++) {
+            int over = (int) (sequence / 6);
+            long bowler = 100 + innings * 20 + over % 5;
+            ball.set(++sequence, innings, innings * 20 + striker, innings * 20 + nonStriker, bowler, (int) (sequence % 5));
+            if (sequence % 11 == 0) {
+                ball.setRuns(0);
+                ball.setBoundary(false);
+                ball.extra(ExtraType.WIDE, 1);
+            } else if (sequence % 37 == 0) {
+                ball.setRuns(0);
+                ball.setBoundary(false);
+                ball.wicket(DismissalType.BOWLED, innings * 20 + striker);
+            }
+            scorer.apply(ball);
+            if (ball.getDismissal() != DismissalType.NONE) {
+                striker = Math.max(striker, nonStriker) + 1;
+                if (++wickets == InningsScorecard.MAX_WICKETS) {
+                    wickets = 0;
+                    striker = 1;
+                    nonStriker = 2;
+                    if (++innings > MatchFormat.TEST.getMaxInnings()) {
+                        scorer.reset();
+                        sequence = 0;
+                        innings = 1;
+                    }
+                }
+            } else if (ball.getRuns() % 2 == 1) {
+                long swap = striker;
+                striker = nonStriker;
+                nonStriker = swap;
+            }
+        }
+    }
+}
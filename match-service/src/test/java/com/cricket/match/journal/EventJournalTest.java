@@ -0,0 +1,199 @@
+package com.cricket.match.journal;
+
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.ExtraType;
+import com.cricket.match.model.Match;
+import com.cricket.match.model.MatchFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<EventJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(EventJournal::close);
+    }
+
+    @Test
+    void recover_ShouldReplayRecordsInAppendOrder() {
+        EventJournal journal = open(DataSize.ofMegabytes(1));
+        journal.recover(0, new Recorder());
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 14, 30, 5, 123_000_000);
+        journal.appendMatchCreated(new Match(7L, "India", "Australia", null, MatchFormat.ODI, createdAt));
+        journal.appendDelivery(7L, ball(1).extra(ExtraType.NO_BALL, 1));
+        journal.appendDelivery(7L, ball(2).wicket(DismissalType.CAUGHT, 1L));
+        journal.awaitDurable(journal.appendMatchDeleted(7L));
+        journal.close();
+
+        Recorder recorder = new Recorder();
+        assertEquals(4, open(DataSize.ofMegabytes(1)).recover(0, recorder));
+
+        assertEquals(List.of(
+                "created 7 India Australia null ODI 2024-03-01T14:30:05.123",
+                "delivery 7 #1 inn 1 runs 4 true NO_BALL+1 NONE 0",
+                "delivery 7 #2 inn 1 runs 4 true NONE+0 CAUGHT 1",
+                "deleted 7"), recorder.events);
+    }
+
+    @Test
+    void append_ShouldRollSegmentsAndKeepPositionsContinuous() {
+        EventJournal journal = open(DataSize.ofBytes(1024));
+        journal.recover(0, new Recorder());
+        long position = 0;
+        for (int i = 1; i <= 100; i++) {
+            position = journal.appendDelivery(1L, ball(i));
+        }
+        journal.awaitDurable(position);
+        int segments = journal.getSegmentCount();
+        assertTrue(segments > 1);
+
+        journal.deleteSegmentsBefore(position);
+        assertEquals(1, journal.getSegmentCount());
+        journal.close();
+
+        // Replay from a position inside the retained segment picks up exactly the records after it
+        Recorder recorder = new Recorder();
+        long records = open(DataSize.ofBytes(1024)).recover(position - 3L * 66, recorder);
+        assertEquals(3, records);
+        assertTrue(recorder.events.get(0).startsWith("delivery 1 #98 "));
+    }
+
+    @Test
+    void recover_ShouldTruncateTornTailAndAppendOverIt() throws Exception {
+        EventJournal journal = open(DataSize.ofMegabytes(1));
+        journal.recover(0, new Recorder());
+        journal.appendDelivery(1L, ball(1));
+        journal.awaitDurable(journal.appendDelivery(1L, ball(2)));
+        journal.close();
+        // A third record whose body never made it to disk
+        Path segment = onlySegment();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(2 * 66);
+            file.writeInt(58);
+            file.writeInt(12345);
+            file.writeByte(2);
+        }
+
+        EventJournal reopened = open(DataSize.ofMegabytes(1));
+        assertEquals(2, reopened.recover(0, new Recorder()));
+        reopened.awaitDurable(reopened.appendDelivery(1L, ball(3)));
+        reopened.close();
+
+        Recorder recorder = new Recorder();
+        assertEquals(3, open(DataSize.ofMegabytes(1)).recover(0, recorder));
+        assertTrue(recorder.events.get(2).startsWith("delivery 1 #3 "));
+    }
+
+    @Test
+    void recover_ShouldRejectCorruptionBeforeTheLastSegment() throws Exception {
+        EventJournal journal = open(DataSize.ofBytes(256));
+        journal.recover(0, new Recorder());
+        long position = 0;
+        for (int i = 1; i <= 10; i++) {
+            position = journal.appendDelivery(1L, ball(i));
+        }
+        journal.awaitDurable(position);
+        journal.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            Path first = files.sorted().findFirst().orElseThrow();
+            try (RandomAccessFile file = new RandomAccessFile(first.toFile(), "rw")) {
+                file.seek(20);
+                file.writeByte(99);
+            }
+        }
+
+        EventJournal reopened = open(DataSize.ofBytes(256));
+        assertThrows(IllegalStateException.class, () -> reopened.recover(0, new Recorder()));
+    }
+
+    @Test
+    void awaitDurable_ShouldReturnForConcurrentWriters() throws Exception {
+        EventJournal journal = open(DataSize.ofMegabytes(1));
+        journal.recover(0, new Recorder());
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            long matchId = t + 1;
+            writers.add(pool.submit(() -> {
+                start.await();
+                for (int i = 1; i <= 50; i++) {
+                    journal.awaitDurable(journal.appendDelivery(matchId, ball(i)));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        pool.shutdown();
+        journal.close();
+
+        assertEquals(400, open(DataSize.ofMegabytes(1)).recover(0, new Recorder()));
+    }
+
+    private EventJournal open(DataSize segmentSize) {
+        EventJournal journal = new EventJournal(directory.toString(), segmentSize, new SimpleMeterRegistry());
+        opened.add(journal);
+        return journal;
+    }
+
+    private Path onlySegment() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+
+    private static BallEvent ball(long sequence) {
+        return new BallEvent().set(sequence, 1, 1L, 2L, 20L, 4);
+    }
+
+    private static class Recorder implements JournalVisitor {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void matchCreated(long matchId, String homeTeam, String awayTeam, String venue, MatchFormat format,
+                                 LocalDateTime createdAt) {
+            events.add("created " + matchId + " " + homeTeam + " " + awayTeam + " " + venue + " " + format + " " + createdAt);
+        }
+
+        @Override
+        public void delivery(long matchId, BallEvent ball) {
+            events.add("delivery " + matchId + " #" + ball.getSequence() + " inn " + ball.getInnings() + " runs " + ball.getRuns()
+                    + " " + ball.isBoundary() + " " + ball.getExtraType() + "+" + ball.getExtraRuns()
+                    + " " + ball.getDismissal() + " " + ball.getDismissedId());
+        }
+
+        @Override
+        public void matchDeleted(long matchId) {
+            events.add("deleted " + matchId);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.cricket.match.journal;
+
+import com.cricket.match.dto.BallEvent;
+import com.cricket.match.engine.MatchScorer;
+import com.cricket.match.model.DismissalType;
+import com.cricket.match.model.ExtraType;
+import com.cricket.match.model.Match;
+import com.cricket.match.model.MatchFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadLatest_ShouldRestoreScoringStateExactly() throws IOException {
+        Match match = new Match(3L, "England", "New Zealand", "Lord's", MatchFormat.TEST);
+        MatchScorer scorer = match.getScorer();
+        long sequence = 0;
+        for (int over = 0; over < 4; over++) {
+            for (int i = 0; i < 6; i++) {
+                scorer.apply(new BallEvent().set(++sequence, 1, 1L, 2L, 20L + over % 2, i % 3));
+            }
+        }
+        scorer.apply(new BallEvent().set(++sequence, 1, 1L, 2L, 20L, 0).extra(ExtraType.WIDE, 1));
+        scorer.apply(new BallEvent().set(++sequence, 1, 1L, 2L, 20L, 0).wicket(DismissalType.BOWLED, 1L));
+        scorer.apply(new BallEvent().set(++sequence, 1, 3L, 2L, 20L, 4));
+
+        SnapshotStore store = new SnapshotStore(directory.toString());
+        store.write(1234L, 5L, List.of(match));
+        JournalCheckpoint checkpoint = store.loadLatest();
+
+        assertEquals(1234L, checkpoint.getPosition());
+        assertEquals(5L, checkpoint.getLastMatchId());
+        Match restored = checkpoint.getMatches().get(0);
+        assertEquals("Lord's", restored.getVenue());
+        assertEquals(match.getCreatedAt(), restored.getCreatedAt());
+        assertArrayEquals(state(match), state(restored));
+
+        // Scoring carries on from the restored state, e.g. the open over and partnership
+        BallEvent next = new BallEvent().set(++sequence, 1, 3L, 2L, 20L, 1);
+        scorer.apply(next);
+        restored.getScorer().apply(next);
+        assertArrayEquals(state(match), state(restored));
+    }
+
+    @Test
+    void loadLatest_ShouldFallBackWhenNewestIsCorrupt() throws IOException {
+        Match match = new Match(1L, "India", "Pakistan", null, MatchFormat.T20);
+        SnapshotStore store = new SnapshotStore(directory.toString());
+        store.write(100L, 1L, List.of(match));
+        match.getScorer().apply(new BallEvent().set(1, 1, 1L, 2L, 20L, 6));
+        store.write(200L, 1L, List.of(match));
+        // Only the two newest are kept, and journal records are needed from the older of them
+        assertEquals(200L, store.write(300L, 1L, List.of(match)));
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Path newest = files.sorted().reduce((first, second) -> second).orElseThrow();
+            try (RandomAccessFile file = new RandomAccessFile(newest.toFile(), "rw")) {
+                file.seek(file.length() - 10);
+                file.writeByte(0x7F);
+            }
+        }
+
+        JournalCheckpoint checkpoint = store.loadLatest();
+        assertEquals(200L, checkpoint.getPosition());
+        assertEquals(6, checkpoint.getMatches().get(0).getScorer().snapshot().getInnings(1).getRuns());
+    }
+
+    private static byte[] state(Match match) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        match.getScorer().snapshot().writeTo(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+}
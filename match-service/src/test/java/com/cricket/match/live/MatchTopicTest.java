@@ -0,0 +1,161 @@
+package com.cricket.match.live;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchTopicTest {
+
+    private ManualExecutor sender;
+    private MatchTopic topic;
+
+    @BeforeEach
+    void setUp() {
+        sender = new ManualExecutor();
+        topic = new MatchTopic(1L, 8, score(0));
+    }
+
+    @Test
+    void subscribe_ShouldStartNewSubscriberFromLatestScore() {
+        publishDeliveries(1, 3);
+        topic.publish(score(3));
+        CapturingEmitter emitter = subscribe(4, null);
+
+        topic.publish(delivery(4));
+        sender.runAll();
+
+        assertEquals(List.of("score:3", "delivery:4"), emitter.events);
+    }
+
+    @Test
+    void subscribe_ShouldReplayDeliveriesAfterLastEventId() {
+        publishDeliveries(1, 5);
+        topic.publish(score(5));
+        CapturingEmitter emitter = subscribe(16, 2L);
+
+        sender.runAll();
+
+        assertEquals(List.of("delivery:3", "delivery:4", "delivery:5"), emitter.events);
+    }
+
+    @Test
+    void subscribe_ShouldStartFromScoreWhenLastEventIdLeftReplayWindow() {
+        publishDeliveries(1, 20);
+        topic.publish(score(20));
+        CapturingEmitter emitter = subscribe(16, 3L);
+
+        sender.runAll();
+
+        assertEquals(List.of("score:20"), emitter.events);
+    }
+
+    @Test
+    void publish_ShouldSkipSlowSubscriberAheadToNextScore() {
+        CapturingEmitter slow = subscribe(4, null);
+
+        int dropped = 0;
+        for (int sequence = 1; sequence <= 10; sequence++) {
+            dropped += topic.publish(delivery(sequence));
+        }
+        dropped += topic.publish(score(10));
+        sender.runAll();
+        topic.publish(delivery(11));
+        sender.runAll();
+
+        assertEquals(10, dropped);
+        assertEquals(List.of("score:10", "delivery:11"), slow.events);
+    }
+
+    @Test
+    void publish_ShouldNotSendScoreOlderThanDeliveriesAlreadySent() {
+        CapturingEmitter slow = subscribe(2, null);
+        topic.publish(delivery(1));
+        sender.runAll();
+
+        publishDeliveries(2, 4);
+        sender.runAll();
+
+        // Overflowed after delivery 1 was sent, so score 0 cannot stand in for the dropped deliveries
+        assertEquals(List.of("score:0", "delivery:1"), slow.events);
+        topic.publish(score(4));
+        sender.runAll();
+        assertEquals(List.of("score:0", "delivery:1", "score:4"), slow.events);
+    }
+
+    @Test
+    void close_ShouldCompleteSubscribers() {
+        CapturingEmitter emitter = subscribe(4, null);
+
+        topic.close();
+
+        assertTrue(emitter.completed);
+        assertEquals(0, topic.getSubscriberCount());
+    }
+
+    private CapturingEmitter subscribe(int buffer, Long lastEventId) {
+        CapturingEmitter emitter = new CapturingEmitter();
+        topic.subscribe(new LiveSubscriber(emitter, buffer, sender, topic::unsubscribe), lastEventId);
+        return emitter;
+    }
+
+    private void publishDeliveries(int from, int to) {
+        for (int sequence = from; sequence <= to; sequence++) {
+            topic.publish(delivery(sequence));
+        }
+    }
+
+    private static LiveEvent delivery(long sequence) {
+        return LiveEvent.of(LiveEvent.Type.DELIVERY, sequence, "{}");
+    }
+
+    private static LiveEvent score(long sequence) {
+        return LiveEvent.of(LiveEvent.Type.SCORE, sequence, "{}");
+    }
+
+    // Runs drain tasks only when asked, so a subscriber can be made to fall behind
+    private static class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static class CapturingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean completed;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            for (DataWithMediaType item : items) {
+                String frame = item.getData().toString();
+                String id = frame.substring(3, frame.indexOf('\n'));
+                String type = frame.substring(frame.indexOf("event:") + 6, frame.indexOf("\ndata:"));
+                events.add(type + ":" + id);
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
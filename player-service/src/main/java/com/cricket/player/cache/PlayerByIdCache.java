@@ -0,0 +1,88 @@
+package com.cricket.player.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+// The players-by-id cache, used through @Cacheable(sync = true), @CachePut and @CacheEvict around the Caffeine cache
+// from spring.cache. Puts and evictions from writes (made once the write has committed) advance an epoch, as in
+// PlayerQueryCache: a player loaded while one happened may predate the write, so it is returned but not stored.
+public class PlayerByIdCache implements Cache {
+    
+    private final Cache delegate;
+    private final Counter rejectedPuts;
+    private volatile long epoch;
+    
+    public PlayerByIdCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.rejectedPuts = Counter.builder("player.cache.puts.rejected")
+                .description("Loaded players not cached because a write to the cache happened while they were loading")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        long loadEpoch = epoch;
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        if (value != null) {
+            synchronized (this) {
+                if (loadEpoch == epoch) {
+                    delegate.put(key, value);
+                } else {
+                    rejectedPuts.increment();
+                }
+            }
+        }
+        return value;
+    }
+    
+    @Override
+    public synchronized void put(Object key, Object value) {
+        epoch++;
+        delegate.put(key, value);
+    }
+    
+    @Override
+    public synchronized void evict(Object key) {
+        epoch++;
+        delegate.evict(key);
+    }
+    
+    @Override
+    public synchronized void clear() {
+        epoch++;
+        delegate.clear();
+    }
+    
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+    
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+}
\ No newline at end of file
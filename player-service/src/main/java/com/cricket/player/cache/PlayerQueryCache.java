@@ -0,0 +1,189 @@
+package com.cricket.player.cache;
+
+import com.cricket.player.config.CacheConfig;
+import com.cricket.player.model.PlayingRole;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+// Results of the filtered list queries (by filters, country or role), used through @Cacheable(sync = true) with
+// PlayerQueryKey keys. A write evicts only the entries whose country and role tags match the players it touched,
+// once its transaction has committed. Every invalidation advances an epoch: a result loaded while one happened may
+// predate the write, so it is returned but not stored. Bounded by the total number of rows held; the ttl covers
+// writes made through other replicas, which this instance never sees.
+@Component
+public class PlayerQueryCache implements Cache {
+    
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> entries;
+    private final Counter taggedInvalidations;
+    private final Counter fullInvalidations;
+    private final Counter invalidatedEntries;
+    private final Counter rejectedPuts;
+    private volatile long epoch;
+    
+    @Autowired
+    public PlayerQueryCache(MeterRegistry meterRegistry,
+                            @Value("${player.query-cache.max-rows:50000}") long maxRows,
+                            @Value("${player.query-cache.ttl:60s}") Duration ttl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxRows)
+                .weigher((Object key, Object value) -> rows(value) + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, CacheConfig.PLAYER_QUERIES_CACHE);
+        Gauge.builder("player.query.cache.rows", entries, cache -> cache.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("Player rows held by cached query results, bounded by player.query-cache.max-rows")
+                .register(meterRegistry);
+        this.taggedInvalidations = Counter.builder("player.query.cache.invalidations")
+                .description("Committed writes that evicted cached query results")
+                .tag("scope", "tagged")
+                .register(meterRegistry);
+        this.fullInvalidations = Counter.builder("player.query.cache.invalidations")
+                .description("Committed writes that evicted cached query results")
+                .tag("scope", "all")
+                .register(meterRegistry);
+        this.invalidatedEntries = Counter.builder("player.query.cache.invalidated.entries")
+                .description("Cached query results evicted by writes")
+                .register(meterRegistry);
+        this.rejectedPuts = Counter.builder("player.query.cache.puts.rejected")
+                .description("Loaded results not cached because a write committed while they were loading")
+                .register(meterRegistry);
+    }
+    
+    // Evicts the results that can include players of this country and role; null matches any
+    public void invalidate(String country, PlayingRole playingRole) {
+        afterCommit(() -> {
+            int removed;
+            synchronized (this) {
+                epoch++;
+                int before = entries.asMap().size();
+                entries.asMap().keySet().removeIf(key -> ((PlayerQueryKey) key).isAffectedBy(country, playingRole));
+                removed = before - entries.asMap().size();
+            }
+            taggedInvalidations.increment();
+            invalidatedEntries.increment(Math.max(removed, 0));
+        });
+    }
+    
+    // For writes whose players' countries and roles are not known, e.g. status changes by id list
+    public void invalidateAll() {
+        afterCommit(() -> {
+            long removed;
+            synchronized (this) {
+                epoch++;
+                removed = entries.estimatedSize();
+                entries.invalidateAll();
+            }
+            fullInvalidations.increment();
+            invalidatedEntries.increment(removed);
+        });
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = entries.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        long loadEpoch = epoch;
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        if (value != null) {
+            synchronized (this) {
+                if (loadEpoch == epoch) {
+                    entries.put(key, value);
+                } else {
+                    rejectedPuts.increment();
+                }
+            }
+        }
+        return value;
+    }
+    
+    @Override
+    public String getName() {
+        return CacheConfig.PLAYER_QUERIES_CACHE;
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        Object value = entries.getIfPresent(key);
+        return value != null ? new SimpleValueWrapper(value) : null;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Object value = entries.getIfPresent(key);
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+    
+    @Override
+    public synchronized void put(Object key, Object value) {
+        if (value != null) {
+            entries.put(key, value);
+        }
+    }
+    
+    @Override
+    public void evict(Object key) {
+        entries.invalidate(key);
+    }
+    
+    @Override
+    public void clear() {
+        invalidateAll();
+    }
+    
+    private static int rows(Object value) {
+        if (value instanceof Page<?> page) {
+            return page.getNumberOfElements();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return 1;
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
\ No newline at end of file
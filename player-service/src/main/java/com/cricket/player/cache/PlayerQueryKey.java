@@ -0,0 +1,93 @@
+package com.cricket.player.cache;
+
+import com.cricket.player.dto.PlayerField;
+import com.cricket.player.model.PlayingRole;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Objects;
+
+// Key of a cached list query: the query, its normalized filters and page. The country and role double as the
+// entry's tags; null means the query spans every country or role. Built from @Cacheable key expressions.
+public final class PlayerQueryKey {
+    
+    private final String query;
+    private final String country;
+    private final PlayingRole playingRole;
+    private final Boolean isActive;
+    // Null for full player DTOs
+    private final List<PlayerField> fields;
+    private final int page;
+    private final int size;
+    private final String sort;
+    
+    private PlayerQueryKey(String query, String country, PlayingRole playingRole, Boolean isActive,
+                           List<PlayerField> fields, Pageable pageable) {
+        this.query = query;
+        this.country = country;
+        this.playingRole = playingRole;
+        this.isActive = isActive;
+        this.fields = fields;
+        this.page = pageable != null && pageable.isPaged() ? pageable.getPageNumber() : -1;
+        this.size = pageable != null && pageable.isPaged() ? pageable.getPageSize() : -1;
+        this.sort = pageable != null ? pageable.getSort().toString() : "";
+    }
+    
+    public static PlayerQueryKey filters(String country, PlayingRole playingRole, Boolean isActive,
+                                         String fields, Pageable pageable) {
+        return new PlayerQueryKey("filters", country, playingRole, isActive, parseFields(fields), pageable);
+    }
+    
+    public static PlayerQueryKey country(String country, String fields) {
+        return new PlayerQueryKey("country", country, null, null, parseFields(fields), null);
+    }
+    
+    public static PlayerQueryKey role(PlayingRole playingRole, String fields) {
+        return new PlayerQueryKey("role", null, playingRole, null, parseFields(fields), null);
+    }
+    
+    // Rejects unknown fields before the cache is consulted, exactly as the uncached query would
+    private static List<PlayerField> parseFields(String fields) {
+        return fields != null ? PlayerField.parse(fields) : null;
+    }
+    
+    // Whether a write to players of the given country and role (null for any) can change this query's result
+    public boolean isAffectedBy(String writtenCountry, PlayingRole writtenRole) {
+        boolean countryMatches = country == null || writtenCountry == null || country.equals(writtenCountry);
+        boolean roleMatches = playingRole == null || writtenRole == null || playingRole == writtenRole;
+        return countryMatches && roleMatches;
+    }
+    
+    public String getCountry() {
+        return country;
+    }
+    
+    public PlayingRole getPlayingRole() {
+        return playingRole;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PlayerQueryKey other)) {
+            return false;
+        }
+        return page == other.page && size == other.size && query.equals(other.query)
+                && Objects.equals(country, other.country) && playingRole == other.playingRole
+                && Objects.equals(isActive, other.isActive) && Objects.equals(fields, other.fields)
+                && sort.equals(other.sort);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, country, playingRole, isActive, fields, page, size, sort);
+    }
+    
+    @Override
+    public String toString() {
+        return query + "[country=" + country + ", role=" + playingRole + ", active=" + isActive
+                + ", fields=" + fields + ", page=" + page + ", size=" + size + ", sort=" + sort + "]";
+    }
+}
\ No newline at end of file
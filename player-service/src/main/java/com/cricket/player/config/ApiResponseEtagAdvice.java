@@ -0,0 +1,145 @@
+package com.cricket.player.config;
+
+import com.cricket.common.dto.ApiResponse;
+import com.cricket.common.dto.CursorPage;
+import com.cricket.player.controller.PlayerController;
+import com.cricket.player.dto.PlayerBatchResult;
+import com.cricket.player.dto.PlayerDTO;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+
+// ETags for player GET responses so the gateway's response cache can revalidate with If-None-Match and get a
+// bodiless 304. A ShallowEtagHeaderFilter would hash the whole body, which changes on every call because of
+// ApiResponse.timestamp, so the (weak) ETag is derived from what the response holds: the id and version of each
+// player (every write bumps the version), the values of field projections, and page or batch bounds. Nothing is
+// serialized a second time; responses of other shapes get no ETag. The ETag is the same for the JSON, CBOR and
+// Smile forms of a response, so Vary: Accept tells caches to store those forms apart.
+@RestControllerAdvice(assignableTypes = PlayerController.class)
+public class ApiResponseEtagAdvice implements ResponseBodyAdvice<Object> {
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> apiResponse) || !apiResponse.isSuccess()
+                || request.getMethod() != HttpMethod.GET) {
+            return body;
+        }
+        ContentKey key = new ContentKey();
+        key.add(apiResponse.getMessage());
+        if (!key.describe(apiResponse.getData())) {
+            return body;
+        }
+        String etag = "W/\"" + key.digest() + "\"";
+        response.getHeaders().setETag(etag);
+        response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (request.getHeaders().getIfNoneMatch().contains(etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return null;
+        }
+        return body;
+    }
+    
+    // Accumulates a compact description of a response's content: a few bytes per player rather than its full form
+    private static final class ContentKey {
+        
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        
+        // Returns false for data whose content the key cannot vouch for
+        boolean describe(Object value) {
+            if (value == null) {
+                bytes.write('n');
+            } else if (value instanceof PlayerDTO player) {
+                bytes.write('p');
+                add(player.getId());
+                add(player.getVersion());
+            } else if (value instanceof Page<?> page) {
+                bytes.write('g');
+                add((long) page.getNumber());
+                add((long) page.getSize());
+                add(page.getTotalElements());
+                return describe(page.getContent());
+            } else if (value instanceof CursorPage<?> page) {
+                bytes.write('c');
+                add(page.getNextCursor());
+                return describe(page.getContent());
+            } else if (value instanceof PlayerBatchResult<?> batch) {
+                bytes.write('b');
+                return describe(batch.getPlayers()) && describe(batch.getMissingIds());
+            } else if (value instanceof Collection<?> collection) {
+                bytes.write('l');
+                add((long) collection.size());
+                for (Object element : collection) {
+                    if (!describe(element)) {
+                        return false;
+                    }
+                }
+            } else if (value instanceof Map<?, ?> fields) {
+                bytes.write('m');
+                add((long) fields.size());
+                for (Map.Entry<?, ?> field : fields.entrySet()) {
+                    add(String.valueOf(field.getKey()));
+                    if (!describe(field.getValue())) {
+                        return false;
+                    }
+                }
+            } else if (value instanceof Enum<?> constant) {
+                add(constant.name());
+            } else if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                    || value instanceof TemporalAccessor) {
+                add(value.toString());
+            } else {
+                return false;
+            }
+            return true;
+        }
+        
+        void add(Long value) {
+            if (value == null) {
+                bytes.write('n');
+                return;
+            }
+            long remaining = value;
+            for (int i = 0; i < Long.BYTES; i++) {
+                bytes.write((int) remaining);
+                remaining >>>= 8;
+            }
+        }
+        
+        // Length-prefixed so that adjacent values cannot run into each other
+        void add(String value) {
+            if (value == null) {
+                bytes.write('n');
+                return;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            add((long) encoded.length);
+            bytes.writeBytes(encoded);
+        }
+        
+        String digest() {
+            return DigestUtils.md5DigestAsHex(bytes.toByteArray());
+        }
+    }
+}
\ No newline at end of file
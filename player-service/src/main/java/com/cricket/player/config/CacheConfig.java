@@ -0,0 +1,45 @@
+package com.cricket.player.config;
+
+import com.cricket.player.cache.PlayerByIdCache;
+import com.cricket.player.cache.PlayerQueryCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+// Caching advice runs outside the transactional advice so that cache hits never open a
+// transaction and cache writes only happen once the surrounding transaction has committed.
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+    
+    public static final String PLAYERS_CACHE = "players";
+    public static final String PLAYERS_RESOLVER = "playerCacheResolver";
+    public static final String PLAYER_QUERIES_CACHE = "playerQueries";
+    public static final String PLAYER_QUERIES_RESOLVER = "playerQueryCacheResolver";
+    
+    // The players cache from spring.cache, guarded so a slow load cannot overwrite a concurrent write
+    @Bean
+    public PlayerByIdCache playerByIdCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        return new PlayerByIdCache(cacheManager.getCache(PLAYERS_CACHE), meterRegistry);
+    }
+    
+    @Bean(PLAYERS_RESOLVER)
+    public CacheResolver playerCacheResolver(PlayerByIdCache playerByIdCache) {
+        List<Cache> caches = List.of(playerByIdCache);
+        return context -> caches;
+    }
+    
+    // The query cache is not one of the Caffeine caches from spring.cache, so it is resolved directly
+    @Bean(PLAYER_QUERIES_RESOLVER)
+    public CacheResolver playerQueryCacheResolver(PlayerQueryCache playerQueryCache) {
+        List<PlayerQueryCache> caches = List.of(playerQueryCache);
+        return context -> caches;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.cricket.player.config;
+
+import com.cricket.player.outbox.PlayerOutboxRelay;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+// With the fast-startup profile beans are created lazily. The connection pool and Hibernate bootstrap stay eager:
+// they are needed by almost every request and are the slowest part of startup, so deferring them would only move
+// that time onto the first request after the pod reports ready. The outbox relay is eager too: nothing refers to it,
+// so a lazy relay would never be created and its schedule would never start.
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+    
+    @Bean
+    static LazyInitializationExcludeFilter eagerPersistenceBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(DataSource.class, EntityManagerFactory.class,
+                PlayerOutboxRelay.class);
+    }
+}
\ No newline at end of file
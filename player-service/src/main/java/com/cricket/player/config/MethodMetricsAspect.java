@@ -0,0 +1,74 @@
+package com.cricket.player.config;
+
+import com.cricket.common.exception.CricketBusinessException;
+import com.cricket.common.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Times every public PlayerController and PlayerService method as player.method{layer, method, outcome}.
+// Ordered outermost so the service timings include cache lookups and the transaction commit.
+// Streaming endpoints such as the export are timed up to the point the body starts streaming.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MethodMetricsAspect {
+    
+    private final MeterRegistry meterRegistry;
+    
+    @Autowired
+    public MethodMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Around("execution(public * com.cricket.player.controller.PlayerController.*(..))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
+    }
+    
+    @Around("execution(public * com.cricket.player.service.PlayerService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+    
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long start = System.nanoTime();
+        String outcome = "SUCCESS";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = outcome(ex);
+            throw ex;
+        } finally {
+            Timer.builder("player.method")
+                    .description("PlayerController and PlayerService method latency")
+                    .tag("layer", layer)
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+    
+    private static String outcome(Throwable ex) {
+        if (ex instanceof ResourceNotFoundException) {
+            return "NOT_FOUND";
+        }
+        if (ex instanceof OptimisticLockingFailureException) {
+            return "CONFLICT";
+        }
+        if (ex instanceof CricketBusinessException) {
+            return "CLIENT_ERROR";
+        }
+        return "SERVER_ERROR";
+    }
+}
\ No newline at end of file
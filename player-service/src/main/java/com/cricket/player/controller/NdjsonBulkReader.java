@@ -0,0 +1,56 @@
+package com.cricket.player.controller;
+
+import com.cricket.player.dto.BulkImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Lazily parses one player per line so that an NDJSON upload is never held in memory as a whole.
+class NdjsonBulkReader implements Iterator<BulkImportRow> {
+    
+    private final BufferedReader reader;
+    private final ObjectReader playerReader;
+    private String nextLine;
+    private int index;
+    
+    NdjsonBulkReader(BufferedReader reader, ObjectReader playerReader) {
+        this.reader = reader;
+        this.playerReader = playerReader;
+        advance();
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+    
+    @Override
+    public BulkImportRow next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        int rowIndex = index++;
+        advance();
+        try {
+            return BulkImportRow.of(rowIndex, playerReader.readValue(line));
+        } catch (JsonProcessingException ex) {
+            return BulkImportRow.unparseable(rowIndex, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+    
+    private void advance() {
+        try {
+            do {
+                nextLine = reader.readLine();
+            } while (nextLine != null && nextLine.isBlank());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
\ No newline at end of file
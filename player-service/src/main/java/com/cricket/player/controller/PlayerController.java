@@ -1,22 +1,49 @@
 package com.cricket.player.controller;
 
 import com.cricket.common.dto.ApiResponse;
+import com.cricket.common.dto.CursorPage;
+import com.cricket.player.dto.BulkImportResult;
+import com.cricket.player.dto.BulkImportRow;
+import com.cricket.player.dto.PlayerBatchRequest;
+import com.cricket.player.dto.PlayerBatchResult;
+import com.cricket.player.dto.PlayerChangeSet;
 import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.dto.PlayerEventPage;
+import com.cricket.player.dto.PlayerSortKey;
+import com.cricket.player.dto.PlayerStatusChangeRequest;
+import com.cricket.player.export.PlayerExportFormat;
 import com.cricket.player.model.PlayingRole;
+import com.cricket.player.service.PlayerBulkImportService;
+import com.cricket.player.service.PlayerChangeFeedService;
+import com.cricket.player.service.PlayerExportService;
 import com.cricket.player.service.PlayerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 @RestController
 @RequestMapping("/api/players")
@@ -24,10 +51,25 @@ import java.util.List;
 public class PlayerController {
     
     private final PlayerService playerService;
+    private final PlayerBulkImportService playerBulkImportService;
+    private final PlayerExportService playerExportService;
+    private final PlayerChangeFeedService playerChangeFeedService;
+    private final ObjectMapper objectMapper;
+    private final Duration exportTimeout;
     
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService,
+                            PlayerBulkImportService playerBulkImportService,
+                            PlayerExportService playerExportService,
+                            PlayerChangeFeedService playerChangeFeedService,
+                            ObjectMapper objectMapper,
+                            @Value("${player.export.timeout:30m}") Duration exportTimeout) {
         this.playerService = playerService;
+        this.playerBulkImportService = playerBulkImportService;
+        this.playerExportService = playerExportService;
+        this.playerChangeFeedService = playerChangeFeedService;
+        this.objectMapper = objectMapper;
+        this.exportTimeout = exportTimeout;
     }
     
     @PostMapping
@@ -38,6 +80,25 @@ public class PlayerController {
                 .body(ApiResponse.success("Player created successfully", createdPlayer));
     }
     
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk create players", description = "Validate and insert a list of players in batched chunks, reporting the outcome of every row")
+    public ResponseEntity<ApiResponse<BulkImportResult>> bulkCreatePlayers(@RequestBody List<PlayerDTO> players) {
+        BulkImportResult result = playerBulkImportService.importPlayers(IntStream.range(0, players.size())
+                .mapToObj(index -> BulkImportRow.of(index, players.get(index)))
+                .iterator());
+        return ResponseEntity.ok(ApiResponse.success("Bulk import completed", result));
+    }
+    
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Bulk create players from NDJSON", description = "Stream newline-delimited player JSON and insert it in batched chunks, reporting the outcome of every row")
+    public ResponseEntity<ApiResponse<BulkImportResult>> bulkCreatePlayersFromNdjson(HttpServletRequest request) throws IOException {
+        try (BufferedReader reader = request.getReader()) {
+            BulkImportResult result = playerBulkImportService.importPlayers(
+                    new NdjsonBulkReader(reader, objectMapper.readerFor(PlayerDTO.class)));
+            return ResponseEntity.ok(ApiResponse.success("Bulk import completed", result));
+        }
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get player by ID", description = "Retrieve a player by their ID")
     public ResponseEntity<ApiResponse<PlayerDTO>> getPlayerById(
@@ -64,6 +125,99 @@ public class PlayerController {
         return ResponseEntity.ok(ApiResponse.success(players));
     }
     
+    @GetMapping(params = {"ids", "!fields"})
+    @Operation(summary = "Get players by IDs", description = "Retrieve up to 1000 players in one call, in request order, with the ids that match no player")
+    public ResponseEntity<ApiResponse<PlayerBatchResult<PlayerDTO>>> getPlayersByIds(
+            @Parameter(description = "Comma separated player IDs, e.g. 1,2,3") @RequestParam List<Long> ids) {
+        PlayerBatchResult<PlayerDTO> result = playerService.getPlayersByIds(ids);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+    
+    @GetMapping(params = {"ids", "fields"})
+    @Operation(summary = "Get players by IDs with selected fields", description = "Retrieve up to 1000 players in one call, in request order, selecting only the requested fields")
+    public ResponseEntity<ApiResponse<PlayerBatchResult<Map<String, Object>>>> getPlayerFieldsByIds(
+            @Parameter(description = "Comma separated player IDs, e.g. 1,2,3") @RequestParam List<Long> ids,
+            @Parameter(description = "Comma separated fields to return, e.g. id,firstName,lastName") @RequestParam String fields) {
+        PlayerBatchResult<Map<String, Object>> result = playerService.getPlayersByIds(ids, fields);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+    
+    @PostMapping("/batch")
+    @Operation(summary = "Get players by IDs from a request body", description = "Same as GET /api/players?ids=... for id sets too long for a URL; reads nothing but the ids")
+    public ResponseEntity<ApiResponse<PlayerBatchResult<PlayerDTO>>> getPlayersByIdsFromBody(@RequestBody PlayerBatchRequest request) {
+        PlayerBatchResult<PlayerDTO> result = playerService.getPlayersByIds(request.getIds());
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+    
+    @GetMapping(params = {"fields", "!ids"})
+    @Operation(summary = "Get all players with selected fields", description = "Retrieve players with pagination and filtering, selecting only the requested fields")
+    public ResponseEntity<ApiResponse<Page<Map<String, Object>>>> getAllPlayerFields(
+            @Parameter(description = "Country filter") @RequestParam(required = false) String country,
+            @Parameter(description = "Playing role filter") @RequestParam(required = false) PlayingRole playingRole,
+            @Parameter(description = "Active status filter") @RequestParam(required = false) Boolean isActive,
+            @Parameter(description = "Comma separated fields to return, e.g. id,firstName,lastName") @RequestParam String fields,
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<Map<String, Object>> players = playerService.getPlayersWithFilters(country, playingRole, isActive, fields, pageable);
+        return ResponseEntity.ok(ApiResponse.success(players));
+    }
+    
+    @GetMapping("/scroll")
+    @Operation(summary = "Scroll players", description = "Retrieve players with keyset pagination; pass the returned nextCursor to fetch the following page")
+    public ResponseEntity<ApiResponse<CursorPage<PlayerDTO>>> scrollPlayers(
+            @Parameter(description = "Country filter") @RequestParam(required = false) String country,
+            @Parameter(description = "Playing role filter") @RequestParam(required = false) PlayingRole playingRole,
+            @Parameter(description = "Active status filter") @RequestParam(required = false) Boolean isActive,
+            @Parameter(description = "Sort key, ignored when a cursor is supplied") @RequestParam(defaultValue = "ID") PlayerSortKey sortBy,
+            @Parameter(description = "Continuation cursor from the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+        CursorPage<PlayerDTO> players = playerService.scrollPlayers(country, playingRole, isActive, sortBy, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(players));
+    }
+    
+    // Streams on an async request with its own timeout, as a full roster can take far longer than other async
+    // requests are allowed to
+    @GetMapping("/export")
+    @Operation(summary = "Export all players", description = "Stream the full player roster as NDJSON or CSV without pagination")
+    public WebAsyncTask<Void> exportPlayers(
+            @Parameter(description = "Export format") @RequestParam(defaultValue = "NDJSON") PlayerExportFormat format,
+            HttpServletResponse response) {
+        response.setContentType(format.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"players." + format.getFileExtension() + "\"");
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            OutputStream out = response.getOutputStream();
+            playerExportService.exportPlayers(format, out);
+            out.flush();
+            return null;
+        });
+    }
+    
+    @GetMapping("/changes")
+    @Operation(summary = "Get player changes", description = "Retrieve creates, updates and deletes since a watermark in commit order; store the returned watermark and pass it as since on the next call")
+    public ResponseEntity<ApiResponse<PlayerChangeSet>> getPlayerChanges(
+            @Parameter(description = "Watermark from the previous call; omit to start from the beginning") @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes") @RequestParam(defaultValue = "500") int limit) {
+        PlayerChangeSet changes = playerChangeFeedService.getChangesSince(since, limit);
+        return ResponseEntity.ok(ApiResponse.success(changes));
+    }
+    
+    @GetMapping("/events")
+    @Operation(summary = "Get player events", description = "Read the outbox event log from an offset; events for a player are in the order they happened. Apply them, then store nextOffset and pass it as offset on the next call")
+    public ResponseEntity<ApiResponse<PlayerEventPage>> getPlayerEvents(
+            @Parameter(description = "Offset to read from; 0 for the start of the log") @RequestParam(defaultValue = "0") long offset,
+            @Parameter(description = "Maximum number of events") @RequestParam(defaultValue = "500") int limit) {
+        // Reading another instance's log would return a different history, so refuse and let the caller retry
+        if (!playerChangeFeedService.servesEventLog()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .cacheControl(CacheControl.noStore())
+                    .body(ApiResponse.error("This instance does not hold the player event log; retry on an instance that runs the outbox relay", "EVENT_LOG_NOT_SERVED"));
+        }
+        PlayerEventPage events = playerChangeFeedService.getEvents(offset, limit);
+        // A consumer tailing the log should see new events at once, not a cached copy of the last page
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResponse.success(events));
+    }
+    
     @GetMapping("/country/{country}")
     @Operation(summary = "Get players by country", description = "Retrieve all players from a specific country")
     public ResponseEntity<ApiResponse<List<PlayerDTO>>> getPlayersByCountry(
@@ -72,6 +226,15 @@ public class PlayerController {
         return ResponseEntity.ok(ApiResponse.success(players));
     }
     
+    @GetMapping(value = "/country/{country}", params = "fields")
+    @Operation(summary = "Get players by country with selected fields", description = "Retrieve players from a specific country, selecting only the requested fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getPlayerFieldsByCountry(
+            @Parameter(description = "Country name") @PathVariable String country,
+            @Parameter(description = "Comma separated fields to return, e.g. id,firstName,lastName") @RequestParam String fields) {
+        List<Map<String, Object>> players = playerService.getPlayersByCountry(country, fields);
+        return ResponseEntity.ok(ApiResponse.success(players));
+    }
+    
     @GetMapping("/role/{role}")
     @Operation(summary = "Get players by role", description = "Retrieve all players with a specific playing role")
     public ResponseEntity<ApiResponse<List<PlayerDTO>>> getPlayersByRole(
@@ -80,11 +243,31 @@ public class PlayerController {
         return ResponseEntity.ok(ApiResponse.success(players));
     }
     
+    @GetMapping(value = "/role/{role}", params = "fields")
+    @Operation(summary = "Get players by role with selected fields", description = "Retrieve players with a specific playing role, selecting only the requested fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getPlayerFieldsByRole(
+            @Parameter(description = "Playing role") @PathVariable PlayingRole role,
+            @Parameter(description = "Comma separated fields to return, e.g. id,firstName,lastName") @RequestParam String fields) {
+        List<Map<String, Object>> players = playerService.getPlayersByRole(role, fields);
+        return ResponseEntity.ok(ApiResponse.success(players));
+    }
+    
     @GetMapping("/search")
-    @Operation(summary = "Search players by name", description = "Search players by first name or last name")
+    @Operation(summary = "Search players by name", description = "Ranked, typo-tolerant search over first and last names")
     public ResponseEntity<ApiResponse<List<PlayerDTO>>> searchPlayersByName(
-            @Parameter(description = "Search term") @RequestParam String name) {
-        List<PlayerDTO> players = playerService.searchPlayersByName(name);
+            @Parameter(description = "Search term") @RequestParam String name,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "20") int limit) {
+        List<PlayerDTO> players = playerService.searchPlayersByName(name, limit);
+        return ResponseEntity.ok(ApiResponse.success(players));
+    }
+    
+    @GetMapping(value = "/search", params = "fields")
+    @Operation(summary = "Search players by name with selected fields", description = "Ranked, typo-tolerant name search returning only the requested fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> searchPlayerFieldsByName(
+            @Parameter(description = "Search term") @RequestParam String name,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "Comma separated fields to return, e.g. id,firstName,lastName") @RequestParam String fields) {
+        List<Map<String, Object>> players = playerService.searchPlayersByName(name, limit, fields);
         return ResponseEntity.ok(ApiResponse.success(players));
     }
     
@@ -121,6 +304,20 @@ public class PlayerController {
         return ResponseEntity.ok(ApiResponse.success("Player deactivated successfully", player));
     }
     
+    @PutMapping("/bulk/activate")
+    @Operation(summary = "Activate players in bulk", description = "Activate players selected by id list or by country/role filters, returning the number of players changed")
+    public ResponseEntity<ApiResponse<Integer>> activatePlayers(@RequestBody PlayerStatusChangeRequest request) {
+        int updated = playerService.activatePlayers(request);
+        return ResponseEntity.ok(ApiResponse.success(updated + " players activated", updated));
+    }
+    
+    @PutMapping("/bulk/deactivate")
+    @Operation(summary = "Deactivate players in bulk", description = "Deactivate players selected by id list or by country/role filters, returning the number of players changed")
+    public ResponseEntity<ApiResponse<Integer>> deactivatePlayers(@RequestBody PlayerStatusChangeRequest request) {
+        int updated = playerService.deactivatePlayers(request);
+        return ResponseEntity.ok(ApiResponse.success(updated + " players deactivated", updated));
+    }
+    
     @GetMapping("/stats/country/{country}/count")
     @Operation(summary = "Get player count by country", description = "Get the total number of players from a specific country")
     public ResponseEntity<ApiResponse<Long>> getPlayerCountByCountry(
@@ -0,0 +1,132 @@
+package com.cricket.player.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Sends read-only transactions to the replica pools and everything else to the primary. The physical connection
+// is fetched lazily, on the first statement, because the transaction's read-only flag is only known once the
+// transaction manager has begun it. Replicas are used round-robin; one that fails to hand out a connection is
+// skipped for replica-retry-after, and when none is available the read goes to the primary.
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+    
+    private final Router router;
+    
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                      Duration replicaRetryAfter, MeterRegistry meterRegistry) {
+        this.router = new Router(primary, replicas, replicaRetryAfter, meterRegistry);
+        setTargetDataSource(router);
+        // Known up front, so the proxy does not open a connection at startup to find out
+        setDefaultAutoCommit(true);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    public void close() {
+        router.primary.close();
+        router.replicas.forEach(HikariDataSource::close);
+    }
+    
+    private static class Router extends AbstractDataSource {
+        
+        private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+        
+        private final HikariDataSource primary;
+        private final List<HikariDataSource> replicas;
+        private final long replicaRetryAfterMillis;
+        private final AtomicInteger next = new AtomicInteger();
+        // Per replica, the time before which it is skipped after failing to hand out a connection
+        private final AtomicLongArray unavailableUntil;
+        private final Counter primaryWrites;
+        private final Counter primaryNoTransaction;
+        private final Counter primaryRecentWrites;
+        private final Counter primaryFailovers;
+        private final Counter replicaReads;
+        
+        Router(HikariDataSource primary, List<HikariDataSource> replicas, Duration replicaRetryAfter,
+               MeterRegistry meterRegistry) {
+            this.primary = primary;
+            this.replicas = replicas;
+            this.replicaRetryAfterMillis = replicaRetryAfter.toMillis();
+            this.unavailableUntil = new AtomicLongArray(replicas.size());
+            this.primaryWrites = routingCounter(meterRegistry, "primary", "write");
+            this.primaryNoTransaction = routingCounter(meterRegistry, "primary", "no-transaction");
+            this.primaryRecentWrites = routingCounter(meterRegistry, "primary", "recent-write");
+            this.primaryFailovers = routingCounter(meterRegistry, "primary", "failover");
+            this.replicaReads = routingCounter(meterRegistry, "replica", "read");
+        }
+        
+        private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+            return Counter.builder("player.datasource.connections")
+                    .description("Connections handed out by the read/write router")
+                    .tag("target", target)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+        
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                primaryNoTransaction.increment();
+                return primary.getConnection();
+            }
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                ReadYourWrites.markWrite();
+                primaryWrites.increment();
+                return primary.getConnection();
+            }
+            if (ReadYourWrites.isPrimaryRequired()) {
+                primaryRecentWrites.increment();
+                return primary.getConnection();
+            }
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                replicaReads.increment();
+                return connection;
+            }
+            primaryFailovers.increment();
+            return primary.getConnection();
+        }
+        
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new UnsupportedOperationException("Credentials are configured per pool");
+        }
+        
+        private Connection replicaConnection() {
+            if (replicas.isEmpty()) {
+                return null;
+            }
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                int index = (start + i) % replicas.size();
+                long now = System.currentTimeMillis();
+                if (unavailableUntil.get(index) > now) {
+                    continue;
+                }
+                HikariDataSource replica = replicas.get(index);
+                try {
+                    return replica.getConnection();
+                } catch (SQLException ex) {
+                    unavailableUntil.set(index, now + replicaRetryAfterMillis);
+                    log.warn("Replica pool {} unavailable, skipping it for {} ms: {}", replica.getPoolName(),
+                            replicaRetryAfterMillis, ex.getMessage());
+                }
+            }
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.cricket.player.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.Duration;
+
+// Replica-lag guard for one request. A client that wrote within the window gets its reads from the primary, so it
+// sees its own write even if the replicas have not applied it yet. The end of the window travels with the client,
+// as a cookie for browsers and an X-Primary-Until header for services to echo, so it holds whichever instance
+// serves the next request. Requests outside ReadYourWritesFilter (scheduled jobs, async work) are not guarded.
+public final class ReadYourWrites {
+    
+    public static final String COOKIE = "player-primary-until";
+    public static final String HEADER = "X-Primary-Until";
+    
+    private static final ThreadLocal<ReadYourWrites> CURRENT = new ThreadLocal<>();
+    
+    private final HttpServletResponse response;
+    private final Duration window;
+    private boolean primaryRequired;
+    private boolean wrote;
+    
+    private ReadYourWrites(HttpServletResponse response, Duration window, boolean primaryRequired) {
+        this.response = response;
+        this.window = window;
+        this.primaryRequired = primaryRequired;
+    }
+    
+    static void begin(HttpServletRequest request, HttpServletResponse response, Duration window) {
+        long now = System.currentTimeMillis();
+        long until = primaryUntil(request);
+        // A value beyond one window from now was not issued by us, so it cannot pin the client to the primary
+        boolean primaryRequired = until > now && until <= now + window.toMillis();
+        CURRENT.set(new ReadYourWrites(response, window, primaryRequired));
+    }
+    
+    static void end() {
+        CURRENT.remove();
+    }
+    
+    static boolean isPrimaryRequired() {
+        ReadYourWrites current = CURRENT.get();
+        return current != null && current.primaryRequired;
+    }
+    
+    // Called when a read-write transaction takes a connection. Later reads in this request go to the primary, and
+    // the response tells the client to keep reading from it for the window.
+    static void markWrite() {
+        ReadYourWrites current = CURRENT.get();
+        if (current == null || current.wrote) {
+            return;
+        }
+        current.wrote = true;
+        current.primaryRequired = true;
+        if (current.response.isCommitted()) {
+            return;
+        }
+        long until = System.currentTimeMillis() + current.window.toMillis();
+        Cookie cookie = new Cookie(COOKIE, Long.toString(until));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (current.window.toMillis() + 999) / 1000));
+        current.response.addCookie(cookie);
+        current.response.setHeader(HEADER, Long.toString(until));
+    }
+    
+    private static long primaryUntil(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.cricket.player.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Replaces the auto-configured pool with ReadWriteRoutingDataSource when player.datasource.replica-urls lists one
+// or more read replicas. The primary keeps spring.datasource and its hikari settings; each replica gets its own
+// pool, named player-db-replica-<n>, so hikaricp.* metrics are reported per pool.
+@Configuration
+@ConditionalOnProperty(name = "player.datasource.replica-urls")
+public class ReplicaDataSourceConfig {
+    
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties properties,
+                                                 Environment environment,
+                                                 MeterRegistry meterRegistry,
+                                                 @Value("${player.datasource.replica-urls}") List<String> replicaUrls,
+                                                 @Value("${player.datasource.replica-username:${spring.datasource.username:}}") String replicaUsername,
+                                                 @Value("${player.datasource.replica-password:${spring.datasource.password:}}") String replicaPassword,
+                                                 @Value("${player.datasource.replica-pool-size:20}") int replicaPoolSize,
+                                                 @Value("${player.datasource.replica-connection-timeout:1s}") Duration replicaConnectionTimeout,
+                                                 @Value("${player.datasource.replica-retry-after:5s}") Duration replicaRetryAfter) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("player-db-replica-" + (replicas.size() + 1));
+            config.setJdbcUrl(url.trim());
+            config.setDriverClassName(primary.getDriverClassName());
+            config.setUsername(replicaUsername);
+            config.setPassword(replicaPassword);
+            config.setMaximumPoolSize(replicaPoolSize);
+            config.setMinimumIdle(Math.min(primary.getMinimumIdle(), replicaPoolSize));
+            // Short, so a replica that cannot serve is given up on quickly in favour of the next one or the primary
+            config.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+            config.setReadOnly(true);
+            // Start even if the replica is down; the router skips it until it answers again
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReadWriteRoutingDataSource(primary, replicas, replicaRetryAfter, meterRegistry);
+    }
+    
+    // Spring holds a session's connection until the session closes, which with open-in-view is the end of the
+    // request; a read followed by a write would then write through the replica connection. Releasing it after
+    // each transaction lets every transaction be routed on its own.
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+    
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${player.datasource.read-your-writes-window:5s}") Duration window) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(window));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.cricket.player.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkImportResult {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private long durationMs;
+    private List<BulkRowResult> rows = new ArrayList<>();
+    
+    // Constructors
+    public BulkImportResult() {}
+    
+    public void addSuccess(int index, Long id) {
+        rows.add(BulkRowResult.success(index, id));
+        total++;
+        succeeded++;
+    }
+    
+    public void addFailure(int index, List<String> errors) {
+        rows.add(BulkRowResult.failure(index, errors));
+        total++;
+        failed++;
+    }
+    
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public int getSucceeded() {
+        return succeeded;
+    }
+    
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+    
+    public long getDurationMs() {
+        return durationMs;
+    }
+    
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+    
+    public List<BulkRowResult> getRows() {
+        return rows;
+    }
+    
+    public void setRows(List<BulkRowResult> rows) {
+        this.rows = rows;
+    }
+}
\ No newline at end of file
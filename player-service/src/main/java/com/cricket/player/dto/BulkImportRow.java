@@ -0,0 +1,33 @@
+package com.cricket.player.dto;
+
+public class BulkImportRow {
+    private final int index;
+    private final PlayerDTO player;
+    private final String parseError;
+    
+    private BulkImportRow(int index, PlayerDTO player, String parseError) {
+        this.index = index;
+        this.player = player;
+        this.parseError = parseError;
+    }
+    
+    public static BulkImportRow of(int index, PlayerDTO player) {
+        return new BulkImportRow(index, player, null);
+    }
+    
+    public static BulkImportRow unparseable(int index, String parseError) {
+        return new BulkImportRow(index, null, parseError);
+    }
+    
+    public int getIndex() {
+        return index;
+    }
+    
+    public PlayerDTO getPlayer() {
+        return player;
+    }
+    
+    public String getParseError() {
+        return parseError;
+    }
+}
\ No newline at end of file
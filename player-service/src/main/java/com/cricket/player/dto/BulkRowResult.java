@@ -0,0 +1,62 @@
+package com.cricket.player.dto;
+
+import java.util.List;
+
+public class BulkRowResult {
+    private int index;
+    private boolean success;
+    private Long id;
+    private List<String> errors;
+    
+    // Constructors
+    public BulkRowResult() {}
+    
+    public static BulkRowResult success(int index, Long id) {
+        BulkRowResult result = new BulkRowResult();
+        result.index = index;
+        result.success = true;
+        result.id = id;
+        return result;
+    }
+    
+    public static BulkRowResult failure(int index, List<String> errors) {
+        BulkRowResult result = new BulkRowResult();
+        result.index = index;
+        result.success = false;
+        result.errors = errors;
+        return result;
+    }
+    
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+    
+    public void setIndex(int index) {
+        this.index = index;
+    }
+    
+    public boolean isSuccess() {
+        return success;
+    }
+    
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.cricket.player.dto;
+
+import com.cricket.common.exception.CricketBusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque change-feed position: the (changedAt, id) of the last change a client has applied.
+public class ChangeWatermark {
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\u001F";
+    private static final ChangeWatermark ORIGIN = new ChangeWatermark(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+    
+    private final LocalDateTime changedAt;
+    private final Long lastId;
+    
+    public ChangeWatermark(LocalDateTime changedAt, Long lastId) {
+        this.changedAt = changedAt;
+        this.lastId = lastId;
+    }
+    
+    public static ChangeWatermark origin() {
+        return ORIGIN;
+    }
+    
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, changedAt.toString(), String.valueOf(lastId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static ChangeWatermark decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported watermark format");
+            }
+            return new ChangeWatermark(LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new CricketBusinessException("Invalid change feed watermark", "INVALID_WATERMARK");
+        }
+    }
+    
+    public boolean isBefore(LocalDateTime time, Long id) {
+        int compare = changedAt.compareTo(time);
+        return compare < 0 || (compare == 0 && lastId < id);
+    }
+    
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+    
+    public Long getLastId() {
+        return lastId;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.cricket.player.dto;
+
+import java.util.List;
+
+// Body of POST /api/players/batch, for id sets too long for a query string
+public class PlayerBatchRequest {
+    private List<Long> ids;
+    
+    // Constructors
+    public PlayerBatchRequest() {}
+    
+    public PlayerBatchRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+}
\ No newline at end of file
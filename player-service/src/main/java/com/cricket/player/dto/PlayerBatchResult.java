@@ -0,0 +1,35 @@
+package com.cricket.player.dto;
+
+import java.util.List;
+
+// Players found for a multi-id lookup, in the order their ids were first requested, and the requested ids
+// that match no player. T is PlayerDTO, or a field map when the lookup selects fields.
+public class PlayerBatchResult<T> {
+    private List<T> players;
+    private List<Long> missingIds;
+    
+    // Constructors
+    public PlayerBatchResult() {}
+    
+    public PlayerBatchResult(List<T> players, List<Long> missingIds) {
+        this.players = players;
+        this.missingIds = missingIds;
+    }
+    
+    // Getters and Setters
+    public List<T> getPlayers() {
+        return players;
+    }
+    
+    public void setPlayers(List<T> players) {
+        this.players = players;
+    }
+    
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+    
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.cricket.player.dto;
+
+import java.time.LocalDateTime;
+
+// One entry in the change feed; player carries the current state and is null for deletions
+public class PlayerChange {
+    private PlayerChangeType type;
+    private Long id;
+    private LocalDateTime changedAt;
+    private PlayerDTO player;
+    
+    // Constructors
+    public PlayerChange() {}
+    
+    public PlayerChange(PlayerChangeType type, Long id, LocalDateTime changedAt, PlayerDTO player) {
+        this.type = type;
+        this.id = id;
+        this.changedAt = changedAt;
+        this.player = player;
+    }
+    
+    // Getters and Setters
+    public PlayerChangeType getType() {
+        return type;
+    }
+    
+    public void setType(PlayerChangeType type) {
+        this.type = type;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+    
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+    
+    public PlayerDTO getPlayer() {
+        return player;
+    }
+    
+    public void setPlayer(PlayerDTO player) {
+        this.player = player;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.cricket.player.dto;
+
+import java.util.List;
+
+// A page of the change feed. Clients store watermark and pass it back as "since"; when resyncRequired is set
+// the watermark predates tombstone retention, so local state must be discarded and rebuilt from the start.
+public class PlayerChangeSet {
+    private List<PlayerChange> changes;
+    private int size;
+    private boolean hasMore;
+    private boolean resyncRequired;
+    private String watermark;
+    
+    // Constructors
+    public PlayerChangeSet() {}
+    
+    public PlayerChangeSet(List<PlayerChange> changes, String watermark, boolean hasMore) {
+        this.changes = changes;
+        this.size = changes.size();
+        this.hasMore = hasMore;
+        this.watermark = watermark;
+    }
+    
+    public static PlayerChangeSet resyncRequired() {
+        PlayerChangeSet changeSet = new PlayerChangeSet(List.of(), null, false);
+        changeSet.setResyncRequired(true);
+        return changeSet;
+    }
+    
+    // Getters and Setters
+    public List<PlayerChange> getChanges() {
+        return changes;
+    }
+    
+    public void setChanges(List<PlayerChange> changes) {
+        this.changes = changes;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+    
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+    
+    public String getWatermark() {
+        return watermark;
+    }
+    
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+}
\ No newline at end of file
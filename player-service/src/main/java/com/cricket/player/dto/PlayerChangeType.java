@@ -0,0 +1,7 @@
+package com.cricket.player.dto;
+
+public enum PlayerChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
\ No newline at end of file
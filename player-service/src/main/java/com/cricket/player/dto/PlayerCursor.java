@@ -0,0 +1,60 @@
+package com.cricket.player.dto;
+
+import com.cricket.common.exception.CricketBusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque continuation token for keyset pagination: the sort key plus the (sortValue, id) of the last row returned.
+public class PlayerCursor {
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\u001F";
+    
+    private final PlayerSortKey sortKey;
+    private final String lastSortValue;
+    private final Long lastId;
+    
+    public PlayerCursor(PlayerSortKey sortKey, String lastSortValue, Long lastId) {
+        this.sortKey = sortKey;
+        this.lastSortValue = lastSortValue;
+        this.lastId = lastId;
+    }
+    
+    public static PlayerCursor after(PlayerSortKey sortKey, PlayerDTO last) {
+        String sortValue = sortKey == PlayerSortKey.LAST_NAME ? last.getLastName() : null;
+        return new PlayerCursor(sortKey, sortValue, last.getId());
+    }
+    
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortKey.name(),
+                lastSortValue != null ? lastSortValue : "", String.valueOf(lastId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static PlayerCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported cursor format");
+            }
+            PlayerSortKey sortKey = PlayerSortKey.valueOf(parts[1]);
+            String sortValue = sortKey == PlayerSortKey.LAST_NAME ? parts[2] : null;
+            return new PlayerCursor(sortKey, sortValue, Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException ex) {
+            throw new CricketBusinessException("Invalid pagination cursor", "INVALID_CURSOR");
+        }
+    }
+    
+    public PlayerSortKey getSortKey() {
+        return sortKey;
+    }
+    
+    public String getLastSortValue() {
+        return lastSortValue;
+    }
+    
+    public Long getLastId() {
+        return lastId;
+    }
+}
\ No newline at end of file
@@ -32,6 +32,7 @@ public class PlayerDTO {
     private BowlingStyle bowlingStyle;
     private Integer jerseyNumber;
     private Boolean isActive;
+    private Long version;
     
     // Constructors
     public PlayerDTO() {}
@@ -116,4 +117,12 @@ public class PlayerDTO {
     public void setIsActive(Boolean isActive) {
         this.isActive = isActive;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.cricket.player.dto;
+
+import java.time.LocalDateTime;
+
+// One published player change. offset is its position in the event log; player is the state when it was
+// published (null for deletions), so applying events in offset order leaves a replica matching player-service.
+public class PlayerEvent {
+    private long offset;
+    private Long eventId;
+    private PlayerChangeType type;
+    private Long playerId;
+    private LocalDateTime occurredAt;
+    private PlayerDTO player;
+    
+    // Constructors
+    public PlayerEvent() {}
+    
+    public PlayerEvent(Long eventId, PlayerChangeType type, Long playerId, LocalDateTime occurredAt, PlayerDTO player) {
+        this.eventId = eventId;
+        this.type = type;
+        this.playerId = playerId;
+        this.occurredAt = occurredAt;
+        this.player = player;
+    }
+    
+    // Getters and Setters
+    public long getOffset() {
+        return offset;
+    }
+    
+    public void setOffset(long offset) {
+        this.offset = offset;
+    }
+    
+    public Long getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+    
+    public PlayerChangeType getType() {
+        return type;
+    }
+    
+    public void setType(PlayerChangeType type) {
+        this.type = type;
+    }
+    
+    public Long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+    
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+    
+    public PlayerDTO getPlayer() {
+        return player;
+    }
+    
+    public void setPlayer(PlayerDTO player) {
+        this.player = player;
+    }
+}
\ No newline at end of file
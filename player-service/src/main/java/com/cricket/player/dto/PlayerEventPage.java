@@ -0,0 +1,71 @@
+package com.cricket.player.dto;
+
+import java.util.List;
+
+// A page of the event log. Consumers apply the events, then store nextOffset and pass it as offset on the next call.
+// resyncRequired means the requested offset is no longer (or not yet) in the log, e.g. after retention or a sink
+// reset: rebuild local state from GET /api/players, then read from the endOffset returned with the resync.
+public class PlayerEventPage {
+    private List<PlayerEvent> events;
+    private int size;
+    private long nextOffset;
+    private long endOffset;
+    private boolean resyncRequired;
+    
+    // Constructors
+    public PlayerEventPage() {}
+    
+    public PlayerEventPage(List<PlayerEvent> events, long nextOffset, long endOffset) {
+        this.events = events;
+        this.size = events.size();
+        this.nextOffset = nextOffset;
+        this.endOffset = endOffset;
+    }
+    
+    public static PlayerEventPage resyncRequired(long endOffset) {
+        PlayerEventPage page = new PlayerEventPage(List.of(), endOffset, endOffset);
+        page.setResyncRequired(true);
+        return page;
+    }
+    
+    // Getters and Setters
+    public List<PlayerEvent> getEvents() {
+        return events;
+    }
+    
+    public void setEvents(List<PlayerEvent> events) {
+        this.events = events;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public long getNextOffset() {
+        return nextOffset;
+    }
+    
+    public void setNextOffset(long nextOffset) {
+        this.nextOffset = nextOffset;
+    }
+    
+    public long getEndOffset() {
+        return endOffset;
+    }
+    
+    public void setEndOffset(long endOffset) {
+        this.endOffset = endOffset;
+    }
+    
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+    
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+}
\ No newline at end of file
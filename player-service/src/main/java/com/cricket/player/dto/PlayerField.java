@@ -0,0 +1,61 @@
+package com.cricket.player.dto;
+
+import com.cricket.common.exception.CricketBusinessException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Whitelist of player attributes a client may request through ?fields=; the property name is shared by the
+// Player entity attribute and the PlayerDTO JSON property, so it is used both in the projection and the response.
+public enum PlayerField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    DATE_OF_BIRTH("dateOfBirth"),
+    COUNTRY("country"),
+    PLAYING_ROLE("playingRole"),
+    BATTING_STYLE("battingStyle"),
+    BOWLING_STYLE("bowlingStyle"),
+    JERSEY_NUMBER("jerseyNumber"),
+    IS_ACTIVE("isActive"),
+    VERSION("version");
+    
+    private final String property;
+    
+    PlayerField(String property) {
+        this.property = property;
+    }
+    
+    public String getProperty() {
+        return property;
+    }
+    
+    public static PlayerField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new CricketBusinessException(
+                        "Unknown player field '" + property + "'", "INVALID_FIELDS"));
+    }
+    
+    // Parses a comma separated list such as "id,firstName,lastName", keeping the requested order
+    public static List<PlayerField> parse(String fields) {
+        List<PlayerField> parsed = new ArrayList<>();
+        if (fields != null) {
+            for (String property : fields.split(",")) {
+                String trimmed = property.trim();
+                if (!trimmed.isEmpty()) {
+                    PlayerField field = fromProperty(trimmed);
+                    if (!parsed.contains(field)) {
+                        parsed.add(field);
+                    }
+                }
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new CricketBusinessException("At least one player field must be requested", "INVALID_FIELDS");
+        }
+        return parsed;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.cricket.player.dto;
+
+public enum PlayerSortKey {
+    ID,
+    LAST_NAME
+}
\ No newline at end of file
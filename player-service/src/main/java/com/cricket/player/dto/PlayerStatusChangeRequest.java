@@ -0,0 +1,46 @@
+package com.cricket.player.dto;
+
+import com.cricket.player.model.PlayingRole;
+
+import java.util.List;
+
+// Selects the players a bulk activate/deactivate applies to: either explicit ids, or the country/role filters
+public class PlayerStatusChangeRequest {
+    private List<Long> ids;
+    private String country;
+    private PlayingRole playingRole;
+    
+    // Constructors
+    public PlayerStatusChangeRequest() {}
+    
+    public PlayerStatusChangeRequest(List<Long> ids, String country, PlayingRole playingRole) {
+        this.ids = ids;
+        this.country = country;
+        this.playingRole = playingRole;
+    }
+    
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    public String getCountry() {
+        return country;
+    }
+    
+    public void setCountry(String country) {
+        this.country = country;
+    }
+    
+    public PlayingRole getPlayingRole() {
+        return playingRole;
+    }
+    
+    public void setPlayingRole(PlayingRole playingRole) {
+        this.playingRole = playingRole;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.cricket.player.export;
+
+import com.cricket.player.dto.PlayerDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvPlayerRowWriter implements PlayerRowWriter {
+    
+    private static final String HEADER = "id,firstName,lastName,dateOfBirth,country,playingRole,battingStyle,bowlingStyle,jerseyNumber,isActive";
+    
+    private final Writer writer;
+    
+    public CsvPlayerRowWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+    }
+    
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+    
+    @Override
+    public void writeRow(PlayerDTO player) throws IOException {
+        writeField(player.getId());
+        writeField(player.getFirstName());
+        writeField(player.getLastName());
+        writeField(player.getDateOfBirth());
+        writeField(player.getCountry());
+        writeField(player.getPlayingRole());
+        writeField(player.getBattingStyle());
+        writeField(player.getBowlingStyle());
+        writeField(player.getJerseyNumber());
+        writer.write(player.getIsActive() != null ? player.getIsActive().toString() : "");
+        writer.write('\n');
+    }
+    
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+    
+    private void writeField(Object value) throws IOException {
+        if (value != null) {
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+        writer.write(',');
+    }
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.cricket.player.export;
+
+import com.cricket.player.dto.PlayerDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class NdjsonPlayerRowWriter implements PlayerRowWriter {
+    
+    private final JsonGenerator generator;
+    private final ObjectWriter rowWriter;
+    
+    public NdjsonPlayerRowWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+        // Let the generator's buffer decide when bytes hit the socket instead of flushing every row
+        this.rowWriter = objectMapper.writerFor(PlayerDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+    
+    @Override
+    public void writeHeader() {
+    }
+    
+    @Override
+    public void writeRow(PlayerDTO player) throws IOException {
+        rowWriter.writeValue(generator, player);
+        generator.writeRaw('\n');
+    }
+    
+    @Override
+    public void finish() throws IOException {
+        generator.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.cricket.player.export;
+
+import org.springframework.http.MediaType;
+
+public enum PlayerExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+    
+    private final MediaType mediaType;
+    private final String fileExtension;
+    
+    PlayerExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+    
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+    
+    public String getFileExtension() {
+        return fileExtension;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.cricket.player.export;
+
+import com.cricket.player.dto.PlayerDTO;
+
+import java.io.IOException;
+
+public interface PlayerRowWriter {
+    
+    void writeHeader() throws IOException;
+    
+    void writeRow(PlayerDTO player) throws IOException;
+    
+    void finish() throws IOException;
+}
\ No newline at end of file
@@ -10,7 +10,11 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "players")
+@Table(name = "players", indexes = {
+        @Index(name = "idx_players_last_name_id", columnList = "last_name, id"),
+        @Index(name = "idx_players_country_id", columnList = "country, id"),
+        @Index(name = "idx_players_updated_at_id", columnList = "updated_at, id")
+})
 public class Player extends BaseEntity {
     
     @NotBlank(message = "First name is required")
@@ -50,10 +54,13 @@ public class Player extends BaseEntity {
     @Column(name = "is_active")
     private Boolean isActive = true;
     
-    // Constructors
-    public Player() {}
+    // Constructors: writers stamp createdAt and updatedAt with PlayerRepository.currentTimestamp()
+    public Player() {
+        super(false);
+    }
     
     public Player(String firstName, String lastName, String country) {
+        super(false);
         this.firstName = firstName;
         this.lastName = lastName;
         this.country = country;
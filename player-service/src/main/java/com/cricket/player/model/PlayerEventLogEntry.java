@@ -0,0 +1,41 @@
+package com.cricket.player.model;
+
+import jakarta.persistence.*;
+
+// One event of the log kept by DatabasePlayerEventSink: its offset and the event as JSON.
+@Entity
+@Table(name = "player_event_log")
+public class PlayerEventLogEntry {
+    
+    @Id
+    @Column(name = "event_offset")
+    private Long eventOffset;
+    
+    @Column(name = "payload", nullable = false, length = 65535)
+    private String payload;
+    
+    // Constructors
+    public PlayerEventLogEntry() {}
+    
+    public PlayerEventLogEntry(Long eventOffset, String payload) {
+        this.eventOffset = eventOffset;
+        this.payload = payload;
+    }
+    
+    // Getters and Setters
+    public Long getEventOffset() {
+        return eventOffset;
+    }
+    
+    public void setEventOffset(Long eventOffset) {
+        this.eventOffset = eventOffset;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.cricket.player.model;
+
+import com.cricket.player.dto.PlayerChangeType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// A player change waiting to be published, written in the transaction that made it and deleted once the relay
+// has handed it to the event sink. It records only what changed: the relay attaches the player's state when it
+// publishes. IDENTITY rather than a pooled sequence so ids follow insert order across instances; bulk writes add
+// their rows with a single INSERT ... SELECT, so nothing is lost by not batching.
+@Entity
+@Table(name = "player_outbox")
+public class PlayerOutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private PlayerChangeType eventType;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public PlayerOutboxEvent() {}
+    
+    public PlayerOutboxEvent(Long playerId, PlayerChangeType eventType, LocalDateTime createdAt) {
+        this.playerId = playerId;
+        this.eventType = eventType;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public PlayerChangeType getEventType() {
+        return eventType;
+    }
+    
+    public void setEventType(PlayerChangeType eventType) {
+        this.eventType = eventType;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
\ No newline at end of file
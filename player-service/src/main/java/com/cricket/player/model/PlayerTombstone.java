@@ -0,0 +1,45 @@
+package com.cricket.player.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Deleted rows leave no trace in the players table, so the change feed reads deletions from here.
+@Entity
+@Table(name = "player_tombstones", indexes = {
+        @Index(name = "idx_player_tombstones_deleted_at_id", columnList = "deleted_at, player_id")
+})
+public class PlayerTombstone {
+    
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+    
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+    
+    // Constructors
+    public PlayerTombstone() {}
+    
+    public PlayerTombstone(Long playerId, LocalDateTime deletedAt) {
+        this.playerId = playerId;
+        this.deletedAt = deletedAt;
+    }
+    
+    // Getters and Setters
+    public Long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
\ No newline at end of file
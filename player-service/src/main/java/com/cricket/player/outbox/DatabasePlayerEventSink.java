@@ -0,0 +1,102 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerEvent;
+import com.cricket.player.dto.PlayerEventPage;
+import com.cricket.player.model.PlayerEventLogEntry;
+import com.cricket.player.repository.PlayerEventLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps the log in the player_event_log table, so every instance serves the same log and any of them may run the
+// relay. A batch is stored in the relay's transaction, from the offset after the last stored one: relays take
+// turns through the outbox row lock, and should two ever pick the same offsets, the primary key fails the later
+// batch and its outbox rows are published again next round. Only the latest player.outbox.database.max-events
+// events are kept.
+@Component
+@ConditionalOnProperty(name = "player.outbox.sink", havingValue = "database")
+public class DatabasePlayerEventSink implements PlayerEventSink {
+    
+    private static final Logger log = LoggerFactory.getLogger(DatabasePlayerEventSink.class);
+    
+    private final PlayerEventLogRepository eventLogRepository;
+    private final ObjectMapper objectMapper;
+    private final long maxEvents;
+    
+    @Autowired
+    public DatabasePlayerEventSink(PlayerEventLogRepository eventLogRepository,
+                                   ObjectMapper objectMapper,
+                                   @Value("${player.outbox.database.max-events:1000000}") long maxEvents) {
+        this.eventLogRepository = eventLogRepository;
+        this.objectMapper = objectMapper;
+        this.maxEvents = maxEvents;
+    }
+    
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+    
+    @Override
+    @Transactional
+    public void publish(List<PlayerEvent> events) {
+        long offset = endOffset();
+        List<PlayerEventLogEntry> entries = new ArrayList<>(events.size());
+        try {
+            for (PlayerEvent event : events) {
+                event.setOffset(offset);
+                entries.add(new PlayerEventLogEntry(offset++, objectMapper.writeValueAsString(event)));
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize player event", ex);
+        }
+        eventLogRepository.saveAllAndFlush(entries);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public PlayerEventPage read(long offset, int limit) {
+        long endOffset = endOffset();
+        Long startOffset = eventLogRepository.findStartOffset();
+        if (offset > endOffset || (startOffset != null && offset < startOffset) || offset < 0) {
+            return PlayerEventPage.resyncRequired(endOffset);
+        }
+        List<PlayerEventLogEntry> entries = eventLogRepository.findFrom(offset, PageRequest.of(0, limit));
+        List<PlayerEvent> events = new ArrayList<>(entries.size());
+        try {
+            for (PlayerEventLogEntry entry : entries) {
+                events.add(objectMapper.readValue(entry.getPayload(), PlayerEvent.class));
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to read player event", ex);
+        }
+        long nextOffset = offset + events.size();
+        return new PlayerEventPage(events, nextOffset, Math.max(endOffset, nextOffset));
+    }
+    
+    @Transactional
+    @Scheduled(initialDelayString = "${player.outbox.database.trim-interval:PT1H}",
+               fixedDelayString = "${player.outbox.database.trim-interval:PT1H}")
+    public void trim() {
+        int trimmed = eventLogRepository.deleteBefore(endOffset() - maxEvents);
+        if (trimmed > 0) {
+            log.info("Trimmed {} player events beyond the latest {}", trimmed, maxEvents);
+        }
+    }
+    
+    private long endOffset() {
+        Long lastOffset = eventLogRepository.findLastOffset();
+        return lastOffset == null ? 0 : lastOffset + 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerEvent;
+import com.cricket.player.dto.PlayerEventPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Appends events to an NDJSON file, one line per event, so the log survives restarts of a single local instance.
+// Each batch is written with one positional write and one fsync. The line offsets are indexed in memory (8 bytes
+// per event) and rebuilt by scanning the file on startup, when a line left incomplete by a crash is cut off.
+@Component
+@ConditionalOnProperty(name = "player.outbox.sink", havingValue = "file")
+public class FilePlayerEventSink implements PlayerEventSink, DisposableBean {
+    
+    private static final Logger log = LoggerFactory.getLogger(FilePlayerEventSink.class);
+    
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Event i is stored from lineStarts[i] up to lineStarts[i + 1]; lineStarts[count] is the end of the log
+    private long[] lineStarts = new long[1024];
+    private int count;
+    
+    @Autowired
+    public FilePlayerEventSink(ObjectMapper objectMapper,
+                               @Value("${player.outbox.file.path:data/player-events.ndjson}") Path path) throws IOException {
+        this.objectMapper = objectMapper;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = index();
+        if (size > lineStarts[count]) {
+            log.warn("Discarding {} bytes of an incomplete event at the end of {}", size - lineStarts[count], path);
+            channel.truncate(lineStarts[count]);
+        }
+        log.info("Player event log {} holds {} events", path, count);
+    }
+    
+    // Returns the file size
+    private long index() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long position = 0;
+        int read;
+        while ((read = channel.read(buffer.clear(), position)) > 0) {
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    appendLineEnd(position + i + 1);
+                }
+            }
+            position += read;
+        }
+        return position;
+    }
+    
+    private void appendLineEnd(long position) {
+        if (count + 1 == lineStarts.length) {
+            lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+        }
+        lineStarts[++count] = position;
+    }
+    
+    @Override
+    public void publish(List<PlayerEvent> events) {
+        lock.writeLock().lock();
+        try {
+            long start = lineStarts[count];
+            ByteArrayOutputStream out = new ByteArrayOutputStream(events.size() * 512);
+            long[] lineEnds = new long[events.size()];
+            for (int i = 0; i < events.size(); i++) {
+                PlayerEvent event = events.get(i);
+                event.setOffset(count + i);
+                out.write(objectMapper.writeValueAsBytes(event));
+                out.write('\n');
+                lineEnds[i] = start + out.size();
+            }
+            ByteBuffer batch = ByteBuffer.wrap(out.toByteArray());
+            try {
+                for (long position = start; batch.hasRemaining(); ) {
+                    position += channel.write(batch, position);
+                }
+                channel.force(false);
+            } catch (IOException ex) {
+                // Drop whatever part of the batch reached the file, so a retry starts from a clean end
+                channel.truncate(start);
+                throw ex;
+            }
+            for (long lineEnd : lineEnds) {
+                appendLineEnd(lineEnd);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append player events", ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    @Override
+    public PlayerEventPage read(long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            if (offset < 0 || offset > count) {
+                return PlayerEventPage.resyncRequired(count);
+            }
+            int from = (int) offset;
+            int to = (int) Math.min(count, offset + limit);
+            ByteBuffer bytes = ByteBuffer.allocate((int) (lineStarts[to] - lineStarts[from]));
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, lineStarts[from] + bytes.position()) < 0) {
+                    throw new IOException("Player event log is shorter than its index");
+                }
+            }
+            List<PlayerEvent> events = new ArrayList<>(to - from);
+            byte[] array = bytes.array();
+            for (int i = from; i < to; i++) {
+                int lineStart = (int) (lineStarts[i] - lineStarts[from]);
+                int lineLength = (int) (lineStarts[i + 1] - lineStarts[i]) - 1;
+                events.add(objectMapper.readValue(array, lineStart, lineLength, PlayerEvent.class));
+            }
+            return new PlayerEventPage(events, to, count);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read player events", ex);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public void destroy() throws IOException {
+        channel.close();
+    }
+}
\ No newline at end of file
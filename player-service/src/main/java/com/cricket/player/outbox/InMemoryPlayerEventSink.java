@@ -0,0 +1,49 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerEvent;
+import com.cricket.player.dto.PlayerEventPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Keeps the latest player.outbox.memory.max-events events in a ring buffer. For local development and tests:
+// the log starts again at offset 0 on restart, which sends consumers holding a later offset to resync.
+@Component
+@ConditionalOnProperty(name = "player.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPlayerEventSink implements PlayerEventSink {
+    
+    private final PlayerEvent[] ring;
+    private long endOffset;
+    
+    @Autowired
+    public InMemoryPlayerEventSink(@Value("${player.outbox.memory.max-events:100000}") int maxEvents) {
+        this.ring = new PlayerEvent[maxEvents];
+    }
+    
+    @Override
+    public synchronized void publish(List<PlayerEvent> events) {
+        for (PlayerEvent event : events) {
+            event.setOffset(endOffset);
+            ring[(int) (endOffset % ring.length)] = event;
+            endOffset++;
+        }
+    }
+    
+    @Override
+    public synchronized PlayerEventPage read(long offset, int limit) {
+        long startOffset = Math.max(0, endOffset - ring.length);
+        if (offset < startOffset || offset > endOffset) {
+            return PlayerEventPage.resyncRequired(endOffset);
+        }
+        long to = Math.min(endOffset, offset + limit);
+        List<PlayerEvent> events = new ArrayList<>((int) (to - offset));
+        for (long position = offset; position < to; position++) {
+            events.add(ring[(int) (position % ring.length)]);
+        }
+        return new PlayerEventPage(events, to, endOffset);
+    }
+}
\ No newline at end of file
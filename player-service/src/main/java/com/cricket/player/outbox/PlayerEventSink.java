@@ -0,0 +1,23 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerEvent;
+import com.cricket.player.dto.PlayerEventPage;
+
+import java.util.List;
+
+// Destination of the events PlayerOutboxRelay publishes, selected with player.outbox.sink. The log is ordered:
+// every event gets the next offset, and a batch must be stored before publish returns, since the relay then
+// deletes its outbox rows. A sink for an external broker could leave read unsupported, as its consumers would
+// read the broker instead.
+public interface PlayerEventSink {
+    
+    void publish(List<PlayerEvent> events);
+    
+    PlayerEventPage read(long offset, int limit);
+    
+    // Whether every instance reads the same log. A log kept per instance only holds the events its own relay
+    // published, so an instance with the relay off has nothing to serve.
+    default boolean isShared() {
+        return false;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.model.PlayerOutboxEvent;
+import com.cricket.player.model.PlayingRole;
+import com.cricket.player.repository.PlayerOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+// Records player changes for PlayerOutboxRelay. Joins the caller's transaction, and refuses to run without one,
+// so an event exists exactly when the change it describes has committed.
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class PlayerOutbox {
+    
+    private final PlayerOutboxRepository outboxRepository;
+    
+    @Autowired
+    public PlayerOutbox(PlayerOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+    
+    public void record(Long playerId, PlayerChangeType type) {
+        outboxRepository.save(new PlayerOutboxEvent(playerId, type, LocalDateTime.now()));
+    }
+    
+    public void recordCreated(Collection<Long> playerIds) {
+        outboxRepository.insertCreated(playerIds, LocalDateTime.now());
+    }
+    
+    // Call before the status update itself; see PlayerOutboxRepository
+    public void recordStatusChanges(Collection<Long> playerIds, boolean active) {
+        outboxRepository.insertStatusChangedByIds(playerIds, active, LocalDateTime.now());
+    }
+    
+    public void recordStatusChanges(String country, PlayingRole playingRole, boolean active) {
+        outboxRepository.insertStatusChangedWithFilters(country, playingRole, active, LocalDateTime.now());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.dto.PlayerEvent;
+import com.cricket.player.model.Player;
+import com.cricket.player.model.PlayerOutboxEvent;
+import com.cricket.player.repository.PlayerOutboxRepository;
+import com.cricket.player.repository.PlayerRepository;
+import com.cricket.player.service.PlayerMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Moves outbox rows to the event sink in id order, up to batch-size rows per transaction: one query loads the
+// players they refer to, the sink stores the batch, and the rows are deleted. Events carry the player's state at
+// publish time, so a player's events never go back in time even when ids and commits interleave. Within a batch
+// an update following another event for the same player is coalesced into it, since it would carry the same state;
+// a create or update whose player has since been deleted is skipped, as its deletion follows. Delivery is at least
+// once: if the transaction fails after the sink stored the batch, it is published again.
+@Component
+@ConditionalOnProperty(name = "player.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class PlayerOutboxRelay {
+    
+    private static final Logger log = LoggerFactory.getLogger(PlayerOutboxRelay.class);
+    
+    private final PlayerOutboxRepository outboxRepository;
+    private final PlayerRepository playerRepository;
+    private final PlayerEventSink eventSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter publishedEvents;
+    private final Counter coalescedEvents;
+    private final Counter skippedEvents;
+    private final Counter failures;
+    
+    @Autowired
+    public PlayerOutboxRelay(PlayerOutboxRepository outboxRepository,
+                             PlayerRepository playerRepository,
+                             PlayerEventSink eventSink,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${player.outbox.relay.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.playerRepository = playerRepository;
+        this.eventSink = eventSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.publishedEvents = outboxCounter(meterRegistry, "published");
+        this.coalescedEvents = outboxCounter(meterRegistry, "coalesced");
+        this.skippedEvents = outboxCounter(meterRegistry, "skipped");
+        this.failures = Counter.builder("player.outbox.relay.failures")
+                .description("Relay rounds that failed and left their outbox rows for the next round")
+                .register(meterRegistry);
+    }
+    
+    private static Counter outboxCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("player.outbox.events")
+                .description("Outbox rows handled by the relay")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+    
+    // Drains the outbox, a full batch at a time, until a batch comes back short
+    @Scheduled(initialDelayString = "${player.outbox.relay.interval:PT0.2S}",
+               fixedDelayString = "${player.outbox.relay.interval:PT0.2S}")
+    public void relay() {
+        try {
+            while (relayBatch() == batchSize) {
+                // keep draining
+            }
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Player outbox relay failed, retrying next round: {}", ex.getMessage());
+        }
+    }
+    
+    // Returns the number of outbox rows consumed
+    int relayBatch() {
+        return transactionTemplate.execute(status -> {
+            List<PlayerOutboxEvent> rows = outboxRepository.findOldest(PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            Set<Long> livePlayerIds = rows.stream()
+                    .filter(row -> row.getEventType() != PlayerChangeType.DELETED)
+                    .map(PlayerOutboxEvent::getPlayerId)
+                    .collect(Collectors.toSet());
+            Map<Long, Player> players = playerRepository.findAllById(livePlayerIds).stream()
+                    .collect(Collectors.toMap(Player::getId, Function.identity()));
+            
+            List<PlayerEvent> events = new ArrayList<>(rows.size());
+            Map<Long, PlayerChangeType> lastTypes = new HashMap<>();
+            int coalesced = 0;
+            int skipped = 0;
+            for (PlayerOutboxEvent row : rows) {
+                PlayerChangeType lastType = lastTypes.put(row.getPlayerId(), row.getEventType());
+                if (row.getEventType() == PlayerChangeType.DELETED) {
+                    events.add(new PlayerEvent(row.getId(), row.getEventType(), row.getPlayerId(), row.getCreatedAt(), null));
+                    continue;
+                }
+                Player player = players.get(row.getPlayerId());
+                if (player == null) {
+                    skipped++;
+                } else if (row.getEventType() == PlayerChangeType.UPDATED && lastType != null
+                        && lastType != PlayerChangeType.DELETED) {
+                    coalesced++;
+                } else {
+                    events.add(new PlayerEvent(row.getId(), row.getEventType(), row.getPlayerId(), row.getCreatedAt(),
+                            PlayerMapper.convertToDTO(player)));
+                }
+            }
+            
+            if (!events.isEmpty()) {
+                eventSink.publish(events);
+            }
+            outboxRepository.deleteByIds(rows.stream().map(PlayerOutboxEvent::getId).collect(Collectors.toList()));
+            publishedEvents.increment(events.size());
+            coalescedEvents.increment(coalesced);
+            skippedEvents.increment(skipped);
+            return rows.size();
+        });
+    }
+}
\ No newline at end of file
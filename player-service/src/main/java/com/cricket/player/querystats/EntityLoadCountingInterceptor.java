@@ -0,0 +1,16 @@
+package com.cricket.player.querystats;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+class EntityLoadCountingInterceptor implements Interceptor {
+    
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.entityLoaded();
+        }
+        return false;
+    }
+}
\ No newline at end of file
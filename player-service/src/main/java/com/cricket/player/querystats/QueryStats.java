@@ -0,0 +1,83 @@
+package com.cricket.player.querystats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+// Database work done by the request running on the current thread. QueryStatsFilter opens and closes it; the
+// datasource proxy and Hibernate interceptor add to it, and do nothing on threads without an open request
+// (startup, scheduled jobs, async export streaming).
+public class QueryStats {
+    
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+    // Pooled id allocation legitimately repeats once per allocation-size inserts (bulk import); not an N+1
+    private static final Pattern SEQUENCE_FETCH = Pattern.compile("(?i)next value for|nextval\\(");
+    
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int queries;
+    private long rows;
+    private int entityLoads;
+    private long sqlNanos;
+    private long queryStartNanos;
+    
+    static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+    
+    static void end() {
+        CURRENT.remove();
+    }
+    
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+    
+    void queryStarted() {
+        queryStartNanos = System.nanoTime();
+    }
+    
+    // A JDBC batch is one round trip for many rows, so repeated batches (bulk import chunks) are not an N+1 either
+    void queryFinished(String sql, boolean batch) {
+        queries++;
+        sqlNanos += System.nanoTime() - queryStartNanos;
+        if (!batch && !SEQUENCE_FETCH.matcher(sql).find()) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+    
+    void rowFetched() {
+        rows++;
+    }
+    
+    void entityLoaded() {
+        entityLoads++;
+    }
+    
+    // The statement run most often in this request; the same SELECT repeated once per parent row is the N+1 shape
+    Map.Entry<String, Integer> mostRepeatedStatement() {
+        return executionsBySql.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+    
+    String toHeaderValue() {
+        return "queries=" + queries + ";rows=" + rows + ";entity-loads=" + entityLoads
+                + ";sql-ms=" + String.format("%.2f", sqlNanos / 1_000_000.0);
+    }
+    
+    public int getQueries() {
+        return queries;
+    }
+    
+    public long getRows() {
+        return rows;
+    }
+    
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+    
+    public long getSqlNanos() {
+        return sqlNanos;
+    }
+}
\ No newline at end of file
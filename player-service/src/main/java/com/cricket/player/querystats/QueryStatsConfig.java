@@ -0,0 +1,60 @@
+package com.cricket.player.querystats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// Per-request SQL accounting, replacing show-sql: statements, rows and entity loads are counted for each API call,
+// published as player.request.* metrics and, when player.query-stats.response-header is on, as X-Query-Stats.
+@Configuration
+@ConditionalOnProperty(name = "player.query-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+    
+    @Bean
+    public static BeanPostProcessor queryStatsDataSourceProxy() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryStatsListener())
+                            .proxyResultSet()
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+    
+    @Bean
+    public HibernatePropertiesCustomizer entityLoadCounter() {
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCountingInterceptor());
+    }
+    
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(MeterRegistry meterRegistry,
+                                                                     @Value("${player.query-stats.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        FilterRegistrationBean<QueryStatsFilter> registration =
+                new FilterRegistrationBean<>(new QueryStatsFilter(meterRegistry, nPlusOneThreshold));
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registration;
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "player.query-stats.response-header", havingValue = "true", matchIfMissing = true)
+    public QueryStatsHeaderAdvice queryStatsHeaderAdvice() {
+        return new QueryStatsHeaderAdvice();
+    }
+}
\ No newline at end of file
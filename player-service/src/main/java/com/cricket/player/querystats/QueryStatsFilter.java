@@ -0,0 +1,82 @@
+package com.cricket.player.querystats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Opens a QueryStats for each API request and, once it completes, records it per endpoint and warns when one
+// statement ran at least nPlusOneThreshold times (typically a lazy load per row of an earlier result).
+public class QueryStatsFilter extends OncePerRequestFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(QueryStatsFilter.class);
+    
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+    
+    public QueryStatsFilter(MeterRegistry meterRegistry, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.end();
+            record(request, stats);
+        }
+    }
+    
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+        DistributionSummary.builder("player.request.sql.queries")
+                .description("SQL statements executed per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getQueries());
+        DistributionSummary.builder("player.request.sql.rows")
+                .description("Result set rows fetched per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        DistributionSummary.builder("player.request.entity.loads")
+                .description("Entities materialized by Hibernate per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getEntityLoads());
+        Timer.builder("player.request.sql.time")
+                .description("Time spent executing SQL per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getSqlNanos(), TimeUnit.NANOSECONDS);
+        
+        Map.Entry<String, Integer> repeated = stats.mostRepeatedStatement();
+        if (repeated != null && repeated.getValue() >= nPlusOneThreshold) {
+            meterRegistry.counter("player.request.n-plus-one", tags).increment();
+            log.warn("Possible N+1 in {} {}: statement ran {} times ({} queries in total): {}",
+                    request.getMethod(), request.getRequestURI(), repeated.getValue(), stats.getQueries(), repeated.getKey());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.cricket.player.querystats;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.lifecycle.JdbcLifecycleEventListenerAdapter;
+
+import java.util.List;
+
+// Fed by the datasource proxy: one query per statement execution (a JDBC batch counts once) and one row per
+// successful ResultSet.next()
+class QueryStatsListener extends JdbcLifecycleEventListenerAdapter {
+    
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.queryStarted();
+        }
+    }
+    
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.queryFinished(queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery(), execInfo.isBatch());
+        }
+    }
+    
+    @Override
+    public void afterNext(MethodExecutionContext executionContext) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null && Boolean.TRUE.equals(executionContext.getResult())) {
+            stats.rowFetched();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.cricket.player.repository;
+
+import com.cricket.player.model.PlayerEventLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PlayerEventLogRepository extends JpaRepository<PlayerEventLogEntry, Long> {
+    
+    @Query("SELECT e FROM PlayerEventLogEntry e WHERE e.eventOffset >= :offset ORDER BY e.eventOffset")
+    List<PlayerEventLogEntry> findFrom(@Param("offset") long offset, Pageable limit);
+    
+    @Query("SELECT MIN(e.eventOffset) FROM PlayerEventLogEntry e")
+    Long findStartOffset();
+    
+    @Query("SELECT MAX(e.eventOffset) FROM PlayerEventLogEntry e")
+    Long findLastOffset();
+    
+    @Modifying
+    @Query("DELETE FROM PlayerEventLogEntry e WHERE e.eventOffset < :offset")
+    int deleteBefore(@Param("offset") long offset);
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.cricket.player.repository;
+
+import com.cricket.player.model.PlayerOutboxEvent;
+import com.cricket.player.model.PlayingRole;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PlayerOutboxRepository extends JpaRepository<PlayerOutboxEvent, Long> {
+    
+    // Locked so that relays on several instances take turns instead of publishing the same rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM PlayerOutboxEvent e ORDER BY e.id")
+    List<PlayerOutboxEvent> findOldest(Pageable limit);
+    
+    @Modifying
+    @Query("DELETE FROM PlayerOutboxEvent e WHERE e.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+    
+    // The INSERT ... SELECT statements below record a bulk write with one statement instead of a row per player
+    
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO PlayerOutboxEvent (playerId, eventType, createdAt) " +
+           "SELECT p.id, com.cricket.player.dto.PlayerChangeType.CREATED, :now FROM Player p WHERE p.id IN :ids")
+    int insertCreated(@Param("ids") Collection<Long> ids,
+                      @Param("now") LocalDateTime now);
+    
+    // Run before the matching status update, with the same condition, so only players it changes are recorded
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO PlayerOutboxEvent (playerId, eventType, createdAt) " +
+           "SELECT p.id, com.cricket.player.dto.PlayerChangeType.UPDATED, :now FROM Player p " +
+           "WHERE p.id IN :ids AND (p.isActive IS NULL OR p.isActive <> :active)")
+    int insertStatusChangedByIds(@Param("ids") Collection<Long> ids,
+                                 @Param("active") boolean active,
+                                 @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO PlayerOutboxEvent (playerId, eventType, createdAt) " +
+           "SELECT p.id, com.cricket.player.dto.PlayerChangeType.UPDATED, :now FROM Player p WHERE " +
+           "(:country IS NULL OR p.country = :country) AND " +
+           "(:playingRole IS NULL OR p.playingRole = :playingRole) AND " +
+           "(p.isActive IS NULL OR p.isActive <> :active)")
+    int insertStatusChangedWithFilters(@Param("country") String country,
+                                       @Param("playingRole") PlayingRole playingRole,
+                                       @Param("active") boolean active,
+                                       @Param("now") LocalDateTime now);
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.cricket.player.repository;
+
+import com.cricket.player.dto.PlayerField;
+import com.cricket.player.model.PlayingRole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// Sparse reads that select only the requested columns into tuples, so no Player entities are loaded or managed
+public interface PlayerProjectionRepository {
+    
+    Page<Map<String, Object>> findProjectedWithFilters(List<PlayerField> fields,
+                                                       String country,
+                                                       PlayingRole playingRole,
+                                                       Boolean isActive,
+                                                       Pageable pageable);
+    
+    List<Map<String, Object>> findProjectedByCountry(List<PlayerField> fields, String country);
+    
+    List<Map<String, Object>> findProjectedByPlayingRole(List<PlayerField> fields, PlayingRole playingRole);
+    
+    List<Map<String, Object>> findProjectedByIds(List<PlayerField> fields, Collection<Long> ids);
+}
\ No newline at end of file
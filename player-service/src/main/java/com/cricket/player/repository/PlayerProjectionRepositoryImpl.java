@@ -0,0 +1,121 @@
+package com.cricket.player.repository;
+
+import com.cricket.player.dto.PlayerField;
+import com.cricket.player.model.Player;
+import com.cricket.player.model.PlayingRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+public class PlayerProjectionRepositoryImpl implements PlayerProjectionRepository {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public Page<Map<String, Object>> findProjectedWithFilters(List<PlayerField> fields,
+                                                              String country,
+                                                              PlayingRole playingRole,
+                                                              Boolean isActive,
+                                                              Pageable pageable) {
+        BiFunction<CriteriaBuilder, Root<Player>, List<Predicate>> filters = (cb, root) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (country != null) {
+                predicates.add(cb.equal(root.get("country"), country));
+            }
+            if (playingRole != null) {
+                predicates.add(cb.equal(root.get("playingRole"), playingRole));
+            }
+            if (isActive != null) {
+                predicates.add(cb.equal(root.get("isActive"), isActive));
+            }
+            return predicates;
+        };
+        
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Player> root = query.from(Player.class);
+        select(query, root, fields).where(filters.apply(cb, root).toArray(new Predicate[0]));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = toRows(typedQuery.getResultList());
+        
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+            Root<Player> countRoot = countQuery.from(Player.class);
+            countQuery.select(cb.count(countRoot))
+                    .where(filters.apply(cb, countRoot).toArray(new Predicate[0]));
+            return entityManager.createQuery(countQuery).getSingleResult();
+        });
+    }
+    
+    @Override
+    public List<Map<String, Object>> findProjectedByCountry(List<PlayerField> fields, String country) {
+        return findProjectedBy(fields, "country", country);
+    }
+    
+    @Override
+    public List<Map<String, Object>> findProjectedByPlayingRole(List<PlayerField> fields, PlayingRole playingRole) {
+        return findProjectedBy(fields, "playingRole", playingRole);
+    }
+    
+    @Override
+    public List<Map<String, Object>> findProjectedByIds(List<PlayerField> fields, Collection<Long> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Player> root = query.from(Player.class);
+        select(query, root, fields).where(root.get("id").in(ids));
+        return toRows(entityManager.createQuery(query).getResultList());
+    }
+    
+    private List<Map<String, Object>> findProjectedBy(List<PlayerField> fields, String attribute, Object value) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Player> root = query.from(Player.class);
+        select(query, root, fields).where(cb.equal(root.get(attribute), value));
+        return toRows(entityManager.createQuery(query).getResultList());
+    }
+    
+    private static CriteriaQuery<Tuple> select(CriteriaQuery<Tuple> query, Root<Player> root, List<PlayerField> fields) {
+        return query.multiselect(fields.stream()
+                .map(field -> root.get(field.getProperty()).alias(field.getProperty()))
+                .collect(Collectors.toList()));
+    }
+    
+    // Tuple aliases are the JSON property names, and the map keeps the order the fields were requested in
+    private static List<Map<String, Object>> toRows(List<Tuple> tuples) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TupleElement<?> element : tuple.getElements()) {
+                row.put(element.getAlias(), tuple.get(element));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
\ No newline at end of file
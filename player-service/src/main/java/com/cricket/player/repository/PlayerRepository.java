@@ -5,15 +5,22 @@ import com.cricket.player.model.PlayingRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface PlayerRepository extends JpaRepository<Player, Long> {
+public interface PlayerRepository extends JpaRepository<Player, Long>, PlayerProjectionRepository {
     
     List<Player> findByCountry(String country);
     
@@ -32,11 +39,134 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
                                       @Param("isActive") Boolean isActive,
                                       Pageable pageable);
     
+    // Keyset pages come in pairs of queries: the first page, and a seek past the previous page's last row. The seek
+    // has no "cursor IS NULL" branch, so the planner can turn it into an index range scan rather than one plan for both.
+    @Query("SELECT p FROM Player p WHERE " +
+           "(:country IS NULL OR p.country = :country) AND " +
+           "(:playingRole IS NULL OR p.playingRole = :playingRole) AND " +
+           "(:isActive IS NULL OR p.isActive = :isActive) " +
+           "ORDER BY p.id")
+    List<Player> findFirstPlayersById(@Param("country") String country,
+                                      @Param("playingRole") PlayingRole playingRole,
+                                      @Param("isActive") Boolean isActive,
+                                      Pageable limit);
+    
+    @Query("SELECT p FROM Player p WHERE " +
+           "(:country IS NULL OR p.country = :country) AND " +
+           "(:playingRole IS NULL OR p.playingRole = :playingRole) AND " +
+           "(:isActive IS NULL OR p.isActive = :isActive) AND " +
+           "p.id > :lastId " +
+           "ORDER BY p.id")
+    List<Player> findPlayersAfterId(@Param("country") String country,
+                                    @Param("playingRole") PlayingRole playingRole,
+                                    @Param("isActive") Boolean isActive,
+                                    @Param("lastId") Long lastId,
+                                    Pageable limit);
+    
+    @Query("SELECT p FROM Player p WHERE " +
+           "(:country IS NULL OR p.country = :country) AND " +
+           "(:playingRole IS NULL OR p.playingRole = :playingRole) AND " +
+           "(:isActive IS NULL OR p.isActive = :isActive) " +
+           "ORDER BY p.lastName, p.id")
+    List<Player> findFirstPlayersByLastName(@Param("country") String country,
+                                            @Param("playingRole") PlayingRole playingRole,
+                                            @Param("isActive") Boolean isActive,
+                                            Pageable limit);
+    
+    // (lastName, id) > (:lastName, :lastId), expanded because Hibernate cannot type-check a tuple of parameters.
+    // The leading lastName >= bound lets Postgres start a range scan of idx_players_last_name_id at the cursor.
+    @Query("SELECT p FROM Player p WHERE " +
+           "(:country IS NULL OR p.country = :country) AND " +
+           "(:playingRole IS NULL OR p.playingRole = :playingRole) AND " +
+           "(:isActive IS NULL OR p.isActive = :isActive) AND " +
+           "p.lastName >= :lastName AND (p.lastName > :lastName OR p.id > :lastId) " +
+           "ORDER BY p.lastName, p.id")
+    List<Player> findPlayersAfterLastName(@Param("country") String country,
+                                          @Param("playingRole") PlayingRole playingRole,
+                                          @Param("isActive") Boolean isActive,
+                                          @Param("lastName") String lastName,
+                                          @Param("lastId") Long lastId,
+                                          Pageable limit);
+    
     @Query("SELECT p FROM Player p WHERE " +
            "LOWER(p.firstName) LIKE LOWER(CONCAT('%', :name, '%')) OR " +
            "LOWER(p.lastName) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Player> findByNameContaining(@Param("name") String name);
     
+    @Query(value = "SELECT p.id FROM players p WHERE " +
+                   "LOWER(p.first_name || ' ' || p.last_name) LIKE '%' || :query || '%' OR " +
+                   ":query <% LOWER(p.first_name || ' ' || p.last_name) " +
+                   "ORDER BY (LOWER(p.first_name || ' ' || p.last_name) LIKE :query || '%') DESC, " +
+                   "word_similarity(:query, LOWER(p.first_name || ' ' || p.last_name)) DESC, p.id " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Long> searchIdsByTrigramSimilarity(@Param("query") String query, @Param("limit") int limit);
+    
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Player p ORDER BY p.id")
+    Stream<Player> streamAll();
+    
+    // Single-statement status changes: no entity is loaded, and the version bump invalidates any copy a
+    // concurrent writer read before this statement ran.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Player p SET p.isActive = :active, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.id = :id")
+    int updateActiveById(@Param("id") Long id,
+                         @Param("active") boolean active,
+                         @Param("now") LocalDateTime now);
+    
+    // Changes the player only while it is still at this version, i.e. still the copy the caller holds
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Player p SET p.isActive = :active, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.id = :id AND p.version = :version")
+    int updateActiveByIdAndVersion(@Param("id") Long id,
+                                   @Param("version") long version,
+                                   @Param("active") boolean active,
+                                   @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Player p SET p.isActive = :active, p.updatedAt = :now, p.version = p.version + 1 " +
+           "WHERE p.id IN :ids AND (p.isActive IS NULL OR p.isActive <> :active)")
+    int updateActiveByIds(@Param("ids") Collection<Long> ids,
+                          @Param("active") boolean active,
+                          @Param("now") LocalDateTime now);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Player p SET p.isActive = :active, p.updatedAt = :now, p.version = p.version + 1 WHERE " +
+           "(:country IS NULL OR p.country = :country) AND " +
+           "(:playingRole IS NULL OR p.playingRole = :playingRole) AND " +
+           "(p.isActive IS NULL OR p.isActive <> :active)")
+    int updateActiveWithFilters(@Param("country") String country,
+                                @Param("playingRole") PlayingRole playingRole,
+                                @Param("active") boolean active,
+                                @Param("now") LocalDateTime now);
+    
+    // The database clock at the start of the current transaction. Players are stamped with it, not the JVM clock,
+    // so the change feed compares every stamp against one clock (see PlayerChangeFeedService).
+    @Query(value = "SELECT LOCALTIMESTAMP", nativeQuery = true)
+    LocalDateTime currentTimestamp();
+    
+    // Change feed: (updatedAt, id) keyset over idx_players_updated_at_id, capped at a settled upper bound
+    @Query("SELECT p FROM Player p WHERE " +
+           "(p.updatedAt > :since OR (p.updatedAt = :since AND p.id > :lastId)) AND " +
+           "p.updatedAt <= :until " +
+           "ORDER BY p.updatedAt, p.id")
+    List<Player> findChangedSince(@Param("since") LocalDateTime since,
+                                  @Param("lastId") Long lastId,
+                                  @Param("until") LocalDateTime until,
+                                  Pageable limit);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Player p WHERE p.id = :id")
+    int deletePlayerById(@Param("id") Long id);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Player p WHERE p.id = :id AND p.version = :version")
+    int deletePlayerByIdAndVersion(@Param("id") Long id, @Param("version") long version);
+    
     long countByCountry(String country);
     
     long countByPlayingRole(PlayingRole playingRole);
@@ -0,0 +1,29 @@
+package com.cricket.player.repository;
+
+import com.cricket.player.model.PlayerTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PlayerTombstoneRepository extends JpaRepository<PlayerTombstone, Long> {
+    
+    @Query("SELECT t FROM PlayerTombstone t WHERE " +
+           "(t.deletedAt > :since OR (t.deletedAt = :since AND t.playerId > :lastId)) AND " +
+           "t.deletedAt <= :until " +
+           "ORDER BY t.deletedAt, t.playerId")
+    List<PlayerTombstone> findDeletedSince(@Param("since") LocalDateTime since,
+                                           @Param("lastId") Long lastId,
+                                           @Param("until") LocalDateTime until,
+                                           Pageable limit);
+    
+    @Modifying
+    @Query("DELETE FROM PlayerTombstone t WHERE t.deletedAt < :cutoff")
+    int deleteDeletedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.cricket.player.search;
+
+import com.cricket.player.model.Player;
+import com.cricket.player.repository.PlayerRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// Per-instance trigram index, rebuilt from the database on startup and kept current by PlayerService writes.
+// Writes made through other replicas are only picked up on restart; use the postgres backend when that matters.
+@Component
+@ConditionalOnProperty(name = "player.search.backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPlayerSearchBackend implements PlayerSearchBackend {
+    
+    private static final Logger log = LoggerFactory.getLogger(InMemoryPlayerSearchBackend.class);
+    
+    private final TrigramIndex index;
+    private final PlayerRepository playerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    public InMemoryPlayerSearchBackend(PlayerRepository playerRepository,
+                                       PlatformTransactionManager transactionManager) {
+        this.index = new TrigramIndex();
+        this.playerRepository = playerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        index.clear();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Player> players = playerRepository.streamAll()) {
+                players.forEach(player -> {
+                    index.put(player.getId(), player.getFullName());
+                    entityManager.detach(player);
+                });
+            }
+        });
+        log.info("Indexed {} players for name search in {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+    
+    @Override
+    public List<Long> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+    
+    @Override
+    public void index(Player player) {
+        long id = player.getId();
+        String fullName = player.getFullName();
+        afterCommit(() -> index.put(id, fullName));
+    }
+    
+    @Override
+    public void remove(Long playerId) {
+        afterCommit(() -> index.remove(playerId));
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
\ No newline at end of file
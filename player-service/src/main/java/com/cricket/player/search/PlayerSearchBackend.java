@@ -0,0 +1,14 @@
+package com.cricket.player.search;
+
+import com.cricket.player.model.Player;
+
+import java.util.List;
+
+public interface PlayerSearchBackend {
+    
+    List<Long> search(String query, int limit);
+    
+    void index(Player player);
+    
+    void remove(Long playerId);
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.cricket.player.search;
+
+import com.cricket.player.model.Player;
+import com.cricket.player.repository.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Delegates to the pg_trgm GIN index on the players table (see init-scripts), which the database keeps current
+// on every write, so index() and remove() have nothing to do and all replicas see the same results.
+@Component
+@ConditionalOnProperty(name = "player.search.backend", havingValue = "postgres")
+public class PostgresPlayerSearchBackend implements PlayerSearchBackend {
+    
+    private final PlayerRepository playerRepository;
+    
+    @Autowired
+    public PostgresPlayerSearchBackend(PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+    
+    @Override
+    public List<Long> search(String query, int limit) {
+        String normalized = TrigramIndex.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return playerRepository.searchIdsByTrigramSimilarity(normalized, limit);
+    }
+    
+    @Override
+    public void index(Player player) {
+    }
+    
+    @Override
+    public void remove(Long playerId) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,537 @@
+package com.cricket.player.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// In-memory trigram index over short texts (player names). Every document gets a dense ordinal and each word is
+// padded pg_trgm style ("  kohli ") before being cut into trigrams; postings are primitive ordinal lists.
+//
+// A query is answered in two tiers. Exact matches are documents holding every inner trigram of the query and
+// actually containing it, ranked by how closely they match (whole word, word prefix, substring). Only if that
+// leaves the result short are typo matches considered: documents with a word starting with the same letter as
+// the longest query word whose word prefixes are within a small edit distance of every query word. Both tiers only
+// visit documents found through the query's posting lists, so their cost follows the matches, not the roster.
+public class TrigramIndex {
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private final IntList freeOrdinals = new IntList();
+    private long[] idsByOrdinal = new long[INITIAL_CAPACITY];
+    private String[] documentsByOrdinal = new String[INITIAL_CAPACITY];
+    private int ordinalLimit;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    public void put(long id, String text) {
+        String normalized = normalize(text);
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinalsById.get(id);
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                unindex(ordinal, documentsByOrdinal[ordinal]);
+            } else {
+                ordinal = allocateOrdinal();
+                ordinalsById.put(id, ordinal);
+                idsByOrdinal[ordinal] = id;
+            }
+            documentsByOrdinal[ordinal] = normalized;
+            for (String trigram : documentTrigrams(normalized)) {
+                postings.computeIfAbsent(trigram, key -> new IntList()).add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal != null) {
+                unindex(ordinal, documentsByOrdinal[ordinal]);
+                documentsByOrdinal[ordinal] = null;
+                freeOrdinals.add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            ordinalsById.clear();
+            freeOrdinals.clear();
+            Arrays.fill(documentsByOrdinal, null);
+            ordinalLimit = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String[] queryWords = normalized.split(" ");
+        
+        lock.readLock().lock();
+        try {
+            TopMatches top = new TopMatches(limit);
+            Set<Long> exactIds = exactMatches(normalized, queryWords, top);
+            if (exactIds.size() < limit) {
+                typoMatches(queryWords, exactIds, top);
+            }
+            return top.ranked();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Set<Long> exactMatches(String normalized, String[] queryWords, TopMatches top) {
+        Set<String> required = requiredTrigrams(queryWords);
+        IntList[] lists = new IntList[required.size()];
+        int i = 0;
+        for (String trigram : required) {
+            IntList list = postings.get(trigram);
+            if (list == null) {
+                return Set.of();
+            }
+            lists[i++] = list;
+        }
+        // Only ordinals of the rarest list can match; count how many of the other lists hold each of them
+        Arrays.sort(lists, Comparator.comparingInt(IntList::size));
+        IntList rarest = lists[0];
+        OrdinalCounts hits = new OrdinalCounts(rarest.size());
+        for (int j = 0; j < rarest.size(); j++) {
+            hits.increment(rarest.get(j));
+        }
+        for (int l = 1; l < lists.length; l++) {
+            for (int j = 0; j < lists[l].size(); j++) {
+                hits.incrementIfPresent(lists[l].get(j));
+            }
+        }
+        
+        Set<Long> matched = new HashSet<>();
+        for (int j = 0; j < rarest.size(); j++) {
+            int ordinal = rarest.get(j);
+            String document = documentsByOrdinal[ordinal];
+            if (hits.get(ordinal) == lists.length && document.contains(normalized)) {
+                matched.add(idsByOrdinal[ordinal]);
+                top.offer(idsByOrdinal[ordinal], document, exactScore(document, normalized));
+            }
+        }
+        return matched;
+    }
+    
+    private void typoMatches(String[] queryWords, Set<Long> exactIds, TopMatches top) {
+        String longest = Arrays.stream(queryWords).max(Comparator.comparingInt(String::length)).orElse("");
+        int budget = editBudget(longest);
+        if (budget == 0) {
+            return;
+        }
+        // Each substitution, insertion or deletion changes at most three of the word's trigrams, so a word prefix
+        // within budget shares all but 3 * budget of them. Transposing the query's letters (other than the first)
+        // covers swapped letters, which change four. Only a four-letter word with its second or third letter wrong
+        // can share none and is not found.
+        Set<String> trigrams = new HashSet<>();
+        typoTrigrams(longest, trigrams);
+        char[] letters = longest.toCharArray();
+        for (int i = 1; i + 1 < letters.length; i++) {
+            swap(letters, i);
+            typoTrigrams(new String(letters), trigrams);
+            swap(letters, i);
+        }
+        int requiredHits = Math.max(1, longest.length() - 1 - 3 * budget);
+        OrdinalCounts hits = new OrdinalCounts(INITIAL_CAPACITY);
+        for (String trigram : trigrams) {
+            IntList list = postings.get(trigram);
+            if (list != null) {
+                for (int j = 0; j < list.size(); j++) {
+                    hits.increment(list.get(j));
+                }
+            }
+        }
+        
+        EditDistance editDistance = new EditDistance(longest.length());
+        for (int slot = 0; slot < hits.capacity(); slot++) {
+            int ordinal = hits.ordinalAt(slot);
+            if (ordinal < 0 || hits.countAt(slot) < requiredHits) {
+                continue;
+            }
+            long id = idsByOrdinal[ordinal];
+            String document = documentsByOrdinal[ordinal];
+            if (exactIds.contains(id) || !hasWordStartingWith(document, longest.charAt(0))) {
+                continue;
+            }
+            int edits = typoDistance(queryWords, document, editDistance);
+            if (edits >= 0) {
+                top.offer(id, document, 1.0 - 0.25 * edits);
+            }
+        }
+    }
+    
+    // Substring matches score 2, plus 0.5 when the match starts a word, 0.5 when it is a whole word and 0.25
+    // when it starts the name, so "virat" ranks "Virat Kohli" above "Ravi Virat" above "Viratel Singh".
+    private static double exactScore(String document, String normalized) {
+        double score = 2.0;
+        int wordStart;
+        if (document.startsWith(normalized)) {
+            wordStart = 0;
+            score += 0.25;
+        } else {
+            int space = document.indexOf(" " + normalized);
+            wordStart = space < 0 ? -1 : space + 1;
+        }
+        if (wordStart >= 0) {
+            score += 0.5;
+            int end = wordStart + normalized.length();
+            if (end == document.length() || document.charAt(end) == ' ') {
+                score += 0.5;
+            }
+        }
+        return score;
+    }
+    
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(decomposed.toLowerCase()).replaceAll(" ").trim();
+    }
+    
+    // Total edits needed for every query word to match the start of some document word, or -1 when a word is
+    // further away than its budget (no typos below 4 characters, one up to 7, two beyond).
+    static int typoDistance(String[] queryWords, String document, EditDistance editDistance) {
+        int total = 0;
+        for (String queryWord : queryWords) {
+            int budget = editBudget(queryWord);
+            int best = -1;
+            int wordStart = 0;
+            while (wordStart < document.length()) {
+                int wordEnd = document.indexOf(' ', wordStart);
+                if (wordEnd < 0) {
+                    wordEnd = document.length();
+                }
+                int prefixEnd = Math.min(wordEnd, wordStart + queryWord.length());
+                int distance = editDistance.compute(queryWord, document, wordStart, prefixEnd, budget);
+                if (distance >= 0 && (best < 0 || distance < best)) {
+                    best = distance;
+                }
+                wordStart = wordEnd + 1;
+            }
+            if (best < 0) {
+                return -1;
+            }
+            total += best;
+        }
+        return total;
+    }
+    
+    // The trigrams of a word prefix after its first letter, which typo matches must keep
+    private static void typoTrigrams(String word, Set<String> trigrams) {
+        addTrigrams(" " + word, trigrams);
+    }
+    
+    private static void swap(char[] letters, int i) {
+        char swapped = letters[i];
+        letters[i] = letters[i + 1];
+        letters[i + 1] = swapped;
+    }
+    
+    private static boolean hasWordStartingWith(String document, char letter) {
+        if (document.isEmpty()) {
+            return false;
+        }
+        if (document.charAt(0) == letter) {
+            return true;
+        }
+        return document.contains(" " + letter);
+    }
+    
+    private static int editBudget(String word) {
+        return word.length() < 4 ? 0 : word.length() < 8 ? 1 : 2;
+    }
+    
+    private int allocateOrdinal() {
+        if (freeOrdinals.size() > 0) {
+            return freeOrdinals.removeLast();
+        }
+        if (ordinalLimit == idsByOrdinal.length) {
+            idsByOrdinal = Arrays.copyOf(idsByOrdinal, ordinalLimit * 2);
+            documentsByOrdinal = Arrays.copyOf(documentsByOrdinal, ordinalLimit * 2);
+        }
+        return ordinalLimit++;
+    }
+    
+    private void unindex(int ordinal, String document) {
+        for (String trigram : documentTrigrams(document)) {
+            IntList list = postings.get(trigram);
+            if (list != null) {
+                list.removeValue(ordinal);
+                if (list.size() == 0) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+    
+    private static Set<String> documentTrigrams(String normalized) {
+        Set<String> trigrams = new HashSet<>();
+        for (String word : normalized.split(" ")) {
+            if (!word.isEmpty()) {
+                addTrigrams("  " + word + " ", trigrams);
+            }
+        }
+        return trigrams;
+    }
+    
+    // Trigrams every exact match must contain: the inner trigrams of each query word, or for words shorter than
+    // three characters the leading padded trigrams, which restricts those to word prefixes.
+    private static Set<String> requiredTrigrams(String[] queryWords) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : queryWords) {
+            if (word.length() >= 3) {
+                addTrigrams(word, trigrams);
+            } else {
+                addTrigrams("  " + word, trigrams);
+            }
+        }
+        return trigrams;
+    }
+    
+    private static void addTrigrams(String padded, Set<String> trigrams) {
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+    }
+    
+    private record Match(long id, String document, double score) {
+    }
+    
+    // Keeps the best `limit` matches in a min-heap so large candidate sets are never fully sorted
+    private static final class TopMatches {
+        private static final Comparator<Match> RANKING = Comparator.comparingDouble(Match::score).reversed()
+                .thenComparingInt(match -> match.document().length())
+                .thenComparing(Match::document)
+                .thenComparingLong(Match::id);
+        
+        private final int limit;
+        private final PriorityQueue<Match> heap;
+        
+        TopMatches(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        }
+        
+        void offer(long id, String document, double score) {
+            Match match = new Match(id, document, score);
+            if (heap.size() < limit) {
+                heap.add(match);
+            } else if (RANKING.compare(match, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(match);
+            }
+        }
+        
+        List<Long> ranked() {
+            List<Match> matches = new ArrayList<>(heap);
+            matches.sort(RANKING);
+            return matches.stream().map(Match::id).toList();
+        }
+    }
+    
+    // Optimal string alignment distance (Levenshtein plus adjacent transpositions) between a query word and a
+    // region of a document, reusing the three rows the recurrence needs across calls.
+    static final class EditDistance {
+        private int[] previousPrevious;
+        private int[] previous;
+        private int[] current;
+        
+        EditDistance(int maxLength) {
+            previousPrevious = new int[maxLength + 1];
+            previous = new int[maxLength + 1];
+            current = new int[maxLength + 1];
+        }
+        
+        // Returns the distance between a and text[from, to), or -1 if it exceeds maxEdits
+        int compute(String a, String text, int from, int to, int maxEdits) {
+            int bLength = to - from;
+            if (Math.abs(a.length() - bLength) > maxEdits) {
+                return -1;
+            }
+            for (int j = 0; j <= bLength; j++) {
+                previous[j] = j;
+            }
+            for (int i = 1; i <= a.length(); i++) {
+                current[0] = i;
+                int rowMinimum = i;
+                for (int j = 1; j <= bLength; j++) {
+                    int cost = a.charAt(i - 1) == text.charAt(from + j - 1) ? 0 : 1;
+                    int distance = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                    if (i > 1 && j > 1 && a.charAt(i - 1) == text.charAt(from + j - 2)
+                            && a.charAt(i - 2) == text.charAt(from + j - 1)) {
+                        distance = Math.min(distance, previousPrevious[j - 2] + 1);
+                    }
+                    current[j] = distance;
+                    rowMinimum = Math.min(rowMinimum, distance);
+                }
+                if (rowMinimum > maxEdits) {
+                    return -1;
+                }
+                int[] recycled = previousPrevious;
+                previousPrevious = previous;
+                previous = current;
+                current = recycled;
+            }
+            return previous[bLength] <= maxEdits ? previous[bLength] : -1;
+        }
+    }
+    
+    // Hit counts for a set of ordinals in an open-addressing table, sized to the candidates rather than the index
+    private static final class OrdinalCounts {
+        private int[] ordinals;
+        private int[] counts;
+        private int size;
+        
+        OrdinalCounts(int expected) {
+            int capacity = 8;
+            while (capacity < expected * 2) {
+                capacity <<= 1;
+            }
+            ordinals = new int[capacity];
+            counts = new int[capacity];
+            Arrays.fill(ordinals, -1);
+        }
+        
+        void increment(int ordinal) {
+            int slot = slot(ordinal);
+            if (ordinals[slot] < 0) {
+                if ((size + 1) * 2 > ordinals.length) {
+                    grow();
+                    slot = slot(ordinal);
+                }
+                ordinals[slot] = ordinal;
+                size++;
+            }
+            counts[slot]++;
+        }
+        
+        void incrementIfPresent(int ordinal) {
+            int slot = slot(ordinal);
+            if (ordinals[slot] >= 0) {
+                counts[slot]++;
+            }
+        }
+        
+        int get(int ordinal) {
+            int slot = slot(ordinal);
+            return ordinals[slot] >= 0 ? counts[slot] : 0;
+        }
+        
+        int capacity() {
+            return ordinals.length;
+        }
+        
+        // -1 for an empty slot
+        int ordinalAt(int slot) {
+            return ordinals[slot];
+        }
+        
+        int countAt(int slot) {
+            return counts[slot];
+        }
+        
+        // The slot holding ordinal, or the empty slot where it would go
+        private int slot(int ordinal) {
+            int mask = ordinals.length - 1;
+            int hash = ordinal * 0x9E3779B9;
+            int slot = (hash ^ (hash >>> 16)) & mask;
+            while (ordinals[slot] >= 0 && ordinals[slot] != ordinal) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+        
+        private void grow() {
+            int[] oldOrdinals = ordinals;
+            int[] oldCounts = counts;
+            ordinals = new int[oldOrdinals.length * 2];
+            counts = new int[oldCounts.length * 2];
+            Arrays.fill(ordinals, -1);
+            for (int i = 0; i < oldOrdinals.length; i++) {
+                if (oldOrdinals[i] >= 0) {
+                    int slot = slot(oldOrdinals[i]);
+                    ordinals[slot] = oldOrdinals[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+    }
+    
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+        
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+        
+        int get(int index) {
+            return values[index];
+        }
+        
+        int size() {
+            return size;
+        }
+        
+        int removeLast() {
+            return values[--size];
+        }
+        
+        void removeValue(int value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    values[i] = values[--size];
+                    return;
+                }
+            }
+        }
+        
+        void clear() {
+            size = 0;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+package com.cricket.player.service;
+
+import com.cricket.player.cache.PlayerQueryCache;
+import com.cricket.player.dto.BulkImportResult;
+import com.cricket.player.dto.BulkImportRow;
+import com.cricket.player.dto.BulkRowResult;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.model.Player;
+import com.cricket.player.model.PlayingRole;
+import com.cricket.player.outbox.PlayerOutbox;
+import com.cricket.player.repository.PlayerRepository;
+import com.cricket.player.search.PlayerSearchBackend;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class PlayerBulkImportService {
+    
+    private static final Logger log = LoggerFactory.getLogger(PlayerBulkImportService.class);
+    
+    private final PlayerRepository playerRepository;
+    private final PlayerSearchBackend playerSearchBackend;
+    private final PlayerQueryCache playerQueryCache;
+    private final PlayerOutbox playerOutbox;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    public PlayerBulkImportService(PlayerRepository playerRepository,
+                                   PlayerSearchBackend playerSearchBackend,
+                                   PlayerQueryCache playerQueryCache,
+                                   PlayerOutbox playerOutbox,
+                                   Validator validator,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${player.bulk.chunk-size:500}") int chunkSize,
+                                   @Value("${player.changes.write-timeout-seconds:3}") int writeTimeoutSeconds) {
+        this.playerRepository = playerRepository;
+        this.playerSearchBackend = playerSearchBackend;
+        this.playerQueryCache = playerQueryCache;
+        this.playerOutbox = playerOutbox;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // The same bound as PlayerService writes, which the change feed relies on
+        this.transactionTemplate.setTimeout(writeTimeoutSeconds);
+        this.chunkSize = chunkSize;
+    }
+    
+    public BulkImportResult importPlayers(Iterator<BulkImportRow> rows) {
+        long start = System.nanoTime();
+        BulkImportResult result = new BulkImportResult();
+        List<BulkImportRow> chunk = new ArrayList<>(chunkSize);
+        
+        while (rows.hasNext()) {
+            BulkImportRow row = rows.next();
+            List<String> errors = validate(row);
+            if (!errors.isEmpty()) {
+                result.addFailure(row.getIndex(), errors);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                persistChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            persistChunk(chunk, result);
+        }
+        
+        result.getRows().sort(Comparator.comparingInt(BulkRowResult::getIndex));
+        result.setDurationMs((System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+    
+    private List<String> validate(BulkImportRow row) {
+        if (row.getParseError() != null) {
+            return List.of(row.getParseError());
+        }
+        if (row.getPlayer() == null) {
+            return List.of("Row holds no player");
+        }
+        Set<ConstraintViolation<PlayerDTO>> violations = validator.validate(row.getPlayer());
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.toList());
+    }
+    
+    // Once per distinct country and role in the chunk rather than once per player
+    private void invalidateQueries(List<Player> players) {
+        Map<String, Set<PlayingRole>> rolesByCountry = new HashMap<>();
+        for (Player player : players) {
+            rolesByCountry.computeIfAbsent(player.getCountry(), country -> new HashSet<>()).add(player.getPlayingRole());
+        }
+        rolesByCountry.forEach((country, roles) -> roles.forEach(role -> playerQueryCache.invalidate(country, role)));
+    }
+    
+    // Each chunk is its own transaction: ids come from the pooled sequence, so Hibernate can send the
+    // inserts as JDBC batches, and clearing the persistence context keeps memory flat across chunks.
+    // A chunk the database rejects is split in halves, each retried in its own transaction, until the rejected
+    // rows are isolated; the rest of the chunk is still imported. A failure to reach the database is no row's
+    // fault, so it fails the chunk without retrying.
+    private void persistChunk(List<BulkImportRow> chunk, BulkImportResult result) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                LocalDateTime now = playerRepository.currentTimestamp();
+                List<Player> players = chunk.stream()
+                        .map(row -> PlayerMapper.convertToEntity(row.getPlayer()))
+                        .collect(Collectors.toList());
+                players.forEach(player -> {
+                    player.setCreatedAt(now);
+                    player.setUpdatedAt(now);
+                });
+                playerRepository.saveAll(players);
+                List<Long> savedIds = players.stream().map(Player::getId).collect(Collectors.toList());
+                // Flushes the batched inserts, then records the whole chunk with one statement
+                playerOutbox.recordCreated(savedIds);
+                players.forEach(playerSearchBackend::index);
+                invalidateQueries(players);
+                entityManager.flush();
+                entityManager.clear();
+                return savedIds;
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                result.addSuccess(chunk.get(i).getIndex(), ids.get(i));
+            }
+        } catch (RuntimeException ex) {
+            String message = NestedExceptionUtils.getMostSpecificCause(ex).getMessage();
+            if (chunk.size() > 1 && !(ex instanceof TransactionException || ex instanceof DataAccessResourceFailureException)) {
+                log.debug("Bulk import chunk of {} rows failed, retrying it in halves: {}", chunk.size(), message);
+                int half = chunk.size() / 2;
+                persistChunk(chunk.subList(0, half), result);
+                persistChunk(chunk.subList(half, chunk.size()), result);
+                return;
+            }
+            log.warn("Bulk import of {} rows failed: {}", chunk.size(), message);
+            for (BulkImportRow row : chunk) {
+                result.addFailure(row.getIndex(), List.of("Rejected by database: " + message));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.cricket.player.service;
+
+import com.cricket.common.exception.CricketBusinessException;
+import com.cricket.player.dto.ChangeWatermark;
+import com.cricket.player.dto.PlayerChange;
+import com.cricket.player.dto.PlayerChangeSet;
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.dto.PlayerEventPage;
+import com.cricket.player.model.Player;
+import com.cricket.player.model.PlayerTombstone;
+import com.cricket.player.outbox.PlayerEventSink;
+import com.cricket.player.repository.PlayerRepository;
+import com.cricket.player.repository.PlayerTombstoneRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class PlayerChangeFeedService {
+    
+    private static final Logger log = LoggerFactory.getLogger(PlayerChangeFeedService.class);
+    private static final int MAX_CHANGES = 1000;
+    private static final Comparator<PlayerChange> COMMIT_ORDER =
+            Comparator.comparing(PlayerChange::getChangedAt).thenComparing(PlayerChange::getId);
+    
+    private final PlayerRepository playerRepository;
+    private final PlayerTombstoneRepository tombstoneRepository;
+    private final PlayerEventSink eventSink;
+    private final Duration settleLag;
+    private final Duration tombstoneRetention;
+    private final boolean relayEnabled;
+    
+    @Autowired
+    public PlayerChangeFeedService(PlayerRepository playerRepository,
+                                   PlayerTombstoneRepository tombstoneRepository,
+                                   PlayerEventSink eventSink,
+                                   @Value("${player.changes.settle-lag:5s}") Duration settleLag,
+                                   @Value("${player.changes.write-timeout-seconds:3}") int writeTimeoutSeconds,
+                                   @Value("${player.changes.tombstone-retention:7d}") Duration tombstoneRetention,
+                                   @Value("${player.outbox.relay.enabled:true}") boolean relayEnabled) {
+        if (settleLag.compareTo(Duration.ofSeconds(writeTimeoutSeconds)) <= 0) {
+            throw new IllegalStateException("player.changes.settle-lag (" + settleLag + ") must exceed "
+                    + "player.changes.write-timeout-seconds (" + writeTimeoutSeconds + "s)");
+        }
+        this.playerRepository = playerRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.eventSink = eventSink;
+        this.settleLag = settleLag;
+        this.tombstoneRetention = tombstoneRetention;
+        this.relayEnabled = relayEnabled;
+    }
+    
+    // Changes are stamped with the database clock when their transaction starts, and write transactions time out
+    // after player.changes.write-timeout-seconds. Only changes older than the settle lag, which exceeds that timeout,
+    // are served, read against the same clock: any transaction still in flight with an older stamp is past its
+    // timeout and will roll back, so none can later commit a change behind a watermark already handed out.
+    public PlayerChangeSet getChangesSince(String since, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES) {
+            throw new CricketBusinessException("Limit must be between 1 and " + MAX_CHANGES, "INVALID_LIMIT");
+        }
+        ChangeWatermark from = since != null && !since.isEmpty() ? ChangeWatermark.decode(since) : ChangeWatermark.origin();
+        LocalDateTime now = playerRepository.currentTimestamp();
+        if (since != null && !since.isEmpty() && from.getChangedAt().isBefore(now.minus(tombstoneRetention))) {
+            return PlayerChangeSet.resyncRequired();
+        }
+        LocalDateTime until = now.minus(settleLag);
+        
+        // Each source is read one row past the limit so the merged page can tell whether more changes remain
+        PageRequest window = PageRequest.of(0, limit + 1);
+        List<Player> players = playerRepository.findChangedSince(from.getChangedAt(), from.getLastId(), until, window);
+        List<PlayerTombstone> tombstones = tombstoneRepository.findDeletedSince(from.getChangedAt(), from.getLastId(), until, window);
+        
+        List<PlayerChange> changes = new ArrayList<>(players.size() + tombstones.size());
+        for (Player player : players) {
+            PlayerChangeType type = from.isBefore(player.getCreatedAt(), player.getId())
+                    ? PlayerChangeType.CREATED : PlayerChangeType.UPDATED;
+            changes.add(new PlayerChange(type, player.getId(), player.getUpdatedAt(), PlayerMapper.convertToDTO(player)));
+        }
+        for (PlayerTombstone tombstone : tombstones) {
+            changes.add(new PlayerChange(PlayerChangeType.DELETED, tombstone.getPlayerId(), tombstone.getDeletedAt(), null));
+        }
+        changes.sort(COMMIT_ORDER);
+        
+        boolean hasMore = changes.size() > limit;
+        List<PlayerChange> page = hasMore ? new ArrayList<>(changes.subList(0, limit)) : changes;
+        ChangeWatermark next;
+        if (hasMore) {
+            PlayerChange last = page.get(page.size() - 1);
+            next = new ChangeWatermark(last.getChangedAt(), last.getId());
+        } else if (from.isBefore(until, Long.MAX_VALUE)) {
+            // Everything up to the settled bound has been returned, so an idle client's watermark still moves forward
+            next = new ChangeWatermark(until, Long.MAX_VALUE);
+        } else {
+            next = from;
+        }
+        return new PlayerChangeSet(page, next.encode(), hasMore);
+    }
+    
+    // False on an instance whose relay is off while its sink keeps a log per instance: that log never receives events
+    public boolean servesEventLog() {
+        return relayEnabled || eventSink.isShared();
+    }
+    
+    // The outbox event log from a consumer's stored offset. Served by the sink, so no transaction is opened.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public PlayerEventPage getEvents(long offset, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES) {
+            throw new CricketBusinessException("Limit must be between 1 and " + MAX_CHANGES, "INVALID_LIMIT");
+        }
+        return eventSink.read(offset, limit);
+    }
+    
+    @Transactional
+    @Scheduled(initialDelayString = "${player.changes.purge-interval:PT1H}",
+               fixedDelayString = "${player.changes.purge-interval:PT1H}")
+    public void purgeExpiredTombstones() {
+        int purged = tombstoneRepository.deleteDeletedBefore(playerRepository.currentTimestamp().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} player tombstones older than {}", purged, tombstoneRetention);
+        }
+    }
+}
\ No newline at end of file
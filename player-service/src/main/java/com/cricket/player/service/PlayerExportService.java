@@ -0,0 +1,61 @@
+package com.cricket.player.service;
+
+import com.cricket.player.export.CsvPlayerRowWriter;
+import com.cricket.player.export.NdjsonPlayerRowWriter;
+import com.cricket.player.export.PlayerExportFormat;
+import com.cricket.player.export.PlayerRowWriter;
+import com.cricket.player.model.Player;
+import com.cricket.player.repository.PlayerRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class PlayerExportService {
+    
+    private final PlayerRepository playerRepository;
+    private final ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    public PlayerExportService(PlayerRepository playerRepository, ObjectMapper objectMapper) {
+        this.playerRepository = playerRepository;
+        this.objectMapper = objectMapper;
+    }
+    
+    // Rows are pulled from an open JDBC cursor and detached once written, so heap use does not grow with the roster.
+    @Transactional(readOnly = true)
+    public long exportPlayers(PlayerExportFormat format, OutputStream out) throws IOException {
+        PlayerRowWriter writer = createWriter(format, out);
+        long rows = 0;
+        writer.writeHeader();
+        try (Stream<Player> players = playerRepository.streamAll()) {
+            Iterator<Player> iterator = players.iterator();
+            while (iterator.hasNext()) {
+                Player player = iterator.next();
+                writer.writeRow(PlayerMapper.convertToDTO(player));
+                entityManager.detach(player);
+                rows++;
+            }
+        }
+        writer.finish();
+        return rows;
+    }
+    
+    private PlayerRowWriter createWriter(PlayerExportFormat format, OutputStream out) throws IOException {
+        if (format == PlayerExportFormat.CSV) {
+            return new CsvPlayerRowWriter(out);
+        }
+        return new NdjsonPlayerRowWriter(objectMapper, out);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.cricket.player.service;
+
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.model.Player;
+
+public final class PlayerMapper {
+    
+    private PlayerMapper() {}
+    
+    public static Player convertToEntity(PlayerDTO playerDTO) {
+        Player player = new Player();
+        updatePlayerFields(player, playerDTO);
+        return player;
+    }
+    
+    public static void updatePlayerFields(Player player, PlayerDTO playerDTO) {
+        player.setFirstName(playerDTO.getFirstName());
+        player.setLastName(playerDTO.getLastName());
+        player.setDateOfBirth(playerDTO.getDateOfBirth());
+        player.setCountry(playerDTO.getCountry());
+        player.setPlayingRole(playerDTO.getPlayingRole());
+        player.setBattingStyle(playerDTO.getBattingStyle());
+        player.setBowlingStyle(playerDTO.getBowlingStyle());
+        player.setJerseyNumber(playerDTO.getJerseyNumber());
+        
+        if (playerDTO.getIsActive() != null) {
+            player.setIsActive(playerDTO.getIsActive());
+        }
+    }
+    
+    public static PlayerDTO convertToDTO(Player player) {
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setId(player.getId());
+        playerDTO.setFirstName(player.getFirstName());
+        playerDTO.setLastName(player.getLastName());
+        playerDTO.setDateOfBirth(player.getDateOfBirth());
+        playerDTO.setCountry(player.getCountry());
+        playerDTO.setPlayingRole(player.getPlayingRole());
+        playerDTO.setBattingStyle(player.getBattingStyle());
+        playerDTO.setBowlingStyle(player.getBowlingStyle());
+        playerDTO.setJerseyNumber(player.getJerseyNumber());
+        playerDTO.setIsActive(player.getIsActive());
+        playerDTO.setVersion(player.getVersion());
+        return playerDTO;
+    }
+    
+    public static PlayerDTO copyOf(PlayerDTO source) {
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setId(source.getId());
+        playerDTO.setFirstName(source.getFirstName());
+        playerDTO.setLastName(source.getLastName());
+        playerDTO.setDateOfBirth(source.getDateOfBirth());
+        playerDTO.setCountry(source.getCountry());
+        playerDTO.setPlayingRole(source.getPlayingRole());
+        playerDTO.setBattingStyle(source.getBattingStyle());
+        playerDTO.setBowlingStyle(source.getBowlingStyle());
+        playerDTO.setJerseyNumber(source.getJerseyNumber());
+        playerDTO.setIsActive(source.getIsActive());
+        playerDTO.setVersion(source.getVersion());
+        return playerDTO;
+    }
+}
\ No newline at end of file
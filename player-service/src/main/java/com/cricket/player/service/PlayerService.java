@@ -1,109 +1,401 @@
 package com.cricket.player.service;
 
+import com.cricket.common.dto.CursorPage;
+import com.cricket.common.exception.CricketBusinessException;
 import com.cricket.common.exception.ResourceNotFoundException;
+import com.cricket.player.cache.PlayerByIdCache;
+import com.cricket.player.cache.PlayerQueryCache;
+import com.cricket.player.config.CacheConfig;
+import com.cricket.player.dto.PlayerBatchResult;
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.dto.PlayerCursor;
 import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.dto.PlayerField;
+import com.cricket.player.dto.PlayerSortKey;
+import com.cricket.player.dto.PlayerStatusChangeRequest;
 import com.cricket.player.model.Player;
+import com.cricket.player.model.PlayerTombstone;
 import com.cricket.player.model.PlayingRole;
+import com.cricket.player.outbox.PlayerOutbox;
 import com.cricket.player.repository.PlayerRepository;
+import com.cricket.player.repository.PlayerTombstoneRepository;
+import com.cricket.player.search.PlayerSearchBackend;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+// Writes are stamped with the database clock and run with a timeout shorter than player.changes.settle-lag,
+// which is what keeps the change feed from skipping them (see PlayerChangeFeedService)
 @Service
-@Transactional
+@Transactional(timeoutString = "${player.changes.write-timeout-seconds:3}")
 public class PlayerService {
     
+    private static final int MAX_SCROLL_SIZE = 1000;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int MAX_STATUS_CHANGE_IDS = 10_000;
+    private static final int STATUS_CHANGE_ID_CHUNK = 1000;
+    private static final int MAX_BATCH_IDS = 1000;
+    
     private final PlayerRepository playerRepository;
+    private final PlayerSearchBackend playerSearchBackend;
+    private final PlayerTombstoneRepository tombstoneRepository;
+    private final PlayerQueryCache playerQueryCache;
+    private final PlayerByIdCache playerByIdCache;
+    private final PlayerOutbox playerOutbox;
     
     @Autowired
-    public PlayerService(PlayerRepository playerRepository) {
+    public PlayerService(PlayerRepository playerRepository,
+                         PlayerSearchBackend playerSearchBackend,
+                         PlayerTombstoneRepository tombstoneRepository,
+                         PlayerQueryCache playerQueryCache,
+                         PlayerByIdCache playerByIdCache,
+                         PlayerOutbox playerOutbox) {
         this.playerRepository = playerRepository;
+        this.playerSearchBackend = playerSearchBackend;
+        this.tombstoneRepository = tombstoneRepository;
+        this.playerQueryCache = playerQueryCache;
+        this.playerByIdCache = playerByIdCache;
+        this.playerOutbox = playerOutbox;
     }
     
+    @CachePut(cacheNames = CacheConfig.PLAYERS_CACHE, cacheResolver = CacheConfig.PLAYERS_RESOLVER, key = "#result.id")
     public PlayerDTO createPlayer(PlayerDTO playerDTO) {
-        Player player = convertToEntity(playerDTO);
+        Player player = PlayerMapper.convertToEntity(playerDTO);
+        LocalDateTime now = playerRepository.currentTimestamp();
+        player.setCreatedAt(now);
+        player.setUpdatedAt(now);
         Player savedPlayer = playerRepository.save(player);
-        return convertToDTO(savedPlayer);
+        playerOutbox.record(savedPlayer.getId(), PlayerChangeType.CREATED);
+        playerSearchBackend.index(savedPlayer);
+        playerQueryCache.invalidate(savedPlayer.getCountry(), savedPlayer.getPlayingRole());
+        return PlayerMapper.convertToDTO(savedPlayer);
     }
     
+    @Cacheable(cacheNames = CacheConfig.PLAYERS_CACHE, cacheResolver = CacheConfig.PLAYERS_RESOLVER, sync = true, key = "#id")
     @Transactional(readOnly = true)
     public PlayerDTO getPlayerById(Long id) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Player", "id", id));
-        return convertToDTO(player);
+        return PlayerMapper.convertToDTO(player);
+    }
+    
+    // One query for the whole set. Repeated ids are returned once, at their first position.
+    @Transactional(readOnly = true)
+    public PlayerBatchResult<PlayerDTO> getPlayersByIds(List<Long> ids) {
+        List<Long> distinctIds = distinctBatchIds(ids);
+        Map<Long, Player> playersById = playerRepository.findAllById(distinctIds).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        List<PlayerDTO> players = new ArrayList<>(playersById.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            Player player = playersById.get(id);
+            if (player != null) {
+                players.add(PlayerMapper.convertToDTO(player));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new PlayerBatchResult<>(players, missingIds);
+    }
+    
+    @Transactional(readOnly = true)
+    public PlayerBatchResult<Map<String, Object>> getPlayersByIds(List<Long> ids, String fields) {
+        List<Long> distinctIds = distinctBatchIds(ids);
+        List<Long> missingIds = new ArrayList<>();
+        List<Map<String, Object>> players = findProjectedInOrder(PlayerField.parse(fields), distinctIds, missingIds);
+        return new PlayerBatchResult<>(players, missingIds);
+    }
+    
+    private static List<Long> distinctBatchIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new CricketBusinessException("At least one id is required", "INVALID_BATCH");
+        }
+        List<Long> distinctIds = ids.stream()
+                .filter(id -> id != null)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctIds.size() > MAX_BATCH_IDS) {
+            throw new CricketBusinessException("At most " + MAX_BATCH_IDS + " ids can be looked up per request", "INVALID_BATCH");
+        }
+        return distinctIds;
     }
     
     @Transactional(readOnly = true)
     public Page<PlayerDTO> getAllPlayers(Pageable pageable) {
         Page<Player> players = playerRepository.findAll(pageable);
-        return players.map(this::convertToDTO);
+        return players.map(PlayerMapper::convertToDTO);
     }
     
+    @Cacheable(cacheNames = CacheConfig.PLAYER_QUERIES_CACHE, cacheResolver = CacheConfig.PLAYER_QUERIES_RESOLVER, sync = true,
+               key = "T(com.cricket.player.cache.PlayerQueryKey).filters(#country, #playingRole, #isActive, null, #pageable)")
     @Transactional(readOnly = true)
-    public Page<PlayerDTO> getPlayersWithFilters(String country, PlayingRole playingRole, 
+    public Page<PlayerDTO> getPlayersWithFilters(String country, PlayingRole playingRole,
                                                 Boolean isActive, Pageable pageable) {
         Page<Player> players = playerRepository.findPlayersWithFilters(country, playingRole, isActive, pageable);
-        return players.map(this::convertToDTO);
+        return players.map(PlayerMapper::convertToDTO);
+    }
+    
+    @Cacheable(cacheNames = CacheConfig.PLAYER_QUERIES_CACHE, cacheResolver = CacheConfig.PLAYER_QUERIES_RESOLVER, sync = true,
+               key = "T(com.cricket.player.cache.PlayerQueryKey).filters(#country, #playingRole, #isActive, #fields, #pageable)")
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getPlayersWithFilters(String country, PlayingRole playingRole,
+                                                         Boolean isActive, String fields, Pageable pageable) {
+        return playerRepository.findProjectedWithFilters(PlayerField.parse(fields), country, playingRole, isActive, pageable);
+    }
+    
+    @Transactional(readOnly = true)
+    public CursorPage<PlayerDTO> scrollPlayers(String country, PlayingRole playingRole, Boolean isActive,
+                                               PlayerSortKey sortKey, String cursor, int size) {
+        if (size < 1 || size > MAX_SCROLL_SIZE) {
+            throw new CricketBusinessException("Page size must be between 1 and " + MAX_SCROLL_SIZE, "INVALID_PAGE_SIZE");
+        }
+        PlayerCursor after = cursor != null && !cursor.isEmpty() ? PlayerCursor.decode(cursor) : null;
+        PlayerSortKey effectiveSortKey = after != null ? after.getSortKey() : sortKey;
+        
+        // Fetch one extra row to learn whether another page exists without issuing a count query
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Player> players;
+        if (effectiveSortKey == PlayerSortKey.LAST_NAME) {
+            players = after == null
+                    ? playerRepository.findFirstPlayersByLastName(country, playingRole, isActive, limit)
+                    : playerRepository.findPlayersAfterLastName(country, playingRole, isActive,
+                            after.getLastSortValue(), after.getLastId(), limit);
+        } else {
+            players = after == null
+                    ? playerRepository.findFirstPlayersById(country, playingRole, isActive, limit)
+                    : playerRepository.findPlayersAfterId(country, playingRole, isActive, after.getLastId(), limit);
+        }
+        
+        boolean hasNext = players.size() > size;
+        List<PlayerDTO> content = players.stream()
+                .limit(size)
+                .map(PlayerMapper::convertToDTO)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext
+                ? PlayerCursor.after(effectiveSortKey, content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorPage<>(content, nextCursor);
     }
     
+    @Cacheable(cacheNames = CacheConfig.PLAYER_QUERIES_CACHE, cacheResolver = CacheConfig.PLAYER_QUERIES_RESOLVER, sync = true,
+               key = "T(com.cricket.player.cache.PlayerQueryKey).country(#country, null)")
     @Transactional(readOnly = true)
     public List<PlayerDTO> getPlayersByCountry(String country) {
         List<Player> players = playerRepository.findByCountry(country);
         return players.stream()
-                .map(this::convertToDTO)
+                .map(PlayerMapper::convertToDTO)
                 .collect(Collectors.toList());
     }
     
+    @Cacheable(cacheNames = CacheConfig.PLAYER_QUERIES_CACHE, cacheResolver = CacheConfig.PLAYER_QUERIES_RESOLVER, sync = true,
+               key = "T(com.cricket.player.cache.PlayerQueryKey).country(#country, #fields)")
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getPlayersByCountry(String country, String fields) {
+        return playerRepository.findProjectedByCountry(PlayerField.parse(fields), country);
+    }
+    
+    @Cacheable(cacheNames = CacheConfig.PLAYER_QUERIES_CACHE, cacheResolver = CacheConfig.PLAYER_QUERIES_RESOLVER, sync = true,
+               key = "T(com.cricket.player.cache.PlayerQueryKey).role(#playingRole, null)")
     @Transactional(readOnly = true)
     public List<PlayerDTO> getPlayersByRole(PlayingRole playingRole) {
         List<Player> players = playerRepository.findByPlayingRole(playingRole);
         return players.stream()
-                .map(this::convertToDTO)
+                .map(PlayerMapper::convertToDTO)
                 .collect(Collectors.toList());
     }
     
+    @Cacheable(cacheNames = CacheConfig.PLAYER_QUERIES_CACHE, cacheResolver = CacheConfig.PLAYER_QUERIES_RESOLVER, sync = true,
+               key = "T(com.cricket.player.cache.PlayerQueryKey).role(#playingRole, #fields)")
     @Transactional(readOnly = true)
-    public List<PlayerDTO> searchPlayersByName(String name) {
-        List<Player> players = playerRepository.findByNameContaining(name);
-        return players.stream()
-                .map(this::convertToDTO)
+    public List<Map<String, Object>> getPlayersByRole(PlayingRole playingRole, String fields) {
+        return playerRepository.findProjectedByPlayingRole(PlayerField.parse(fields), playingRole);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<PlayerDTO> searchPlayersByName(String name, int limit) {
+        List<Long> rankedIds = searchRankedIds(name, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Player> playersById = playerRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(playersById::get)
+                .filter(player -> player != null)
+                .map(PlayerMapper::convertToDTO)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> searchPlayersByName(String name, int limit, String fields) {
+        List<PlayerField> requested = PlayerField.parse(fields);
+        List<Long> rankedIds = searchRankedIds(name, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        return findProjectedInOrder(requested, rankedIds, new ArrayList<>());
+    }
+    
+    // Projected rows for ids in the given order; ids with no player are added to missingIds
+    private List<Map<String, Object>> findProjectedInOrder(List<PlayerField> requested, List<Long> ids, List<Long> missingIds) {
+        // The id is always selected so rows can be put back into order, then dropped if it was not requested
+        List<PlayerField> selected = new ArrayList<>(requested);
+        if (!selected.contains(PlayerField.ID)) {
+            selected.add(PlayerField.ID);
+        }
+        String idProperty = PlayerField.ID.getProperty();
+        Map<Object, Map<String, Object>> rowsById = playerRepository.findProjectedByIds(selected, ids).stream()
+                .collect(Collectors.toMap(row -> row.get(idProperty), Function.identity()));
+        List<Map<String, Object>> rows = new ArrayList<>(rowsById.size());
+        for (Long id : ids) {
+            Map<String, Object> row = rowsById.get(id);
+            if (row == null) {
+                missingIds.add(id);
+                continue;
+            }
+            if (!requested.contains(PlayerField.ID)) {
+                row.remove(idProperty);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    private List<Long> searchRankedIds(String name, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new CricketBusinessException("Search limit must be between 1 and " + MAX_SEARCH_LIMIT, "INVALID_SEARCH_LIMIT");
+        }
+        return playerSearchBackend.search(name, limit);
+    }
+    
+    @CachePut(cacheNames = CacheConfig.PLAYERS_CACHE, cacheResolver = CacheConfig.PLAYERS_RESOLVER, key = "#id")
     public PlayerDTO updatePlayer(Long id, PlayerDTO playerDTO) {
         Player player = playerRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Player", "id", id));
+        if (playerDTO.getVersion() != null && playerDTO.getVersion() != player.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Player.class, id);
+        }
+        // Cached queries that listed the player under its previous country or role change too
+        playerQueryCache.invalidate(player.getCountry(), player.getPlayingRole());
         
-        updatePlayerFields(player, playerDTO);
-        Player updatedPlayer = playerRepository.save(player);
-        return convertToDTO(updatedPlayer);
+        PlayerMapper.updatePlayerFields(player, playerDTO);
+        player.setUpdatedAt(playerRepository.currentTimestamp());
+        // Flush so the returned (and cached) DTO carries the incremented version
+        Player updatedPlayer = playerRepository.saveAndFlush(player);
+        playerOutbox.record(id, PlayerChangeType.UPDATED);
+        playerSearchBackend.index(updatedPlayer);
+        playerQueryCache.invalidate(updatedPlayer.getCountry(), updatedPlayer.getPlayingRole());
+        return PlayerMapper.convertToDTO(updatedPlayer);
     }
     
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS_CACHE, cacheResolver = CacheConfig.PLAYERS_RESOLVER, key = "#id")
     public void deletePlayer(Long id) {
-        Player player = playerRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Player", "id", id));
-        playerRepository.delete(player);
+        // Guarded by the cached version, a delete that matches tells which cached lists held the player; without a
+        // cached copy the tags are not read, and any cached list could hold the player
+        PlayerDTO cached = playerByIdCache.get(id, PlayerDTO.class);
+        if (cached != null && playerRepository.deletePlayerByIdAndVersion(id, cached.getVersion()) == 1) {
+            playerQueryCache.invalidate(cached.getCountry(), cached.getPlayingRole());
+        } else if (playerRepository.deletePlayerById(id) == 1) {
+            playerQueryCache.invalidateAll();
+        } else {
+            throw new ResourceNotFoundException("Player", "id", id);
+        }
+        // Written in the same transaction as the delete so the change feed can report it
+        tombstoneRepository.save(new PlayerTombstone(id, playerRepository.currentTimestamp()));
+        playerOutbox.record(id, PlayerChangeType.DELETED);
+        playerSearchBackend.remove(id);
     }
     
+    @CachePut(cacheNames = CacheConfig.PLAYERS_CACHE, cacheResolver = CacheConfig.PLAYERS_RESOLVER, key = "#id")
     public PlayerDTO activatePlayer(Long id) {
-        Player player = playerRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Player", "id", id));
-        player.setIsActive(true);
-        Player updatedPlayer = playerRepository.save(player);
-        return convertToDTO(updatedPlayer);
+        return setActive(id, true);
     }
     
+    @CachePut(cacheNames = CacheConfig.PLAYERS_CACHE, cacheResolver = CacheConfig.PLAYERS_RESOLVER, key = "#id")
     public PlayerDTO deactivatePlayer(Long id) {
-        Player player = playerRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Player", "id", id));
-        player.setIsActive(false);
-        Player updatedPlayer = playerRepository.save(player);
-        return convertToDTO(updatedPlayer);
+        return setActive(id, false);
+    }
+    
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS_CACHE, cacheResolver = CacheConfig.PLAYERS_RESOLVER, allEntries = true)
+    public int activatePlayers(PlayerStatusChangeRequest request) {
+        return setActive(request, true);
+    }
+    
+    @CacheEvict(cacheNames = CacheConfig.PLAYERS_CACHE, cacheResolver = CacheConfig.PLAYERS_RESOLVER, allEntries = true)
+    public int deactivatePlayers(PlayerStatusChangeRequest request) {
+        return setActive(request, false);
+    }
+    
+    // When this instance caches the player, the UPDATE is guarded by the cached version: every write bumps it, so
+    // if the row still matches, the cached copy plus the new status and version is the updated player and no read
+    // follows. Otherwise the player is read back after the update.
+    private PlayerDTO setActive(Long id, boolean active) {
+        LocalDateTime now = playerRepository.currentTimestamp();
+        PlayerDTO cached = playerByIdCache.get(id, PlayerDTO.class);
+        PlayerDTO updated;
+        if (cached != null && playerRepository.updateActiveByIdAndVersion(id, cached.getVersion(), active, now) == 1) {
+            updated = PlayerMapper.copyOf(cached);
+            updated.setIsActive(active);
+            updated.setVersion(cached.getVersion() + 1);
+        } else if (playerRepository.updateActiveById(id, active, now) == 1) {
+            updated = playerRepository.findById(id)
+                    .map(PlayerMapper::convertToDTO)
+                    .orElseThrow(() -> new ResourceNotFoundException("Player", "id", id));
+        } else {
+            throw new ResourceNotFoundException("Player", "id", id);
+        }
+        playerOutbox.record(id, PlayerChangeType.UPDATED);
+        playerQueryCache.invalidate(updated.getCountry(), updated.getPlayingRole());
+        return updated;
+    }
+    
+    // Returns the number of players whose status actually changed; players already in the target state are skipped
+    private int setActive(PlayerStatusChangeRequest request, boolean active) {
+        List<Long> ids = request.getIds();
+        boolean byFilters = request.getCountry() != null || request.getPlayingRole() != null;
+        if (ids != null && !ids.isEmpty()) {
+            if (byFilters) {
+                throw new CricketBusinessException("Select players either by ids or by country/playingRole, not both", "INVALID_STATUS_CHANGE");
+            }
+            if (ids.size() > MAX_STATUS_CHANGE_IDS) {
+                throw new CricketBusinessException("At most " + MAX_STATUS_CHANGE_IDS + " ids can be changed per request", "INVALID_STATUS_CHANGE");
+            }
+            LocalDateTime now = playerRepository.currentTimestamp();
+            int updated = 0;
+            for (int from = 0; from < ids.size(); from += STATUS_CHANGE_ID_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + STATUS_CHANGE_ID_CHUNK));
+                playerOutbox.recordStatusChanges(chunk, active);
+                updated += playerRepository.updateActiveByIds(chunk, active, now);
+            }
+            if (updated > 0) {
+                playerQueryCache.invalidateAll();
+            }
+            return updated;
+        }
+        if (!byFilters) {
+            throw new CricketBusinessException("Select players by ids or by country/playingRole", "INVALID_STATUS_CHANGE");
+        }
+        playerOutbox.recordStatusChanges(request.getCountry(), request.getPlayingRole(), active);
+        int updated = playerRepository.updateActiveWithFilters(request.getCountry(), request.getPlayingRole(), active,
+                playerRepository.currentTimestamp());
+        if (updated > 0) {
+            playerQueryCache.invalidate(request.getCountry(), request.getPlayingRole());
+        }
+        return updated;
     }
     
     @Transactional(readOnly = true)
@@ -115,40 +407,4 @@ public class PlayerService {
     public long getPlayerCountByRole(PlayingRole playingRole) {
         return playerRepository.countByPlayingRole(playingRole);
     }
-    
-    private Player convertToEntity(PlayerDTO playerDTO) {
-        Player player = new Player();
-        updatePlayerFields(player, playerDTO);
-        return player;
-    }
-    
-    private void updatePlayerFields(Player player, PlayerDTO playerDTO) {
-        player.setFirstName(playerDTO.getFirstName());
-        player.setLastName(playerDTO.getLastName());
-        player.setDateOfBirth(playerDTO.getDateOfBirth());
-        player.setCountry(playerDTO.getCountry());
-        player.setPlayingRole(playerDTO.getPlayingRole());
-        player.setBattingStyle(playerDTO.getBattingStyle());
-        player.setBowlingStyle(playerDTO.getBowlingStyle());
-        player.setJerseyNumber(playerDTO.getJerseyNumber());
-        
-        if (playerDTO.getIsActive() != null) {
-            player.setIsActive(playerDTO.getIsActive());
-        }
-    }
-    
-    private PlayerDTO convertToDTO(Player player) {
-        PlayerDTO playerDTO = new PlayerDTO();
-        playerDTO.setId(player.getId());
-        playerDTO.setFirstName(player.getFirstName());
-        playerDTO.setLastName(player.getLastName());
-        playerDTO.setDateOfBirth(player.getDateOfBirth());
-        playerDTO.setCountry(player.getCountry());
-        playerDTO.setPlayingRole(player.getPlayingRole());
-        playerDTO.setBattingStyle(player.getBattingStyle());
-        playerDTO.setBowlingStyle(player.getBowlingStyle());
-        playerDTO.setJerseyNumber(player.getJerseyNumber());
-        playerDTO.setIsActive(player.getIsActive());
-        return playerDTO;
-    }
 }
\ No newline at end of file
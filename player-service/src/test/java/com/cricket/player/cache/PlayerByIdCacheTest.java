@@ -0,0 +1,50 @@
+package com.cricket.player.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerByIdCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PlayerByIdCache cache = new PlayerByIdCache(new ConcurrentMapCache("players"), meterRegistry);
+
+    @Test
+    void get_ShouldNotOverwriteConcurrentPutWithOlderLoad() {
+        String loaded = cache.get(1L, () -> {
+            // An update commits and puts the new player while this read is still loading the old one
+            cache.put(1L, "after update");
+            return "before update";
+        });
+
+        assertEquals("before update", loaded);
+        assertEquals("after update", cache.get(1L).get());
+        assertEquals(1.0, meterRegistry.get("player.cache.puts.rejected").counter().count());
+    }
+
+    @Test
+    void get_ShouldNotStoreLoadThatSpannedEviction() {
+        String loaded = cache.get(1L, () -> {
+            cache.evict(1L);
+            return "before delete";
+        });
+
+        assertEquals("before delete", loaded);
+        assertNull(cache.get(1L));
+        assertEquals("after delete", cache.get(1L, () -> "after delete"));
+        assertEquals("after delete", cache.get(1L, () -> "not loaded"));
+    }
+
+    @Test
+    void clear_ShouldAdvanceEpoch() {
+        cache.get(1L, () -> {
+            cache.clear();
+            return "before status change";
+        });
+
+        assertNull(cache.get(1L));
+        assertEquals(1.0, meterRegistry.get("player.cache.puts.rejected").counter().count());
+    }
+}
@@ -0,0 +1,74 @@
+package com.cricket.player.cache;
+
+import com.cricket.player.model.PlayingRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerQueryCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PlayerQueryCache cache = new PlayerQueryCache(meterRegistry, 1000, Duration.ofMinutes(1));
+
+    @Test
+    void invalidate_ShouldEvictOnlyEntriesTaggedWithWrittenCountryOrRole() {
+        PlayerQueryKey indianBatsmen = PlayerQueryKey.filters("India", PlayingRole.BATSMAN, true, null, PageRequest.of(0, 20));
+        PlayerQueryKey indianBowlers = PlayerQueryKey.filters("India", PlayingRole.BOWLER, true, null, PageRequest.of(0, 20));
+        PlayerQueryKey india = PlayerQueryKey.country("India", null);
+        PlayerQueryKey australia = PlayerQueryKey.country("Australia", null);
+        PlayerQueryKey batsmen = PlayerQueryKey.role(PlayingRole.BATSMAN, null);
+        PlayerQueryKey everyone = PlayerQueryKey.filters(null, null, null, null, PageRequest.of(0, 20));
+        for (PlayerQueryKey key : List.of(indianBatsmen, indianBowlers, india, australia, batsmen, everyone)) {
+            cache.get(key, () -> List.of("row"));
+        }
+
+        cache.invalidate("India", PlayingRole.BATSMAN);
+
+        assertNull(cache.get(indianBatsmen));
+        assertNull(cache.get(india));
+        assertNull(cache.get(batsmen));
+        assertNull(cache.get(everyone));
+        assertNotNull(cache.get(indianBowlers));
+        assertNotNull(cache.get(australia));
+        assertEquals(4.0, meterRegistry.get("player.query.cache.invalidated.entries").counter().count());
+    }
+
+    @Test
+    void get_ShouldNotStoreResultLoadedWhileWriteCommitted() {
+        PlayerQueryKey key = PlayerQueryKey.country("India", "id,lastName");
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> stale = cache.get(key, () -> {
+            loads.incrementAndGet();
+            // A write to an unrelated country still advances the epoch; the stale result is returned, not kept
+            cache.invalidate("England", null);
+            return List.of("before write");
+        });
+        List<String> fresh = cache.get(key, () -> {
+            loads.incrementAndGet();
+            return List.of("after write");
+        });
+
+        assertEquals(List.of("before write"), stale);
+        assertEquals(List.of("after write"), fresh);
+        assertEquals(List.of("after write"), cache.get(key, () -> List.of("not loaded")));
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.get("player.query.cache.puts.rejected").counter().count());
+    }
+
+    @Test
+    void keys_ShouldMatchOnNormalizedFields() {
+        assertEquals(PlayerQueryKey.role(PlayingRole.BOWLER, "id, lastName,id"),
+                PlayerQueryKey.role(PlayingRole.BOWLER, "id,lastName"));
+        assertNotEquals(PlayerQueryKey.role(PlayingRole.BOWLER, "id,lastName"),
+                PlayerQueryKey.role(PlayingRole.BOWLER, null));
+        assertNotEquals(PlayerQueryKey.filters("India", null, null, null, PageRequest.of(0, 20)),
+                PlayerQueryKey.filters("India", null, null, null, PageRequest.of(1, 20)));
+    }
+}
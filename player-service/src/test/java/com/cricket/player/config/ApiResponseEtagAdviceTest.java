@@ -0,0 +1,138 @@
+package com.cricket.player.config;
+
+import com.cricket.player.controller.PlayerController;
+import com.cricket.player.dto.PlayerChangeSet;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.service.PlayerBulkImportService;
+import com.cricket.player.service.PlayerChangeFeedService;
+import com.cricket.player.service.PlayerExportService;
+import com.cricket.player.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PlayerController.class)
+class ApiResponseEtagAdviceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PlayerService playerService;
+
+    @MockBean
+    private PlayerBulkImportService playerBulkImportService;
+
+    @MockBean
+    private PlayerExportService playerExportService;
+
+    @MockBean
+    private PlayerChangeFeedService playerChangeFeedService;
+
+    @Test
+    void getPlayer_ShouldKeepEtagUntilVersionChanges() throws Exception {
+        // Given
+        when(playerService.getPlayerById(1L)).thenReturn(player(1L, 3L, "Kohli"));
+        String first = etag("/api/players/1");
+        String repeated = etag("/api/players/1");
+
+        // When
+        when(playerService.getPlayerById(1L)).thenReturn(player(1L, 4L, "Kohli"));
+        String updated = etag("/api/players/1");
+
+        // Then
+        assertTrue(first.startsWith("W/\""));
+        assertEquals(first, repeated);
+        assertNotEquals(first, updated);
+    }
+
+    @Test
+    void getPlayer_ShouldAnswerNotModified_WhenEtagMatches() throws Exception {
+        // Given
+        when(playerService.getPlayerById(1L)).thenReturn(player(1L, 3L, "Kohli"));
+        String etag = etag("/api/players/1");
+
+        // When / Then
+        mockMvc.perform(get("/api/players/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getPlayers_ShouldVaryEtagByPageAndContent() throws Exception {
+        // Given
+        Pageable firstPage = PageRequest.of(0, 2);
+        when(playerService.getAllPlayers(any(Pageable.class))).thenReturn(
+                new PageImpl<>(List.of(player(1L, 0L, "Kohli"), player(2L, 0L, "Sharma")), firstPage, 5));
+        String page = etag("/api/players?page=0&size=2");
+
+        // When
+        when(playerService.getAllPlayers(any(Pageable.class))).thenReturn(
+                new PageImpl<>(List.of(player(1L, 0L, "Kohli"), player(2L, 0L, "Sharma")), firstPage, 6));
+        String grown = etag("/api/players?page=0&size=2");
+        when(playerService.getAllPlayers(any(Pageable.class))).thenReturn(
+                new PageImpl<>(List.of(player(1L, 0L, "Kohli"), player(3L, 0L, "Gill")), firstPage, 6));
+        String replaced = etag("/api/players?page=0&size=2");
+
+        // Then
+        assertNotEquals(page, grown);
+        assertNotEquals(grown, replaced);
+    }
+
+    @Test
+    void getPlayerFields_ShouldDeriveEtagFromProjectedValues() throws Exception {
+        // Given
+        when(playerService.getPlayersByCountry("India", "id,lastName"))
+                .thenReturn(List.of(Map.of("id", 1L, "lastName", "Kohli")));
+        String before = etag("/api/players/country/India?fields=id,lastName");
+
+        // When
+        when(playerService.getPlayersByCountry("India", "id,lastName"))
+                .thenReturn(List.of(Map.of("id", 1L, "lastName", "Kohli-Sharma")));
+        String after = etag("/api/players/country/India?fields=id,lastName");
+
+        // Then
+        assertNotEquals(before, after);
+    }
+
+    @Test
+    void getChanges_ShouldNotCarryEtag() throws Exception {
+        // Given
+        when(playerChangeFeedService.getChangesSince(any(), anyInt())).thenReturn(new PlayerChangeSet(List.of(), "w1", false));
+
+        // When / Then
+        mockMvc.perform(get("/api/players/changes"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String etag(String uri) throws Exception {
+        return mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static PlayerDTO player(Long id, Long version, String lastName) {
+        PlayerDTO player = new PlayerDTO();
+        player.setId(id);
+        player.setVersion(version);
+        player.setLastName(lastName);
+        return player;
+    }
+}
@@ -0,0 +1,101 @@
+package com.cricket.player.config;
+
+import com.cricket.player.controller.PlayerController;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.service.PlayerBulkImportService;
+import com.cricket.player.service.PlayerChangeFeedService;
+import com.cricket.player.service.PlayerExportService;
+import com.cricket.player.service.PlayerService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PlayerController.class)
+@Import(BinaryEncodingConfig.class)
+class BinaryEncodingConfigTest {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PlayerService playerService;
+
+    @MockBean
+    private PlayerBulkImportService playerBulkImportService;
+
+    @MockBean
+    private PlayerExportService playerExportService;
+
+    @MockBean
+    private PlayerChangeFeedService playerChangeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        PlayerDTO player = new PlayerDTO();
+        player.setId(1L);
+        player.setLastName("Kohli");
+        player.setDateOfBirth(LocalDate.of(1988, 11, 5));
+        when(playerService.getPlayerById(1L)).thenReturn(player);
+    }
+
+    @Test
+    void getPlayer_ShouldEncodeCbor_WhenAccepted() throws Exception {
+        JsonNode body = fetch(MediaType.APPLICATION_CBOR, new ObjectMapper(new CBORFactory()));
+        assertEquals("Kohli", body.at("/data/lastName").asText());
+        assertEquals("1988-11-05", body.at("/data/dateOfBirth").asText());
+    }
+
+    @Test
+    void getPlayer_ShouldEncodeSmile_WhenAccepted() throws Exception {
+        JsonNode body = fetch(SMILE, new ObjectMapper(new SmileFactory()));
+        assertEquals("Kohli", body.at("/data/lastName").asText());
+        assertEquals("1988-11-05", body.at("/data/dateOfBirth").asText());
+    }
+
+    @Test
+    void getPlayer_ShouldEncodeJson_ForAnyOrNoAccept() throws Exception {
+        mockMvc.perform(get("/api/players/1").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.dateOfBirth").value("1988-11-05"));
+        mockMvc.perform(get("/api/players/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void getPlayer_ShouldVaryEtagByAccept() throws Exception {
+        mockMvc.perform(get("/api/players/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    private JsonNode fetch(MediaType mediaType, ObjectMapper decoder) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/players/1").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn();
+        return decoder.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
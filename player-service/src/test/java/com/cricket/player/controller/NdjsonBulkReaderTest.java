@@ -0,0 +1,67 @@
+package com.cricket.player.controller;
+
+import com.cricket.player.dto.BulkImportRow;
+import com.cricket.player.dto.PlayerDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonBulkReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void next_ShouldParseEachLineSkippingBlankOnes() {
+        // Given
+        NdjsonBulkReader reader = reader("{\"lastName\":\"Kohli\"}\n\n   \n{\"lastName\":\"Sharma\"}\n");
+
+        // When
+        List<BulkImportRow> rows = readAll(reader);
+
+        // Then
+        assertEquals(2, rows.size());
+        assertEquals(0, rows.get(0).getIndex());
+        assertEquals("Kohli", rows.get(0).getPlayer().getLastName());
+        assertEquals(1, rows.get(1).getIndex());
+        assertEquals("Sharma", rows.get(1).getPlayer().getLastName());
+        assertThrows(NoSuchElementException.class, reader::next);
+    }
+
+    @Test
+    void next_ShouldReportMalformedLinesAndCarryOn() {
+        // Given
+        NdjsonBulkReader reader = reader("{\"lastName\":\"Kohli\"}\n{\"lastName\":\n[1, 2]\nnull\n{\"lastName\":\"Sharma\"}");
+
+        // When
+        List<BulkImportRow> rows = readAll(reader);
+
+        // Then
+        assertEquals(5, rows.size());
+        assertNull(rows.get(0).getParseError());
+        assertTrue(rows.get(1).getParseError().startsWith("Malformed JSON"));
+        assertNull(rows.get(1).getPlayer());
+        assertTrue(rows.get(2).getParseError().startsWith("Malformed JSON"));
+        // A null line parses, and is left for validation to reject
+        assertNull(rows.get(3).getParseError());
+        assertNull(rows.get(3).getPlayer());
+        assertEquals(4, rows.get(4).getIndex());
+        assertEquals("Sharma", rows.get(4).getPlayer().getLastName());
+    }
+
+    private NdjsonBulkReader reader(String body) {
+        return new NdjsonBulkReader(new BufferedReader(new StringReader(body)), objectMapper.readerFor(PlayerDTO.class));
+    }
+
+    private static List<BulkImportRow> readAll(NdjsonBulkReader reader) {
+        List<BulkImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
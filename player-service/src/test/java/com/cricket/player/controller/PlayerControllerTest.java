@@ -0,0 +1,143 @@
+package com.cricket.player.controller;
+
+import com.cricket.player.dto.PlayerBatchResult;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.export.PlayerExportFormat;
+import com.cricket.player.service.PlayerBulkImportService;
+import com.cricket.player.service.PlayerChangeFeedService;
+import com.cricket.player.service.PlayerExportService;
+import com.cricket.player.service.PlayerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(PlayerController.class)
+class PlayerControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PlayerService playerService;
+
+    @MockBean
+    private PlayerBulkImportService playerBulkImportService;
+
+    @MockBean
+    private PlayerExportService playerExportService;
+
+    @MockBean
+    private PlayerChangeFeedService playerChangeFeedService;
+
+    @Test
+    void getPlayers_ShouldSelectFieldsOfBatch_WhenIdsAndFieldsAreGiven() throws Exception {
+        // Given
+        when(playerService.getPlayersByIds(List.of(1L, 2L), "id"))
+                .thenReturn(new PlayerBatchResult<>(List.of(Map.of("id", 1L)), List.of(2L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/players").param("ids", "1,2").param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.players[0].id").value(1))
+                .andExpect(jsonPath("$.data.players[0].firstName").doesNotExist())
+                .andExpect(jsonPath("$.data.missingIds[0]").value(2));
+        verify(playerService, never()).getPlayersWithFilters(any(), any(), any(), anyString(), any());
+    }
+
+    @Test
+    void getPlayers_ShouldReturnFullPlayersOfBatch_WhenOnlyIdsAreGiven() throws Exception {
+        // Given
+        PlayerDTO player = new PlayerDTO();
+        player.setId(1L);
+        player.setFirstName("Virat");
+        when(playerService.getPlayersByIds(List.of(1L))).thenReturn(new PlayerBatchResult<>(List.of(player), List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/players").param("ids", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.players[0].firstName").value("Virat"));
+    }
+
+    @Test
+    void getPlayers_ShouldSelectFieldsOfPage_WhenOnlyFieldsAreGiven() throws Exception {
+        // Given
+        when(playerService.getPlayersWithFilters(isNull(), isNull(), isNull(), eq("id"), any()))
+                .thenReturn(new PageImpl<>(List.of(Map.of("id", 1L)), PageRequest.of(0, 20), 1));
+
+        // When & Then
+        mockMvc.perform(get("/api/players").param("fields", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(1));
+        verify(playerService, never()).getPlayersByIds(any(), anyString());
+    }
+
+    @Test
+    void deactivatePlayer_ShouldReturnUpdatedPlayer() throws Exception {
+        // Given
+        PlayerDTO player = new PlayerDTO();
+        player.setId(1L);
+        player.setIsActive(false);
+        player.setVersion(4L);
+        when(playerService.deactivatePlayer(1L)).thenReturn(player);
+
+        // When & Then
+        mockMvc.perform(put("/api/players/1/deactivate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.isActive").value(false))
+                .andExpect(jsonPath("$.data.version").value(4));
+    }
+
+    @Test
+    void exportPlayers_ShouldStreamOnAsyncRequestWithExportTimeout() throws Exception {
+        // Given
+        when(playerExportService.exportPlayers(eq(PlayerExportFormat.NDJSON), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/players/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"players.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void getPlayerEvents_ShouldConflict_WhenInstanceDoesNotHoldEventLog() throws Exception {
+        // Given
+        when(playerChangeFeedService.servesEventLog()).thenReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/api/players/events"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("EVENT_LOG_NOT_SERVED"));
+        verify(playerChangeFeedService, never()).getEvents(anyLong(), anyInt());
+    }
+}
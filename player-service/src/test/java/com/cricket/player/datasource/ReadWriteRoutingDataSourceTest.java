@@ -0,0 +1,156 @@
+package com.cricket.player.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two H2 databases stand in for the primary and a replica; each holds a marker row naming itself
+class ReadWriteRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReadWriteRoutingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        HikariDataSource primary = pool("primary", "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1");
+        HikariDataSource replica = pool("replica", "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1");
+        mark(primary, "primary");
+        mark(replica, "replica");
+        use(List.of(replica), primary);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        assertEquals("replica", readTransaction.execute(status -> database()));
+        assertEquals(1.0, connections("replica", "read"));
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUsePrimary() {
+        assertEquals("primary", writeTransaction.execute(status -> database()));
+        assertEquals(1.0, connections("primary", "write"));
+    }
+
+    @Test
+    void readAfterWrite_ShouldUsePrimaryAndPinClient() {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ReadYourWrites.begin(new MockHttpServletRequest(), response, Duration.ofSeconds(5));
+
+        // When
+        writeTransaction.execute(status -> jdbcTemplate.update("UPDATE marker SET name = name"));
+        String reader = readTransaction.execute(status -> database());
+
+        // Then
+        assertEquals("primary", reader);
+        assertEquals(1.0, connections("primary", "recent-write"));
+        assertNotNull(response.getCookie(ReadYourWrites.COOKIE));
+        assertNotNull(response.getHeader(ReadYourWrites.HEADER));
+    }
+
+    @Test
+    void readWithinClientWindow_ShouldUsePrimaryUnlessWindowIsImplausible() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWrites.COOKIE, Long.toString(System.currentTimeMillis() + 2000)));
+        MockHttpServletRequest forged = new MockHttpServletRequest();
+        forged.addHeader(ReadYourWrites.HEADER, Long.toString(System.currentTimeMillis() + 3_600_000));
+
+        // When
+        ReadYourWrites.begin(request, new MockHttpServletResponse(), Duration.ofSeconds(5));
+        String pinnedReader = readTransaction.execute(status -> database());
+        ReadYourWrites.begin(forged, new MockHttpServletResponse(), Duration.ofSeconds(5));
+        String forgedReader = readTransaction.execute(status -> database());
+
+        // Then
+        assertEquals("primary", pinnedReader);
+        assertEquals("replica", forgedReader);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldFailOverWhenReplicaIsDown() {
+        // Given
+        HikariDataSource primary = pools.get(0);
+        HikariDataSource down = pool("down", "jdbc:h2:mem:routing-missing;IFEXISTS=TRUE");
+        HikariDataSource replica = pools.get(1);
+        use(List.of(down, replica), primary);
+
+        // When
+        List<String> readers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            readers.add(readTransaction.execute(status -> database()));
+        }
+
+        // Then
+        assertEquals(List.of("replica", "replica", "replica", "replica"), readers);
+
+        // And with no replica left, reads go to the primary
+        use(List.of(down), primary);
+        assertEquals("primary", readTransaction.execute(status -> database()));
+        assertEquals(1.0, connections("primary", "failover"));
+    }
+
+    private HikariDataSource pool(String name, String url) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername("sa");
+        config.setMaximumPoolSize(2);
+        config.setConnectionTimeout(2000);
+        config.setInitializationFailTimeout(-1);
+        HikariDataSource pool = new HikariDataSource(config);
+        pools.add(pool);
+        return pool;
+    }
+
+    private static void mark(HikariDataSource pool, String name) {
+        JdbcTemplate jdbc = new JdbcTemplate(pool);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbc.update("DELETE FROM marker");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+    }
+
+    private void use(List<HikariDataSource> replicas, HikariDataSource primary) {
+        meterRegistry.clear();
+        dataSource = new ReadWriteRoutingDataSource(primary, replicas, Duration.ofMinutes(1), meterRegistry);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    private String database() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private double connections(String target, String reason) {
+        return meterRegistry.get("player.datasource.connections").tag("target", target).tag("reason", reason)
+                .counter().count();
+    }
+}
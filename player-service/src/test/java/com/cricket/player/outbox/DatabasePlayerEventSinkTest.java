@@ -0,0 +1,93 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.dto.PlayerEvent;
+import com.cricket.player.dto.PlayerEventPage;
+import com.cricket.player.repository.PlayerEventLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Two sinks over one table stand in for two replicas of the service
+@DataJpaTest
+class DatabasePlayerEventSinkTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Autowired
+    private PlayerEventLogRepository eventLogRepository;
+
+    private DatabasePlayerEventSink firstInstance;
+    private DatabasePlayerEventSink secondInstance;
+
+    @BeforeEach
+    void setUp() {
+        firstInstance = new DatabasePlayerEventSink(eventLogRepository, objectMapper, 1000);
+        secondInstance = new DatabasePlayerEventSink(eventLogRepository, objectMapper, 1000);
+    }
+
+    @Test
+    void read_ShouldServeOneLogToEveryInstance() {
+        // When
+        firstInstance.publish(events(1, 3));
+        secondInstance.publish(events(4, 5));
+        PlayerEventPage fromFirst = firstInstance.read(0, 10);
+        PlayerEventPage fromSecond = secondInstance.read(2, 2);
+
+        // Then
+        assertTrue(firstInstance.isShared());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), eventIds(fromFirst));
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), fromFirst.getEvents().stream()
+                .map(PlayerEvent::getOffset).collect(Collectors.toList()));
+        assertEquals(5L, fromFirst.getEndOffset());
+        assertEquals(List.of(3L, 4L), eventIds(fromSecond));
+        assertEquals("Last3", fromSecond.getEvents().get(0).getPlayer().getLastName());
+        assertEquals(4L, fromSecond.getNextOffset());
+        assertEquals(0, secondInstance.read(5, 10).getSize());
+        assertTrue(secondInstance.read(6, 10).isResyncRequired());
+    }
+
+    @Test
+    void trim_ShouldKeepLatestEventsAndResyncOlderOffsets() {
+        // Given
+        DatabasePlayerEventSink sink = new DatabasePlayerEventSink(eventLogRepository, objectMapper, 2);
+        sink.publish(events(1, 5));
+
+        // When
+        sink.trim();
+
+        // Then
+        assertTrue(sink.read(2, 10).isResyncRequired());
+        assertEquals(5L, sink.read(2, 10).getEndOffset());
+        assertEquals(List.of(4L, 5L), eventIds(sink.read(3, 10)));
+    }
+
+    private static List<Long> eventIds(PlayerEventPage page) {
+        return page.getEvents().stream().map(PlayerEvent::getEventId).collect(Collectors.toList());
+    }
+
+    private static List<PlayerEvent> events(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> {
+                    PlayerDTO player = new PlayerDTO();
+                    player.setId(id);
+                    player.setLastName("Last" + id);
+                    return new PlayerEvent(id, PlayerChangeType.UPDATED, id, LocalDateTime.now(), player);
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,81 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.dto.PlayerEvent;
+import com.cricket.player.dto.PlayerEventPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilePlayerEventSinkTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void read_ShouldServeEventsFromOffsetAcrossRestarts() throws Exception {
+        Path path = directory.resolve("events.ndjson");
+        FilePlayerEventSink sink = new FilePlayerEventSink(objectMapper, path);
+        sink.publish(events(1, 3));
+        sink.publish(events(4, 5));
+        sink.destroy();
+
+        FilePlayerEventSink reopened = new FilePlayerEventSink(objectMapper, path);
+        reopened.publish(events(6, 6));
+        PlayerEventPage page = reopened.read(2, 3);
+
+        assertEquals(List.of(3L, 4L, 5L), page.getEvents().stream().map(PlayerEvent::getEventId).collect(Collectors.toList()));
+        assertEquals(2L, page.getEvents().get(0).getOffset());
+        assertEquals("Last3", page.getEvents().get(0).getPlayer().getLastName());
+        assertEquals(5L, page.getNextOffset());
+        assertEquals(6L, page.getEndOffset());
+        assertEquals(0, reopened.read(6, 10).getSize());
+        reopened.destroy();
+    }
+
+    @Test
+    void constructor_ShouldDropIncompleteLastEvent() throws Exception {
+        Path path = directory.resolve("events.ndjson");
+        FilePlayerEventSink sink = new FilePlayerEventSink(objectMapper, path);
+        sink.publish(events(1, 2));
+        sink.destroy();
+        Files.write(path, "{\"offset\":2,\"eventId\":3,\"ty".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        FilePlayerEventSink reopened = new FilePlayerEventSink(objectMapper, path);
+        reopened.publish(events(3, 3));
+
+        assertEquals(List.of(1L, 2L, 3L), reopened.read(0, 10).getEvents().stream()
+                .map(PlayerEvent::getEventId).collect(Collectors.toList()));
+        assertTrue(reopened.read(4, 10).isResyncRequired());
+        reopened.destroy();
+    }
+
+    private static List<PlayerEvent> events(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> {
+                    PlayerDTO player = new PlayerDTO();
+                    player.setId(id);
+                    player.setLastName("Last" + id);
+                    return new PlayerEvent(id, PlayerChangeType.UPDATED, id, LocalDateTime.now(), player);
+                })
+                .collect(Collectors.toList());
+    }
+}
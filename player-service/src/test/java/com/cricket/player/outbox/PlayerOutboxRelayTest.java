@@ -0,0 +1,103 @@
+package com.cricket.player.outbox;
+
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.dto.PlayerEvent;
+import com.cricket.player.model.Player;
+import com.cricket.player.model.PlayerOutboxEvent;
+import com.cricket.player.repository.PlayerOutboxRepository;
+import com.cricket.player.repository.PlayerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerOutboxRelayTest {
+
+    @Mock
+    private PlayerOutboxRepository outboxRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final InMemoryPlayerEventSink eventSink = new InMemoryPlayerEventSink(100);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PlayerOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        relay = new PlayerOutboxRelay(outboxRepository, playerRepository, eventSink, transactionManager, meterRegistry, 10);
+    }
+
+    @Test
+    void relayBatch_ShouldPublishInIdOrderCoalescingUpdatesAndSkippingDeletedPlayers() {
+        // Given
+        when(outboxRepository.findOldest(any())).thenReturn(List.of(
+                row(1L, 7L, PlayerChangeType.CREATED),
+                row(2L, 8L, PlayerChangeType.UPDATED),
+                row(3L, 7L, PlayerChangeType.UPDATED),
+                row(4L, 9L, PlayerChangeType.UPDATED),
+                row(5L, 9L, PlayerChangeType.DELETED)));
+        when(playerRepository.findAllById(any())).thenReturn(List.of(player(7L), player(8L)));
+
+        // When
+        int consumed = relay.relayBatch();
+
+        // Then
+        assertEquals(5, consumed);
+        List<PlayerEvent> events = eventSink.read(0, 10).getEvents();
+        assertEquals(List.of(1L, 2L, 5L), events.stream().map(PlayerEvent::getEventId).collect(Collectors.toList()));
+        assertEquals(List.of(0L, 1L, 2L), events.stream().map(PlayerEvent::getOffset).collect(Collectors.toList()));
+        assertEquals(7L, events.get(0).getPlayer().getId());
+        assertNull(events.get(2).getPlayer());
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L, 3L, 4L, 5L));
+        assertEquals(1.0, meterRegistry.get("player.outbox.events").tag("result", "coalesced").counter().count());
+        assertEquals(1.0, meterRegistry.get("player.outbox.events").tag("result", "skipped").counter().count());
+    }
+
+    @Test
+    void relay_ShouldKeepRowsWhenSinkFails() {
+        // Given
+        PlayerEventSink failingSink = mock(PlayerEventSink.class);
+        doThrow(new IllegalStateException("disk full")).when(failingSink).publish(any());
+        relay = new PlayerOutboxRelay(outboxRepository, playerRepository, failingSink, transactionManager, meterRegistry, 10);
+        when(outboxRepository.findOldest(any())).thenReturn(List.of(row(1L, 7L, PlayerChangeType.CREATED)));
+        when(playerRepository.findAllById(any())).thenReturn(List.of(player(7L)));
+
+        // When
+        relay.relay();
+
+        // Then
+        verify(outboxRepository, never()).deleteByIds(any());
+        verify(transactionManager).rollback(any());
+        assertEquals(1.0, meterRegistry.get("player.outbox.relay.failures").counter().count());
+    }
+
+    private static PlayerOutboxEvent row(Long id, Long playerId, PlayerChangeType type) {
+        PlayerOutboxEvent row = new PlayerOutboxEvent(playerId, type, LocalDateTime.now());
+        row.setId(id);
+        return row;
+    }
+
+    private static Player player(Long id) {
+        Player player = new Player("First" + id, "Last" + id, "India");
+        player.setId(id);
+        return player;
+    }
+}
@@ -0,0 +1,98 @@
+package com.cricket.player.querystats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryStatsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryStatsFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new QueryStatsFilter(meterRegistry, 3);
+        request = new MockHttpServletRequest("GET", "/api/players/country/India");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/players/country/{country}");
+    }
+
+    @Test
+    void doFilter_ShouldRecordQueriesRowsAndLoadsPerEndpoint() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            QueryStats stats = QueryStats.current();
+            stats.queryStarted();
+            stats.rowFetched();
+            stats.rowFetched();
+            stats.entityLoaded();
+            stats.entityLoaded();
+            stats.queryFinished("select p from players p where country=?", false);
+        });
+
+        assertEquals(1.0, meterRegistry.get("player.request.sql.queries")
+                .tag("uri", "/api/players/country/{country}").summary().totalAmount());
+        assertEquals(2.0, meterRegistry.get("player.request.sql.rows").summary().totalAmount());
+        assertEquals(2.0, meterRegistry.get("player.request.entity.loads").summary().totalAmount());
+        assertNull(meterRegistry.find("player.request.n-plus-one").counter());
+        assertNull(QueryStats.current());
+    }
+
+    @Test
+    void doFilter_ShouldFlagStatementRepeatedPastThreshold() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            QueryStats stats = QueryStats.current();
+            stats.queryStarted();
+            stats.queryFinished("select p from players p where country=?", false);
+            for (int i = 0; i < 3; i++) {
+                stats.queryStarted();
+                stats.queryFinished("select s from player_stats s where player_id=?", false);
+            }
+        });
+
+        assertEquals(1.0, meterRegistry.get("player.request.n-plus-one").counter().count());
+        assertEquals(4.0, meterRegistry.get("player.request.sql.queries").summary().totalAmount());
+    }
+
+    @Test
+    void doFilter_ShouldNotFlagSequenceFetches() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            QueryStats stats = QueryStats.current();
+            for (int i = 0; i < 5; i++) {
+                stats.queryStarted();
+                stats.queryFinished("select next value for players_seq", false);
+            }
+        });
+
+        assertNull(meterRegistry.find("player.request.n-plus-one").counter());
+        assertEquals(5.0, meterRegistry.get("player.request.sql.queries").summary().totalAmount());
+    }
+
+    @Test
+    void doFilter_ShouldNotFlagRepeatedBatches() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            QueryStats stats = QueryStats.current();
+            for (int i = 0; i < 5; i++) {
+                stats.queryStarted();
+                stats.queryFinished("insert into players (first_name,last_name,id) values (?,?,?)", true);
+            }
+        });
+
+        assertNull(meterRegistry.find("player.request.n-plus-one").counter());
+        assertEquals(5.0, meterRegistry.get("player.request.sql.queries").summary().totalAmount());
+    }
+
+    @Test
+    void doFilter_ShouldSkipNonApiRequests() throws Exception {
+        MockHttpServletRequest actuator = new MockHttpServletRequest("GET", "/actuator/health");
+
+        filter.doFilter(actuator, new MockHttpServletResponse(), (req, res) -> assertNull(QueryStats.current()));
+
+        assertNull(meterRegistry.find("player.request.sql.queries").summary());
+    }
+}
@@ -0,0 +1,103 @@
+package com.cricket.player.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "Virat Kohli");
+        index.put(2L, "Virender Sehwag");
+        index.put(3L, "Kane Williamson");
+        index.put(4L, "Rohit Sharma");
+    }
+
+    @Test
+    void search_ShouldRankPrefixMatchesFirst() {
+        List<Long> result = index.search("vir", 10);
+
+        assertEquals(List.of(1L, 2L), result);
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsInsideNames() {
+        assertEquals(List.of(1L), index.search("ohl", 10));
+        assertEquals(List.of(3L), index.search("liams", 10));
+    }
+
+    @Test
+    void search_ShouldTolerateTypos() {
+        assertEquals(List.of(1L), index.search("kholi", 10));
+        assertEquals(List.of(3L), index.search("wiliamson", 10));
+        assertEquals(List.of(1L), index.search("virat kholi", 10));
+    }
+
+    @Test
+    void search_ShouldTolerateEachKindOfTypoAnywhereAfterTheFirstLetter() {
+        assertEquals(List.of(3L), index.search("wxlliamson", 10));
+        assertEquals(List.of(3L), index.search("williamsno", 10));
+        assertEquals(List.of(3L), index.search("willliamson", 10));
+        assertEquals(List.of(4L), index.search("sharna", 10));
+        assertEquals(List.of(2L), index.search("sehwga", 10));
+        assertTrue(index.search("xohli", 10).isEmpty());
+    }
+
+    @Test
+    void search_ShouldFindEveryTypoMatch_WhenManyDocumentsShareTrigrams() {
+        for (long id = 10; id < 3010; id++) {
+            index.put(id, "Player" + id + " Kohli");
+        }
+        index.put(5000L, "Kane Kohler");
+
+        List<Long> result = index.search("kholi", 5000);
+
+        assertEquals(3001, result.size());
+        assertEquals(1L, result.get(0));
+        assertFalse(result.contains(5000L));
+        assertEquals(List.of(5000L), index.search("kohler", 10));
+    }
+
+    @Test
+    void search_ShouldRankWholeWordAboveLongerPrefixMatches() {
+        index.put(5L, "Viratel Singh");
+        index.put(6L, "Ravi Virat");
+
+        assertEquals(List.of(1L, 6L, 5L), index.search("virat", 10));
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccents() {
+        index.put(5L, "Kagiso Rábada");
+
+        assertEquals(List.of(5L), index.search("RABADA", 10));
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertEquals(1, index.search("vir", 1).size());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousName() {
+        index.put(1L, "Ishan Kishan");
+
+        assertTrue(index.search("kohli", 10).isEmpty());
+        assertEquals(List.of(1L), index.search("kishan", 10));
+    }
+
+    @Test
+    void remove_ShouldDropDocumentFromResults() {
+        index.remove(4L);
+
+        assertTrue(index.search("rohit", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+}
@@ -0,0 +1,146 @@
+package com.cricket.player.service;
+
+import com.cricket.player.cache.PlayerQueryCache;
+import com.cricket.player.dto.BulkImportResult;
+import com.cricket.player.dto.BulkImportRow;
+import com.cricket.player.dto.BulkRowResult;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.model.Player;
+import com.cricket.player.outbox.PlayerOutbox;
+import com.cricket.player.repository.PlayerRepository;
+import com.cricket.player.search.PlayerSearchBackend;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerBulkImportServiceTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlayerSearchBackend playerSearchBackend;
+
+    @Mock
+    private PlayerQueryCache playerQueryCache;
+
+    @Mock
+    private PlayerOutbox playerOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private PlayerBulkImportService bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        bulkImportService = new PlayerBulkImportService(playerRepository, playerSearchBackend, playerQueryCache,
+                playerOutbox, Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, 4, 2);
+        ReflectionTestUtils.setField(bulkImportService, "entityManager", entityManager);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // Stands in for the database: assigns ids, and rejects the whole statement batch if any player is "Reject"
+        lenient().when(playerRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Player> players = invocation.getArgument(0);
+            if (players.stream().anyMatch(player -> "Reject".equals(player.getLastName()))) {
+                throw new DataIntegrityViolationException("value rejected by constraint");
+            }
+            players.forEach(player -> player.setId(sequence.incrementAndGet()));
+            return players;
+        });
+    }
+
+    @Test
+    void importPlayers_ShouldReportInvalidRowsAndImportTheRest() {
+        // Given
+        List<BulkImportRow> rows = List.of(
+                BulkImportRow.of(0, player("Kohli")),
+                BulkImportRow.of(1, player("")),
+                BulkImportRow.unparseable(2, "Malformed JSON: Unexpected end-of-input"),
+                BulkImportRow.of(3, null),
+                BulkImportRow.of(4, player("Sharma")));
+
+        // When
+        BulkImportResult result = bulkImportService.importPlayers(rows.iterator());
+
+        // Then
+        assertEquals(5, result.getTotal());
+        assertEquals(2, result.getSucceeded());
+        assertEquals(List.of(true, false, false, false, true), successes(result));
+        assertEquals(List.of("lastName: Last name is required"), result.getRows().get(1).getErrors());
+        assertEquals(List.of("Malformed JSON: Unexpected end-of-input"), result.getRows().get(2).getErrors());
+        assertEquals(List.of("Row holds no player"), result.getRows().get(3).getErrors());
+        verify(playerRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void importPlayers_ShouldIsolateRowsTheDatabaseRejects() {
+        // Given
+        List<BulkImportRow> rows = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            rows.add(BulkImportRow.of(i, player(i == 2 ? "Reject" : "Player" + i)));
+        }
+
+        // When
+        BulkImportResult result = bulkImportService.importPlayers(rows.iterator());
+
+        // Then
+        assertEquals(7, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(List.of(true, true, false, true, true, true, true, true), successes(result));
+        assertEquals(List.of("Rejected by database: value rejected by constraint"), result.getRows().get(2).getErrors());
+        // The failed chunk of 4 is retried as halves of 2, and the half holding the bad row as single rows
+        verify(playerRepository, times(6)).saveAll(anyList());
+        verify(transactionManager, times(3)).rollback(any());
+        assertEquals(7, result.getRows().stream().map(BulkRowResult::getId).filter(id -> id != null).distinct().count());
+    }
+
+    @Test
+    void importPlayers_ShouldFailChunkWithoutRetry_WhenDatabaseIsUnreachable() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenThrow(new CannotCreateTransactionException("connection refused"));
+        List<BulkImportRow> rows = List.of(BulkImportRow.of(0, player("Kohli")), BulkImportRow.of(1, player("Sharma")));
+
+        // When
+        BulkImportResult result = bulkImportService.importPlayers(rows.iterator());
+
+        // Then
+        assertEquals(2, result.getFailed());
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+
+    private static List<Boolean> successes(BulkImportResult result) {
+        return result.getRows().stream().map(BulkRowResult::isSuccess).collect(Collectors.toList());
+    }
+
+    private static PlayerDTO player(String lastName) {
+        PlayerDTO player = new PlayerDTO();
+        player.setFirstName("Test");
+        player.setLastName(lastName);
+        player.setCountry("India");
+        return player;
+    }
+}
@@ -0,0 +1,140 @@
+package com.cricket.player.service;
+
+import com.cricket.player.dto.ChangeWatermark;
+import com.cricket.player.dto.PlayerChange;
+import com.cricket.player.dto.PlayerChangeSet;
+import com.cricket.player.model.Player;
+import com.cricket.player.outbox.PlayerEventSink;
+import com.cricket.player.repository.PlayerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Writers and the change feed on a real database, each write in its own committed transaction, so that stamps,
+// the settled bound and the write timeout interact as they do in production
+@DataJpaTest(properties = {"player.changes.settle-lag=3s", "player.changes.write-timeout-seconds=2"})
+@Import(PlayerChangeFeedService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlayerChangeFeedLateCommitTest {
+
+    @Autowired
+    private PlayerChangeFeedService changeFeedService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private PlayerEventSink eventSink;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor();
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        playerRepository.deleteAll();
+        writeTransaction = new TransactionTemplate(transactionManager);
+        writeTransaction.setTimeout(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdownNow();
+    }
+
+    @Test
+    void getChangesSince_ShouldServeWriteCommittingAfterAPoll_WhenWithinWriteTimeout() throws Exception {
+        // Given
+        CountDownLatch stamped = new CountDownLatch(1);
+        Future<Long> write = writeSlowly(stamped, Duration.ofMillis(700));
+        assertTrue(stamped.await(5, TimeUnit.SECONDS), () -> "write failed: " + failureOf(write));
+        String watermark = changeFeedService.getChangesSince(null, 10).getWatermark();
+
+        // When
+        Long id = write.get();
+        List<Long> seen = new ArrayList<>();
+        for (long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5); seen.isEmpty() && System.nanoTime() < deadline; ) {
+            PlayerChangeSet changes = changeFeedService.getChangesSince(watermark, 10);
+            changes.getChanges().stream().map(PlayerChange::getId).forEach(seen::add);
+            watermark = changes.getWatermark();
+            Thread.sleep(100);
+        }
+
+        // Then
+        assertEquals(List.of(id), seen);
+    }
+
+    @Test
+    void writeTransaction_ShouldRollBack_WhenWatermarkMovedPastItsStampBeforeCommit() throws Exception {
+        // Given
+        CountDownLatch stamped = new CountDownLatch(1);
+        Future<Long> write = writeSlowly(stamped, Duration.ofMillis(4000));
+        assertTrue(stamped.await(5, TimeUnit.SECONDS), () -> "write failed: " + failureOf(write));
+        LocalDateTime stamp = playerRepository.currentTimestamp();
+
+        // When: the feed's settled bound passes the pending write's stamp while it is still open
+        String watermark = changeFeedService.getChangesSince(null, 10).getWatermark();
+        while (!ChangeWatermark.decode(watermark).getChangedAt().isAfter(stamp)) {
+            Thread.sleep(100);
+            watermark = changeFeedService.getChangesSince(watermark, 10).getWatermark();
+        }
+
+        // Then: the write cannot commit behind that watermark, so nothing was skipped
+        ExecutionException failure = assertThrows(ExecutionException.class, write::get);
+        assertEquals("transaction timeout expired", failure.getCause().getMessage());
+        assertEquals(0, playerRepository.count());
+        assertEquals(List.of(), changeFeedService.getChangesSince(null, 10).getChanges().stream()
+                .map(PlayerChange::getId).collect(Collectors.toList()));
+    }
+
+    // Stamps and saves a player like PlayerService.createPlayer, then holds the transaction open before committing
+    private Future<Long> writeSlowly(CountDownLatch stamped, Duration stall) {
+        return writer.submit(() -> writeTransaction.execute(status -> {
+            LocalDateTime now = playerRepository.currentTimestamp();
+            Player player = new Player("Late", "Writer", "India");
+            player.setCreatedAt(now);
+            player.setUpdatedAt(now);
+            playerRepository.save(player);
+            stamped.countDown();
+            try {
+                Thread.sleep(stall.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return player.getId();
+        }));
+    }
+
+    private static Throwable failureOf(Future<Long> write) {
+        try {
+            write.get(1, TimeUnit.SECONDS);
+            return null;
+        } catch (Exception ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.cricket.player.service;
+
+import com.cricket.common.exception.CricketBusinessException;
+import com.cricket.player.dto.ChangeWatermark;
+import com.cricket.player.dto.PlayerChange;
+import com.cricket.player.dto.PlayerChangeSet;
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.model.Player;
+import com.cricket.player.model.PlayerTombstone;
+import com.cricket.player.outbox.PlayerEventSink;
+import com.cricket.player.repository.PlayerRepository;
+import com.cricket.player.repository.PlayerTombstoneRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PlayerChangeFeedServiceTest {
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private PlayerTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private PlayerEventSink eventSink;
+
+    private PlayerChangeFeedService changeFeedService;
+
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedService = new PlayerChangeFeedService(playerRepository, tombstoneRepository, eventSink,
+                Duration.ofSeconds(2), 1, Duration.ofDays(7), true);
+        base = LocalDateTime.now().minusHours(1);
+        // The database clock, which changes are stamped with and the settled bound is read from
+        lenient().when(playerRepository.currentTimestamp()).thenReturn(base.plusHours(1));
+    }
+
+    @Test
+    void getChangesSince_ShouldMergeUpdatesAndDeletesInCommitOrder() {
+        // Given
+        ChangeWatermark since = new ChangeWatermark(base, 0L);
+        Player created = player(5L, base.plusSeconds(1), base.plusSeconds(3));
+        Player updated = player(2L, base.minusDays(1), base.plusSeconds(1));
+        when(playerRepository.findChangedSince(eq(base), eq(0L), any(), any()))
+                .thenReturn(List.of(updated, created));
+        when(tombstoneRepository.findDeletedSince(eq(base), eq(0L), any(), any()))
+                .thenReturn(List.of(new PlayerTombstone(4L, base.plusSeconds(1))));
+
+        // When
+        PlayerChangeSet result = changeFeedService.getChangesSince(since.encode(), 10);
+
+        // Then
+        assertEquals(List.of(2L, 4L, 5L), result.getChanges().stream().map(PlayerChange::getId).collect(Collectors.toList()));
+        assertEquals(List.of(PlayerChangeType.UPDATED, PlayerChangeType.DELETED, PlayerChangeType.CREATED),
+                result.getChanges().stream().map(PlayerChange::getType).collect(Collectors.toList()));
+        assertNull(result.getChanges().get(1).getPlayer());
+        assertFalse(result.isHasMore());
+        assertTrue(ChangeWatermark.decode(result.getWatermark()).getChangedAt().isAfter(base.plusSeconds(3)));
+    }
+
+    @Test
+    void getChangesSince_ShouldResumeFromLastChange_WhenPageIsFull() {
+        // Given
+        when(playerRepository.findChangedSince(any(), any(), any(), any()))
+                .thenReturn(List.of(player(1L, base, base), player(2L, base, base)));
+        when(tombstoneRepository.findDeletedSince(any(), any(), any(), any()))
+                .thenReturn(List.of(new PlayerTombstone(3L, base)));
+
+        // When
+        PlayerChangeSet result = changeFeedService.getChangesSince(null, 2);
+
+        // Then
+        assertTrue(result.isHasMore());
+        assertEquals(2, result.getSize());
+        ChangeWatermark next = ChangeWatermark.decode(result.getWatermark());
+        assertEquals(base, next.getChangedAt());
+        assertEquals(2L, next.getLastId());
+    }
+
+    @Test
+    void getChangesSince_ShouldRequireResync_WhenWatermarkPredatesTombstoneRetention() {
+        // Given
+        String since = new ChangeWatermark(base.minusDays(8), 1L).encode();
+
+        // When
+        PlayerChangeSet result = changeFeedService.getChangesSince(since, 10);
+
+        // Then
+        assertTrue(result.isResyncRequired());
+        assertTrue(result.getChanges().isEmpty());
+        verify(playerRepository, never()).findChangedSince(any(), any(), any(), any());
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    @Test
+    void constructor_ShouldRejectSettleLagNotExceedingWriteTimeout() {
+        assertThrows(IllegalStateException.class, () -> new PlayerChangeFeedService(playerRepository,
+                tombstoneRepository, eventSink, Duration.ofSeconds(2), 2, Duration.ofDays(7), true));
+    }
+
+    @Test
+    void getChangesSince_ShouldRejectMalformedWatermark() {
+        assertThrows(CricketBusinessException.class, () -> changeFeedService.getChangesSince("not-a-watermark", 10));
+    }
+
+    @Test
+    void servesEventLog_ShouldBeFalseOnlyForPerInstanceLogWithoutRelay() {
+        // Given
+        PlayerChangeFeedService withoutRelay = new PlayerChangeFeedService(playerRepository, tombstoneRepository,
+                eventSink, Duration.ofSeconds(2), 1, Duration.ofDays(7), false);
+
+        // When & Then
+        assertTrue(changeFeedService.servesEventLog());
+        assertFalse(withoutRelay.servesEventLog());
+        when(eventSink.isShared()).thenReturn(true);
+        assertTrue(withoutRelay.servesEventLog());
+    }
+
+    private Player player(Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        Player player = new Player("First" + id, "Last" + id, "India");
+        player.setId(id);
+        player.setCreatedAt(createdAt);
+        player.setUpdatedAt(updatedAt);
+        return player;
+    }
+}
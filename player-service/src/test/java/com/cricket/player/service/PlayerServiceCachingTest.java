@@ -0,0 +1,182 @@
+package com.cricket.player.service;
+
+import com.cricket.player.cache.PlayerQueryCache;
+import com.cricket.player.config.CacheConfig;
+import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.dto.PlayerStatusChangeRequest;
+import com.cricket.player.model.Player;
+import com.cricket.player.outbox.PlayerOutbox;
+import com.cricket.player.repository.PlayerRepository;
+import com.cricket.player.repository.PlayerTombstoneRepository;
+import com.cricket.player.search.PlayerSearchBackend;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// The players cache annotations on PlayerService, applied by the real caching advice over a Caffeine cache manager
+@SpringJUnitConfig
+class PlayerServiceCachingTest {
+
+    @Configuration
+    @Import({CacheConfig.class, PlayerService.class})
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.PLAYERS_CACHE);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private PlayerRepository playerRepository;
+
+    @MockBean
+    private PlayerSearchBackend playerSearchBackend;
+
+    @MockBean
+    private PlayerTombstoneRepository tombstoneRepository;
+
+    @MockBean
+    private PlayerQueryCache playerQueryCache;
+
+    @MockBean
+    private PlayerOutbox playerOutbox;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.PLAYERS_CACHE).clear();
+        when(playerRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(player(invocation.getArgument(0), "Kohli")));
+    }
+
+    @Test
+    void getPlayerById_ShouldNotReachRepository_WhenRepeated() {
+        // When
+        playerService.getPlayerById(1L);
+        PlayerDTO cached = playerService.getPlayerById(1L);
+
+        // Then
+        assertEquals("Kohli", cached.getLastName());
+        verify(playerRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void createPlayer_ShouldPutNewPlayer() {
+        // Given
+        when(playerRepository.save(any(Player.class))).thenReturn(player(5L, "Bumrah"));
+
+        // When
+        playerService.createPlayer(new PlayerDTO());
+        PlayerDTO cached = playerService.getPlayerById(5L);
+
+        // Then
+        assertEquals("Bumrah", cached.getLastName());
+        verify(playerRepository, never()).findById(5L);
+    }
+
+    @Test
+    void updatePlayer_ShouldPutUpdatedPlayer() {
+        // Given
+        playerService.getPlayerById(1L);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(player(1L, "Sharma"));
+        PlayerDTO update = new PlayerDTO();
+        update.setLastName("Sharma");
+
+        // When
+        playerService.updatePlayer(1L, update);
+        PlayerDTO cached = playerService.getPlayerById(1L);
+
+        // Then
+        assertEquals("Sharma", cached.getLastName());
+        // Once for the first read and once inside the update; the read after it is served from the cache
+        verify(playerRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void deletePlayer_ShouldEvictPlayer() {
+        // Given
+        when(playerRepository.deletePlayerByIdAndVersion(1L, 0L)).thenReturn(1);
+
+        // When
+        playerService.getPlayerById(1L);
+        playerService.deletePlayer(1L);
+        playerService.getPlayerById(1L);
+
+        // Then
+        verify(playerRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void activateAndDeactivate_ShouldPutPlayerFromCachedCopy() {
+        // Given
+        when(playerRepository.updateActiveByIdAndVersion(eq(1L), anyLong(), anyBoolean(), any())).thenReturn(1);
+
+        // When
+        playerService.getPlayerById(1L);
+        PlayerDTO deactivated = playerService.deactivatePlayer(1L);
+        PlayerDTO cached = playerService.getPlayerById(1L);
+        playerService.activatePlayer(1L);
+
+        // Then
+        assertFalse(deactivated.getIsActive());
+        assertEquals(1L, deactivated.getVersion());
+        assertFalse(cached.getIsActive());
+        verify(playerRepository).updateActiveByIdAndVersion(eq(1L), eq(0L), eq(false), any());
+        verify(playerRepository).updateActiveByIdAndVersion(eq(1L), eq(1L), eq(true), any());
+        verify(playerRepository, never()).updateActiveById(anyLong(), anyBoolean(), any());
+        verify(playerRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void bulkStatusChanges_ShouldClearAllPlayers() {
+        // Given
+        when(playerRepository.updateActiveByIds(anyCollection(), anyBoolean(), any())).thenReturn(1);
+        PlayerStatusChangeRequest request = new PlayerStatusChangeRequest(List.of(1L), null, null);
+
+        // When
+        playerService.getPlayerById(1L);
+        playerService.getPlayerById(2L);
+        playerService.activatePlayers(request);
+        playerService.getPlayerById(1L);
+        playerService.getPlayerById(2L);
+        playerService.deactivatePlayers(request);
+        playerService.getPlayerById(1L);
+        playerService.getPlayerById(2L);
+
+        // Then
+        verify(playerRepository, times(3)).findById(1L);
+        verify(playerRepository, times(3)).findById(2L);
+    }
+
+    private static Player player(Long id, String lastName) {
+        Player player = new Player("Test", lastName, "India");
+        player.setId(id);
+        return player;
+    }
+}
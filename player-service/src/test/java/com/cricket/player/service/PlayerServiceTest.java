@@ -1,14 +1,28 @@
 package com.cricket.player.service;
 
+import com.cricket.common.dto.CursorPage;
+import com.cricket.common.exception.CricketBusinessException;
 import com.cricket.common.exception.ResourceNotFoundException;
+import com.cricket.player.cache.PlayerByIdCache;
+import com.cricket.player.cache.PlayerQueryCache;
+import com.cricket.player.dto.PlayerBatchResult;
+import com.cricket.player.dto.PlayerChangeType;
+import com.cricket.player.dto.PlayerCursor;
 import com.cricket.player.dto.PlayerDTO;
+import com.cricket.player.dto.PlayerField;
+import com.cricket.player.dto.PlayerSortKey;
+import com.cricket.player.dto.PlayerStatusChangeRequest;
 import com.cricket.player.model.Player;
 import com.cricket.player.model.PlayingRole;
 import com.cricket.player.model.BattingStyle;
+import com.cricket.player.outbox.PlayerOutbox;
 import com.cricket.player.repository.PlayerRepository;
+import com.cricket.player.repository.PlayerTombstoneRepository;
+import com.cricket.player.search.PlayerSearchBackend;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,14 +30,22 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +54,21 @@ class PlayerServiceTest {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private PlayerSearchBackend playerSearchBackend;
+
+    @Mock
+    private PlayerTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private PlayerQueryCache playerQueryCache;
+
+    @Mock
+    private PlayerByIdCache playerByIdCache;
+
+    @Mock
+    private PlayerOutbox playerOutbox;
+
     @InjectMocks
     private PlayerService playerService;
 
@@ -77,6 +114,8 @@ class PlayerServiceTest {
         assertEquals(testPlayerDTO.getLastName(), result.getLastName());
         assertEquals(testPlayerDTO.getCountry(), result.getCountry());
         verify(playerRepository).save(any(Player.class));
+        verify(playerSearchBackend).index(testPlayer);
+        verify(playerOutbox).record(1L, PlayerChangeType.CREATED);
     }
 
     @Test
@@ -127,7 +166,7 @@ class PlayerServiceTest {
         // Given
         testPlayerDTO.setFirstName("Updated Name");
         when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer));
-        when(playerRepository.save(any(Player.class))).thenReturn(testPlayer);
+        when(playerRepository.saveAndFlush(any(Player.class))).thenReturn(testPlayer);
 
         // When
         PlayerDTO result = playerService.updatePlayer(1L, testPlayerDTO);
@@ -135,52 +174,301 @@ class PlayerServiceTest {
         // Then
         assertNotNull(result);
         verify(playerRepository).findById(1L);
-        verify(playerRepository).save(any(Player.class));
+        verify(playerRepository).saveAndFlush(any(Player.class));
     }
 
     @Test
-    void deletePlayer_ShouldDeletePlayer_WhenPlayerExists() {
+    void updatePlayer_ShouldInvalidateCachedQueriesForPreviousAndNewCountry() {
+        // Given
+        testPlayerDTO.setCountry("Australia");
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer));
+        when(playerRepository.saveAndFlush(any(Player.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        playerService.updatePlayer(1L, testPlayerDTO);
+
+        // Then
+        verify(playerQueryCache).invalidate("India", PlayingRole.BATSMAN);
+        verify(playerQueryCache).invalidate("Australia", PlayingRole.BATSMAN);
+        verify(playerQueryCache, never()).invalidateAll();
+    }
+
+    @Test
+    void updatePlayer_ShouldRejectStaleVersion() {
         // Given
+        testPlayer.setVersion(3L);
+        testPlayerDTO.setVersion(2L);
         when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer));
 
+        // When & Then
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                    () -> playerService.updatePlayer(1L, testPlayerDTO));
+        verify(playerRepository, never()).saveAndFlush(any(Player.class));
+    }
+
+    @Test
+    void deletePlayer_ShouldDeletePlayer_WhenPlayerExists() {
+        // Given
+        when(playerRepository.deletePlayerById(1L)).thenReturn(1);
+
         // When
         assertDoesNotThrow(() -> playerService.deletePlayer(1L));
 
         // Then
-        verify(playerRepository).findById(1L);
-        verify(playerRepository).delete(testPlayer);
+        verify(playerRepository, never()).findById(anyLong());
+        verify(tombstoneRepository).save(argThat(tombstone -> tombstone.getPlayerId().equals(1L)));
+        verify(playerSearchBackend).remove(1L);
+        verify(playerOutbox).record(1L, PlayerChangeType.DELETED);
+        verify(playerQueryCache).invalidateAll();
     }
 
     @Test
-    void activatePlayer_ShouldSetPlayerAsActive() {
+    void deletePlayer_ShouldInvalidateQueriesOfCachedCopy_WhenVersionMatches() {
         // Given
-        testPlayer.setIsActive(false);
-        when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer));
-        when(playerRepository.save(any(Player.class))).thenReturn(testPlayer);
+        testPlayerDTO.setVersion(2L);
+        when(playerByIdCache.get(1L, PlayerDTO.class)).thenReturn(testPlayerDTO);
+        when(playerRepository.deletePlayerByIdAndVersion(1L, 2L)).thenReturn(1);
+
+        // When
+        playerService.deletePlayer(1L);
+
+        // Then
+        verify(playerRepository, never()).deletePlayerById(anyLong());
+        verify(playerQueryCache).invalidate("India", PlayingRole.BATSMAN);
+        verify(playerQueryCache, never()).invalidateAll();
+        verify(playerOutbox).record(1L, PlayerChangeType.DELETED);
+    }
+
+    @Test
+    void deletePlayer_ShouldThrowException_WhenPlayerNotExists() {
+        // Given
+        when(playerRepository.deletePlayerById(1L)).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> playerService.deletePlayer(1L));
+        verifyNoInteractions(playerSearchBackend, tombstoneRepository, playerOutbox);
+    }
+
+    @Test
+    void searchPlayersByName_ShouldReturnPlayersInRankOrder() {
+        // Given
+        Player otherPlayer = new Player("Virender", "Sehwag", "India");
+        otherPlayer.setId(2L);
+        when(playerSearchBackend.search("vir", 10)).thenReturn(List.of(2L, 1L));
+        when(playerRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testPlayer, otherPlayer));
+
+        // When
+        List<PlayerDTO> result = playerService.searchPlayersByName("vir", 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), result.stream().map(PlayerDTO::getId).toList());
+        verify(playerRepository, never()).findByNameContaining(any());
+    }
+
+    @Test
+    void searchPlayersByName_WithFields_ShouldProjectRequestedFieldsInRankOrder() {
+        // Given
+        when(playerSearchBackend.search("vir", 10)).thenReturn(List.of(2L, 1L));
+        List<PlayerField> selected = List.of(PlayerField.LAST_NAME, PlayerField.ID);
+        when(playerRepository.findProjectedByIds(selected, List.of(2L, 1L))).thenReturn(List.of(
+                new HashMap<>(Map.of("lastName", "Kohli", "id", 1L)),
+                new HashMap<>(Map.of("lastName", "Sehwag", "id", 2L))));
+
+        // When
+        List<Map<String, Object>> result = playerService.searchPlayersByName("vir", 10, "lastName");
+
+        // Then
+        assertEquals(List.of(Map.of("lastName", "Sehwag"), Map.of("lastName", "Kohli")), result);
+        verify(playerRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void getPlayersByIds_ShouldReturnPlayersInRequestOrderWithMissingIds() {
+        // Given
+        Player otherPlayer = new Player("Virender", "Sehwag", "India");
+        otherPlayer.setId(2L);
+        when(playerRepository.findAllById(List.of(2L, 9L, 1L))).thenReturn(List.of(testPlayer, otherPlayer));
+
+        // When
+        PlayerBatchResult<PlayerDTO> result = playerService.getPlayersByIds(List.of(2L, 9L, 1L, 2L));
+
+        // Then
+        assertEquals(List.of(2L, 1L), result.getPlayers().stream().map(PlayerDTO::getId).toList());
+        assertEquals(List.of(9L), result.getMissingIds());
+        verify(playerRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    void getPlayersByIds_ShouldProjectFieldsInRequestOrderWithMissingIds() {
+        // Given
+        Map<String, Object> first = new HashMap<>(Map.of("id", 1L, "lastName", "Tendulkar"));
+        Map<String, Object> second = new HashMap<>(Map.of("id", 2L, "lastName", "Sehwag"));
+        when(playerRepository.findProjectedByIds(List.of(PlayerField.LAST_NAME, PlayerField.ID), List.of(2L, 9L, 1L)))
+                .thenReturn(List.of(first, second));
+
+        // When
+        PlayerBatchResult<Map<String, Object>> result = playerService.getPlayersByIds(List.of(2L, 9L, 1L), "lastName");
+
+        // Then
+        assertEquals(List.of(Map.of("lastName", "Sehwag"), Map.of("lastName", "Tendulkar")), result.getPlayers());
+        assertEquals(List.of(9L), result.getMissingIds());
+    }
+
+    @Test
+    void getPlayersByIds_ShouldRejectEmptyAndOversizedBatches() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 1001).boxed().toList();
+        assertThrows(CricketBusinessException.class, () -> playerService.getPlayersByIds(List.of()));
+        assertThrows(CricketBusinessException.class, () -> playerService.getPlayersByIds(tooMany));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void getPlayersByCountry_WithUnknownField_ShouldThrowException() {
+        assertThrows(CricketBusinessException.class,
+                    () -> playerService.getPlayersByCountry("India", "id,password"));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void activatePlayer_ShouldIssueSingleUpdate_WhenPlayerCached() {
+        // Given
+        testPlayerDTO.setIsActive(false);
+        testPlayerDTO.setVersion(3L);
+        when(playerByIdCache.get(1L, PlayerDTO.class)).thenReturn(testPlayerDTO);
+        when(playerRepository.updateActiveByIdAndVersion(eq(1L), eq(3L), eq(true), any())).thenReturn(1);
 
         // When
         PlayerDTO result = playerService.activatePlayer(1L);
 
         // Then
-        assertNotNull(result);
         assertTrue(result.getIsActive());
-        verify(playerRepository).findById(1L);
-        verify(playerRepository).save(testPlayer);
+        assertEquals(4L, result.getVersion());
+        assertEquals("Kohli", result.getLastName());
+        assertFalse(testPlayerDTO.getIsActive());
+        verify(playerRepository, never()).updateActiveById(anyLong(), anyBoolean(), any());
+        verify(playerRepository, never()).findById(anyLong());
+        verify(playerQueryCache).invalidate("India", PlayingRole.BATSMAN);
     }
 
     @Test
-    void deactivatePlayer_ShouldSetPlayerAsInactive() {
+    void activatePlayer_ShouldReadPlayerBack_WhenCachedCopyIsStale() {
         // Given
-        when(playerRepository.findById(anyLong())).thenReturn(Optional.of(testPlayer));
-        when(playerRepository.save(any(Player.class))).thenReturn(testPlayer);
+        testPlayerDTO.setVersion(3L);
+        when(playerByIdCache.get(1L, PlayerDTO.class)).thenReturn(testPlayerDTO);
+        when(playerRepository.updateActiveByIdAndVersion(eq(1L), eq(3L), eq(true), any())).thenReturn(0);
+        when(playerRepository.updateActiveById(eq(1L), eq(true), any())).thenReturn(1);
+        testPlayer.setVersion(5L);
+        when(playerRepository.findById(1L)).thenReturn(Optional.of(testPlayer));
 
         // When
-        PlayerDTO result = playerService.deactivatePlayer(1L);
+        PlayerDTO result = playerService.activatePlayer(1L);
 
         // Then
-        assertNotNull(result);
-        assertFalse(result.getIsActive());
-        verify(playerRepository).findById(1L);
-        verify(playerRepository).save(testPlayer);
+        assertEquals(5L, result.getVersion());
+        verify(playerOutbox).record(1L, PlayerChangeType.UPDATED);
+        verify(playerQueryCache).invalidate("India", PlayingRole.BATSMAN);
+    }
+
+    @Test
+    void deactivatePlayer_ShouldThrowException_WhenPlayerNotExists() {
+        // Given
+        when(playerRepository.updateActiveById(eq(1L), eq(false), any())).thenReturn(0);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> playerService.deactivatePlayer(1L));
+    }
+
+    @Test
+    void deactivatePlayers_ShouldUpdateByFilters() {
+        // Given
+        PlayerStatusChangeRequest request = new PlayerStatusChangeRequest(null, "India", PlayingRole.BOWLER);
+        when(playerRepository.updateActiveWithFilters(eq("India"), eq(PlayingRole.BOWLER), eq(false), any())).thenReturn(12);
+
+        // When
+        int updated = playerService.deactivatePlayers(request);
+
+        // Then
+        assertEquals(12, updated);
+        // Recorded first, while the players still match the update's isActive condition
+        InOrder inOrder = inOrder(playerOutbox, playerRepository);
+        inOrder.verify(playerOutbox).recordStatusChanges("India", PlayingRole.BOWLER, false);
+        inOrder.verify(playerRepository).updateActiveWithFilters(eq("India"), eq(PlayingRole.BOWLER), eq(false), any());
+    }
+
+    @Test
+    void activatePlayers_ShouldSplitLargeIdListsIntoChunks() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        when(playerRepository.updateActiveByIds(anyList(), eq(true), any())).thenReturn(1000, 1000, 500);
+
+        // When
+        int updated = playerService.activatePlayers(new PlayerStatusChangeRequest(ids, null, null));
+
+        // Then
+        assertEquals(2500, updated);
+        verify(playerRepository, times(3)).updateActiveByIds(anyList(), eq(true), any());
+        verify(playerOutbox, times(3)).recordStatusChanges(anyList(), eq(true));
+    }
+
+    @Test
+    void activatePlayers_ShouldRequireSelector() {
+        assertThrows(CricketBusinessException.class,
+                    () -> playerService.activatePlayers(new PlayerStatusChangeRequest(List.of(), null, null)));
+        verifyNoInteractions(playerRepository);
+    }
+
+    @Test
+    void scrollPlayers_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // Given
+        Player nextPlayer = new Player("Rohit", "Sharma", "India");
+        nextPlayer.setId(2L);
+        when(playerRepository.findFirstPlayersById(isNull(), isNull(), isNull(), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(testPlayer, nextPlayer));
+
+        // When
+        CursorPage<PlayerDTO> result = playerService.scrollPlayers(null, null, null, PlayerSortKey.ID, null, 1);
+
+        // Then
+        assertEquals(1, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(1L, PlayerCursor.decode(result.getNextCursor()).getLastId());
+        verify(playerRepository, never()).count();
+    }
+
+    @Test
+    void scrollPlayers_ShouldSeekPastCursor_UsingCursorSortKey() {
+        // Given
+        String cursor = new PlayerCursor(PlayerSortKey.LAST_NAME, "Kohli", 1L).encode();
+        when(playerRepository.findPlayersAfterLastName(eq("India"), isNull(), isNull(), eq("Kohli"), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // When
+        CursorPage<PlayerDTO> result = playerService.scrollPlayers("India", null, null, PlayerSortKey.ID, cursor, 20);
+
+        // Then
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+        assertTrue(result.getContent().isEmpty());
+    }
+
+    @Test
+    void scrollPlayers_ShouldUseFirstPageQuery_WithoutCursor() {
+        // Given
+        when(playerRepository.findFirstPlayersByLastName(eq("India"), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(List.of(testPlayer));
+
+        // When
+        CursorPage<PlayerDTO> result = playerService.scrollPlayers("India", null, null, PlayerSortKey.LAST_NAME, null, 20);
+
+        // Then
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        verify(playerRepository, never()).findPlayersAfterLastName(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void scrollPlayers_ShouldRejectMalformedCursor() {
+        assertThrows(CricketBusinessException.class,
+                    () -> playerService.scrollPlayers(null, null, null, PlayerSortKey.ID, "not-a-cursor", 20));
     }
 }
\ No newline at end of file
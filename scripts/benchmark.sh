@@ -0,0 +1,18 @@
+#!/bin/bash
+
+# Runs the JMH suites in the benchmarks module and writes machine-readable results.
+# Usage: scripts/benchmark.sh [include-regex] [extra JMH args...]
+#   scripts/benchmark.sh PlayerRepository -p playerCount=50000
+#   scripts/benchmark.sh '.*' -f 3 -rff /tmp/baseline.json
+
+INCLUDE=${1:-.*}
+shift
+ARGS="$*"
+
+echo "Building benchmarks..."
+mvn -B -q install -DskipTests -pl benchmarks -am || { echo "❌ Build failed!"; exit 1; }
+
+echo "⏱  Running JMH suites matching '$INCLUDE'..."
+mvn -B -q -pl benchmarks exec:exec -Djmh.include="$INCLUDE" -Djmh.args="$ARGS" || { echo "❌ Benchmarks failed!"; exit 1; }
+
+echo "✅ Results written to benchmarks/target/jmh-result.json (unless overridden with -rff)"
@@ -1,9 +1,18 @@
 #!/bin/bash
 
+# FAST_STARTUP=1 scripts/build.sh builds player-service and api-gateway images with AOT and an AppCDS archive
+PROFILES=
+DOCKERFILE=Dockerfile
+if [ "$FAST_STARTUP" = "1" ]; then
+    # Bean conditions are fixed at build time under AOT; match the k8s deployment's outbox sink and search backend
+    PROFILES="-Pfast-startup -Dspring-boot.aot.arguments=--player.outbox.sink=database,--player.search.backend=postgres"
+    DOCKERFILE=Dockerfile.fast-startup
+fi
+
 echo "Building Cricket Management System..."
 
 # Build the entire project
-mvn clean install -DskipTests
+mvn clean install -DskipTests $PROFILES
 
 if [ $? -eq 0 ]; then
     echo "✅ Build successful!"
@@ -12,8 +21,10 @@ if [ $? -eq 0 ]; then
     echo "🐳 Building Docker images..."
     
     docker build -t cricket/discovery-service:latest ./discovery-service
-    docker build -t cricket/api-gateway:latest ./api-gateway  
-    docker build -t cricket/player-service:latest ./player-service
+    docker build -t cricket/api-gateway:latest -f api-gateway/$DOCKERFILE ./api-gateway
+    docker build -t cricket/player-service:latest -f player-service/$DOCKERFILE ./player-service
+    docker build -t cricket/match-service:latest ./match-service
+    docker build -t cricket/statistics-service:latest ./statistics-service
     
     echo "✅ Docker images built successfully!"
     echo "📋 Available images:"
@@ -0,0 +1,37 @@
+#!/bin/bash
+
+# Compares player ingest throughput of one POST /api/players per player against POST /api/players/bulk.
+# Usage: scripts/bulk-ingest-benchmark.sh [player-count] [base-url]
+
+COUNT=${1:-2000}
+BASE_URL=${2:-http://localhost:8081}
+PAYLOAD=$(mktemp)
+trap 'rm -f "$PAYLOAD"' EXIT
+
+echo "Generating $COUNT players..."
+ROLES=(BATSMAN BOWLER ALL_ROUNDER WICKET_KEEPER WICKET_KEEPER_BATSMAN)
+COUNTRIES=(India Australia England "New Zealand" "South Africa" Pakistan "Sri Lanka" "West Indies")
+for ((i = 0; i < COUNT; i++)); do
+    printf '{"firstName":"Bench%d","lastName":"Player%d","country":"%s","playingRole":"%s","jerseyNumber":%d}\n' \
+        "$i" "$i" "${COUNTRIES[$((i % 8))]}" "${ROLES[$((i % 5))]}" "$((i % 99 + 1))"
+done > "$PAYLOAD"
+
+now_ms() {
+    date +%s%3N
+}
+
+echo "⏱  One request per player (POST /api/players)..."
+START=$(now_ms)
+while IFS= read -r line; do
+    curl -s -o /dev/null -X POST "$BASE_URL/api/players" -H 'Content-Type: application/json' -d "$line"
+done < "$PAYLOAD"
+SINGLE_MS=$(( $(now_ms) - START ))
+
+echo "⏱  Bulk NDJSON upload (POST /api/players/bulk)..."
+START=$(now_ms)
+curl -s -o /dev/null -X POST "$BASE_URL/api/players/bulk" -H 'Content-Type: application/x-ndjson' --data-binary @"$PAYLOAD"
+BULK_MS=$(( $(now_ms) - START ))
+
+echo "📊 Results for $COUNT players:"
+echo "  - One-by-one: ${SINGLE_MS} ms ($(( COUNT * 1000 / (SINGLE_MS > 0 ? SINGLE_MS : 1) )) players/s)"
+echo "  - Bulk:       ${BULK_MS} ms ($(( COUNT * 1000 / (BULK_MS > 0 ? BULK_MS : 1) )) players/s)"
@@ -21,6 +21,8 @@ if [ $? -eq 0 ]; then
     echo "  - Discovery Service: http://localhost:8761"
     echo "  - Player Service: http://localhost:8081"
     echo "  - Player API Docs: http://localhost:8081/swagger-ui.html"
+    echo "  - Match Service: http://localhost:8083"
+    echo "  - Statistics Service: http://localhost:8084"
     
     echo "📊 Logs:"
     echo "  - View logs: docker-compose logs -f [service-name]"
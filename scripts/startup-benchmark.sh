@@ -0,0 +1,98 @@
+#!/bin/bash
+
+# Measures time from JVM launch to the first successful request for player-service and api-gateway, started
+# normally and in fast-startup mode (AOT + lazy initialization + AppCDS archive) the way Dockerfile.fast-startup
+# runs them. Both modes launch the same thin jar, so only the mode differs. No discovery server is needed: the gateway resolves player-service to the
+# instance the script starts through the simple discovery client.
+# Usage: scripts/startup-benchmark.sh [runs-per-mode]
+
+RUNS=${1:-5}
+PLAYER_PORT=${PLAYER_PORT:-18081}
+GATEWAY_PORT=${GATEWAY_PORT:-18080}
+RESULTS=benchmarks/target/startup-results.ndjson
+LOGS=benchmarks/target/startup-logs
+APP_PID=
+BACKEND_PID=
+trap '[ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null; [ -n "$BACKEND_PID" ] && kill "$BACKEND_PID" 2>/dev/null' EXIT
+
+echo "Building..."
+mvn -B -q install -DskipTests -Pfast-startup -pl player-service,api-gateway -am || { echo "❌ Build failed!"; exit 1; }
+mkdir -p "$LOGS"
+rm -f "$RESULTS"
+
+# java args to launch a service in the given mode
+launch_args() {
+    local service=$1 mode=$2
+    if [ "$mode" = "fast-startup" ]; then
+        echo "-XX:SharedArchiveFile=$service/target/fast-startup/app.jsa -Xlog:cds=off -Dspring.aot.enabled=true" \
+             "-Dspring.profiles.include=fast-startup"
+    fi
+    echo "-jar $(ls "$service"/target/fast-startup/"$service"-*-fast-startup.jar)"
+}
+
+train() {
+    local service=$1
+    echo "📦 Creating the AppCDS archive for $service..."
+    rm -f "$service/target/fast-startup/app.jsa"
+    java -XX:ArchiveClassesAtExit="$service/target/fast-startup/app.jsa" -Xlog:cds=off -Xlog:cds+dynamic=off \
+        -Dspring.aot.enabled=true -Dspring.profiles.include=fast-startup -Dspring.context.exit=onRefresh \
+        -jar "$(ls "$service"/target/fast-startup/"$service"-*-fast-startup.jar)" --server.port=0 \
+        > "$LOGS/$service-training.log" 2>&1 || { echo "❌ Training run failed, see $LOGS/$service-training.log"; exit 1; }
+}
+
+# Starts the service and prints the milliseconds until url first answers 200
+time_to_first_request() {
+    local service=$1 mode=$2 url=$3 run=$4
+    shift 4
+    local start end
+    start=$(date +%s%N)
+    # shellcheck disable=SC2046
+    java $(launch_args "$service" "$mode") "$@" --logging.level.root=WARN > "$LOGS/$service-$mode-$run.log" 2>&1 &
+    APP_PID=$!
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "$url")" = "200" ]; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "❌ $service ($mode) exited, see $LOGS/$service-$mode-$run.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null
+    APP_PID=
+    echo $(( (end - start) / 1000000 ))
+}
+
+measure() {
+    local service=$1 url=$2
+    shift 2
+    for mode in default fast-startup; do
+        local times=()
+        for ((run = 1; run <= RUNS; run++)); do
+            times+=("$(time_to_first_request "$service" "$mode" "$url" "$run" "$@")") || exit 1
+        done
+        local sorted median
+        sorted=$(printf '%s\n' "${times[@]}" | sort -n)
+        median=$(echo "$sorted" | sed -n "$(( (RUNS + 1) / 2 ))p")
+        printf '   %-13s %-13s median %6d ms   min %6d ms   max %6d ms\n' "$service" "$mode" "$median" \
+            "$(echo "$sorted" | head -1)" "$(echo "$sorted" | tail -1)"
+        printf '{"service":"%s","mode":"%s","runs":%d,"medianMs":%d,"timesMs":[%s]}\n' "$service" "$mode" "$RUNS" \
+            "$median" "$(IFS=,; echo "${times[*]}")" >> "$RESULTS"
+    done
+}
+
+train player-service
+train api-gateway
+
+echo "⏱  player-service: launch to first GET /api/players ($RUNS runs per mode)..."
+measure player-service "http://localhost:$PLAYER_PORT/api/players?page=0&size=1" --server.port="$PLAYER_PORT"
+
+echo "⏱  api-gateway: launch to first GET /api/players proxied to player-service ($RUNS runs per mode)..."
+java $(launch_args player-service default) --server.port="$PLAYER_PORT" --logging.level.root=WARN \
+    > "$LOGS/player-service-backend.log" 2>&1 &
+BACKEND_PID=$!
+until curl -s -o /dev/null "http://localhost:$PLAYER_PORT/actuator/health"; do sleep 0.5; done
+measure api-gateway "http://localhost:$GATEWAY_PORT/api/players?page=0&size=1" --server.port="$GATEWAY_PORT" \
+    --spring.cloud.discovery.client.simple.instances.player-service[0].uri="http://localhost:$PLAYER_PORT"
+
+echo "✅ Results written to $RESULTS"
@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# Compares player-service on Tomcat platform threads against the virtual-threads profile under the same
+# closed-loop load on the PlayerController read endpoints. Needs a Java 21 JDK for the virtual-thread run.
+# Usage: JAVA21_HOME=/path/to/jdk-21 scripts/thread-mode-load-test.sh [concurrency] [seconds] [player-count]
+
+CONCURRENCY=${1:-400}
+DURATION=${2:-30}
+PLAYERS=${3:-10000}
+PORT=${PORT:-18081}
+BASE_URL="http://localhost:$PORT"
+JAVA21_HOME=${JAVA21_HOME:-$JAVA_HOME}
+JAVA="$JAVA21_HOME/bin/java"
+RESULTS=benchmarks/target/thread-mode-results.ndjson
+PAYLOAD=$(mktemp)
+APP_PID=
+trap 'rm -f "$PAYLOAD"; [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null' EXIT
+
+if ! "$JAVA" -version 2>&1 | grep -q 'version "2[1-9]'; then
+    echo "❌ JAVA21_HOME must point to a Java 21+ JDK (virtual threads are ignored on Java 17)"
+    exit 1
+fi
+
+echo "Building..."
+mvn -B -q install -DskipTests -pl benchmarks -am || { echo "❌ Build failed!"; exit 1; }
+CLASSPATH="benchmarks/target/classes:$(mvn -B -q -pl benchmarks dependency:build-classpath -Dmdep.outputFile=/dev/stdout)"
+
+ROLES=(BATSMAN BOWLER ALL_ROUNDER WICKET_KEEPER WICKET_KEEPER_BATSMAN)
+COUNTRIES=(India Australia England "New Zealand" "South Africa" Pakistan "Sri Lanka" "West Indies")
+for ((i = 0; i < PLAYERS; i++)); do
+    printf '{"firstName":"Load%d","lastName":"Player%d","country":"%s","playingRole":"%s","jerseyNumber":%d}\n' \
+        "$i" "$i" "${COUNTRIES[$((i % 8))]}" "${ROLES[$((i % 5))]}" "$((i % 99 + 1))"
+done > "$PAYLOAD"
+rm -f "$RESULTS"
+
+run_mode() {
+    local mode=$1 profiles=$2
+    echo "🚀 Starting player-service ($mode threads)..."
+    "$JAVA" -cp "$CLASSPATH" com.cricket.player.PlayerServiceApplication \
+        --server.port="$PORT" --spring.profiles.active="$profiles" \
+        --eureka.client.enabled=false --spring.jpa.show-sql=false --logging.level.com.cricket=WARN \
+        > "benchmarks/target/player-service-$mode.log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 1 120); do
+        curl -s -o /dev/null "$BASE_URL/actuator/health" && break
+        sleep 1
+    done
+    curl -s -o /dev/null -X POST "$BASE_URL/api/players/bulk" -H 'Content-Type: application/x-ndjson' --data-binary @"$PAYLOAD"
+    
+    echo "🔥 Warm-up..."
+    "$JAVA" -cp "$CLASSPATH" com.cricket.benchmarks.HttpLoadGenerator "$BASE_URL" "$mode-warmup" "$CONCURRENCY" 10 "$PLAYERS" > /dev/null
+    echo "⏱  Measuring $DURATION s at concurrency $CONCURRENCY..."
+    "$JAVA" -cp "$CLASSPATH" com.cricket.benchmarks.HttpLoadGenerator "$BASE_URL" "$mode" "$CONCURRENCY" "$DURATION" "$PLAYERS" "$RESULTS"
+    curl -s "$BASE_URL/actuator/metrics/hikaricp.connections.pending" | grep -o '"measurements":[^]]*]' | sed 's/^/   hikari pending: /'
+    
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null
+    APP_PID=
+}
+
+run_mode platform default
+run_mode virtual virtual-threads
+
+echo "📊 Results ($RESULTS):"
+cat "$RESULTS"
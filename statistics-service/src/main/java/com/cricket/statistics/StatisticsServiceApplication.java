@@ -0,0 +1,14 @@
+package com.cricket.statistics;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+
+@SpringBootApplication(scanBasePackages = {"com.cricket.statistics", "com.cricket.common"})
+@EnableDiscoveryClient
+public class StatisticsServiceApplication {
+    
+    public static void main(String[] args) {
+        SpringApplication.run(StatisticsServiceApplication.class, args);
+    }
+}
\ No newline at end of file
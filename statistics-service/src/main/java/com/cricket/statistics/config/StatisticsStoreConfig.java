@@ -0,0 +1,35 @@
+package com.cricket.statistics.config;
+
+import com.cricket.statistics.store.BattingColumns;
+import com.cricket.statistics.store.BowlingColumns;
+import com.cricket.statistics.store.PlayerDimension;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class StatisticsStoreConfig {
+    
+    @Bean
+    public PlayerDimension playerDimension() {
+        return new PlayerDimension();
+    }
+    
+    @Bean
+    public BattingColumns battingColumns() {
+        return new BattingColumns();
+    }
+    
+    @Bean
+    public BowlingColumns bowlingColumns() {
+        return new BowlingColumns();
+    }
+    
+    // Scans get their own pool so they neither queue behind nor starve other users of the common pool
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool statisticsScanPool(@Value("${statistics.scan.parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
\ No newline at end of file
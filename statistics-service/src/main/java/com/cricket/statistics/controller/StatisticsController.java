@@ -0,0 +1,96 @@
+package com.cricket.statistics.controller;
+
+import com.cricket.common.dto.ApiResponse;
+import com.cricket.statistics.dto.BattingCareerDTO;
+import com.cricket.statistics.dto.BattingInningsRecord;
+import com.cricket.statistics.dto.BattingSortKey;
+import com.cricket.statistics.dto.BowlingCareerDTO;
+import com.cricket.statistics.dto.BowlingInningsRecord;
+import com.cricket.statistics.dto.BowlingSortKey;
+import com.cricket.statistics.dto.PlayerCareerDTO;
+import com.cricket.statistics.dto.StoreSummaryDTO;
+import com.cricket.statistics.service.CareerStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/statistics")
+@Tag(name = "Career Statistics", description = "APIs for career batting and bowling statistics")
+public class StatisticsController {
+    
+    private final CareerStatsService careerStatsService;
+    
+    @Autowired
+    public StatisticsController(CareerStatsService careerStatsService) {
+        this.careerStatsService = careerStatsService;
+    }
+    
+    @PostMapping("/batting-innings")
+    @Operation(summary = "Record batting innings", description = "Append a batch of batting innings; the whole batch is rejected if any record is invalid")
+    public ResponseEntity<ApiResponse<Integer>> addBattingInnings(@RequestBody List<BattingInningsRecord> records) {
+        int added = careerStatsService.addBattingInnings(records);
+        return ResponseEntity.ok(ApiResponse.success("Batting innings recorded", added));
+    }
+    
+    @PostMapping("/bowling-innings")
+    @Operation(summary = "Record bowling innings", description = "Append a batch of bowling innings; the whole batch is rejected if any record is invalid")
+    public ResponseEntity<ApiResponse<Integer>> addBowlingInnings(@RequestBody List<BowlingInningsRecord> records) {
+        int added = careerStatsService.addBowlingInnings(records);
+        return ResponseEntity.ok(ApiResponse.success("Bowling innings recorded", added));
+    }
+    
+    @GetMapping("/players/{playerId}/career")
+    @Operation(summary = "Get player career", description = "Career batting and bowling figures of one player, optionally within a date range")
+    public ResponseEntity<ApiResponse<PlayerCareerDTO>> getCareer(
+            @Parameter(description = "Player ID") @PathVariable Long playerId,
+            @Parameter(description = "First match date, inclusive") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last match date, inclusive") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ApiResponse.success(careerStatsService.getCareer(playerId, from, to)));
+    }
+    
+    @GetMapping("/batting/leaders")
+    @Operation(summary = "Get batting leaders", description = "Rank players by a career batting figure, filtered by country, playing role, bowling style and date range")
+    public ResponseEntity<ApiResponse<List<BattingCareerDTO>>> getBattingLeaders(
+            @Parameter(description = "Figure to rank by") @RequestParam(defaultValue = "RUNS") BattingSortKey sortBy,
+            @Parameter(description = "Country") @RequestParam(required = false) String country,
+            @Parameter(description = "Playing role, e.g. BATSMAN") @RequestParam(required = false) String playingRole,
+            @Parameter(description = "Bowling style, e.g. RIGHT_ARM_FAST") @RequestParam(required = false) String bowlingStyle,
+            @Parameter(description = "First match date, inclusive") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last match date, inclusive") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Minimum innings to qualify") @RequestParam(defaultValue = "1") int minInnings,
+            @Parameter(description = "Number of players to return, at most 100") @RequestParam(defaultValue = "20") int limit) {
+        List<BattingCareerDTO> leaders = careerStatsService.getBattingLeaders(sortBy, country, playingRole, bowlingStyle,
+                from, to, minInnings, limit);
+        return ResponseEntity.ok(ApiResponse.success(leaders));
+    }
+    
+    @GetMapping("/bowling/leaders")
+    @Operation(summary = "Get bowling leaders", description = "Rank players by a career bowling figure, filtered by country, playing role, bowling style and date range")
+    public ResponseEntity<ApiResponse<List<BowlingCareerDTO>>> getBowlingLeaders(
+            @Parameter(description = "Figure to rank by") @RequestParam(defaultValue = "WICKETS") BowlingSortKey sortBy,
+            @Parameter(description = "Country") @RequestParam(required = false) String country,
+            @Parameter(description = "Playing role, e.g. BOWLER") @RequestParam(required = false) String playingRole,
+            @Parameter(description = "Bowling style, e.g. RIGHT_ARM_FAST") @RequestParam(required = false) String bowlingStyle,
+            @Parameter(description = "First match date, inclusive") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last match date, inclusive") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Minimum balls bowled to qualify") @RequestParam(defaultValue = "0") int minBalls,
+            @Parameter(description = "Number of players to return, at most 100") @RequestParam(defaultValue = "20") int limit) {
+        List<BowlingCareerDTO> leaders = careerStatsService.getBowlingLeaders(sortBy, country, playingRole, bowlingStyle,
+                from, to, minBalls, limit);
+        return ResponseEntity.ok(ApiResponse.success(leaders));
+    }
+    
+    @GetMapping("/summary")
+    @Operation(summary = "Get store summary", description = "Number of innings rows and players held")
+    public ResponseEntity<ApiResponse<StoreSummaryDTO>> getSummary() {
+        return ResponseEntity.ok(ApiResponse.success(careerStatsService.getSummary()));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.cricket.statistics.dto;
+
+// Career batting figures; average and strikeRate are null until defined (no dismissal, no balls faced)
+public class BattingCareerDTO {
+    private Long playerId;
+    private String country;
+    private String playingRole;
+    private int innings;
+    private int notOuts;
+    private int runs;
+    private int balls;
+    private int highScore;
+    private Double average;
+    private Double strikeRate;
+    private int fours;
+    private int sixes;
+    private int fifties;
+    private int hundreds;
+    private int ducks;
+    
+    // Constructors
+    public BattingCareerDTO() {}
+    
+    // Getters and Setters
+    public Long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public String getCountry() {
+        return country;
+    }
+    
+    public void setCountry(String country) {
+        this.country = country;
+    }
+    
+    public String getPlayingRole() {
+        return playingRole;
+    }
+    
+    public void setPlayingRole(String playingRole) {
+        this.playingRole = playingRole;
+    }
+    
+    public int getInnings() {
+        return innings;
+    }
+    
+    public void setInnings(int innings) {
+        this.innings = innings;
+    }
+    
+    public int getNotOuts() {
+        return notOuts;
+    }
+    
+    public void setNotOuts(int notOuts) {
+        this.notOuts = notOuts;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getBalls() {
+        return balls;
+    }
+    
+    public void setBalls(int balls) {
+        this.balls = balls;
+    }
+    
+    public int getHighScore() {
+        return highScore;
+    }
+    
+    public void setHighScore(int highScore) {
+        this.highScore = highScore;
+    }
+    
+    public Double getAverage() {
+        return average;
+    }
+    
+    public void setAverage(Double average) {
+        this.average = average;
+    }
+    
+    public Double getStrikeRate() {
+        return strikeRate;
+    }
+    
+    public void setStrikeRate(Double strikeRate) {
+        this.strikeRate = strikeRate;
+    }
+    
+    public int getFours() {
+        return fours;
+    }
+    
+    public void setFours(int fours) {
+        this.fours = fours;
+    }
+    
+    public int getSixes() {
+        return sixes;
+    }
+    
+    public void setSixes(int sixes) {
+        this.sixes = sixes;
+    }
+    
+    public int getFifties() {
+        return fifties;
+    }
+    
+    public void setFifties(int fifties) {
+        this.fifties = fifties;
+    }
+    
+    public int getHundreds() {
+        return hundreds;
+    }
+    
+    public void setHundreds(int hundreds) {
+        this.hundreds = hundreds;
+    }
+    
+    public int getDucks() {
+        return ducks;
+    }
+    
+    public void setDucks(int ducks) {
+        this.ducks = ducks;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.cricket.statistics.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+// One batting innings; playerId is a player-service Player id
+public class BattingInningsRecord {
+    
+    @NotNull(message = "Player id is required")
+    private Long playerId;
+    
+    @NotNull(message = "Match date is required")
+    private LocalDate matchDate;
+    
+    @Min(value = 0, message = "Runs cannot be negative")
+    @Max(value = 1000, message = "Runs cannot exceed 1000")
+    private int runs;
+    
+    @Min(value = 0, message = "Balls cannot be negative")
+    @Max(value = 3000, message = "Balls cannot exceed 3000")
+    private int balls;
+    
+    @Min(value = 0, message = "Fours cannot be negative")
+    @Max(value = 127, message = "Fours cannot exceed 127")
+    private int fours;
+    
+    @Min(value = 0, message = "Sixes cannot be negative")
+    @Max(value = 127, message = "Sixes cannot exceed 127")
+    private int sixes;
+    
+    private boolean notOut;
+    
+    // Constructors
+    public BattingInningsRecord() {}
+    
+    // Getters and Setters
+    public Long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public LocalDate getMatchDate() {
+        return matchDate;
+    }
+    
+    public void setMatchDate(LocalDate matchDate) {
+        this.matchDate = matchDate;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getBalls() {
+        return balls;
+    }
+    
+    public void setBalls(int balls) {
+        this.balls = balls;
+    }
+    
+    public int getFours() {
+        return fours;
+    }
+    
+    public void setFours(int fours) {
+        this.fours = fours;
+    }
+    
+    public int getSixes() {
+        return sixes;
+    }
+    
+    public void setSixes(int sixes) {
+        this.sixes = sixes;
+    }
+    
+    public boolean isNotOut() {
+        return notOut;
+    }
+    
+    public void setNotOut(boolean notOut) {
+        this.notOut = notOut;
+    }
+}
\ No newline at end of file
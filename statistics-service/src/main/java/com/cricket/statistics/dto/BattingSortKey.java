@@ -0,0 +1,10 @@
+package com.cricket.statistics.dto;
+
+public enum BattingSortKey {
+    RUNS,
+    AVERAGE,
+    STRIKE_RATE,
+    HUNDREDS,
+    FIFTIES,
+    SIXES
+}
\ No newline at end of file
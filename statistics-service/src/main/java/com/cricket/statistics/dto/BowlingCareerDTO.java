@@ -0,0 +1,126 @@
+package com.cricket.statistics.dto;
+
+// Career bowling figures; average, economy and strikeRate are null until defined
+public class BowlingCareerDTO {
+    private Long playerId;
+    private String country;
+    private String bowlingStyle;
+    private int innings;
+    private int balls;
+    private int runs;
+    private int wickets;
+    private int maidens;
+    private Double average;
+    private Double economy;
+    private Double strikeRate;
+    private int fiveWickets;
+    private String bestFigures;
+    
+    // Constructors
+    public BowlingCareerDTO() {}
+    
+    // Getters and Setters
+    public Long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public String getCountry() {
+        return country;
+    }
+    
+    public void setCountry(String country) {
+        this.country = country;
+    }
+    
+    public String getBowlingStyle() {
+        return bowlingStyle;
+    }
+    
+    public void setBowlingStyle(String bowlingStyle) {
+        this.bowlingStyle = bowlingStyle;
+    }
+    
+    public int getInnings() {
+        return innings;
+    }
+    
+    public void setInnings(int innings) {
+        this.innings = innings;
+    }
+    
+    public int getBalls() {
+        return balls;
+    }
+    
+    public void setBalls(int balls) {
+        this.balls = balls;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getWickets() {
+        return wickets;
+    }
+    
+    public void setWickets(int wickets) {
+        this.wickets = wickets;
+    }
+    
+    public int getMaidens() {
+        return maidens;
+    }
+    
+    public void setMaidens(int maidens) {
+        this.maidens = maidens;
+    }
+    
+    public Double getAverage() {
+        return average;
+    }
+    
+    public void setAverage(Double average) {
+        this.average = average;
+    }
+    
+    public Double getEconomy() {
+        return economy;
+    }
+    
+    public void setEconomy(Double economy) {
+        this.economy = economy;
+    }
+    
+    public Double getStrikeRate() {
+        return strikeRate;
+    }
+    
+    public void setStrikeRate(Double strikeRate) {
+        this.strikeRate = strikeRate;
+    }
+    
+    public int getFiveWickets() {
+        return fiveWickets;
+    }
+    
+    public void setFiveWickets(int fiveWickets) {
+        this.fiveWickets = fiveWickets;
+    }
+    
+    public String getBestFigures() {
+        return bestFigures;
+    }
+    
+    public void setBestFigures(String bestFigures) {
+        this.bestFigures = bestFigures;
+    }
+}
\ No newline at end of file
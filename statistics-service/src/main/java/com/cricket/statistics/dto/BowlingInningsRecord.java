@@ -0,0 +1,85 @@
+package com.cricket.statistics.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+
+// One bowling innings; playerId is a player-service Player id
+public class BowlingInningsRecord {
+    
+    @NotNull(message = "Player id is required")
+    private Long playerId;
+    
+    @NotNull(message = "Match date is required")
+    private LocalDate matchDate;
+    
+    @Min(value = 0, message = "Balls cannot be negative")
+    @Max(value = 3000, message = "Balls cannot exceed 3000")
+    private int balls;
+    
+    @Min(value = 0, message = "Runs cannot be negative")
+    @Max(value = 1000, message = "Runs cannot exceed 1000")
+    private int runs;
+    
+    @Min(value = 0, message = "Wickets cannot be negative")
+    @Max(value = 10, message = "Wickets cannot exceed 10")
+    private int wickets;
+    
+    @Min(value = 0, message = "Maidens cannot be negative")
+    @Max(value = 127, message = "Maidens cannot exceed 127")
+    private int maidens;
+    
+    // Constructors
+    public BowlingInningsRecord() {}
+    
+    // Getters and Setters
+    public Long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public LocalDate getMatchDate() {
+        return matchDate;
+    }
+    
+    public void setMatchDate(LocalDate matchDate) {
+        this.matchDate = matchDate;
+    }
+    
+    public int getBalls() {
+        return balls;
+    }
+    
+    public void setBalls(int balls) {
+        this.balls = balls;
+    }
+    
+    public int getRuns() {
+        return runs;
+    }
+    
+    public void setRuns(int runs) {
+        this.runs = runs;
+    }
+    
+    public int getWickets() {
+        return wickets;
+    }
+    
+    public void setWickets(int wickets) {
+        this.wickets = wickets;
+    }
+    
+    public int getMaidens() {
+        return maidens;
+    }
+    
+    public void setMaidens(int maidens) {
+        this.maidens = maidens;
+    }
+}
\ No newline at end of file
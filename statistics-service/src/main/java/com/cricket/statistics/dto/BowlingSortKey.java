@@ -0,0 +1,10 @@
+package com.cricket.statistics.dto;
+
+// WICKETS and FIVE_WICKETS rank highest first; AVERAGE, ECONOMY and STRIKE_RATE lowest first
+public enum BowlingSortKey {
+    WICKETS,
+    FIVE_WICKETS,
+    AVERAGE,
+    ECONOMY,
+    STRIKE_RATE
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.cricket.statistics.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// The player-service fields the statistics dimension keeps
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PlayerAttributes {
+    private Long id;
+    private String country;
+    private String playingRole;
+    private String bowlingStyle;
+    
+    // Constructors
+    public PlayerAttributes() {}
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getCountry() {
+        return country;
+    }
+    
+    public void setCountry(String country) {
+        this.country = country;
+    }
+    
+    public String getPlayingRole() {
+        return playingRole;
+    }
+    
+    public void setPlayingRole(String playingRole) {
+        this.playingRole = playingRole;
+    }
+    
+    public String getBowlingStyle() {
+        return bowlingStyle;
+    }
+    
+    public void setBowlingStyle(String bowlingStyle) {
+        this.bowlingStyle = bowlingStyle;
+    }
+}
\ No newline at end of file
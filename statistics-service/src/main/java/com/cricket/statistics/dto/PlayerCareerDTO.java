@@ -0,0 +1,62 @@
+package com.cricket.statistics.dto;
+
+public class PlayerCareerDTO {
+    private Long playerId;
+    private String country;
+    private String playingRole;
+    private String bowlingStyle;
+    private BattingCareerDTO batting;
+    private BowlingCareerDTO bowling;
+    
+    // Constructors
+    public PlayerCareerDTO() {}
+    
+    // Getters and Setters
+    public Long getPlayerId() {
+        return playerId;
+    }
+    
+    public void setPlayerId(Long playerId) {
+        this.playerId = playerId;
+    }
+    
+    public String getCountry() {
+        return country;
+    }
+    
+    public void setCountry(String country) {
+        this.country = country;
+    }
+    
+    public String getPlayingRole() {
+        return playingRole;
+    }
+    
+    public void setPlayingRole(String playingRole) {
+        this.playingRole = playingRole;
+    }
+    
+    public String getBowlingStyle() {
+        return bowlingStyle;
+    }
+    
+    public void setBowlingStyle(String bowlingStyle) {
+        this.bowlingStyle = bowlingStyle;
+    }
+    
+    public BattingCareerDTO getBatting() {
+        return batting;
+    }
+    
+    public void setBatting(BattingCareerDTO batting) {
+        this.batting = batting;
+    }
+    
+    public BowlingCareerDTO getBowling() {
+        return bowling;
+    }
+    
+    public void setBowling(BowlingCareerDTO bowling) {
+        this.bowling = bowling;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.cricket.statistics.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// An entry of player-service's change feed; player is null for deletions
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PlayerChangeEntry {
+    private String type;
+    private Long id;
+    private PlayerAttributes player;
+    
+    // Constructors
+    public PlayerChangeEntry() {}
+    
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public PlayerAttributes getPlayer() {
+        return player;
+    }
+    
+    public void setPlayer(PlayerAttributes player) {
+        this.player = player;
+    }
+}
\ No newline at end of file
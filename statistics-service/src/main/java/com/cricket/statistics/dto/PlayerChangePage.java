@@ -0,0 +1,50 @@
+package com.cricket.statistics.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+// A page of player-service's change feed (GET /api/players/changes)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PlayerChangePage {
+    private List<PlayerChangeEntry> changes;
+    private boolean hasMore;
+    private boolean resyncRequired;
+    private String watermark;
+    
+    // Constructors
+    public PlayerChangePage() {}
+    
+    // Getters and Setters
+    public List<PlayerChangeEntry> getChanges() {
+        return changes;
+    }
+    
+    public void setChanges(List<PlayerChangeEntry> changes) {
+        this.changes = changes;
+    }
+    
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+    
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+    
+    public String getWatermark() {
+        return watermark;
+    }
+    
+    public void setWatermark(String watermark) {
+        this.watermark = watermark;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.cricket.statistics.dto;
+
+public class StoreSummaryDTO {
+    private int battingInnings;
+    private int bowlingInnings;
+    private int players;
+    
+    // Constructors
+    public StoreSummaryDTO() {}
+    
+    public StoreSummaryDTO(int battingInnings, int bowlingInnings, int players) {
+        this.battingInnings = battingInnings;
+        this.bowlingInnings = bowlingInnings;
+        this.players = players;
+    }
+    
+    // Getters and Setters
+    public int getBattingInnings() {
+        return battingInnings;
+    }
+    
+    public void setBattingInnings(int battingInnings) {
+        this.battingInnings = battingInnings;
+    }
+    
+    public int getBowlingInnings() {
+        return bowlingInnings;
+    }
+    
+    public void setBowlingInnings(int bowlingInnings) {
+        this.bowlingInnings = bowlingInnings;
+    }
+    
+    public int getPlayers() {
+        return players;
+    }
+    
+    public void setPlayers(int players) {
+        this.players = players;
+    }
+}
\ No newline at end of file
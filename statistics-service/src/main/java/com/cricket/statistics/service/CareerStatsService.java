@@ -0,0 +1,224 @@
+package com.cricket.statistics.service;
+
+import com.cricket.common.exception.CricketBusinessException;
+import com.cricket.common.exception.ResourceNotFoundException;
+import com.cricket.statistics.dto.BattingCareerDTO;
+import com.cricket.statistics.dto.BattingInningsRecord;
+import com.cricket.statistics.dto.BattingSortKey;
+import com.cricket.statistics.dto.BowlingCareerDTO;
+import com.cricket.statistics.dto.BowlingInningsRecord;
+import com.cricket.statistics.dto.BowlingSortKey;
+import com.cricket.statistics.dto.PlayerCareerDTO;
+import com.cricket.statistics.dto.StoreSummaryDTO;
+import com.cricket.statistics.store.BattingColumns;
+import com.cricket.statistics.store.BattingTotals;
+import com.cricket.statistics.store.BowlingColumns;
+import com.cricket.statistics.store.BowlingTotals;
+import com.cricket.statistics.store.PlayerDimension;
+import com.cricket.statistics.store.PlayerGroups;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Career statistics over the in-memory innings columns. Every query is one parallel scan of the fact rows:
+// the player filter is resolved against the dimension first, then the scan aggregates matching rows per player.
+@Service
+public class CareerStatsService {
+    
+    private static final int MAX_LIMIT = 100;
+    
+    private final PlayerDimension playerDimension;
+    private final BattingColumns battingColumns;
+    private final BowlingColumns bowlingColumns;
+    private final ForkJoinPool scanPool;
+    private final Validator validator;
+    private final int minLeafRows;
+    
+    @Autowired
+    public CareerStatsService(PlayerDimension playerDimension,
+                              BattingColumns battingColumns,
+                              BowlingColumns bowlingColumns,
+                              ForkJoinPool statisticsScanPool,
+                              Validator validator,
+                              @Value("${statistics.scan.min-leaf-rows:65536}") int minLeafRows) {
+        this.playerDimension = playerDimension;
+        this.battingColumns = battingColumns;
+        this.bowlingColumns = bowlingColumns;
+        this.scanPool = statisticsScanPool;
+        this.validator = validator;
+        this.minLeafRows = minLeafRows;
+    }
+    
+    public int addBattingInnings(List<BattingInningsRecord> records) {
+        records.forEach(this::validate);
+        for (BattingInningsRecord record : records) {
+            battingColumns.append(playerDimension.indexOf(record.getPlayerId()), (int) record.getMatchDate().toEpochDay(),
+                    record.getRuns(), record.getBalls(), record.getFours(), record.getSixes(), record.isNotOut());
+        }
+        return records.size();
+    }
+    
+    public int addBowlingInnings(List<BowlingInningsRecord> records) {
+        records.forEach(this::validate);
+        for (BowlingInningsRecord record : records) {
+            bowlingColumns.append(playerDimension.indexOf(record.getPlayerId()), (int) record.getMatchDate().toEpochDay(),
+                    record.getBalls(), record.getRuns(), record.getWickets(), record.getMaidens());
+        }
+        return records.size();
+    }
+    
+    public PlayerCareerDTO getCareer(Long playerId, LocalDate from, LocalDate to) {
+        int playerIndex = playerDimension.find(playerId);
+        if (playerIndex == PlayerDimension.UNKNOWN) {
+            throw new ResourceNotFoundException("Player statistics", "playerId", playerId);
+        }
+        PlayerGroups groups = playerDimension.selectOne(playerId);
+        BattingTotals batting = scanPool.invoke(battingColumns.scan(groups, fromDay(from), toDay(to), leafRows(battingColumns.size())));
+        BowlingTotals bowling = scanPool.invoke(bowlingColumns.scan(groups, fromDay(from), toDay(to), leafRows(bowlingColumns.size())));
+        
+        PlayerCareerDTO career = new PlayerCareerDTO();
+        career.setPlayerId(playerId);
+        career.setCountry(playerDimension.country(playerIndex));
+        career.setPlayingRole(playerDimension.playingRole(playerIndex));
+        career.setBowlingStyle(playerDimension.bowlingStyle(playerIndex));
+        career.setBatting(toBattingCareer(batting, groups, 0));
+        career.setBowling(toBowlingCareer(bowling, groups, 0));
+        return career;
+    }
+    
+    public List<BattingCareerDTO> getBattingLeaders(BattingSortKey sortBy, String country, String playingRole, String bowlingStyle,
+                                                    LocalDate from, LocalDate to, int minInnings, int limit) {
+        checkLimit(limit);
+        PlayerGroups groups = playerDimension.select(country, playingRole, bowlingStyle);
+        BattingTotals totals = scanPool.invoke(battingColumns.scan(groups, fromDay(from), toDay(to), leafRows(battingColumns.size())));
+        IntToDoubleFunction value = switch (sortBy) {
+            case RUNS -> totals::getRuns;
+            case AVERAGE -> totals::getAverage;
+            case STRIKE_RATE -> totals::getStrikeRate;
+            case HUNDREDS -> totals::getHundreds;
+            case FIFTIES -> totals::getFifties;
+            case SIXES -> totals::getSixes;
+        };
+        return top(groups.size(), group -> totals.getInnings(group) >= Math.max(minInnings, 1), value, false, limit)
+                .mapToObj(group -> toBattingCareer(totals, groups, group))
+                .collect(Collectors.toList());
+    }
+    
+    public List<BowlingCareerDTO> getBowlingLeaders(BowlingSortKey sortBy, String country, String playingRole, String bowlingStyle,
+                                                    LocalDate from, LocalDate to, int minBalls, int limit) {
+        checkLimit(limit);
+        PlayerGroups groups = playerDimension.select(country, playingRole, bowlingStyle);
+        BowlingTotals totals = scanPool.invoke(bowlingColumns.scan(groups, fromDay(from), toDay(to), leafRows(bowlingColumns.size())));
+        IntToDoubleFunction value = switch (sortBy) {
+            case WICKETS -> totals::getWickets;
+            case FIVE_WICKETS -> totals::getFiveWickets;
+            case AVERAGE -> totals::getAverage;
+            case ECONOMY -> totals::getEconomy;
+            case STRIKE_RATE -> totals::getStrikeRate;
+        };
+        boolean ascending = sortBy == BowlingSortKey.AVERAGE || sortBy == BowlingSortKey.ECONOMY || sortBy == BowlingSortKey.STRIKE_RATE;
+        return top(groups.size(), group -> totals.getInnings(group) > 0 && totals.getBalls(group) >= minBalls, value, ascending, limit)
+                .mapToObj(group -> toBowlingCareer(totals, groups, group))
+                .collect(Collectors.toList());
+    }
+    
+    public StoreSummaryDTO getSummary() {
+        return new StoreSummaryDTO(battingColumns.size(), bowlingColumns.size(), playerDimension.size());
+    }
+    
+    // Groups passing the qualification, best first; undefined values (NaN) never rank
+    private static IntStream top(int groups, IntPredicate qualifies, IntToDoubleFunction value,
+                                 boolean ascending, int limit) {
+        Comparator<Integer> byValue = Comparator.comparingDouble(value::applyAsDouble);
+        return IntStream.range(0, groups)
+                .filter(qualifies)
+                .filter(group -> !Double.isNaN(value.applyAsDouble(group)))
+                .boxed()
+                .sorted(ascending ? byValue : byValue.reversed())
+                .limit(limit)
+                .mapToInt(Integer::intValue);
+    }
+    
+    private BattingCareerDTO toBattingCareer(BattingTotals totals, PlayerGroups groups, int group) {
+        int playerIndex = groups.playerIndex(group);
+        BattingCareerDTO dto = new BattingCareerDTO();
+        dto.setPlayerId(playerDimension.playerId(playerIndex));
+        dto.setCountry(playerDimension.country(playerIndex));
+        dto.setPlayingRole(playerDimension.playingRole(playerIndex));
+        dto.setInnings(totals.getInnings(group));
+        dto.setNotOuts(totals.getNotOuts(group));
+        dto.setRuns(totals.getRuns(group));
+        dto.setBalls(totals.getBalls(group));
+        dto.setHighScore(totals.getHighScore(group));
+        dto.setAverage(round(totals.getAverage(group)));
+        dto.setStrikeRate(round(totals.getStrikeRate(group)));
+        dto.setFours(totals.getFours(group));
+        dto.setSixes(totals.getSixes(group));
+        dto.setFifties(totals.getFifties(group));
+        dto.setHundreds(totals.getHundreds(group));
+        dto.setDucks(totals.getDucks(group));
+        return dto;
+    }
+    
+    private BowlingCareerDTO toBowlingCareer(BowlingTotals totals, PlayerGroups groups, int group) {
+        int playerIndex = groups.playerIndex(group);
+        BowlingCareerDTO dto = new BowlingCareerDTO();
+        dto.setPlayerId(playerDimension.playerId(playerIndex));
+        dto.setCountry(playerDimension.country(playerIndex));
+        dto.setBowlingStyle(playerDimension.bowlingStyle(playerIndex));
+        dto.setInnings(totals.getInnings(group));
+        dto.setBalls(totals.getBalls(group));
+        dto.setRuns(totals.getRuns(group));
+        dto.setWickets(totals.getWickets(group));
+        dto.setMaidens(totals.getMaidens(group));
+        dto.setAverage(round(totals.getAverage(group)));
+        dto.setEconomy(round(totals.getEconomy(group)));
+        dto.setStrikeRate(round(totals.getStrikeRate(group)));
+        dto.setFiveWickets(totals.getFiveWickets(group));
+        dto.setBestFigures(totals.getBestFigures(group));
+        return dto;
+    }
+    
+    // Splits so each pool thread gets a couple of leaves, but never into leaves too small to be worth a task
+    private int leafRows(int rows) {
+        return Math.max(minLeafRows, rows / (scanPool.getParallelism() * 2) + 1);
+    }
+    
+    private static int fromDay(LocalDate from) {
+        return from == null ? Integer.MIN_VALUE : (int) from.toEpochDay();
+    }
+    
+    private static int toDay(LocalDate to) {
+        return to == null ? Integer.MAX_VALUE : (int) to.toEpochDay();
+    }
+    
+    private static Double round(double value) {
+        return Double.isNaN(value) ? null : Math.round(value * 100.0) / 100.0;
+    }
+    
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new CricketBusinessException("Limit must be between 1 and " + MAX_LIMIT, "INVALID_LIMIT");
+        }
+    }
+    
+    private <T> void validate(T record) {
+        Set<ConstraintViolation<T>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<T> violation = violations.iterator().next();
+            throw new CricketBusinessException(violation.getPropertyPath() + ": " + violation.getMessage(), "INVALID_INNINGS_RECORD");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.cricket.statistics.service;
+
+import com.cricket.common.dto.ApiResponse;
+import com.cricket.statistics.dto.PlayerAttributes;
+import com.cricket.statistics.dto.PlayerChangeEntry;
+import com.cricket.statistics.dto.PlayerChangePage;
+import com.cricket.statistics.store.PlayerDimension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Optional;
+
+// Keeps the player dimension's country, playing role and bowling style in step with player-service by polling
+// its change feed: the first run pages through every player, later runs only fetch what changed since the stored
+// watermark. Deleted players keep their attributes so their historical innings still group correctly.
+@Service
+public class PlayerDimensionSync {
+    
+    private static final Logger log = LoggerFactory.getLogger(PlayerDimensionSync.class);
+    private static final ParameterizedTypeReference<ApiResponse<PlayerChangePage>> CHANGE_PAGE =
+            new ParameterizedTypeReference<>() {};
+    
+    private final PlayerDimension playerDimension;
+    private final RestClient restClient;
+    private final int pageSize;
+    private String watermark;
+    
+    @Autowired
+    public PlayerDimensionSync(PlayerDimension playerDimension,
+                               RestClient.Builder loadBalancedRestClientBuilder,
+                               @Value("${statistics.players.base-url:http://player-service}") String baseUrl,
+                               @Value("${statistics.players.page-size:1000}") int pageSize) {
+        this.playerDimension = playerDimension;
+        this.restClient = loadBalancedRestClientBuilder.baseUrl(baseUrl).build();
+        this.pageSize = pageSize;
+    }
+    
+    @Scheduled(initialDelayString = "${statistics.players.initial-delay:PT5S}", fixedDelayString = "${statistics.players.sync-interval:PT30S}")
+    public void sync() {
+        try {
+            int applied = 0;
+            PlayerChangePage page;
+            do {
+                page = fetch(watermark);
+                if (page.isResyncRequired()) {
+                    log.info("Player change feed watermark expired, reloading all players");
+                    watermark = null;
+                    page = fetch(null);
+                }
+                for (PlayerChangeEntry change : page.getChanges()) {
+                    PlayerAttributes player = change.getPlayer();
+                    if (player != null) {
+                        playerDimension.update(change.getId(), player.getCountry(), player.getPlayingRole(), player.getBowlingStyle());
+                        applied++;
+                    }
+                }
+                watermark = page.getWatermark();
+            } while (page.isHasMore());
+            if (applied > 0) {
+                log.debug("Applied {} player changes to the statistics dimension", applied);
+            }
+        } catch (RestClientException ex) {
+            log.warn("Player dimension sync failed, retrying on the next run: {}", ex.getMessage());
+        }
+    }
+    
+    private PlayerChangePage fetch(String since) {
+        ApiResponse<PlayerChangePage> response = restClient.get()
+                .uri(uri -> uri.path("/api/players/changes")
+                        .queryParamIfPresent("since", Optional.ofNullable(since))
+                        .queryParam("limit", pageSize)
+                        .build())
+                .retrieve()
+                .body(CHANGE_PAGE);
+        if (response == null || response.getData() == null) {
+            throw new RestClientException("Empty change feed response from player-service");
+        }
+        return response.getData();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.cricket.statistics.store;
+
+import java.util.Arrays;
+
+// Append-only column store of batting innings, one primitive array per attribute. Appends are serialized; the
+// row count is published after each row is written and arrays are only replaced by grown copies, so scans read
+// a consistent prefix of rows without locking.
+public class BattingColumns {
+    
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+    private volatile int size;
+    
+    public synchronized void append(int playerIndex, int epochDay, int runs, int balls, int fours, int sixes, boolean notOut) {
+        int row = size;
+        Columns current = columns;
+        if (row == current.capacity()) {
+            current = current.grow();
+            columns = current;
+        }
+        current.players[row] = playerIndex;
+        current.days[row] = epochDay;
+        current.runs[row] = (short) runs;
+        current.balls[row] = (short) balls;
+        current.fours[row] = (byte) fours;
+        current.sixes[row] = (byte) sixes;
+        current.notOut[row] = notOut;
+        size = row + 1;
+    }
+    
+    // The size must be read before the columns: a newer columns object always holds at least that many rows
+    public BattingScan scan(PlayerGroups groups, int fromDay, int toDay, int leafRows) {
+        int rows = size;
+        return new BattingScan(columns, 0, rows, groups, fromDay, toDay, leafRows);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    static final class Columns {
+        final int[] players;
+        final int[] days;
+        final short[] runs;
+        final short[] balls;
+        final byte[] fours;
+        final byte[] sixes;
+        final boolean[] notOut;
+        
+        Columns(int capacity) {
+            this(new int[capacity], new int[capacity], new short[capacity], new short[capacity],
+                    new byte[capacity], new byte[capacity], new boolean[capacity]);
+        }
+        
+        private Columns(int[] players, int[] days, short[] runs, short[] balls, byte[] fours, byte[] sixes, boolean[] notOut) {
+            this.players = players;
+            this.days = days;
+            this.runs = runs;
+            this.balls = balls;
+            this.fours = fours;
+            this.sixes = sixes;
+            this.notOut = notOut;
+        }
+        
+        int capacity() {
+            return players.length;
+        }
+        
+        Columns grow() {
+            int capacity = capacity() * 2;
+            return new Columns(Arrays.copyOf(players, capacity), Arrays.copyOf(days, capacity),
+                    Arrays.copyOf(runs, capacity), Arrays.copyOf(balls, capacity), Arrays.copyOf(fours, capacity),
+                    Arrays.copyOf(sixes, capacity), Arrays.copyOf(notOut, capacity));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.cricket.statistics.store;
+
+import java.util.concurrent.RecursiveTask;
+
+// Fork-join scan of a row range: ranges larger than leafRows are split in half, leaves accumulate matching rows
+// into their own per-group totals and the halves are merged on the way back up.
+public class BattingScan extends RecursiveTask<BattingTotals> {
+    
+    private final BattingColumns.Columns columns;
+    private final int from;
+    private final int to;
+    private final PlayerGroups groups;
+    private final int fromDay;
+    private final int toDay;
+    private final int leafRows;
+    
+    BattingScan(BattingColumns.Columns columns, int from, int to, PlayerGroups groups, int fromDay, int toDay, int leafRows) {
+        this.columns = columns;
+        this.from = from;
+        this.to = to;
+        this.groups = groups;
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+        this.leafRows = leafRows;
+    }
+    
+    @Override
+    protected BattingTotals compute() {
+        if (to - from <= leafRows) {
+            return scanLeaf();
+        }
+        int middle = (from + to) >>> 1;
+        BattingScan left = new BattingScan(columns, from, middle, groups, fromDay, toDay, leafRows);
+        BattingScan right = new BattingScan(columns, middle, to, groups, fromDay, toDay, leafRows);
+        left.fork();
+        BattingTotals rightTotals = right.compute();
+        return left.join().merge(rightTotals);
+    }
+    
+    private BattingTotals scanLeaf() {
+        BattingTotals totals = new BattingTotals(groups.size());
+        int[] players = columns.players;
+        int[] days = columns.days;
+        short[] runs = columns.runs;
+        short[] balls = columns.balls;
+        byte[] fours = columns.fours;
+        byte[] sixes = columns.sixes;
+        boolean[] notOut = columns.notOut;
+        for (int row = from; row < to; row++) {
+            int group = groups.groupOf(players[row]);
+            int day = days[row];
+            if (group < 0 || day < fromDay || day > toDay) {
+                continue;
+            }
+            int score = runs[row];
+            totals.innings[group]++;
+            totals.runs[group] += score;
+            totals.balls[group] += balls[row];
+            totals.fours[group] += fours[row];
+            totals.sixes[group] += sixes[row];
+            if (notOut[row]) {
+                totals.notOuts[group]++;
+            } else if (score == 0) {
+                totals.ducks[group]++;
+            }
+            if (score >= 100) {
+                totals.hundreds[group]++;
+            } else if (score >= 50) {
+                totals.fifties[group]++;
+            }
+            if (score > totals.highScores[group]) {
+                totals.highScores[group] = score;
+            }
+        }
+        return totals;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.cricket.statistics.store;
+
+// Career batting sums per player group, filled by BattingScan
+public class BattingTotals {
+    
+    final int[] innings;
+    final int[] notOuts;
+    final int[] runs;
+    final int[] balls;
+    final int[] fours;
+    final int[] sixes;
+    final int[] fifties;
+    final int[] hundreds;
+    final int[] ducks;
+    final int[] highScores;
+    
+    BattingTotals(int groups) {
+        innings = new int[groups];
+        notOuts = new int[groups];
+        runs = new int[groups];
+        balls = new int[groups];
+        fours = new int[groups];
+        sixes = new int[groups];
+        fifties = new int[groups];
+        hundreds = new int[groups];
+        ducks = new int[groups];
+        highScores = new int[groups];
+    }
+    
+    BattingTotals merge(BattingTotals other) {
+        for (int group = 0; group < innings.length; group++) {
+            innings[group] += other.innings[group];
+            notOuts[group] += other.notOuts[group];
+            runs[group] += other.runs[group];
+            balls[group] += other.balls[group];
+            fours[group] += other.fours[group];
+            sixes[group] += other.sixes[group];
+            fifties[group] += other.fifties[group];
+            hundreds[group] += other.hundreds[group];
+            ducks[group] += other.ducks[group];
+            highScores[group] = Math.max(highScores[group], other.highScores[group]);
+        }
+        return this;
+    }
+    
+    public int getInnings(int group) {
+        return innings[group];
+    }
+    
+    public int getNotOuts(int group) {
+        return notOuts[group];
+    }
+    
+    public int getRuns(int group) {
+        return runs[group];
+    }
+    
+    public int getBalls(int group) {
+        return balls[group];
+    }
+    
+    public int getFours(int group) {
+        return fours[group];
+    }
+    
+    public int getSixes(int group) {
+        return sixes[group];
+    }
+    
+    public int getFifties(int group) {
+        return fifties[group];
+    }
+    
+    public int getHundreds(int group) {
+        return hundreds[group];
+    }
+    
+    public int getDucks(int group) {
+        return ducks[group];
+    }
+    
+    public int getHighScore(int group) {
+        return highScores[group];
+    }
+    
+    // Runs per dismissal; NaN until the player has been out
+    public double getAverage(int group) {
+        int outs = innings[group] - notOuts[group];
+        return outs == 0 ? Double.NaN : (double) runs[group] / outs;
+    }
+    
+    public double getStrikeRate(int group) {
+        return balls[group] == 0 ? Double.NaN : runs[group] * 100.0 / balls[group];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.cricket.statistics.store;
+
+import java.util.Arrays;
+
+// Append-only column store of bowling innings; same publication scheme as BattingColumns
+public class BowlingColumns {
+    
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    
+    private volatile Columns columns = new Columns(INITIAL_CAPACITY);
+    private volatile int size;
+    
+    public synchronized void append(int playerIndex, int epochDay, int balls, int runs, int wickets, int maidens) {
+        int row = size;
+        Columns current = columns;
+        if (row == current.capacity()) {
+            current = current.grow();
+            columns = current;
+        }
+        current.players[row] = playerIndex;
+        current.days[row] = epochDay;
+        current.balls[row] = (short) balls;
+        current.runs[row] = (short) runs;
+        current.wickets[row] = (byte) wickets;
+        current.maidens[row] = (byte) maidens;
+        size = row + 1;
+    }
+    
+    public BowlingScan scan(PlayerGroups groups, int fromDay, int toDay, int leafRows) {
+        int rows = size;
+        return new BowlingScan(columns, 0, rows, groups, fromDay, toDay, leafRows);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    static final class Columns {
+        final int[] players;
+        final int[] days;
+        final short[] balls;
+        final short[] runs;
+        final byte[] wickets;
+        final byte[] maidens;
+        
+        Columns(int capacity) {
+            this(new int[capacity], new int[capacity], new short[capacity], new short[capacity],
+                    new byte[capacity], new byte[capacity]);
+        }
+        
+        private Columns(int[] players, int[] days, short[] balls, short[] runs, byte[] wickets, byte[] maidens) {
+            this.players = players;
+            this.days = days;
+            this.balls = balls;
+            this.runs = runs;
+            this.wickets = wickets;
+            this.maidens = maidens;
+        }
+        
+        int capacity() {
+            return players.length;
+        }
+        
+        Columns grow() {
+            int capacity = capacity() * 2;
+            return new Columns(Arrays.copyOf(players, capacity), Arrays.copyOf(days, capacity),
+                    Arrays.copyOf(balls, capacity), Arrays.copyOf(runs, capacity),
+                    Arrays.copyOf(wickets, capacity), Arrays.copyOf(maidens, capacity));
+        }
+    }
+}
\ No newline at end of file
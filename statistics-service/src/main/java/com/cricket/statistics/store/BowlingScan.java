@@ -0,0 +1,69 @@
+package com.cricket.statistics.store;
+
+import java.util.concurrent.RecursiveTask;
+
+// Fork-join scan of bowling rows; see BattingScan
+public class BowlingScan extends RecursiveTask<BowlingTotals> {
+    
+    private static final int FIVE_WICKETS = 5;
+    
+    private final BowlingColumns.Columns columns;
+    private final int from;
+    private final int to;
+    private final PlayerGroups groups;
+    private final int fromDay;
+    private final int toDay;
+    private final int leafRows;
+    
+    BowlingScan(BowlingColumns.Columns columns, int from, int to, PlayerGroups groups, int fromDay, int toDay, int leafRows) {
+        this.columns = columns;
+        this.from = from;
+        this.to = to;
+        this.groups = groups;
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+        this.leafRows = leafRows;
+    }
+    
+    @Override
+    protected BowlingTotals compute() {
+        if (to - from <= leafRows) {
+            return scanLeaf();
+        }
+        int middle = (from + to) >>> 1;
+        BowlingScan left = new BowlingScan(columns, from, middle, groups, fromDay, toDay, leafRows);
+        BowlingScan right = new BowlingScan(columns, middle, to, groups, fromDay, toDay, leafRows);
+        left.fork();
+        BowlingTotals rightTotals = right.compute();
+        return left.join().merge(rightTotals);
+    }
+    
+    private BowlingTotals scanLeaf() {
+        BowlingTotals totals = new BowlingTotals(groups.size());
+        int[] players = columns.players;
+        int[] days = columns.days;
+        short[] balls = columns.balls;
+        short[] runs = columns.runs;
+        byte[] wickets = columns.wickets;
+        byte[] maidens = columns.maidens;
+        for (int row = from; row < to; row++) {
+            int group = groups.groupOf(players[row]);
+            int day = days[row];
+            if (group < 0 || day < fromDay || day > toDay) {
+                continue;
+            }
+            int inningsWickets = wickets[row];
+            int inningsRuns = runs[row];
+            totals.innings[group]++;
+            totals.balls[group] += balls[row];
+            totals.runs[group] += inningsRuns;
+            totals.wickets[group] += inningsWickets;
+            totals.maidens[group] += maidens[row];
+            if (inningsWickets >= FIVE_WICKETS) {
+                totals.fiveWickets[group]++;
+            }
+            totals.recordBest(group, inningsWickets, inningsRuns);
+        }
+        return totals;
+    }
+}
\ No newline at end of file
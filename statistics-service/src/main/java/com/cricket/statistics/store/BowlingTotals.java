@@ -0,0 +1,92 @@
+package com.cricket.statistics.store;
+
+import java.util.Arrays;
+
+// Career bowling sums per player group, filled by BowlingScan
+public class BowlingTotals {
+    
+    final int[] innings;
+    final int[] balls;
+    final int[] runs;
+    final int[] wickets;
+    final int[] maidens;
+    final int[] fiveWickets;
+    // Best figures: most wickets, then fewest runs; bestRuns is only meaningful once bestWickets is set
+    final int[] bestWickets;
+    final int[] bestRuns;
+    
+    BowlingTotals(int groups) {
+        innings = new int[groups];
+        balls = new int[groups];
+        runs = new int[groups];
+        wickets = new int[groups];
+        maidens = new int[groups];
+        fiveWickets = new int[groups];
+        bestWickets = new int[groups];
+        bestRuns = new int[groups];
+        Arrays.fill(bestWickets, -1);
+    }
+    
+    void recordBest(int group, int inningsWickets, int inningsRuns) {
+        if (inningsWickets > bestWickets[group] || (inningsWickets == bestWickets[group] && inningsRuns < bestRuns[group])) {
+            bestWickets[group] = inningsWickets;
+            bestRuns[group] = inningsRuns;
+        }
+    }
+    
+    BowlingTotals merge(BowlingTotals other) {
+        for (int group = 0; group < innings.length; group++) {
+            innings[group] += other.innings[group];
+            balls[group] += other.balls[group];
+            runs[group] += other.runs[group];
+            wickets[group] += other.wickets[group];
+            maidens[group] += other.maidens[group];
+            fiveWickets[group] += other.fiveWickets[group];
+            if (other.bestWickets[group] >= 0) {
+                recordBest(group, other.bestWickets[group], other.bestRuns[group]);
+            }
+        }
+        return this;
+    }
+    
+    public int getInnings(int group) {
+        return innings[group];
+    }
+    
+    public int getBalls(int group) {
+        return balls[group];
+    }
+    
+    public int getRuns(int group) {
+        return runs[group];
+    }
+    
+    public int getWickets(int group) {
+        return wickets[group];
+    }
+    
+    public int getMaidens(int group) {
+        return maidens[group];
+    }
+    
+    public int getFiveWickets(int group) {
+        return fiveWickets[group];
+    }
+    
+    // e.g. "5/23"; null before the first innings
+    public String getBestFigures(int group) {
+        return bestWickets[group] < 0 ? null : bestWickets[group] + "/" + bestRuns[group];
+    }
+    
+    public double getAverage(int group) {
+        return wickets[group] == 0 ? Double.NaN : (double) runs[group] / wickets[group];
+    }
+    
+    public double getEconomy(int group) {
+        return balls[group] == 0 ? Double.NaN : runs[group] * 6.0 / balls[group];
+    }
+    
+    public double getStrikeRate(int group) {
+        return wickets[group] == 0 ? Double.NaN : (double) balls[group] / wickets[group];
+    }
+}
\ No newline at end of file
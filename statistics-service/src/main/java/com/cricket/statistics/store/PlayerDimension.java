@@ -0,0 +1,175 @@
+package com.cricket.statistics.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Players referenced by the innings stores. Each player id gets a dense index on first sight, so fact rows store
+// an int and scans aggregate into plain arrays; country, playing role and bowling style are dictionary-encoded
+// per index. Attributes arrive later from player-service and stay UNKNOWN until then.
+public class PlayerDimension {
+    
+    public static final int UNKNOWN = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final Map<Long, Integer> indexById = new ConcurrentHashMap<>();
+    private final Dictionary countries = new Dictionary();
+    private final Dictionary roles = new Dictionary();
+    private final Dictionary bowlingStyles = new Dictionary();
+    private volatile Attributes attributes = new Attributes(INITIAL_CAPACITY);
+    private volatile int size;
+    
+    public int indexOf(long playerId) {
+        Integer index = indexById.get(playerId);
+        return index != null ? index : register(playerId);
+    }
+    
+    // Index of a known player, or UNKNOWN; never registers
+    public int find(long playerId) {
+        return indexById.getOrDefault(playerId, UNKNOWN);
+    }
+    
+    public synchronized void update(long playerId, String country, String playingRole, String bowlingStyle) {
+        int index = indexOf(playerId);
+        Attributes current = attributes;
+        current.countries[index] = countries.encode(country);
+        current.roles[index] = roles.encode(playingRole);
+        current.bowlingStyles[index] = bowlingStyles.encode(bowlingStyle);
+    }
+    
+    private synchronized int register(long playerId) {
+        Integer existing = indexById.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+        int index = size;
+        Attributes current = attributes;
+        if (index == current.ids.length) {
+            current = current.grow();
+            attributes = current;
+        }
+        current.ids[index] = playerId;
+        indexById.put(playerId, index);
+        size = index + 1;
+        return index;
+    }
+    
+    // Maps every player index to a dense group number, or UNKNOWN when the player does not match the filter.
+    // A null filter value matches everything; a value never seen matches nothing.
+    public PlayerGroups select(String country, String playingRole, String bowlingStyle) {
+        int count = size;
+        Attributes current = attributes;
+        int countryCode = country == null ? UNKNOWN : countries.find(country);
+        int roleCode = playingRole == null ? UNKNOWN : roles.find(playingRole);
+        int styleCode = bowlingStyle == null ? UNKNOWN : bowlingStyles.find(bowlingStyle);
+        int[] groupOf = new int[count];
+        int[] players = new int[count];
+        int groups = 0;
+        for (int index = 0; index < count; index++) {
+            boolean matches = (country == null || current.countries[index] == countryCode && countryCode != UNKNOWN)
+                    && (playingRole == null || current.roles[index] == roleCode && roleCode != UNKNOWN)
+                    && (bowlingStyle == null || current.bowlingStyles[index] == styleCode && styleCode != UNKNOWN);
+            if (matches) {
+                players[groups] = index;
+                groupOf[index] = groups++;
+            } else {
+                groupOf[index] = UNKNOWN;
+            }
+        }
+        return new PlayerGroups(groupOf, Arrays.copyOf(players, groups));
+    }
+    
+    public PlayerGroups selectOne(long playerId) {
+        int count = size;
+        int[] groupOf = new int[count];
+        Arrays.fill(groupOf, UNKNOWN);
+        int index = find(playerId);
+        if (index == UNKNOWN) {
+            return new PlayerGroups(groupOf, new int[0]);
+        }
+        groupOf[index] = 0;
+        return new PlayerGroups(groupOf, new int[]{index});
+    }
+    
+    public long playerId(int index) {
+        return attributes.ids[index];
+    }
+    
+    public String country(int index) {
+        return countries.decode(attributes.countries[index]);
+    }
+    
+    public String playingRole(int index) {
+        return roles.decode(attributes.roles[index]);
+    }
+    
+    public String bowlingStyle(int index) {
+        return bowlingStyles.decode(attributes.bowlingStyles[index]);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private static final class Attributes {
+        final long[] ids;
+        final int[] countries;
+        final int[] roles;
+        final int[] bowlingStyles;
+        
+        Attributes(int capacity) {
+            this(new long[capacity], filled(capacity), filled(capacity), filled(capacity));
+        }
+        
+        private Attributes(long[] ids, int[] countries, int[] roles, int[] bowlingStyles) {
+            this.ids = ids;
+            this.countries = countries;
+            this.roles = roles;
+            this.bowlingStyles = bowlingStyles;
+        }
+        
+        Attributes grow() {
+            int capacity = ids.length * 2;
+            int[] grownCountries = filled(capacity);
+            int[] grownRoles = filled(capacity);
+            int[] grownStyles = filled(capacity);
+            System.arraycopy(countries, 0, grownCountries, 0, ids.length);
+            System.arraycopy(roles, 0, grownRoles, 0, ids.length);
+            System.arraycopy(bowlingStyles, 0, grownStyles, 0, ids.length);
+            return new Attributes(Arrays.copyOf(ids, capacity), grownCountries, grownRoles, grownStyles);
+        }
+        
+        private static int[] filled(int capacity) {
+            int[] codes = new int[capacity];
+            Arrays.fill(codes, UNKNOWN);
+            return codes;
+        }
+    }
+    
+    // Case-insensitive string to code mapping; codes are never reused
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        
+        synchronized int encode(String value) {
+            if (value == null) {
+                return UNKNOWN;
+            }
+            return codes.computeIfAbsent(value.toUpperCase(), key -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+        
+        synchronized int find(String value) {
+            return codes.getOrDefault(value.toUpperCase(), UNKNOWN);
+        }
+        
+        synchronized String decode(int code) {
+            return code == UNKNOWN ? null : values.get(code);
+        }
+    }
+}
\ No newline at end of file
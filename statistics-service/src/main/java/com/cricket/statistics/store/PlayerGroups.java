@@ -0,0 +1,28 @@
+package com.cricket.statistics.store;
+
+// Result of filtering the player dimension: groupOf maps a player index to its group (or UNKNOWN when filtered
+// out) and players maps each group back to its player index. Scans accumulate per group, so their arrays are
+// sized to the players that matched rather than to the whole dimension.
+public class PlayerGroups {
+    
+    private final int[] groupOf;
+    private final int[] players;
+    
+    public PlayerGroups(int[] groupOf, int[] players) {
+        this.groupOf = groupOf;
+        this.players = players;
+    }
+    
+    // Rows can reference players registered after this selection was made; those are outside it
+    public int groupOf(int playerIndex) {
+        return playerIndex < groupOf.length ? groupOf[playerIndex] : PlayerDimension.UNKNOWN;
+    }
+    
+    public int playerIndex(int group) {
+        return players[group];
+    }
+    
+    public int size() {
+        return players.length;
+    }
+}
\ No newline at end of file
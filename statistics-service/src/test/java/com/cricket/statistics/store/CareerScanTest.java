@@ -0,0 +1,131 @@
+package com.cricket.statistics.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CareerScanTest {
+
+    private static final int PLAYERS = 50;
+    private static final int ROWS = 20_000;
+    private static final int SMALL_LEAF = 500;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private PlayerDimension dimension;
+    private BattingColumns batting;
+    private BowlingColumns bowling;
+    private int[][] rows;
+
+    @BeforeEach
+    void setUp() {
+        dimension = new PlayerDimension();
+        batting = new BattingColumns();
+        bowling = new BowlingColumns();
+        for (long playerId = 1; playerId <= PLAYERS; playerId++) {
+            dimension.update(playerId, playerId % 2 == 0 ? "India" : "England",
+                    playerId % 5 == 0 ? "BOWLER" : "BATSMAN", playerId % 5 == 0 ? "RIGHT_ARM_FAST" : null);
+        }
+        Random random = new Random(7);
+        rows = new int[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            long playerId = 1 + random.nextInt(PLAYERS);
+            int day = 18_000 + random.nextInt(1000);
+            int runs = random.nextInt(130);
+            boolean notOut = random.nextInt(6) == 0;
+            int wickets = random.nextInt(7);
+            rows[i] = new int[]{(int) playerId, day, runs, notOut ? 1 : 0, wickets};
+            batting.append(dimension.indexOf(playerId), day, runs, runs + 10, runs / 20, runs / 40, notOut);
+            bowling.append(dimension.indexOf(playerId), day, 60, 30 + wickets, wickets, 1);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void battingScan_ShouldMatchSequentialTotalsForOnePlayer() {
+        int fromDay = 18_200;
+        int toDay = 18_700;
+        PlayerGroups groups = dimension.selectOne(7L);
+
+        BattingTotals totals = pool.invoke(batting.scan(groups, fromDay, toDay, SMALL_LEAF));
+
+        int innings = 0, runs = 0, notOuts = 0, hundreds = 0, fifties = 0, highScore = 0;
+        for (int[] row : rows) {
+            if (row[0] == 7 && row[1] >= fromDay && row[1] <= toDay) {
+                innings++;
+                runs += row[2];
+                notOuts += row[3];
+                hundreds += row[2] >= 100 ? 1 : 0;
+                fifties += row[2] >= 50 && row[2] < 100 ? 1 : 0;
+                highScore = Math.max(highScore, row[2]);
+            }
+        }
+        assertTrue(innings > 0);
+        assertEquals(innings, totals.getInnings(0));
+        assertEquals(runs, totals.getRuns(0));
+        assertEquals(notOuts, totals.getNotOuts(0));
+        assertEquals(hundreds, totals.getHundreds(0));
+        assertEquals(fifties, totals.getFifties(0));
+        assertEquals(highScore, totals.getHighScore(0));
+        assertEquals((double) runs / (innings - notOuts), totals.getAverage(0), 1e-9);
+    }
+
+    @Test
+    void battingScan_ShouldGroupOnlyPlayersMatchingDimensionFilter() {
+        PlayerGroups groups = dimension.select("india", "BATSMAN", null);
+
+        BattingTotals totals = pool.invoke(batting.scan(groups, Integer.MIN_VALUE, Integer.MAX_VALUE, SMALL_LEAF));
+
+        assertEquals(20, groups.size());
+        int scannedInnings = 0;
+        for (int group = 0; group < groups.size(); group++) {
+            long playerId = dimension.playerId(groups.playerIndex(group));
+            assertEquals(0, playerId % 2);
+            assertNotEquals(0, playerId % 5);
+            scannedInnings += totals.getInnings(group);
+        }
+        long expected = Arrays.stream(rows).filter(row -> row[0] % 2 == 0 && row[0] % 5 != 0).count();
+        assertEquals(expected, scannedInnings);
+    }
+
+    @Test
+    void bowlingScan_ShouldTrackWicketsAndBestFigures() {
+        PlayerGroups groups = dimension.select(null, null, "RIGHT_ARM_FAST");
+
+        BowlingTotals totals = pool.invoke(bowling.scan(groups, Integer.MIN_VALUE, Integer.MAX_VALUE, SMALL_LEAF));
+
+        assertEquals(10, groups.size());
+        int group = 0;
+        long playerId = dimension.playerId(groups.playerIndex(group));
+        int wickets = 0, fiveWickets = 0, best = -1;
+        for (int[] row : rows) {
+            if (row[0] == playerId) {
+                wickets += row[4];
+                fiveWickets += row[4] >= 5 ? 1 : 0;
+                best = Math.max(best, row[4]);
+            }
+        }
+        assertEquals(wickets, totals.getWickets(group));
+        assertEquals(fiveWickets, totals.getFiveWickets(group));
+        assertEquals(best + "/" + (30 + best), totals.getBestFigures(group));
+    }
+
+    @Test
+    void select_ShouldMatchNothingForUnknownFilterValue() {
+        PlayerGroups groups = dimension.select("Atlantis", null, null);
+
+        BattingTotals totals = pool.invoke(batting.scan(groups, Integer.MIN_VALUE, Integer.MAX_VALUE, SMALL_LEAF));
+
+        assertEquals(0, groups.size());
+        assertEquals(0, totals.innings.length);
+    }
+}